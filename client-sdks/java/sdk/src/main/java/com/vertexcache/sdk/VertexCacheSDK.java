@@ -17,15 +17,33 @@ package com.vertexcache.sdk;
 
 import com.vertexcache.sdk.comm.ClientConnector;
 import com.vertexcache.sdk.comm.ClientConnectorInterface;
+import com.vertexcache.sdk.comm.KeyspaceClientConnector;
 import com.vertexcache.sdk.command.impl.*;
 import com.vertexcache.sdk.model.CommandResult;
+import com.vertexcache.sdk.model.GetBytesResult;
 import com.vertexcache.sdk.model.GetResult;
+import com.vertexcache.sdk.model.MultiGetResult;
 import com.vertexcache.sdk.model.ClientOption;
+import com.vertexcache.sdk.model.ScanIterator;
+import com.vertexcache.sdk.model.ScanResult;
+import com.vertexcache.sdk.model.TtlResult;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
 
 /**
  * VertexCacheSDK serves as the main entry point for interacting with the VertexCache server.
- * It provides methods to perform cache operations such as GET, SET, and DEL, and abstracts away
- * the underlying TCP transport details.
+ * It provides methods to perform cache operations such as GET, SET, DEL and the TTL family
+ * (SET with TTL, EXPIRE, TTL, PERSIST), binary values (setBytes / getBytes, sent and returned
+ * as raw bytes), and abstracts away the underlying TCP transport details.
+ *
+ * withKeyspace returns a view of the same connection whose commands all run in a named keyspace.
+ * Keyspaces declaring their own secondary indexes are written with set(key, value, indexes, ttl) and
+ * read with getByIndex / getAllByIndex, the idx1 / idx2 methods addressing their first two indexes.
+ *
+ * Keys are enumerated with scan, one page per call, or scanKeys which pages through the cursor lazily.
  *
  * This SDK handles encryption (symmetric/asymmetric), TLS negotiation, authentication, and framing
  * of commands and responses. Errors are surfaced through structured exceptions to aid client integration.
@@ -38,6 +56,20 @@ public class VertexCacheSDK {
         this.clientConnector = new ClientConnector(clientOption);
     }
 
+    VertexCacheSDK(ClientConnectorInterface clientConnector) {
+        this.clientConnector = clientConnector;
+    }
+
+    /**
+     * Same connection, every command sent through the returned SDK targets the given keyspace.
+     */
+    public VertexCacheSDK withKeyspace(String keyspace) {
+        if (keyspace == null || keyspace.isBlank() || keyspace.contains(" ")) {
+            throw new IllegalArgumentException("Invalid keyspace: " + keyspace);
+        }
+        return new VertexCacheSDK(new KeyspaceClientConnector(clientConnector, keyspace));
+    }
+
     public void openConnection() {
        this.clientConnector.connect();
     }
@@ -62,6 +94,59 @@ public class VertexCacheSDK {
         return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
     }
 
+    public CommandResult set(String key, String value, Duration ttl) {
+        SetCommand cmd = (SetCommand) new SetCommand(key, value, null, null, ttl).execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
+    public CommandResult set(String key, String value, String secondaryIndexKey, Duration ttl) {
+        SetCommand cmd = (SetCommand) new SetCommand(key, value, secondaryIndexKey, null, ttl).execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
+    public CommandResult set(String key, String value, String secondaryIndexKey, String tertiaryIndexKey, Duration ttl) {
+        SetCommand cmd = (SetCommand) new SetCommand(key, value, secondaryIndexKey, tertiaryIndexKey, ttl).execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
+    /**
+     * Stores the value with values for the named indexes of the keyspace, ttl is optional.
+     */
+    public CommandResult set(String key, String value, Map<String, String> indexes, Duration ttl) {
+        SetCommand set = new SetCommand(key, value, null, null, ttl);
+        if (indexes == null || indexes.isEmpty()) {
+            throw new VertexCacheSdkException("Named indexes can't be empty when used");
+        }
+        indexes.forEach(set::withIndex);
+        SetCommand cmd = (SetCommand) set.execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
+    public CommandResult setBytes(String key, byte[] value) {
+        BSetCommand cmd = (BSetCommand) new BSetCommand(key, value).execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
+    public CommandResult setBytes(String key, byte[] value, String secondaryIndexKey, String tertiaryIndexKey, Duration ttl) {
+        BSetCommand cmd = (BSetCommand) new BSetCommand(key, value, secondaryIndexKey, tertiaryIndexKey, ttl).execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
+    public CommandResult expire(String key, Duration ttl) {
+        ExpireCommand cmd = (ExpireCommand) new ExpireCommand(key, ttl).execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
+    public TtlResult ttl(String key) {
+        TtlCommand cmd = (TtlCommand) new TtlCommand(key).execute(clientConnector);
+        return new TtlResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getTtlMillis());
+    }
+
+    public CommandResult persist(String key) {
+        PersistCommand cmd = (PersistCommand) new PersistCommand(key).execute(clientConnector);
+        return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
+    }
+
     public CommandResult del(String key) {
         DelCommand cmd = (DelCommand) new DelCommand(key).execute(clientConnector);
         return new CommandResult(cmd.isSuccess(), cmd.getStatusMessage());
@@ -72,6 +157,11 @@ public class VertexCacheSDK {
         return new GetResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValue());
     }
 
+    public GetBytesResult getBytes(String key) {
+        BGetCommand cmd = (BGetCommand) new BGetCommand(key).execute(clientConnector);
+        return new GetBytesResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValue());
+    }
+
     public GetResult getBySecondaryIndex(String key) {
         GetSecondaryIdxOneCommand cmd = (GetSecondaryIdxOneCommand) new GetSecondaryIdxOneCommand(key).execute(clientConnector);
         return new GetResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValue());
@@ -82,6 +172,47 @@ public class VertexCacheSDK {
         return new GetResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValue());
     }
 
+    /**
+     * Value of the key last written with the value of the named index.
+     */
+    public GetResult getByIndex(String index, String key) {
+        GetSecondaryIdxCommand cmd = (GetSecondaryIdxCommand) new GetSecondaryIdxCommand(index, key).execute(clientConnector);
+        return new GetResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValue());
+    }
+
+    /**
+     * Values of every key carrying the value of the named index.
+     */
+    public MultiGetResult getAllByIndex(String index, String key) {
+        MultiGetSecondaryIdxCommand cmd = (MultiGetSecondaryIdxCommand) new MultiGetSecondaryIdxCommand(index, key).execute(clientConnector);
+        return new MultiGetResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValues());
+    }
+
+    public MultiGetResult getAllBySecondaryIndex(String key) {
+        MultiGetSecondaryIdxCommand cmd = (MultiGetSecondaryIdxCommand) new MultiGetSecondaryIdxCommand(key, false).execute(clientConnector);
+        return new MultiGetResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValues());
+    }
+
+    public MultiGetResult getAllByTertiaryIndex(String key) {
+        MultiGetSecondaryIdxCommand cmd = (MultiGetSecondaryIdxCommand) new MultiGetSecondaryIdxCommand(key, true).execute(clientConnector);
+        return new MultiGetResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getValues());
+    }
+
+    /**
+     * One page of keys from the cursor (0 to start), match and count being optional (null and 0).
+     */
+    public ScanResult scan(String cursor, String match, int count) {
+        ScanCommand cmd = (ScanCommand) new ScanCommand(cursor, match, count).execute(clientConnector);
+        return new ScanResult(cmd.isSuccess(), cmd.getStatusMessage(), cmd.getNextCursor(), cmd.getKeys());
+    }
+
+    /**
+     * Every key matching the glob (null for all), fetched count keys at a time as the iterator advances.
+     */
+    public Iterator<String> scanKeys(String match, int count) {
+        return new ScanIterator(cursor -> scan(cursor, match, count));
+    }
+
     public boolean isConnected() {
         return clientConnector.isConnected();
     }
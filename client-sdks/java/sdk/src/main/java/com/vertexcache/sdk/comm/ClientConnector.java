@@ -100,15 +100,28 @@ public class ClientConnector implements ClientConnectorInterface {
      * @throws VertexCacheSdkException if the connection is interrupted or an error occurs during send/receive
      */
     public synchronized String send(String message) {
+        return new String(send(message.getBytes()));
+    }
+
+    /**
+     * Sends a raw message to the VertexCache server and returns the raw framed response.
+     *
+     * Used for binary values, neither the request nor the response goes through a charset conversion.
+     *
+     * @param message the raw bytes to send
+     * @return the server's response bytes
+     * @throws VertexCacheSdkException if the connection is interrupted or an error occurs during send/receive
+     */
+    public synchronized byte[] send(byte[] message) {
         try {
-            byte[] toSend = encryptIfEnabled(message.getBytes());
+            byte[] toSend = encryptIfEnabled(message);
             MessageCodec.writeFramedMessage(writer, toSend);
             writer.flush();
             byte[] response = MessageCodec.readFramedMessage(reader);
             if (response == null) {
                 throw new VertexCacheSdkException("Connection closed by server");
             }
-            return new String(response);
+            return response;
         } catch (Exception ex) {
             throw new VertexCacheSdkException("Unexpected failure during send");
         }
@@ -19,7 +19,8 @@ package com.vertexcache.sdk.comm;
  * TcpClientInterface defines the contract for low-level TCP communication used by the VertexCache SDK.
  *
  * Implementations of this interface are responsible for:
- * - Sending framed and encrypted commands to the VertexCache server
+ * - Sending framed and encrypted commands to the VertexCache server, as text or as raw bytes for
+ *   binary values
  * - Receiving and decoding responses
  * - Managing connection lifecycle including reconnection on failure
  *
@@ -29,6 +30,7 @@ package com.vertexcache.sdk.comm;
 public interface ClientConnectorInterface {
     void connect();
     String send(String message);
+    byte[] send(byte[] message);
     boolean isConnected();
     void close();
 }
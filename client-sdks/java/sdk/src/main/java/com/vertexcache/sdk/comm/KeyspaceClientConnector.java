@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.comm;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Connector decorator that runs every command in a named keyspace.
+ *
+ * Each request is prefixed with @<keyspace> before it goes out on the shared connection, so the keyspace
+ * is carried by the command itself rather than by server side connection state and survives reconnects.
+ * Connection lifecycle calls go straight to the wrapped connector.
+ */
+public class KeyspaceClientConnector implements ClientConnectorInterface {
+
+    private final ClientConnectorInterface delegate;
+    private final String prefix;
+    private final byte[] prefixBytes;
+
+    public KeyspaceClientConnector(ClientConnectorInterface delegate, String keyspace) {
+        this.delegate = delegate;
+        this.prefix = "@" + keyspace + " ";
+        this.prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void connect() {
+        delegate.connect();
+    }
+
+    @Override
+    public String send(String message) {
+        return delegate.send(prefix + message);
+    }
+
+    @Override
+    public byte[] send(byte[] message) {
+        byte[] request = new byte[prefixBytes.length + message.length];
+        System.arraycopy(prefixBytes, 0, request, 0, prefixBytes.length);
+        System.arraycopy(message, 0, request, prefixBytes.length, message.length);
+        return delegate.send(request);
+    }
+
+    @Override
+    public boolean isConnected() {
+        return delegate.isConnected();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -18,6 +18,10 @@ package com.vertexcache.sdk.command;
 import com.vertexcache.sdk.comm.ClientConnectorInterface;
 import com.vertexcache.sdk.model.VertexCacheSdkException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * BaseCommand defines the foundational structure for all client-issued commands in the VertexCache SDK.
  *
@@ -28,12 +32,19 @@ import com.vertexcache.sdk.model.VertexCacheSdkException;
  *
  * Subclasses should extend this class to implement specific command logic and payload formatting.
  *
+ * Binary commands (isBinary) are sent as raw bytes: the command line, then CRLF and the value bytes when
+ * buildPayload returns any. A binary reply ($<length>CRLF<bytes>CRLF) is handed to parseBinaryResponse
+ * as-is, text replies are handled as usual. An array reply ([<count>, one #<item> line per item, then ])
+ * is split into its items and handed to parseArrayResponse.
+ *
  * This abstraction allows the SDK to handle commands in a consistent, extensible, and testable manner.
  */
 public abstract class CommandBase<T extends CommandBase<T>> implements CommandInterface {
 
     private static String RESPONSE_OK = "OK";
     protected static final String COMMAND_SPACER = " ";
+    private static final byte BINARY_PREFIX = '$';
+    private static final byte[] LINE_END = {'\r', '\n'};
 
     private boolean success;
     private String response;
@@ -42,22 +53,19 @@ public abstract class CommandBase<T extends CommandBase<T>> implements CommandIn
     @Override
     public CommandInterface execute(ClientConnectorInterface client) {
         try {
-            String raw = client.send(buildCommand()).trim();
-
-            if (raw.startsWith("+")) {
-                response = raw.substring(1);
-                parseResponse(response);
-                if (error == null) {
-                    success = true;
+            if (isBinary()) {
+                byte[] raw = client.send(buildBinaryRequest());
+                if (raw.length > 0 && raw[0] == BINARY_PREFIX) {
+                    parseBinaryResponse(decodeBinary(raw));
+                    if (error == null) {
+                        success = true;
+                    }
+                } else {
+                    handleResponse(new String(raw, StandardCharsets.UTF_8).trim());
                 }
-            } else if (raw.startsWith("-")) {
-                success = false;
-                error = raw.substring(1); // remove '-'
             } else {
-                success = false;
-                error = "Unexpected response: " + raw;
+                handleResponse(client.send(buildCommand()).trim());
             }
-
         } catch (VertexCacheSdkException e) {
             success = false;
             error = e.getMessage();
@@ -65,12 +73,107 @@ public abstract class CommandBase<T extends CommandBase<T>> implements CommandIn
         return this;
     }
 
+    private void handleResponse(String raw) {
+        if (raw.startsWith("+")) {
+            response = raw.substring(1);
+            parseResponse(response);
+            if (error == null) {
+                success = true;
+            }
+        } else if (raw.startsWith("[")) {
+            parseArrayResponse(decodeArray(raw));
+            if (error == null) {
+                success = true;
+            }
+        } else if (raw.startsWith("-")) {
+            success = false;
+            error = raw.substring(1); // remove '-'
+        } else {
+            success = false;
+            error = "Unexpected response: " + raw;
+        }
+    }
+
+    private byte[] buildBinaryRequest() {
+        byte[] line = buildCommand().getBytes(StandardCharsets.UTF_8);
+        byte[] payload = buildPayload();
+        if (payload == null) {
+            return line;
+        }
+        byte[] request = new byte[line.length + LINE_END.length + payload.length];
+        System.arraycopy(line, 0, request, 0, line.length);
+        System.arraycopy(LINE_END, 0, request, line.length, LINE_END.length);
+        System.arraycopy(payload, 0, request, line.length + LINE_END.length, payload.length);
+        return request;
+    }
+
+    /*
+     * Extracts the value of a $<length>CRLF<bytes>CRLF reply.
+     */
+    static byte[] decodeBinary(byte[] raw) {
+        int lineEnd = 1;
+        while (lineEnd + 1 < raw.length && !(raw[lineEnd] == '\r' && raw[lineEnd + 1] == '\n')) {
+            lineEnd++;
+        }
+        int length;
+        try {
+            length = Integer.parseInt(new String(raw, 1, lineEnd - 1, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw new VertexCacheSdkException("Malformed binary response");
+        }
+        int start = lineEnd + 2;
+        if (length < 0 || start + length > raw.length) {
+            throw new VertexCacheSdkException("Truncated binary response");
+        }
+        byte[] value = new byte[length];
+        System.arraycopy(raw, start, value, 0, length);
+        return value;
+    }
+
+    /*
+     * Items of a [<count>CRLF#<item>CRLF...]CRLF reply.
+     */
+    static List<String> decodeArray(String raw) {
+        String[] lines = raw.split("\r\n");
+        int count;
+        try {
+            count = Integer.parseInt(lines[0].substring(1).trim());
+        } catch (NumberFormatException e) {
+            throw new VertexCacheSdkException("Malformed array response");
+        }
+        if (count < 0 || lines.length < count + 1) {
+            throw new VertexCacheSdkException("Truncated array response");
+        }
+        List<String> items = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String line = lines[i];
+            items.add(line.startsWith("#") ? line.substring(1) : line);
+        }
+        return items;
+    }
+
     protected abstract String buildCommand();
 
+    protected boolean isBinary() {
+        return false;
+    }
+
+    protected byte[] buildPayload() {
+        return null;
+    }
+
+    protected void parseBinaryResponse(byte[] value) {
+        // Default: do nothing — override if needed
+    }
+
     protected void parseResponse(String responseBody) {
         // Default: do nothing — override if needed
     }
 
+    protected void parseArrayResponse(List<String> items) {
+        // Default: do nothing — override if needed
+    }
+
     public void setFailure(String response) {
         this.success = false;
         this.error = response;
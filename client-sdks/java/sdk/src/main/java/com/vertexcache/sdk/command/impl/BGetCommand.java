@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+/**
+ * Handles the BGET command in VertexCache.
+ *
+ * Retrieves the value for a given key as raw bytes, exactly as stored by BSET. Values stored with
+ * SET are returned UTF-8 encoded.
+ *
+ * Requires the client to have READ, READ_WRITE, or ADMIN access.
+ */
+public class BGetCommand extends CommandBase<BGetCommand> {
+
+    private final String key;
+    private byte[] value;
+
+    public BGetCommand(String key) {
+        if (key == null || key.isBlank()) {
+            throw new VertexCacheSdkException("BGET command requires a non-empty key");
+        }
+        this.key = key;
+    }
+
+    @Override
+    protected String buildCommand() {
+        return "BGET " + key;
+    }
+
+    @Override
+    protected boolean isBinary() {
+        return true;
+    }
+
+    @Override
+    protected void parseBinaryResponse(byte[] value) {
+        this.value = value;
+        this.setSuccess();
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        if ("(nil)".equalsIgnoreCase(responseBody)) {
+            this.setSuccess("No matching key found, +(nil)");
+            return;
+        }
+        setFailure("BGET failed: " + responseBody);
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+}
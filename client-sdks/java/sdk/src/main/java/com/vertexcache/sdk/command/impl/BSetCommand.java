@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.command.CommandType;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+import java.time.Duration;
+
+/**
+ * Handles the BSET command in VertexCache.
+ *
+ * Stores a binary value under the specified key, with the same optional secondary (idx1) and
+ * tertiary (idx2) indexes and TTL as SET. The value bytes are sent as-is after the command line,
+ * without any encoding or escaping, and are returned unchanged by BGET.
+ *
+ * Requires the client to have WRITE or ADMIN access.
+ */
+public class BSetCommand extends CommandBase<BSetCommand> {
+
+    private final String primaryKey;
+    private final byte[] value;
+    private final String secondaryKey;
+    private final String tertiaryKey;
+    private final Duration ttl;
+
+    public BSetCommand(String primaryKey, byte[] value) throws VertexCacheSdkException {
+        this(primaryKey, value, null, null, null);
+    }
+
+    public BSetCommand(String primaryKey, byte[] value, String secondaryKey, String tertiaryKey, Duration ttl) throws VertexCacheSdkException {
+
+        if(primaryKey == null || primaryKey.isBlank()) {
+            throw new VertexCacheSdkException("Missing Primary Key");
+        }
+
+        if(value == null || value.length == 0) {
+            throw new VertexCacheSdkException("Missing Value");
+        }
+
+        if(secondaryKey != null && secondaryKey.isBlank()) {
+            throw new VertexCacheSdkException("Secondary key can't be empty when used");
+        }
+
+        if(secondaryKey != null && !secondaryKey.isBlank() && tertiaryKey != null && tertiaryKey.isBlank()) {
+            throw new VertexCacheSdkException("Tertiary key can't be empty when used");
+        }
+
+        if(ttl != null && ttl.toMillis() <= 0) {
+            throw new VertexCacheSdkException("TTL must be at least one millisecond when used");
+        }
+
+        this.primaryKey = primaryKey;
+        this.value = value;
+        this.secondaryKey = secondaryKey;
+        this.tertiaryKey = tertiaryKey;
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected String buildCommand() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("BSET").append(CommandBase.COMMAND_SPACER).append(primaryKey);
+
+        if (secondaryKey != null && !secondaryKey.isBlank()) {
+            sb.append(" ").append(CommandType.IDX1).append(" ").append(secondaryKey);
+        }
+
+        if (tertiaryKey != null && !tertiaryKey.isBlank()) {
+            sb.append(" ").append(CommandType.IDX2).append(" ").append(tertiaryKey);
+        }
+
+        if (ttl != null) {
+            sb.append(" TTL ").append(ttl.toMillis()).append("ms");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    protected boolean isBinary() {
+        return true;
+    }
+
+    @Override
+    protected byte[] buildPayload() {
+        return value;
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        if(!responseBody.equalsIgnoreCase("OK")) {
+            this.setFailure("OK Not received");
+        } else {
+            this.setSuccess();
+        }
+    }
+}
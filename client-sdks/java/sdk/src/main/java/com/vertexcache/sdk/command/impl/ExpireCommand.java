@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+import java.time.Duration;
+
+/**
+ * Handles the EXPIRE command in VertexCache.
+ *
+ * Sets or replaces the time to live of an existing key, the key is removed
+ * once it elapses. The TTL is sent in milliseconds, ie: EXPIRE key 1500ms.
+ *
+ * Requires the client to have WRITE or ADMIN access.
+ *
+ * Response:
+ * - 1 when the expiry was set, 0 when the key does not exist (reported as a failure).
+ */
+public class ExpireCommand extends CommandBase<ExpireCommand> {
+
+    private final String key;
+    private final Duration ttl;
+
+    public ExpireCommand(String key, Duration ttl) {
+        if (key == null || key.isBlank()) {
+            throw new VertexCacheSdkException("EXPIRE command requires a non-empty key");
+        }
+        if (ttl == null || ttl.toMillis() <= 0) {
+            throw new VertexCacheSdkException("EXPIRE command requires a TTL of at least one millisecond");
+        }
+        this.key = key;
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected String buildCommand() {
+        return "EXPIRE " + key + " " + ttl.toMillis() + "ms";
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        if ("1".equals(responseBody)) {
+            this.setSuccess();
+        } else if ("0".equals(responseBody)) {
+            this.setFailure("EXPIRE failed: key not found");
+        } else {
+            this.setFailure("EXPIRE failed: " + responseBody);
+        }
+    }
+}
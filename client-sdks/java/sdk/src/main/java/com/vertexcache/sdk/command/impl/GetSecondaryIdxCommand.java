@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+/**
+ * Handles the GETIDX command in VertexCache.
+ *
+ * Retrieves the value of the key last written with the given value of a named secondary index, the
+ * index being any name declared by the keyspace (idx1 and idx2 by default).
+ *
+ * Requires the client to have READ, READ_WRITE, or ADMIN access.
+ */
+public class GetSecondaryIdxCommand extends CommandBase<GetSecondaryIdxCommand> {
+
+    private final String index;
+    private final String key;
+    private String value;
+
+    public GetSecondaryIdxCommand(String index, String key) {
+        if (index == null || index.isBlank() || index.contains(" ")) {
+            throw new VertexCacheSdkException("GETIDX command requires an index name without spaces");
+        }
+        if (key == null || key.isBlank()) {
+            throw new VertexCacheSdkException("GETIDX command requires a non-empty key");
+        }
+        this.index = index;
+        this.key = key;
+    }
+
+    @Override
+    public String buildCommand() {
+        return "GETIDX " + index + COMMAND_SPACER + key;
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        if ("(nil)".equalsIgnoreCase(responseBody)) {
+            this.setSuccess("No matching key found, +(nil)");
+            return;
+        }
+
+        if (responseBody.startsWith("ERR")) {
+            setFailure("GETIDX failed: " + responseBody);
+        } else {
+            this.value = responseBody;
+        }
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
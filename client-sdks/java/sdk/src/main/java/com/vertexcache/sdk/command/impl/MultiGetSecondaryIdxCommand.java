@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handles the MGETIDX command in VertexCache.
+ *
+ * Retrieves the values of every key sharing a secondary (idx1), tertiary (idx2) or any named index
+ * value in one round trip, where GETIDX only returns the last key written with it.
+ * An empty list means no key carries the index value.
+ *
+ * Requires the client to have READ, READ_WRITE, or ADMIN access.
+ */
+public class MultiGetSecondaryIdxCommand extends CommandBase<MultiGetSecondaryIdxCommand> {
+
+    private final String index;
+    private final String key;
+    private List<String> values = new ArrayList<>();
+
+    /**
+     * @param tertiary false for idx1, true for idx2
+     */
+    public MultiGetSecondaryIdxCommand(String key, boolean tertiary) {
+        this(tertiary ? "IDX2" : "IDX1", key);
+    }
+
+    /**
+     * @param index name of the index as declared by the keyspace
+     */
+    public MultiGetSecondaryIdxCommand(String index, String key) {
+        if (index == null || index.isBlank() || index.contains(" ")) {
+            throw new VertexCacheSdkException("MGETIDX command requires an index name without spaces");
+        }
+        if (key == null || key.isBlank()) {
+            throw new VertexCacheSdkException("MGETIDX command requires a non-empty key");
+        }
+        this.index = index;
+        this.key = key;
+    }
+
+    @Override
+    public String buildCommand() {
+        return "MGETIDX " + index + COMMAND_SPACER + key;
+    }
+
+    @Override
+    protected void parseArrayResponse(List<String> items) {
+        this.values = items;
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        setFailure("MGETIDX failed, unexpected response: " + responseBody);
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+}
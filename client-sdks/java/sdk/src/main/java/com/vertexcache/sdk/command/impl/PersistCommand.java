@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+/**
+ * Handles the PERSIST command in VertexCache.
+ *
+ * Removes the time to live of a key so that it no longer expires.
+ *
+ * Requires the client to have WRITE or ADMIN access.
+ *
+ * Response:
+ * - 1 when an expiry was removed, 0 when the key does not exist or had no expiry.
+ *   Both are successful, the response message tells them apart.
+ */
+public class PersistCommand extends CommandBase<PersistCommand> {
+
+    private final String key;
+    private boolean persisted;
+
+    public PersistCommand(String key) {
+        if (key == null || key.isBlank()) {
+            throw new VertexCacheSdkException("PERSIST command requires a non-empty key");
+        }
+        this.key = key;
+    }
+
+    @Override
+    protected String buildCommand() {
+        return "PERSIST " + key;
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        if ("1".equals(responseBody)) {
+            this.persisted = true;
+            this.setSuccess("Expiry removed");
+        } else if ("0".equals(responseBody)) {
+            this.setSuccess("No expiry to remove");
+        } else {
+            this.setFailure("PERSIST failed: " + responseBody);
+        }
+    }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handles the SCAN command in VertexCache.
+ *
+ * Fetches one page of keys: SCAN <cursor> [MATCH pattern] [COUNT n]. The reply holds the cursor of
+ * the next page followed by the keys of this one, a scan starts with cursor 0 and is complete once
+ * the server returns cursor 0. A page may hold no keys without the scan being over.
+ *
+ * Requires the client to have READ, READ_WRITE, or ADMIN access.
+ */
+public class ScanCommand extends CommandBase<ScanCommand> {
+
+    public static final String START_CURSOR = "0";
+
+    private final String cursor;
+    private final String match;
+    private final int count;
+    private String nextCursor;
+    private List<String> keys = new ArrayList<>();
+
+    /**
+     * @param match glob the keys must match (* and ?), null for every key
+     * @param count keys examined by the server for this page, 0 for its default
+     */
+    public ScanCommand(String cursor, String match, int count) {
+        if (cursor == null || cursor.isBlank() || cursor.contains(" ")) {
+            throw new VertexCacheSdkException("SCAN command requires a cursor, 0 to start");
+        }
+        if (match != null && (match.isBlank() || match.contains(" "))) {
+            throw new VertexCacheSdkException("SCAN match pattern must be non-empty and without spaces");
+        }
+        if (count < 0) {
+            throw new VertexCacheSdkException("SCAN count must not be negative");
+        }
+        this.cursor = cursor;
+        this.match = match;
+        this.count = count;
+    }
+
+    @Override
+    public String buildCommand() {
+        StringBuilder sb = new StringBuilder("SCAN").append(COMMAND_SPACER).append(cursor);
+        if (match != null) {
+            sb.append(" MATCH ").append(match);
+        }
+        if (count > 0) {
+            sb.append(" COUNT ").append(count);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected void parseArrayResponse(List<String> items) {
+        if (items.isEmpty()) {
+            setFailure("SCAN failed, reply without a cursor");
+            return;
+        }
+        this.nextCursor = items.getFirst();
+        this.keys = new ArrayList<>(items.subList(1, items.size()));
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        setFailure("SCAN failed, unexpected response: " + responseBody);
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+}
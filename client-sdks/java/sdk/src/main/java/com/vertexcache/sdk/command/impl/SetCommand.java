@@ -19,6 +19,10 @@ import com.vertexcache.sdk.command.CommandBase;
 import com.vertexcache.sdk.command.CommandType;
 import com.vertexcache.sdk.model.VertexCacheSdkException;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Handles the SET command in VertexCache.
  *
@@ -31,6 +35,8 @@ import com.vertexcache.sdk.model.VertexCacheSdkException;
  * Validation:
  * - Key and value are required arguments.
  * - Optional arguments may include index fields and TTL metadata.
+ * - A TTL, when given, must be at least one millisecond and is sent as TTL <millis>ms.
+ * - Named indexes, when given, are sent as IDX <name> <value> ... and must not contain spaces.
  */
 public class SetCommand extends CommandBase<SetCommand> {
 
@@ -38,6 +44,8 @@ public class SetCommand extends CommandBase<SetCommand> {
     private final String value;
     private final String secondaryKey;
     private final String tertiaryKey;
+    private final Duration ttl;
+    private final Map<String, String> indexes = new LinkedHashMap<>();
 
     public SetCommand(String primaryKey, String value) throws VertexCacheSdkException {
         this(primaryKey, value, null, null);
@@ -48,6 +56,10 @@ public class SetCommand extends CommandBase<SetCommand> {
     }
 
     public SetCommand(String primaryKey, String value, String secondaryKey, String tertiaryKey) throws VertexCacheSdkException {
+        this(primaryKey, value, secondaryKey, tertiaryKey, null);
+    }
+
+    public SetCommand(String primaryKey, String value, String secondaryKey, String tertiaryKey, Duration ttl) throws VertexCacheSdkException {
 
         if(primaryKey == null || primaryKey.isBlank()) {
             throw new VertexCacheSdkException("Missing Primary Key");
@@ -65,10 +77,30 @@ public class SetCommand extends CommandBase<SetCommand> {
             throw new VertexCacheSdkException("Tertiary key can't be empty when used");
         }
 
+        if(ttl != null && ttl.toMillis() <= 0) {
+            throw new VertexCacheSdkException("TTL must be at least one millisecond when used");
+        }
+
         this.primaryKey = primaryKey;
         this.value = value;
         this.secondaryKey = secondaryKey;
         this.tertiaryKey = tertiaryKey;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Adds the value of a named index of the keyspace, ie: withIndex("email", "a@b.c").
+     */
+    public SetCommand withIndex(String name, String indexValue) throws VertexCacheSdkException {
+        if (isBlankOrSpaced(name) || isBlankOrSpaced(indexValue)) {
+            throw new VertexCacheSdkException("Index names and values can't be empty or contain spaces");
+        }
+        this.indexes.put(name, indexValue);
+        return this;
+    }
+
+    private static boolean isBlankOrSpaced(String text) {
+        return text == null || text.isBlank() || text.contains(" ");
     }
 
     @Override
@@ -86,6 +118,15 @@ public class SetCommand extends CommandBase<SetCommand> {
             sb.append(" ").append(CommandType.IDX2).append(" ").append(tertiaryKey);
         }
 
+        if (!indexes.isEmpty()) {
+            sb.append(" IDX");
+            indexes.forEach((name, indexValue) -> sb.append(" ").append(name).append(" ").append(indexValue));
+        }
+
+        if (ttl != null) {
+            sb.append(" TTL ").append(ttl.toMillis()).append("ms");
+        }
+
         return sb.toString();
     }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.command.CommandBase;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+
+/**
+ * Handles the TTL command in VertexCache.
+ *
+ * Reads the remaining time to live of a key, always requested in milliseconds (TTL key MS).
+ *
+ * Requires the client to have READ, READ_WRITE, or ADMIN access.
+ *
+ * Response:
+ * - Remaining milliseconds, -1 when the key never expires, -2 when the key does not exist.
+ */
+public class TtlCommand extends CommandBase<TtlCommand> {
+
+    public static final long TTL_NONE = -1;
+    public static final long TTL_MISSING = -2;
+
+    private final String key;
+    private long ttlMillis = TTL_MISSING;
+
+    public TtlCommand(String key) {
+        if (key == null || key.isBlank()) {
+            throw new VertexCacheSdkException("TTL command requires a non-empty key");
+        }
+        this.key = key;
+    }
+
+    @Override
+    protected String buildCommand() {
+        return "TTL " + key + " MS";
+    }
+
+    @Override
+    protected void parseResponse(String responseBody) {
+        try {
+            this.ttlMillis = Long.parseLong(responseBody.trim());
+        } catch (NumberFormatException e) {
+            this.setFailure("TTL failed: " + responseBody);
+        }
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.model;
+
+import java.util.List;
+
+/**
+ * Result class for commands returning several values, such as a lookup of every key sharing an index value.
+ *
+ * Extends {@link CommandResult} with the list of values, empty when nothing matched or the command failed.
+ */
+public class MultiGetResult extends CommandResult {
+    private final List<String> values;
+
+    public MultiGetResult(boolean success, String message, List<String> values) {
+        super(success, message);
+        this.values = values != null ? List.copyOf(values) : List.of();
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+}
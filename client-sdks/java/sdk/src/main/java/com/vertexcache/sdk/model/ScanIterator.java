@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.model;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates over every key of a SCAN, fetching the next page only when the keys of the current one
+ * are used up. Pages are fetched through the given function, from cursor 0 until the server hands
+ * cursor 0 back.
+ *
+ * A page that fails ends the iteration with a VertexCacheSdkException carrying the server message.
+ */
+public class ScanIterator implements Iterator<String> {
+
+    private final Function<String, ScanResult> pageFetcher;
+    private Iterator<String> page = Collections.emptyIterator();
+    private String cursor = "0";
+    private boolean complete;
+
+    public ScanIterator(Function<String, ScanResult> pageFetcher) {
+        this.pageFetcher = pageFetcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+        // Pages may be empty without the scan being over
+        while (!page.hasNext() && !complete) {
+            ScanResult result = pageFetcher.apply(cursor);
+            if (!result.isSuccess()) {
+                complete = true;
+                throw new VertexCacheSdkException("SCAN failed: " + result.getMessage());
+            }
+            page = result.getKeys().iterator();
+            cursor = result.getCursor();
+            complete = result.isComplete();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.model;
+
+import java.util.List;
+
+/**
+ * Result of one SCAN page: the keys of the page and the cursor to pass to the next call.
+ *
+ * The scan is complete once the cursor is back to 0, see isComplete.
+ */
+public class ScanResult extends CommandResult {
+    private final String cursor;
+    private final List<String> keys;
+
+    public ScanResult(boolean success, String message, String cursor, List<String> keys) {
+        super(success, message);
+        this.cursor = cursor;
+        this.keys = keys != null ? List.copyOf(keys) : List.of();
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    public boolean isComplete() {
+        return "0".equals(cursor);
+    }
+}
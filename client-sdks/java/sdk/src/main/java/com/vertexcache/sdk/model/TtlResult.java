@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.model;
+
+/**
+ * Specialized result class for handling TTL command responses from VertexCache.
+ *
+ * Extends {@link CommandResult} with the remaining time to live of the key in milliseconds,
+ * -1 when the key exists without expiry and -2 when the key does not exist.
+ */
+public class TtlResult extends CommandResult {
+    private final long ttlMillis;
+
+    public TtlResult(boolean success, String message, long ttlMillis) {
+        super(success, message);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public boolean isPersistent() {
+        return ttlMillis == -1;
+    }
+
+    public boolean isMissing() {
+        return ttlMillis == -2;
+    }
+}
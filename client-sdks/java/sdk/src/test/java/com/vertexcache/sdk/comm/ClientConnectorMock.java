@@ -15,12 +15,22 @@
  */
 package com.vertexcache.sdk.comm;
 
+import java.nio.charset.StandardCharsets;
+
 public class ClientConnectorMock implements ClientConnectorInterface {
 
     private final String mockResponse;
+    private final byte[] mockBytes;
+    private byte[] lastSent;
 
     public ClientConnectorMock(String mockResponse) {
         this.mockResponse = mockResponse;
+        this.mockBytes = mockResponse.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public ClientConnectorMock(byte[] mockBytes) {
+        this.mockResponse = new String(mockBytes, StandardCharsets.UTF_8);
+        this.mockBytes = mockBytes;
     }
 
     @Override
@@ -30,9 +40,20 @@ public class ClientConnectorMock implements ClientConnectorInterface {
 
     @Override
     public String send(String message) {
+        this.lastSent = message.getBytes(StandardCharsets.UTF_8);
         return mockResponse;
     }
 
+    @Override
+    public byte[] send(byte[] message) {
+        this.lastSent = message;
+        return mockBytes;
+    }
+
+    public byte[] getLastSent() {
+        return lastSent;
+    }
+
     @Override
     public boolean isConnected() {
         return true;
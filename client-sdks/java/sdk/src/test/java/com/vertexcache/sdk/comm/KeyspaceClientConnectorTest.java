@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.comm;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyspaceClientConnectorTest {
+
+    @Test
+    void sendString_shouldPrefixKeyspace() {
+        ClientConnectorMock mock = new ClientConnectorMock("+OK");
+        KeyspaceClientConnector connector = new KeyspaceClientConnector(mock, "sessions");
+
+        assertEquals("+OK", connector.send("GET user:1"));
+        assertEquals("@sessions GET user:1", new String(mock.getLastSent(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void sendBytes_shouldPrefixKeyspaceAndKeyPayload() {
+        ClientConnectorMock mock = new ClientConnectorMock("+OK");
+        KeyspaceClientConnector connector = new KeyspaceClientConnector(mock, "blobs");
+
+        byte[] payload = {'B', 'S', 'E', 'T', ' ', 0x00, (byte) 0xFF};
+        connector.send(payload);
+
+        byte[] sent = mock.getLastSent();
+        assertEquals(7 + payload.length, sent.length);
+        assertEquals("@blobs ", new String(sent, 0, 7, StandardCharsets.UTF_8));
+        assertEquals(0x00, sent[sent.length - 2]);
+        assertEquals((byte) 0xFF, sent[sent.length - 1]);
+    }
+
+    @Test
+    void lifecycle_shouldDelegate() {
+        ClientConnectorMock mock = new ClientConnectorMock("+OK");
+        KeyspaceClientConnector connector = new KeyspaceClientConnector(mock, "ks");
+        connector.connect();
+        assertTrue(connector.isConnected());
+        connector.close();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BGetCommandTest {
+
+    @Test
+    void execute_shouldReturnRawBytes() {
+        byte[] value = {0, (byte) 0xff, '\r', '\n', '$'};
+        byte[] reply = new byte[4 + value.length + 2];
+        System.arraycopy("$5\r\n".getBytes(StandardCharsets.US_ASCII), 0, reply, 0, 4);
+        System.arraycopy(value, 0, reply, 4, value.length);
+        reply[reply.length - 2] = '\r';
+        reply[reply.length - 1] = '\n';
+
+        BGetCommand cmd = (BGetCommand) new BGetCommand("img:1").execute(new ClientConnectorMock(reply));
+
+        assertTrue(cmd.isSuccess());
+        assertArrayEquals(value, cmd.getValue());
+    }
+
+    @Test
+    void execute_shouldReturnNullValueWhenKeyIsNil() {
+        BGetCommand cmd = (BGetCommand) new BGetCommand("missing").execute(new ClientConnectorMock("+(nil)"));
+
+        assertTrue(cmd.isSuccess());
+        assertNull(cmd.getValue());
+        assertEquals("No matching key found, +(nil)", cmd.getResponse());
+    }
+
+    @Test
+    void execute_shouldFailOnTruncatedReply() {
+        BGetCommand cmd = (BGetCommand) new BGetCommand("k").execute(new ClientConnectorMock("$10\r\nabc".getBytes(StandardCharsets.US_ASCII)));
+
+        assertFalse(cmd.isSuccess());
+        assertNull(cmd.getValue());
+    }
+
+    @Test
+    void buildCommand_shouldBeValid() {
+        assertEquals("BGET foo", new BGetCommand("foo").buildCommand());
+        assertThrows(VertexCacheSdkException.class, () -> new BGetCommand(" "));
+    }
+}
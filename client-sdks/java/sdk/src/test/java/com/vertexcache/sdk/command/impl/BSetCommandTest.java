@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BSetCommandTest {
+
+    @Test
+    void execute_shouldSendCommandLineThenRawBytes() {
+        byte[] value = {0, (byte) 0xff, '"', '\r', '\n', ' '};
+        ClientConnectorMock mock = new ClientConnectorMock("+OK");
+        BSetCommand cmd = (BSetCommand) new BSetCommand("img:1", value).execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        byte[] sent = mock.getLastSent();
+        byte[] line = "BSET img:1\r\n".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(line, Arrays.copyOfRange(sent, 0, line.length));
+        assertArrayEquals(value, Arrays.copyOfRange(sent, line.length, sent.length));
+    }
+
+    @Test
+    void buildCommand_shouldIncludeIndexesAndTtl() {
+        BSetCommand cmd = new BSetCommand("k", new byte[]{1}, "i1", "i2", Duration.ofSeconds(2));
+        assertEquals("BSET k IDX1 i1 IDX2 i2 TTL 2000ms", cmd.buildCommand());
+    }
+
+    @Test
+    void execute_shouldFailOnErrorResponse() {
+        BSetCommand cmd = (BSetCommand) new BSetCommand("k", new byte[]{1}).execute(new ClientConnectorMock("-ERR"));
+        assertFalse(cmd.isSuccess());
+        assertEquals("ERR", cmd.getError());
+    }
+
+    @Test
+    void constructor_shouldRejectMissingKeyOrValue() {
+        assertThrows(VertexCacheSdkException.class, () -> new BSetCommand(null, new byte[]{1}));
+        assertThrows(VertexCacheSdkException.class, () -> new BSetCommand("k", null));
+        assertThrows(VertexCacheSdkException.class, () -> new BSetCommand("k", new byte[0]));
+        assertThrows(VertexCacheSdkException.class, () -> new BSetCommand("k", new byte[]{1}, null, null, Duration.ZERO));
+    }
+}
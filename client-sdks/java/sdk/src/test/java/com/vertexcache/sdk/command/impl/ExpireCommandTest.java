@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorInterface;
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpireCommandTest {
+
+    @Test
+    void execute_shouldSucceedWhenExpirySet() {
+        ClientConnectorInterface mock = new ClientConnectorMock("+1");
+        ExpireCommand cmd = (ExpireCommand) new ExpireCommand("key123", Duration.ofSeconds(5)).execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertNull(cmd.getError());
+    }
+
+    @Test
+    void execute_shouldFailWhenKeyNotFound() {
+        ClientConnectorInterface mock = new ClientConnectorMock("+0");
+        ExpireCommand cmd = (ExpireCommand) new ExpireCommand("key123", Duration.ofSeconds(5)).execute(mock);
+
+        assertFalse(cmd.isSuccess());
+        assertEquals("EXPIRE failed: key not found", cmd.getError());
+    }
+
+    @Test
+    void buildCommand_shouldSendMilliseconds() {
+        ExpireCommand cmd = new ExpireCommand("mykey", Duration.ofMinutes(1));
+        assertEquals("EXPIRE mykey 60000ms", cmd.buildCommand());
+    }
+
+    @Test
+    void constructor_shouldThrowOnInvalidArguments() {
+        assertThrows(VertexCacheSdkException.class, () -> new ExpireCommand(null, Duration.ofSeconds(1)));
+        assertThrows(VertexCacheSdkException.class, () -> new ExpireCommand("key", null));
+        assertThrows(VertexCacheSdkException.class, () -> new ExpireCommand("key", Duration.ZERO));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorInterface;
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GetSecondaryIdxCommandTest {
+
+    @Test
+    void execute_shouldReturnValueForNamedIndex() {
+        ClientConnectorInterface mock = new ClientConnectorMock("+{\"name\":\"Alice\"}");
+        GetSecondaryIdxCommand cmd = (GetSecondaryIdxCommand)
+                new GetSecondaryIdxCommand("email", "alice@example.com").execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertEquals("{\"name\":\"Alice\"}", cmd.getValue());
+        assertNull(cmd.getError());
+    }
+
+    @Test
+    void execute_shouldReturnNullValueWhenNil() {
+        ClientConnectorInterface mock = new ClientConnectorMock("+(nil)");
+        GetSecondaryIdxCommand cmd = (GetSecondaryIdxCommand)
+                new GetSecondaryIdxCommand("phone", "555-0000").execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertNull(cmd.getValue());
+    }
+
+    @Test
+    void execute_shouldFailOnUnknownIndex() {
+        ClientConnectorInterface mock = new ClientConnectorMock("-Unknown secondary index: fax");
+        GetSecondaryIdxCommand cmd = (GetSecondaryIdxCommand)
+                new GetSecondaryIdxCommand("fax", "1").execute(mock);
+
+        assertFalse(cmd.isSuccess());
+        assertEquals("Unknown secondary index: fax", cmd.getError());
+    }
+
+    @Test
+    void buildCommand_shouldBeValid() {
+        assertEquals("GETIDX email alice@example.com", new GetSecondaryIdxCommand("email", "alice@example.com").buildCommand());
+    }
+
+    @Test
+    void constructor_shouldThrowIfIndexOrKeyIsInvalid() {
+        assertThrows(VertexCacheSdkException.class, () -> new GetSecondaryIdxCommand(null, "a"));
+        assertThrows(VertexCacheSdkException.class, () -> new GetSecondaryIdxCommand("e mail", "a"));
+        assertThrows(VertexCacheSdkException.class, () -> new GetSecondaryIdxCommand("email", " "));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorInterface;
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiGetSecondaryIdxCommandTest {
+
+    @Test
+    void execute_shouldReturnEveryValue() {
+        ClientConnectorInterface mock = new ClientConnectorMock("[2\r\n#{\"device\":\"phone\"}\r\n#{\"device\":\"laptop\"}\r\n]\r\n");
+        MultiGetSecondaryIdxCommand cmd = (MultiGetSecondaryIdxCommand)
+                new MultiGetSecondaryIdxCommand("user:42", false).execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertEquals(List.of("{\"device\":\"phone\"}", "{\"device\":\"laptop\"}"), cmd.getValues());
+        assertNull(cmd.getError());
+    }
+
+    @Test
+    void execute_shouldReturnEmptyListWhenNothingMatches() {
+        ClientConnectorInterface mock = new ClientConnectorMock("[0\r\n]\r\n");
+        MultiGetSecondaryIdxCommand cmd = (MultiGetSecondaryIdxCommand)
+                new MultiGetSecondaryIdxCommand("user:0", true).execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertTrue(cmd.getValues().isEmpty());
+    }
+
+    @Test
+    void execute_shouldFailOnError() {
+        ClientConnectorInterface mock = new ClientConnectorMock("-MGETIDX index must be IDX1 or IDX2.");
+        MultiGetSecondaryIdxCommand cmd = (MultiGetSecondaryIdxCommand)
+                new MultiGetSecondaryIdxCommand("user:42", false).execute(mock);
+
+        assertFalse(cmd.isSuccess());
+        assertEquals("MGETIDX index must be IDX1 or IDX2.", cmd.getError());
+        assertTrue(cmd.getValues().isEmpty());
+    }
+
+    @Test
+    void buildCommand_shouldBeValid() {
+        assertEquals("MGETIDX IDX1 user:42", new MultiGetSecondaryIdxCommand("user:42", false).buildCommand());
+        assertEquals("MGETIDX IDX2 device:a", new MultiGetSecondaryIdxCommand("device:a", true).buildCommand());
+        assertEquals("MGETIDX tenant acme", new MultiGetSecondaryIdxCommand("tenant", "acme").buildCommand());
+    }
+
+    @Test
+    void constructor_shouldThrowIfKeyIsNullOrEmpty() {
+        assertThrows(VertexCacheSdkException.class, () -> new MultiGetSecondaryIdxCommand(null, false));
+        assertThrows(VertexCacheSdkException.class, () -> new MultiGetSecondaryIdxCommand(" ", true));
+        assertThrows(VertexCacheSdkException.class, () -> new MultiGetSecondaryIdxCommand("bad index", "acme"));
+    }
+}
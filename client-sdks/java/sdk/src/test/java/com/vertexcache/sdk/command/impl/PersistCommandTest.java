@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistCommandTest {
+
+    @Test
+    void execute_shouldReportRemovedExpiry() {
+        PersistCommand cmd = (PersistCommand) new PersistCommand("key").execute(new ClientConnectorMock("+1"));
+
+        assertTrue(cmd.isSuccess());
+        assertTrue(cmd.isPersisted());
+        assertEquals("Expiry removed", cmd.getStatusMessage());
+    }
+
+    @Test
+    void execute_shouldSucceedWithoutExpiry() {
+        PersistCommand cmd = (PersistCommand) new PersistCommand("key").execute(new ClientConnectorMock("+0"));
+
+        assertTrue(cmd.isSuccess());
+        assertFalse(cmd.isPersisted());
+    }
+
+    @Test
+    void buildCommand_shouldFormatCorrectly() {
+        assertEquals("PERSIST mykey", new PersistCommand("mykey").buildCommand());
+    }
+
+    @Test
+    void constructor_shouldThrowIfKeyIsNullOrEmpty() {
+        assertThrows(VertexCacheSdkException.class, () -> new PersistCommand(null));
+    }
+}
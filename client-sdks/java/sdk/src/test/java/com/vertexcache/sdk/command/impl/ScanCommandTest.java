@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorInterface;
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanCommandTest {
+
+    @Test
+    void execute_shouldSplitCursorAndKeys() {
+        ClientConnectorInterface mock = new ClientConnectorMock("[3\r\n#dXNlcjoy\r\n#user:1\r\n#user:2\r\n]\r\n");
+        ScanCommand cmd = (ScanCommand) new ScanCommand("0", "user:*", 2).execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertEquals("dXNlcjoy", cmd.getNextCursor());
+        assertEquals(List.of("user:1", "user:2"), cmd.getKeys());
+    }
+
+    @Test
+    void execute_shouldAcceptEmptyPage() {
+        ClientConnectorInterface mock = new ClientConnectorMock("[1\r\n#0\r\n]\r\n");
+        ScanCommand cmd = (ScanCommand) new ScanCommand("dXNlcjoy", null, 0).execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertEquals("0", cmd.getNextCursor());
+        assertTrue(cmd.getKeys().isEmpty());
+    }
+
+    @Test
+    void execute_shouldFailOnError() {
+        ClientConnectorInterface mock = new ClientConnectorMock("-Invalid SCAN cursor: ???");
+        ScanCommand cmd = (ScanCommand) new ScanCommand("???", null, 0).execute(mock);
+
+        assertFalse(cmd.isSuccess());
+        assertEquals("Invalid SCAN cursor: ???", cmd.getError());
+    }
+
+    @Test
+    void buildCommand_shouldBeValid() {
+        assertEquals("SCAN 0", new ScanCommand("0", null, 0).buildCommand());
+        assertEquals("SCAN 0 MATCH user:* COUNT 100", new ScanCommand("0", "user:*", 100).buildCommand());
+        assertEquals("SCAN abc COUNT 5", new ScanCommand("abc", null, 5).buildCommand());
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidArguments() {
+        assertThrows(VertexCacheSdkException.class, () -> new ScanCommand(null, null, 0));
+        assertThrows(VertexCacheSdkException.class, () -> new ScanCommand("0", "a b", 0));
+        assertThrows(VertexCacheSdkException.class, () -> new ScanCommand("0", null, -1));
+    }
+}
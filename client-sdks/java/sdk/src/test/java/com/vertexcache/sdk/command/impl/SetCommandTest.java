@@ -19,6 +19,8 @@ import com.vertexcache.sdk.model.VertexCacheSdkException;
 import com.vertexcache.sdk.comm.ClientConnectorMock;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SetCommandTest {
@@ -53,4 +55,38 @@ class SetCommandTest {
         assertThrows(VertexCacheSdkException.class, () -> new SetCommand("key", null));
         assertThrows(VertexCacheSdkException.class, () -> new SetCommand("", "value"));
     }
+
+    @Test
+    void buildCommand_shouldAppendTtlInMilliseconds() {
+        SetCommand cmd = new SetCommand("session:1", "token", null, null, Duration.ofSeconds(30));
+        assertEquals("SET session:1 token TTL 30000ms", cmd.buildCommand());
+    }
+
+    @Test
+    void buildCommand_shouldPlaceTtlAfterIndexes() {
+        SetCommand cmd = new SetCommand("user:1", "Alice", "alice@example.com", "emp-1", Duration.ofMillis(1500));
+        assertEquals("SET user:1 Alice IDX1 alice@example.com IDX2 emp-1 TTL 1500ms", cmd.buildCommand());
+    }
+
+    @Test
+    void constructor_shouldThrowIfTtlIsNotPositive() {
+        assertThrows(VertexCacheSdkException.class, () -> new SetCommand("key", "value", null, null, Duration.ZERO));
+        assertThrows(VertexCacheSdkException.class, () -> new SetCommand("key", "value", null, null, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void buildCommand_shouldAppendNamedIndexesBeforeTtl() {
+        SetCommand cmd = new SetCommand("user:1", "Alice", null, null, Duration.ofSeconds(2))
+                .withIndex("email", "alice@example.com")
+                .withIndex("phone", "555-0100");
+        assertEquals("SET user:1 Alice IDX email alice@example.com phone 555-0100 TTL 2000ms", cmd.buildCommand());
+    }
+
+    @Test
+    void withIndex_shouldThrowIfNameOrValueIsEmptyOrSpaced() {
+        SetCommand cmd = new SetCommand("user:1", "Alice");
+        assertThrows(VertexCacheSdkException.class, () -> cmd.withIndex(" ", "a"));
+        assertThrows(VertexCacheSdkException.class, () -> cmd.withIndex("email", null));
+        assertThrows(VertexCacheSdkException.class, () -> cmd.withIndex("e mail", "a"));
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.command.impl;
+
+import com.vertexcache.sdk.comm.ClientConnectorInterface;
+import com.vertexcache.sdk.comm.ClientConnectorMock;
+import com.vertexcache.sdk.model.VertexCacheSdkException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCommandTest {
+
+    @Test
+    void execute_shouldParseRemainingMillis() {
+        ClientConnectorInterface mock = new ClientConnectorMock("+2500");
+        TtlCommand cmd = (TtlCommand) new TtlCommand("key123").execute(mock);
+
+        assertTrue(cmd.isSuccess());
+        assertEquals(2500, cmd.getTtlMillis());
+    }
+
+    @Test
+    void execute_shouldReportPersistentAndMissingKeys() {
+        TtlCommand persistent = (TtlCommand) new TtlCommand("key").execute(new ClientConnectorMock("+-1"));
+        TtlCommand missing = (TtlCommand) new TtlCommand("key").execute(new ClientConnectorMock("+-2"));
+
+        assertEquals(TtlCommand.TTL_NONE, persistent.getTtlMillis());
+        assertEquals(TtlCommand.TTL_MISSING, missing.getTtlMillis());
+    }
+
+    @Test
+    void execute_shouldFailOnNonNumericResponse() {
+        TtlCommand cmd = (TtlCommand) new TtlCommand("key").execute(new ClientConnectorMock("+abc"));
+
+        assertFalse(cmd.isSuccess());
+        assertEquals("TTL failed: abc", cmd.getError());
+    }
+
+    @Test
+    void buildCommand_shouldRequestMilliseconds() {
+        assertEquals("TTL mykey MS", new TtlCommand("mykey").buildCommand());
+    }
+
+    @Test
+    void constructor_shouldThrowIfKeyIsNullOrEmpty() {
+        assertThrows(VertexCacheSdkException.class, () -> new TtlCommand(null));
+        assertThrows(VertexCacheSdkException.class, () -> new TtlCommand(""));
+    }
+}
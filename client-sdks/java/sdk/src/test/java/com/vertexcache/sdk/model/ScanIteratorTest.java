@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanIteratorTest {
+
+    @Test
+    void iterator_shouldFetchPagesLazilyAndSkipEmptyOnes() {
+        Map<String, ScanResult> pages = Map.of(
+                "0", new ScanResult(true, "OK", "c1", List.of("a", "b")),
+                "c1", new ScanResult(true, "OK", "c2", List.of()),
+                "c2", new ScanResult(true, "OK", "0", List.of("c")));
+        List<String> fetched = new ArrayList<>();
+        Iterator<String> keys = new ScanIterator(cursor -> {
+            fetched.add(cursor);
+            return pages.get(cursor);
+        });
+
+        assertEquals("a", keys.next());
+        assertEquals(List.of("0"), fetched);
+
+        List<String> rest = new ArrayList<>();
+        keys.forEachRemaining(rest::add);
+        assertEquals(List.of("b", "c"), rest);
+        assertEquals(List.of("0", "c1", "c2"), fetched);
+        assertFalse(keys.hasNext());
+    }
+
+    @Test
+    void iterator_shouldThrowWhenPageFails() {
+        Iterator<String> keys = new ScanIterator(cursor -> new ScanResult(false, "Not authorized", null, null));
+
+        VertexCacheSdkException ex = assertThrows(VertexCacheSdkException.class, keys::hasNext);
+        assertTrue(ex.getMessage().contains("Not authorized"));
+        assertFalse(keys.hasNext());
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.sdk.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TtlResultTest {
+
+    @Test
+    public void testRemainingTtl() {
+        TtlResult result = new TtlResult(true, "OK", 1500);
+        assertTrue(result.isSuccess());
+        assertEquals(1500, result.getTtlMillis());
+        assertFalse(result.isPersistent());
+        assertFalse(result.isMissing());
+    }
+
+    @Test
+    public void testPersistentAndMissingKeys() {
+        assertTrue(new TtlResult(true, "OK", -1).isPersistent());
+        assertTrue(new TtlResult(true, "OK", -2).isMissing());
+    }
+}
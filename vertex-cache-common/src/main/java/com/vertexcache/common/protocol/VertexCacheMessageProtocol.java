@@ -34,6 +34,14 @@ import java.nio.charset.StandardCharsets;
  * It serves as the foundation for parsing and constructing low-level messages in VertexCache,
  * ensuring consistent wire format across all clients and server components.
  *
+ * Binary values: a request may carry a raw payload after its command line (command line, CRLF, then the
+ * payload bytes up to the end of the frame), and a binary value is returned as "$<length>CRLF<bytes>CRLF".
+ * Neither side transcodes or escapes the payload, the frame length already delimits it.
+ *
+ * Compressed values: a client setting the compression flag on a request frame (see MessageCodec) accepts
+ * a value the server holds compressed as "~<length>CRLF<zlib bytes>CRLF", the stored bytes shipped as
+ * they are for the client to inflate. Values held uncompressed are replied as usual.
+ *
  * Note: This protocol is designed for efficiency and compactness, optimized for high-throughput cache access.
  */
 public class VertexCacheMessageProtocol {
@@ -46,6 +54,8 @@ public class VertexCacheMessageProtocol {
     private static final byte ARRAY_PREFIX = '[';
     private static final byte ARRAY_SUFFIX = ']';
     private static final byte STRING_ARRAY_PREFIX = '#';
+    public static final byte BINARY_PREFIX = '$';
+    public static final byte COMPRESSED_PREFIX = '~';
     private static final byte CARRIAGE_RETURN = '\r';
     private static final byte LINE_FEED = '\n';
 
@@ -61,6 +71,45 @@ public class VertexCacheMessageProtocol {
         return getBytes(Long.toString(value), INTEGER_PREFIX);
     }
 
+    public static byte[] encodeBinary(byte[] value) {
+        return encodeLengthPrefixed(BINARY_PREFIX, value);
+    }
+
+    /**
+     * A value held compressed, the zlib stream as stored.
+     */
+    public static byte[] encodeCompressed(byte[] zlib) {
+        return encodeLengthPrefixed(COMPRESSED_PREFIX, zlib);
+    }
+
+    private static byte[] encodeLengthPrefixed(byte prefix, byte[] value) {
+        byte[] length = Integer.toString(value.length).getBytes(StandardCharsets.US_ASCII);
+        byte[] output = new byte[1 + length.length + 2 + value.length + 2];
+        int position = 0;
+        output[position++] = prefix;
+        System.arraycopy(length, 0, output, position, length.length);
+        position += length.length;
+        output[position++] = CARRIAGE_RETURN;
+        output[position++] = LINE_FEED;
+        System.arraycopy(value, 0, output, position, value.length);
+        position += value.length;
+        output[position++] = CARRIAGE_RETURN;
+        output[position] = LINE_FEED;
+        return output;
+    }
+
+    /**
+     * Index of the CRLF ending the command line of a request, -1 if the request is a single line.
+     */
+    public static int indexOfLineEnd(byte[] request) {
+        for (int i = 0; i + 1 < request.length; i++) {
+            if (request[i] == CARRIAGE_RETURN && request[i + 1] == LINE_FEED) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     public static byte[] encodeArray(byte[][] values) {
         ByteArrayOutputStream output = getByteArrayOutputStream(Long.toString(values.length), ARRAY_PREFIX);
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.common.security;
+
+/**
+ * One frame read off the wire by MessageCodec: the payload and the 4-byte version field it was framed
+ * with (see the CMSRTPEV bit layout in MessageCodec).
+ *
+ * The version flags describe this frame only, so the reader hands them on together with the payload
+ * rather than through shared state.
+ */
+public class FramedMessage {
+
+    private final byte[] payload;
+    private final int version;
+
+    public FramedMessage(byte[] payload, int version) {
+        this.payload = payload;
+        this.version = version;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Whether the sender set the compression flag, accepting compressed values in the replies.
+     */
+    public boolean isCompressionAccepted() {
+        return (version & MessageCodec.COMPRESSION_FLAG) != 0;
+    }
+}
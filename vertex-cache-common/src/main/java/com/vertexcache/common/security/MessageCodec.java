@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
  * This utility class provides methods to:
  * - `writeFramedMessage(OutputStream out, byte[] message)`: Prefixes the message with its 4-byte length and writes it to the stream.
  * - `readFramedMessage(InputStream in)`: Reads the 4-byte length header, then reads the full message of that length from the stream.
+ * - `readFrame(InputStream in)`: Same read, returning the message together with the version flags of its frame.
  *
  * This framing protocol ensures message boundaries are preserved across TCP transmissions,
  * which is essential since TCP is a stream-oriented protocol with no built-in message demarcation.
@@ -62,6 +63,9 @@ public class MessageCodec {
     // Encryption hint indicating RSA OAEP with SHA-256 padding (used in CMSRTPEV protocol bit layout)
     public static final int ENCRYPTION_HINT_RSA_OAEP_SHA256 = 1;
 
+    // C nibble set by a client accepting compressed values in the replies to the frame
+    public static final int COMPRESSION_FLAG = 0x10000000;
+
     private static int extractHexDigit(int position) {
         return (protocolVersion >> (position * 4)) & 0xF;
     }
@@ -99,17 +103,26 @@ public class MessageCodec {
     }
 
     public static byte[] readFramedMessage(InputStream in) throws IOException {
+        FramedMessage frame = readFrame(in);
+        return frame != null ? frame.getPayload() : null;
+    }
+
+    /**
+     * Reads one frame with the version flags it was sent with, null at the end of the stream.
+     */
+    public static FramedMessage readFrame(InputStream in) throws IOException {
         byte[] header = in.readNBytes(8); // 4 bytes length + 4 bytes version
         if (header.length < 8) return null;
 
         int length = ByteBuffer.wrap(header, 0, 4).getInt();
-        protocolVersion = ByteBuffer.wrap(header, 4, 4).getInt(); // 4-byte version field
+        int version = ByteBuffer.wrap(header, 4, 4).getInt(); // 4-byte version field
+        protocolVersion = version;
 
         if (length <= 0 || length > MAX_MESSAGE_SIZE) {
             throw new IOException("Invalid message length: " + length);
         }
 
-        return in.readNBytes(length);
+        return new FramedMessage(in.readNBytes(length), version);
     }
 
     public static void writeFramedMessage(OutputStream out, byte[] data) throws IOException {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.common.util;
+
+/**
+ * Cached wall clock for hot paths that only need millisecond-ish timestamps.
+ *
+ * A daemon thread refreshes a volatile field every TICK_MILLIS, so reading the time is a single volatile
+ * load instead of a System.currentTimeMillis() call on every access. The value lags the real clock by at
+ * most a tick or so, use System.currentTimeMillis() where exact deadlines matter (ie: TTL expiry).
+ *
+ * The thread is started on first use.
+ */
+public final class CoarseClock {
+
+    public static final long TICK_MILLIS = 1;
+
+    private static volatile long now = System.currentTimeMillis();
+    private static volatile boolean started;
+
+    private CoarseClock() {
+    }
+
+    public static long currentTimeMillis() {
+        if (!started) {
+            start();
+        }
+        return now;
+    }
+
+    private static synchronized void start() {
+        if (started) {
+            return;
+        }
+        Thread ticker = new Thread(() -> {
+            while (true) {
+                now = System.currentTimeMillis();
+                try {
+                    Thread.sleep(TICK_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }, "CoarseClockThread");
+        ticker.setDaemon(true);
+        ticker.start();
+        now = System.currentTimeMillis();
+        started = true;
+    }
+}
@@ -19,6 +19,7 @@ import com.vertexcache.common.protocol.VertexCacheMessageProtocol;
 import org.junit.Test;
 import java.nio.charset.StandardCharsets;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 public class VertexCacheMessageProtocolTest {
 
@@ -49,4 +50,25 @@ public class VertexCacheMessageProtocolTest {
         assertArrayEquals(expected, actual);
     }
 
+    @Test
+    public void testEncodeBinaryKeepsBytesAsIs() {
+        byte[] value = {0, (byte) 0xff, '\r', '\n', '"', (byte) 0x80};
+        byte[] actual = VertexCacheMessageProtocol.encodeBinary(value);
+
+        byte[] expected = new byte[4 + value.length + 2];
+        expected[0] = '$';
+        expected[1] = '6';
+        expected[2] = '\r';
+        expected[3] = '\n';
+        System.arraycopy(value, 0, expected, 4, value.length);
+        expected[10] = '\r';
+        expected[11] = '\n';
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testIndexOfLineEnd() {
+        assertEquals(8, VertexCacheMessageProtocol.indexOfLineEnd("BSET key\r\n\r\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(-1, VertexCacheMessageProtocol.indexOfLineEnd("GET key".getBytes(StandardCharsets.UTF_8)));
+    }
 }
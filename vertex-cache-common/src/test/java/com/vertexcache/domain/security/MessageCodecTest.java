@@ -15,12 +15,14 @@
  */
 package com.vertexcache.domain.security;
 
+import com.vertexcache.common.security.FramedMessage;
 import com.vertexcache.common.security.MessageCodec;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,6 +42,28 @@ public class MessageCodecTest {
         assertArrayEquals(message, result);
     }
 
+    @Test
+    public void testReadFrameCarriesItsVersionFlags() throws IOException {
+        byte[] message = "GET key".getBytes();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(new byte[] {0, 0, 0, (byte) message.length});
+        output.write(ByteBuffer.allocate(4).putInt(MessageCodec.PROTOCOL_VERSION_AES_GCM | MessageCodec.COMPRESSION_FLAG).array());
+        output.write(message);
+        output.write(new byte[] {0, 0, 0, (byte) message.length});
+        output.write(ByteBuffer.allocate(4).putInt(MessageCodec.PROTOCOL_VERSION_AES_GCM).array());
+        output.write(message);
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+
+        FramedMessage accepting = MessageCodec.readFrame(input);
+        assertArrayEquals(message, accepting.getPayload());
+        assertTrue(accepting.isCompressionAccepted());
+        // Each frame keeps its own flags
+        FramedMessage plain = MessageCodec.readFrame(input);
+        assertFalse(plain.isCompressionAccepted());
+        assertTrue(accepting.isCompressionAccepted());
+        assertNull(MessageCodec.readFrame(input));
+    }
+
     @Test
     public void testShortHeaderShouldReturnNull() throws IOException {
         byte[] partialHeader = new byte[] {0, 0, 0, 5}; // 4-byte length only, missing version
@@ -15,15 +15,52 @@
  */
 package com.vertexcache.core.cache;
 
+import com.vertexcache.common.log.LogHelper;
 import com.vertexcache.core.cache.algos.*;
+import com.vertexcache.core.cache.compression.CompressedCacheEntry;
+import com.vertexcache.core.cache.compression.ValueCompressor;
 import com.vertexcache.core.cache.exception.VertexCacheException;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.expiry.TimingWheel;
 import com.vertexcache.core.cache.model.CacheEntry;
 import com.vertexcache.core.cache.model.CacheIndexRef;
 import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.cache.model.RemovalCause;
+import com.vertexcache.core.cache.model.ScanPage;
+import com.vertexcache.core.cache.model.StorageEngine;
+import com.vertexcache.core.cache.model.TenantQuota;
+import com.vertexcache.core.cache.model.TenantUsage;
+import com.vertexcache.core.cache.offheap.OffHeapValueStore;
+import com.vertexcache.core.cache.offheap.SlabAllocator;
+import com.vertexcache.core.cache.trace.AccessTraceRecorder;
+import com.vertexcache.core.cache.trace.TraceOp;
+import com.vertexcache.core.cache.tuning.AutoPolicyTuner;
+import com.vertexcache.core.datastore.loader.CacheLoader;
+import com.vertexcache.core.datastore.log.CommandLog;
+import com.vertexcache.core.module.ModuleRegistry;
+import com.vertexcache.module.auth.model.TenantId;
+import com.vertexcache.module.metric.model.MetricName;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 /**
  * Cache wrapper responsible for instantiating and delegating to the appropriate underlying
@@ -38,78 +75,1028 @@ import java.util.Set;
  * Example usage:
  * - Configured policy: LRU → instantiates LruCache internally
  * - Configured policy: TINYLFU → instantiates TinyLfuCache internally
+ * - Configured cache_segments > 1 → wraps one policy instance per segment in CacheSegmented
+ *
+ * Expiry: entries written with a TTL carry an absolute deadline. They are reclaimed lazily when a read
+ * finds them past due, and actively by a hierarchical timing wheel advanced from a single daemon thread
+ * that is only started once the first TTL is set. Both paths remove the key with the EXPIRED cause, under
+ * the key's lock and only while the entry they found is still the one cached and still past due.
+ *
+ * Storage: with the OFFHEAP storage engine, value bytes are kept in a slab allocator over direct memory
+ * and entries only hold a handle. The removal listener registered on the policy releases the chunk of
+ * every entry that leaves the cache, so eviction hands memory back to the slabs.
+ *
+ * Memory: every entry is weighed on write (key, value and index keys, see CacheWeigher) and the total is
+ * kept in memoryUsage, the removal listener subtracting the weight of whatever leaves the cache. The
+ * number of entries is counted alongside it, so the totals across keyspaces and tenant partitions are
+ * read from the counters without walking the policies. With
+ * cache_max_memory set, a write first asks the policy to evict its own victims until the new entry fits,
+ * on top of the entry count capacity. A policy that cannot evict (NONE) rejects the write instead.
+ *
+ * Keyspaces: getInstance() is the default keyspace. Named keyspaces (cache_keyspaces) are further Cache
+ * instances, each with its own policy, capacity, memory budget and expiry wheel, so workloads put in
+ * different keyspaces never evict each other. They are resolved by name with getKeyspace, on the heap
+ * storage engine.
+ *
+ * Secondary indexes: each keyspace declares its own list of named indexes (cache_indexes for the default
+ * one, idx1 and idx2 unless configured). Names are resolved to positions here, the underlying cache only
+ * knows indexes by position. idx1 and idx2 stay usable as aliases of the first two positions so existing
+ * clients keep working against a keyspace that renamed them.
+ *
+ * Ordered keys: a keyspace can keep its keys in an ordered index as well (cache_ordered_keys), prefix
+ * lookups, PURGE and range iteration then seek to their first key instead of scanning the keyspace.
+ *
+ * Tenant partitions: a tenant given a quota (tenant_quotas) gets its own partition in each keyspace, a
+ * further Cache created on its first write with the keyspace's policy, indexes and settings, the quota's
+ * entries as capacity and its bytes as memory budget. forTenant resolves it with a single map lookup, so
+ * the quota costs a write nothing beyond the usual capacity and memory checks, and reaching it evicts the
+ * tenant's own keys, never those of other tenants. Tenants without a quota share the keyspace itself.
+ *
+ * Access trace: with a trace recorder set (cache_trace_file), every GET, SET and DEL of a sampled key
+ * is appended to the trace, its tenant partitions included, for replay by the offline simulator.
+ *
+ * Snapshots: forEachEntry walks the live entries without locking writers out and restore writes one back
+ * with its original deadline, see CacheSnapshotWriter and CacheSnapshotLoader (cache_snapshot_file).
+ *
+ * Command log: with a command log set (cache_log_file), every SET, DEL, EXPIRE, PERSIST, PURGE and RESET
+ * applied to the keyspace or its tenant partitions is appended to it once applied, named by keyspace and
+ * tenant, with absolute deadlines so a replay restores the same expiry. A write to a key is applied and
+ * appended holding the key's lock stripe (keyLock), so writes to one key reach the log in the order they
+ * were applied and a replay ends on the value the cache held.
+ *
+ * Compression: with a value compressor set (cache_compression_threshold), values from the threshold on
+ * are deflated once when written and inflated by the reads that need them, see CompressedCacheEntry.
+ * Entries are weighed by their compressed size, so cache_max_memory and tenant budgets hold more of
+ * them. getStoredValue hands out the compressed form for callers that ship it as it is. Small JSON and
+ * XML values are compressed with a dictionary trained from the live ones when the compressor has a
+ * DictionaryRegistry (cache_compression_dictionary_size). Compression only applies to the heap storage
+ * engine.
+ *
+ * Cache loader: with a loader set (cache_loader), a GET missing the keyspace or its tenant partitions
+ * loads the key from the datastore and caches it, and SET and DEL are queued for the datastore when it
+ * writes behind, see CacheLoader. Lookups by index, EXPIRE, PURGE and RESET only concern the cache.
+ *
+ * Removal listeners: other modules can follow every value leaving the keyspace, with its RemovalCause,
+ * through addRemovalListener. They see the stored value and are called synchronously, before the entry
+ * is released, see RemovalListener for what they must not do.
  */
 public class Cache<K, V> {
 
+    public static final long TTL_NONE = -1;
+    public static final long TTL_MISSING = -2;
+
+    public static final String DEFAULT_KEYSPACE = KeyspaceDefinition.DEFAULT_NAME;
+
+    private static final int KEY_LOCK_STRIPES = 256;
+
     private static volatile Cache<?, ?> instance;
+    private static final Map<String, Cache<?, ?>> keyspaces = new ConcurrentHashMap<>();
+    private static final Map<String, TenantQuota> tenantQuotas = new ConcurrentHashMap<>();
     private final CacheBase<K, CacheEntry<V>> cache;
+    private final EvictionPolicy evictionPolicy;
+    private final int sizeCapacity;
+    private final TenantQuota tenantQuota;
+    private final Map<String, Cache<K, V>> tenantPartitions = new ConcurrentHashMap<>();
+    private final StorageEngine storageEngine;
+    private final OffHeapValueStore<V> offHeapStore;
+    private final TimingWheel<K> expirationWheel;
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+    private final LongAdder memoryUsage = new LongAdder();
+    private final LongAdder entryCount = new LongAdder();
+    private final LongAdder compressionSavedBytes = new LongAdder();
+    private volatile long maxMemoryBytes;
+    private volatile boolean accessStatsEnabled;
+    private volatile AccessTraceRecorder traceRecorder;
+    private volatile CommandLog commandLog;
+    private volatile CacheLoader loader;
+    private volatile ValueCompressor compressor;
+    private volatile String name = DEFAULT_KEYSPACE;
+    private volatile List<String> indexNames = KeyspaceDefinition.DEFAULT_INDEXES;
+    private final List<RemovalListener<K, V>> removalListeners = new CopyOnWriteArrayList<>();
+    private final Object[] keyLocks = new Object[KEY_LOCK_STRIPES];
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(KEY_LOCK_STRIPES);
+    private volatile ScheduledExecutorService expirationScheduler;
+
+    private Cache(EvictionPolicy evictionPolicy, int sizeCapacity, int segmentCount, StorageEngine storageEngine, long offHeapCapacityBytes) {
+        this(evictionPolicy, sizeCapacity, segmentCount, storageEngine, offHeapCapacityBytes, null);
+    }
 
-    private Cache(EvictionPolicy evictionPolicy, int sizeCapacity) {
+    private Cache(EvictionPolicy evictionPolicy, int sizeCapacity, int segmentCount, StorageEngine storageEngine,
+                  long offHeapCapacityBytes, TenantQuota tenantQuota) {
+        if (CacheSegmented.toPowerOfTwo(segmentCount) > 1) {
+            cache = new CacheSegmented<>(evictionPolicy, sizeCapacity, segmentCount);
+        } else {
+            cache = createCacheBase(evictionPolicy, sizeCapacity);
+        }
+        this.evictionPolicy = evictionPolicy;
+        this.sizeCapacity = sizeCapacity;
+        this.tenantQuota = tenantQuota;
+        this.storageEngine = storageEngine;
+        if (storageEngine == StorageEngine.OFFHEAP) {
+            offHeapStore = new OffHeapValueStore<>(new SlabAllocator(offHeapCapacityBytes), cache::evictOne);
+        } else {
+            offHeapStore = null;
+        }
+        for (int i = 0; i < keyLocks.length; i++) {
+            keyLocks[i] = new Object();
+        }
+        cache.addRemovalListener(this::onRemoval);
+        expirationWheel = new TimingWheel<>(TimingWheel.DEFAULT_TICK_MILLIS, System.currentTimeMillis(), this::expireIfDue);
+    }
+
+    /**
+     * Bare policy implementation without expiry, weighing or tenant partitions, also used by the trace
+     * simulator to replay a trace against every policy.
+     */
+    public static <K, V> CacheBase<K, V> createCacheBase(EvictionPolicy evictionPolicy, int sizeCapacity) {
         switch (evictionPolicy) {
-            case LRU: cache = new CacheLRU<>(sizeCapacity); break;
-            case MRU: cache = new CacheMRU<>(sizeCapacity); break;
-            case FIFO: cache = new CacheFIFO<>(sizeCapacity); break;
-            case LFU: cache = new CacheLFU<>(sizeCapacity); break;
-            case RANDOM: cache = new CacheRandom<>(sizeCapacity); break;
-            case ARC: cache = new CacheARC<>(sizeCapacity); break;
-            case TwoQueues: cache = new CacheTwoQueues<>(sizeCapacity); break;
-            case Clock: cache = new CacheClock<>(sizeCapacity); break;
-            case TinyLFU: cache = new CacheTinyLFU<>(sizeCapacity); break;
+            case LRU: return new CacheLRU<>(sizeCapacity);
+            case MRU: return new CacheMRU<>(sizeCapacity);
+            case FIFO: return new CacheFIFO<>(sizeCapacity);
+            case LFU: return new CacheLFU<>(sizeCapacity);
+            case RANDOM: return new CacheRandom<>(sizeCapacity);
+            case ARC: return new CacheARC<>(sizeCapacity);
+            case TwoQueues: return new CacheTwoQueues<>(sizeCapacity);
+            case Clock: return new CacheClock<>(sizeCapacity);
+            case ClockPro: return new CacheClockPro<>(sizeCapacity);
+            case TinyLFU: return new CacheTinyLFU<>(sizeCapacity);
+            case WTinyLFU: return new CacheWTinyLFU<>(sizeCapacity);
+            case AUTO: return new CacheAuto<>(sizeCapacity);
             case NONE:
-            default: cache = new CacheNoEviction<>(); break;
+            default: return new CacheNoEviction<>();
         }
     }
 
-    public static <K, V> Cache<K, V> getInstance(EvictionPolicy evictionPolicy, int sizeCapacity) {
+    public static <K, V> Cache<K, V> getInstance(EvictionPolicy evictionPolicy, int sizeCapacity, int segmentCount,
+                                                 StorageEngine storageEngine, long offHeapCapacityBytes) {
         if (instance == null) {
             synchronized (Cache.class) {
                 if (instance == null) {
-                    instance = new Cache<>(evictionPolicy, sizeCapacity);
+                    instance = new Cache<>(evictionPolicy, sizeCapacity, segmentCount, storageEngine, offHeapCapacityBytes);
                 }
             }
         }
         return (Cache<K, V>) instance;
     }
 
+    public static <K, V> Cache<K, V> getInstance(EvictionPolicy evictionPolicy, int sizeCapacity, int segmentCount) {
+        return getInstance(evictionPolicy, sizeCapacity, segmentCount, StorageEngine.HEAP, 0);
+    }
+
+    public static <K, V> Cache<K, V> getInstance(EvictionPolicy evictionPolicy, int sizeCapacity) {
+        return getInstance(evictionPolicy, sizeCapacity, 1);
+    }
+
     public static <K, V> Cache<K, V> getInstance(EvictionPolicy evictionPolicy) {
         return getInstance(evictionPolicy, 0);
     }
 
     public static <K, V> Cache<K, V> getInstance() throws VertexCacheTypeException {
-        synchronized (Cache.class) {
-            if (instance == null) {
-                throw new VertexCacheTypeException("Cache not yet initialized with eviction policy");
-            }
-            return (Cache<K, V>) instance;
+        // Hot path for every command, a volatile read is enough once initialized
+        Cache<?, ?> current = instance;
+        if (current == null) {
+            throw new VertexCacheTypeException("Cache not yet initialized with eviction policy");
+        }
+        return (Cache<K, V>) current;
+    }
+
+    /**
+     * Creates the named keyspace, fails if the name is taken or reserved for the default keyspace.
+     */
+    public static <K, V> Cache<K, V> createKeyspace(KeyspaceDefinition definition) throws VertexCacheTypeException {
+        if (DEFAULT_KEYSPACE.equalsIgnoreCase(definition.getName())) {
+            throw new VertexCacheTypeException("Keyspace name is reserved: " + definition.getName());
+        }
+        Cache<K, V> keyspace = new Cache<>(definition.getEvictionPolicy(), definition.getSizeCapacity(),
+                definition.getSegments(), StorageEngine.HEAP, 0);
+        keyspace.name = definition.getName();
+        keyspace.setMaxMemoryBytes(definition.getMaxMemoryBytes());
+        keyspace.defineIndexes(definition.getIndexes());
+        if (keyspaces.putIfAbsent(definition.getName(), keyspace) != null) {
+            throw new VertexCacheTypeException("Keyspace already exists: " + definition.getName());
+        }
+        return keyspace;
+    }
+
+    /**
+     * Resolves a keyspace by name, null or "default" being the default keyspace.
+     */
+    public static <K, V> Cache<K, V> getKeyspace(String name) throws VertexCacheTypeException {
+        if (name == null || DEFAULT_KEYSPACE.equals(name)) {
+            return getInstance();
         }
+        Cache<?, ?> keyspace = keyspaces.get(name);
+        if (keyspace == null) {
+            throw new VertexCacheTypeException("Unknown keyspace: " + name);
+        }
+        return (Cache<K, V>) keyspace;
+    }
+
+    public static boolean hasKeyspace(String name) {
+        return name == null || DEFAULT_KEYSPACE.equals(name) || keyspaces.containsKey(name);
+    }
+
+    /**
+     * Names of every keyspace, the default one included.
+     */
+    public static Set<String> getKeyspaceNames() {
+        Set<String> names = new TreeSet<>(keyspaces.keySet());
+        names.add(DEFAULT_KEYSPACE);
+        return names;
+    }
+
+    /**
+     * Number of entries across all keyspaces, summed from their counters rather than from the policies.
+     */
+    public static long getTotalSize() {
+        long total = 0;
+        for (Cache<?, ?> domain : allDomains()) {
+            total += domain.entryCount.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Estimated bytes held across all keyspaces.
+     */
+    public static long getTotalMemoryUsage() {
+        long total = 0;
+        for (Cache<?, ?> domain : allDomains()) {
+            total += domain.getMemoryUsage();
+        }
+        return total;
+    }
+
+    /**
+     * Bytes saved by compression across all keyspaces, the raw minus the compressed size of the values held compressed.
+     */
+    public static long getTotalCompressionSavedBytes() {
+        long total = 0;
+        for (Cache<?, ?> domain : allDomains()) {
+            total += domain.getCompressionSavedBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Bytes saved by compression in each keyspace, its tenant partitions included, by keyspace name.
+     */
+    public static Map<String, Long> getCompressionSavedBytesByKeyspace() {
+        Map<String, Long> saved = new TreeMap<>();
+        for (Cache<?, ?> domain : allDomains()) {
+            saved.merge(domain.getName(), domain.getCompressionSavedBytes(), Long::sum);
+        }
+        return saved;
+    }
+
+    /*
+     * The default keyspace, the named ones and the tenant partitions of each.
+     */
+    private static List<Cache<?, ?>> allDomains() {
+        List<Cache<?, ?>> domains = new ArrayList<>();
+        Cache<?, ?> current = instance;
+        if (current != null) {
+            domains.add(current);
+            domains.addAll(current.tenantPartitions.values());
+        }
+        for (Cache<?, ?> keyspace : keyspaces.values()) {
+            domains.add(keyspace);
+            domains.addAll(keyspace.tenantPartitions.values());
+        }
+        return domains;
+    }
+
+    // === Tenant partitions ===
+
+    /**
+     * Replaces the tenant quotas. Partitions already created keep the quota they were created with.
+     */
+    public static void setTenantQuotas(Collection<TenantQuota> quotas) {
+        tenantQuotas.clear();
+        for (TenantQuota quota : quotas) {
+            tenantQuotas.put(quota.getTenantId(), quota);
+        }
+    }
+
+    public static Collection<TenantQuota> getTenantQuotas() {
+        return Collections.unmodifiableCollection(tenantQuotas.values());
+    }
+
+    /**
+     * Whether any tenant has a quota, without which no keyspace has tenant partitions.
+     */
+    public static boolean hasTenantQuotas() {
+        return !tenantQuotas.isEmpty();
+    }
+
+    /**
+     * Partition of this keyspace holding the keys of the tenant when it has a quota, this keyspace
+     * otherwise (no tenant, no quota, or already a partition).
+     */
+    public Cache<K, V> forTenant(TenantId tenant) {
+        if (tenant == null || tenantQuota != null || tenantQuotas.isEmpty()) {
+            return this;
+        }
+        TenantQuota quota = tenantQuotas.get(tenant.getValue());
+        if (quota == null) {
+            return this;
+        }
+        Cache<K, V> partition = tenantPartitions.get(quota.getTenantId());
+        return partition != null ? partition : tenantPartitions.computeIfAbsent(quota.getTenantId(), id -> newPartition(quota));
+    }
+
+    /*
+     * One segment per partition: the quota is then exact and tenants already stripe the locks.
+     */
+    private Cache<K, V> newPartition(TenantQuota quota) {
+        int capacity = quota.getMaxEntries() > 0 ? quota.getMaxEntries() : sizeCapacity;
+        Cache<K, V> partition = new Cache<>(evictionPolicy, capacity, 1, StorageEngine.HEAP, 0, quota);
+        partition.maxMemoryBytes = quota.getMaxMemoryBytes();
+        partition.accessStatsEnabled = accessStatsEnabled;
+        partition.traceRecorder = traceRecorder;
+        partition.commandLog = commandLog;
+        partition.loader = loader;
+        partition.compressor = compressor;
+        partition.name = name;
+        partition.indexNames = indexNames;
+        partition.cache.configureIndexes(indexNames.size());
+        partition.cache.setOrderedKeysEnabled(cache.isOrderedKeysEnabled());
+        partition.addRemovalListener(this::fireRemovalListeners);
+        return partition;
+    }
+
+    /**
+     * Quota this partition enforces, null for a keyspace.
+     */
+    public TenantQuota getTenantQuota() {
+        return tenantQuota;
+    }
+
+    public Map<String, Cache<K, V>> getTenantPartitions() {
+        return Collections.unmodifiableMap(tenantPartitions);
+    }
+
+    /**
+     * Entries, bytes and evictions of every tenant with a quota, summed over its partitions in all
+     * keyspaces and ordered by tenant.
+     */
+    public static List<TenantUsage> getTenantUsage() {
+        Map<String, TenantUsage> usage = new TreeMap<>();
+        for (TenantQuota quota : tenantQuotas.values()) {
+            usage.put(quota.getTenantId(), new TenantUsage(quota));
+        }
+        List<Cache<?, ?>> keyspaceList = new ArrayList<>(keyspaces.values());
+        Cache<?, ?> current = instance;
+        if (current != null) {
+            keyspaceList.add(current);
+        }
+        for (Cache<?, ?> keyspace : keyspaceList) {
+            keyspace.tenantPartitions.forEach((tenant, partition) -> {
+                TenantUsage tenantUsage = usage.get(tenant);
+                if (tenantUsage != null) {
+                    tenantUsage.add(partition.size(), partition.getMemoryUsage(), partition.getEvictedCount());
+                }
+            });
+        }
+        return new ArrayList<>(usage.values());
+    }
+
+    /**
+     * Clears the default keyspace and every named one.
+     */
+    public static void clearAll() {
+        Cache<?, ?> current = instance;
+        if (current != null) {
+            current.clear();
+        }
+        keyspaces.values().forEach(Cache::clear);
     }
 
     public void put(K primaryKey, V value, String... secondaryKeys) throws VertexCacheTypeException {
-        cache.put(primaryKey, new CacheEntry<>(value, false), secondaryKeys);
+        synchronized (keyLock(primaryKey)) {
+            store(primaryKey, value, newEntry(value, 0), secondaryKeys);
+            writeBehind(primaryKey, value);
+        }
+    }
+
+    /**
+     * Stores the value expiring ttlMillis from now, a ttlMillis of 0 or less stores it without expiry.
+     * Index values are Strings, or TenantKeys for a tenant-scoped index value.
+     */
+    public void put(K primaryKey, V value, long ttlMillis, Object... secondaryKeys) throws VertexCacheTypeException {
+        synchronized (keyLock(primaryKey)) {
+            if (ttlMillis <= 0) {
+                store(primaryKey, value, newEntry(value, 0), secondaryKeys);
+            } else {
+                long expiresAt = System.currentTimeMillis() + ttlMillis;
+                store(primaryKey, value, newEntry(value, expiresAt), secondaryKeys);
+                scheduleExpiry(primaryKey, expiresAt);
+            }
+            writeBehind(primaryKey, value);
+        }
+    }
+
+    /*
+     * Lock stripe of the key, held while a write to it is applied and logged. Writes to one key are
+     * ordered by it, while reads never take it.
+     */
+    private Object keyLock(K key) {
+        return keyLocks[keyStripe(key)];
+    }
+
+    /*
+     * Write generation of the key's stripe, bumped under its lock by every SET and DEL so a load can
+     * tell whether the key was written while it ran.
+     */
+    private long keyGeneration(K key) {
+        return keyGenerations.get(keyStripe(key));
+    }
+
+    private void bumpKeyGeneration(K key) {
+        keyGenerations.incrementAndGet(keyStripe(key));
+    }
+
+    private static int keyStripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (KEY_LOCK_STRIPES - 1);
+    }
+
+    private void writeBehind(K primaryKey, V value) {
+        CacheLoader current = loader;
+        if (current != null) {
+            current.write(name, primaryKey, value);
+        }
     }
 
     public void upsert(K key, V value, String... secondaryKeys) throws VertexCacheTypeException {
-        CacheEntry<V> existing = cache.get(key);
-        if (existing != null) {
-            existing.updateValue(value);
-        } else {
-            put(key, value, secondaryKeys);
+        synchronized (keyLock(key)) {
+            CacheEntry<V> existing = liveEntry(key, cache.get(key));
+            if (existing != null) {
+                trace(TraceOp.SET, key);
+                bumpKeyGeneration(key);
+                CacheIndexRef ref = cache.getReverseIndex().get(key);
+                Object[] indexValues = ref != null ? ref.toArray() : new Object[0];
+                // Reserved for the raw value, the new value may compress below it
+                int weight = CacheWeigher.weigh(key, value, indexValues);
+                reserveMemory(weight - existing.getWeight());
+                int saved = existing.getSavedBytes();
+                try {
+                    existing.updateValue(value);
+                } catch (IllegalStateException e) {
+                    throw new VertexCacheTypeException(e.getMessage());
+                }
+                if (existing.isCompressed() || saved > 0) {
+                    weight = CacheWeigher.weigh(key, existing.peekStoredValue(), indexValues);
+                    compressionSavedBytes.add(existing.getSavedBytes() - saved);
+                }
+                memoryUsage.add(existing.reweigh(weight));
+                CommandLog log = commandLog;
+                if (log != null) {
+                    log.appendSet(name, partitionTenant(), key, value, existing.getExpiresAt(), ref != null ? ref.toArray() : new Object[0]);
+                }
+                writeBehind(key, value);
+            } else {
+                put(key, value, secondaryKeys);
+            }
+        }
+    }
+
+    private CacheEntry<V> newEntry(V value, long expiresAt) throws VertexCacheTypeException {
+        if (offHeapStore != null) {
+            return offHeapStore.newEntry(value, false, expiresAt, accessStatsEnabled);
+        }
+        ValueCompressor current = compressor;
+        return current != null
+                ? new CompressedCacheEntry<>(current, value, false, expiresAt, accessStatsEnabled)
+                : new CacheEntry<>(value, false, expiresAt, accessStatsEnabled);
+    }
+
+    private void store(K primaryKey, V value, CacheEntry<V> entry, Object... secondaryKeys) throws VertexCacheTypeException {
+        synchronized (keyLock(primaryKey)) {
+            trace(TraceOp.SET, primaryKey);
+            bumpKeyGeneration(primaryKey);
+            int weight = CacheWeigher.weigh(primaryKey, entry.isCompressed() ? entry.peekStoredValue() : value, secondaryKeys);
+            CacheEntry<V> replaced = cache.peek(primaryKey);
+            try {
+                reserveEntry(replaced);
+                // An overwrite hands back the weight of the entry it replaces
+                reserveMemory(weight - (replaced != null ? replaced.getWeight() : 0));
+            } catch (VertexCacheTypeException e) {
+                entry.release();
+                throw e;
+            }
+
+            // Accounted before the put so the removal hook can hand it back if the policy evicts it right away
+            entry.setWeight(weight);
+            memoryUsage.add(weight);
+            entryCount.increment();
+            compressionSavedBytes.add(entry.getSavedBytes());
+            try {
+                cache.put(primaryKey, entry, secondaryKeys);
+            } finally {
+                // Policies may decline a write (ie: ARC on an existing key), its weight and chunk must not leak
+                if (cache.peek(primaryKey) != entry) {
+                    releaseWeight(entry);
+                    compressionSavedBytes.add(-entry.getSavedBytes());
+                    entry.release();
+                }
+            }
+            CommandLog log = commandLog;
+            if (log != null && cache.peek(primaryKey) == entry) {
+                log.appendSet(name, partitionTenant(), primaryKey, value, entry.getExpiresAt(), secondaryKeys);
+            }
+        }
+    }
+
+    /*
+     * Rejects a new key once a tenant partition without eviction holds its quota of entries, policies
+     * that evict enforce it through their capacity.
+     */
+    private void reserveEntry(CacheEntry<V> replaced) throws VertexCacheTypeException {
+        if (tenantQuota != null && replaced == null && evictionPolicy == EvictionPolicy.NONE
+                && tenantQuota.getMaxEntries() > 0 && cache.size() >= tenantQuota.getMaxEntries()) {
+            throw new VertexCacheTypeException("Tenant " + tenantQuota.getTenantId() + " reached its quota of "
+                    + tenantQuota.getMaxEntries() + " entries.");
+        }
+    }
+
+    /*
+     * Evicts policy victims until the additional bytes fit in cache_max_memory, no-op when it is not set.
+     */
+    private void reserveMemory(long bytes) throws VertexCacheTypeException {
+        long max = maxMemoryBytes;
+        if (max <= 0 || bytes <= 0) {
+            return;
+        }
+        if (bytes > max) {
+            throw new VertexCacheTypeException("Entry of " + bytes + " bytes exceeds cache_max_memory of " + max + " bytes.");
+        }
+        while (memoryUsage.sum() + bytes > max) {
+            if (!cache.evictOne()) {
+                throw new VertexCacheTypeException("Cache memory limit reached, increase cache_max_memory or use eviction policy other than none.");
+            }
         }
     }
 
     public V get(K primaryKey) {
-        CacheEntry<V> entry = cache.get(primaryKey);
+        trace(TraceOp.GET, primaryKey);
+        CacheEntry<V> entry = liveEntry(primaryKey, cache.get(primaryKey));
+        if (entry != null) {
+            return entry.getValue();
+        }
+        CacheLoader current = loader;
+        return current != null ? loadThrough(current, primaryKey) : null;
+    }
+
+    /**
+     * Value of the key in the form it is held in: the CompressedValue of a compressed entry, the value
+     * itself otherwise, null on a miss. Lets a reply carry a compressed value without inflating it.
+     */
+    public Object getStoredValue(K primaryKey) {
+        trace(TraceOp.GET, primaryKey);
+        CacheEntry<V> entry = liveEntry(primaryKey, cache.get(primaryKey));
+        if (entry != null) {
+            return entry.getStoredValue();
+        }
+        CacheLoader current = loader;
+        return current != null ? loadThrough(current, primaryKey) : null;
+    }
+
+    /*
+     * Loads a miss from the datastore and caches it, unless a client wrote the key while it loaded: a SET
+     * or DEL bumps the key's generation, the fill only inserts when it is unchanged and the key still
+     * absent, checked and stored under the key's lock.
+     */
+    @SuppressWarnings("unchecked")
+    private V loadThrough(CacheLoader current, K primaryKey) {
+        long generation = keyGeneration(primaryKey);
+        return (V) current.load(name, primaryKey, value -> {
+            synchronized (keyLock(primaryKey)) {
+                if (keyGeneration(primaryKey) != generation || cache.peek(primaryKey) != null) {
+                    return;
+                }
+                long ttlMillis = current.getTtlMillis();
+                try {
+                    if (ttlMillis > 0) {
+                        long expiresAt = System.currentTimeMillis() + ttlMillis;
+                        store(primaryKey, (V) value, newEntry((V) value, expiresAt));
+                        scheduleExpiry(primaryKey, expiresAt);
+                    } else {
+                        store(primaryKey, (V) value, newEntry((V) value, 0));
+                    }
+                } catch (VertexCacheTypeException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private void trace(TraceOp op, K key) {
+        AccessTraceRecorder recorder = traceRecorder;
+        if (recorder != null) {
+            recorder.record(op, key);
+        }
+    }
+
+    /*
+     * Tenant named by the command log records of this cache, empty for a keyspace.
+     */
+    private String partitionTenant() {
+        return tenantQuota != null ? tenantQuota.getTenantId() : "";
+    }
+
+    /**
+     * Value of the key last written with the index value, null when there is none or the index is unknown.
+     */
+    public V getBySecondaryKey(String indexName, Object secondaryKey) {
+        return getBySecondaryKey(indexOf(indexName), secondaryKey);
+    }
+
+    protected V getBySecondaryKey(int index, Object secondaryKey) {
+        // Resolved once, the entry is then read from the key's own segment
+        K primaryKey = cache.getReadOnlySecondaryIndex(index).get(secondaryKey);
+        if (primaryKey == null) {
+            return null;
+        }
+        trace(TraceOp.GET, primaryKey);
+        CacheEntry<V> entry = liveEntry(primaryKey, cache.get(primaryKey));
         return entry != null ? entry.getValue() : null;
     }
 
     protected V getBySecondaryKeyIndexOne(Object secondaryKey) {
-        CacheEntry<V> entry = cache.getBySecondaryKeyIndexOne(secondaryKey);
-        return entry != null ? entry.getValue() : null;
+        return getBySecondaryKey(0, secondaryKey);
     }
 
     protected V getBySecondaryKeyIndexTwo(Object secondaryKey) {
-        CacheEntry<V> entry = cache.getBySecondaryKeyIndexTwo(secondaryKey);
-        return entry != null ? entry.getValue() : null;
+        return getBySecondaryKey(1, secondaryKey);
+    }
+
+    // === Secondary index names ===
+
+    /**
+     * Declares the named secondary indexes of this keyspace, in position order. Only allowed while the
+     * keyspace is empty since index data is kept by position.
+     */
+    public void defineIndexes(List<String> names) throws VertexCacheTypeException {
+        List<String> declared;
+        try {
+            declared = KeyspaceDefinition.validateIndexes(names);
+        } catch (IllegalArgumentException e) {
+            throw new VertexCacheTypeException(e.getMessage());
+        }
+        synchronized (this) {
+            if (cache.size() > 0 || tenantPartitions.values().stream().anyMatch(partition -> partition.size() > 0)) {
+                throw new VertexCacheTypeException("Secondary indexes can only be defined on an empty keyspace.");
+            }
+            cache.configureIndexes(declared.size());
+            indexNames = declared;
+            for (Cache<K, V> partition : tenantPartitions.values()) {
+                partition.cache.configureIndexes(declared.size());
+                partition.indexNames = declared;
+            }
+        }
+    }
+
+    public List<String> getIndexNames() {
+        return indexNames;
+    }
+
+    /**
+     * Position of the named index, case-insensitive, -1 when the keyspace has no such index. idx1 and
+     * idx2 resolve to the first two positions unless the keyspace declared them under other positions.
+     */
+    public int indexOf(String indexName) {
+        if (indexName == null) {
+            return -1;
+        }
+        List<String> names = indexNames;
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).equalsIgnoreCase(indexName)) {
+                return i;
+            }
+        }
+        int alias = KeyspaceDefinition.INDEX_ONE.equalsIgnoreCase(indexName) ? 0
+                : KeyspaceDefinition.INDEX_TWO.equalsIgnoreCase(indexName) ? 1 : -1;
+        return alias < names.size() ? alias : -1;
+    }
+
+    /**
+     * Turns named index values into the positional form taken by put, positions without a value are null.
+     */
+    public String[] toSecondaryKeys(Map<String, String> indexValues) throws VertexCacheTypeException {
+        if (indexValues == null || indexValues.isEmpty()) {
+            return new String[0];
+        }
+        String[] secondaryKeys = new String[indexNames.size()];
+        int length = 0;
+        for (Map.Entry<String, String> indexValue : indexValues.entrySet()) {
+            int index = indexOf(indexValue.getKey());
+            if (index < 0) {
+                throw new VertexCacheTypeException("Unknown secondary index: " + indexValue.getKey());
+            }
+            secondaryKeys[index] = indexValue.getValue();
+            length = Math.max(length, index + 1);
+        }
+        return length == secondaryKeys.length ? secondaryKeys : Arrays.copyOf(secondaryKeys, length);
+    }
+
+    // === TTL ===
+
+    /**
+     * Sets the key to expire ttlMillis from now, returns false if the key does not exist.
+     */
+    public boolean expire(K primaryKey, long ttlMillis) {
+        synchronized (keyLock(primaryKey)) {
+            CacheEntry<V> entry = liveEntry(primaryKey, cache.peek(primaryKey));
+            if (entry == null) {
+                return false;
+            }
+            long expiresAt = System.currentTimeMillis() + Math.max(0, ttlMillis);
+            entry.setExpiresAt(expiresAt);
+            scheduleExpiry(primaryKey, expiresAt);
+            CommandLog log = commandLog;
+            if (log != null) {
+                log.appendExpire(name, partitionTenant(), primaryKey, expiresAt);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Removes any expiry from the key, returns false if the key does not exist or had no expiry.
+     */
+    public boolean persist(K primaryKey) {
+        synchronized (keyLock(primaryKey)) {
+            CacheEntry<V> entry = liveEntry(primaryKey, cache.peek(primaryKey));
+            if (entry == null || !entry.hasExpiry()) {
+                return false;
+            }
+            expirationWheel.cancel(primaryKey, entry.getExpiresAt());
+            entry.setExpiresAt(0);
+            CommandLog log = commandLog;
+            if (log != null) {
+                log.appendExpire(name, partitionTenant(), primaryKey, 0);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Remaining time to live in millis, TTL_NONE if the key never expires or TTL_MISSING if it does not exist.
+     */
+    public long ttl(K primaryKey) {
+        CacheEntry<V> entry = liveEntry(primaryKey, cache.peek(primaryKey));
+        if (entry == null) {
+            return TTL_MISSING;
+        }
+        long expiresAt = entry.getExpiresAt();
+        return expiresAt > 0 ? Math.max(0, expiresAt - System.currentTimeMillis()) : TTL_NONE;
+    }
+
+    // === Snapshots ===
+
+    /**
+     * Visits every live entry of this keyspace, tenant partitions excluded. The keys are copied first,
+     * then each entry is read on its own without holding any lock, so writers carry on meanwhile: an
+     * entry is seen as it was when visited, one written or removed during the walk may or may not be.
+     */
+    public void forEachEntry(EntryVisitor<K, V> visitor) {
+        List<K> keys = new ArrayList<>(cache.keySet());
+        Map<K, CacheIndexRef> reverseIndex = cache.getReverseIndex();
+        long now = System.currentTimeMillis();
+        for (K key : keys) {
+            CacheEntry<V> entry = cache.peek(key);
+            if (entry == null || entry.isExpired(now)) {
+                continue;
+            }
+            V value = entry.peekValue();
+            if (value == null) {
+                // Released by a removal racing with the walk
+                continue;
+            }
+            CacheIndexRef ref = reverseIndex.get(key);
+            visitor.visit(key, value, entry.getExpiresAt(), ref != null ? ref.toArray() : new Object[0]);
+        }
+    }
+
+    /**
+     * Stores an entry read back from a snapshot with its original deadline (0 for none), returns false
+     * without storing it when that deadline has passed in the meantime.
+     */
+    public boolean restore(K primaryKey, V value, long expiresAt, Object... secondaryKeys) throws VertexCacheTypeException {
+        if (expiresAt > 0 && expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        store(primaryKey, value, newEntry(value, expiresAt), secondaryKeys);
+        if (expiresAt > 0) {
+            scheduleExpiry(primaryKey, expiresAt);
+        }
+        return true;
+    }
+
+    public StorageEngine getStorageEngine() {
+        return storageEngine;
+    }
+
+    /**
+     * Slab allocator backing the values, empty when the heap storage engine is used.
+     */
+    public Optional<SlabAllocator> getOffHeapAllocator() {
+        return offHeapStore != null ? Optional.of(offHeapStore.getAllocator()) : Optional.empty();
+    }
+
+    /**
+     * Memory budget in bytes enforced on writes, 0 or less disables it.
+     */
+    public void setMaxMemoryBytes(long maxMemoryBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    public long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    /**
+     * Tracks creation, access and update times and hit counts on entries written from now on,
+     * off by default so a read touches nothing but the value.
+     */
+    public void setAccessStatsEnabled(boolean accessStatsEnabled) {
+        this.accessStatsEnabled = accessStatsEnabled;
+        tenantPartitions.values().forEach(partition -> partition.setAccessStatsEnabled(accessStatsEnabled));
+    }
+
+    public boolean isAccessStatsEnabled() {
+        return accessStatsEnabled;
+    }
+
+    /**
+     * Records the accesses of this keyspace and its tenant partitions to the trace, null stops recording.
+     */
+    public void setTraceRecorder(AccessTraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+        tenantPartitions.values().forEach(partition -> partition.setTraceRecorder(traceRecorder));
+    }
+
+    public AccessTraceRecorder getTraceRecorder() {
+        return traceRecorder;
+    }
+
+    /**
+     * Appends the mutations of this keyspace and its tenant partitions to the log, null stops logging.
+     */
+    public void setCommandLog(CommandLog commandLog) {
+        this.commandLog = commandLog;
+        tenantPartitions.values().forEach(partition -> partition.setCommandLog(commandLog));
+    }
+
+    public CommandLog getCommandLog() {
+        return commandLog;
+    }
+
+    /**
+     * Reads the misses of this keyspace and its tenant partitions through the loader, null stops it.
+     */
+    public void setLoader(CacheLoader loader) {
+        this.loader = loader;
+        tenantPartitions.values().forEach(partition -> partition.setLoader(loader));
+    }
+
+    public CacheLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Compresses the values written to this keyspace and its tenant partitions from now on, null stops
+     * compressing. Values already held keep their form. Ignored on the off-heap storage engine.
+     */
+    public void setValueCompressor(ValueCompressor compressor) {
+        this.compressor = compressor;
+        tenantPartitions.values().forEach(partition -> partition.setValueCompressor(compressor));
+    }
+
+    public ValueCompressor getValueCompressor() {
+        return compressor;
+    }
+
+    /**
+     * Bytes saved by the values held compressed, not counting tenant partitions.
+     */
+    public long getCompressionSavedBytes() {
+        return compressionSavedBytes.sum();
+    }
+
+    /**
+     * Name of the keyspace, that of its keyspace for a tenant partition.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Estimated bytes held by the entries currently in the cache, not counting tenant partitions.
+     */
+    public long getMemoryUsage() {
+        return memoryUsage.sum();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    public int getScheduledExpiryCount() {
+        return expirationWheel.size();
+    }
+
+    /**
+     * Tuner of the AUTO policy with its shadow hit ratios and switch history, null for any other policy.
+     */
+    public AutoPolicyTuner getPolicyTuner() {
+        return cache.getPolicyTuner();
+    }
+
+    /*
+     * Returns the entry unless it is past its deadline, in which case it is reclaimed on the spot.
+     */
+    private CacheEntry<V> liveEntry(K primaryKey, CacheEntry<V> entry) {
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            reclaim(primaryKey, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /*
+     * Timing wheel callback, a key rewritten or given a new deadline since its node fired is left alone.
+     */
+    private void expireIfDue(K primaryKey, long deadlineMillis) {
+        CacheEntry<V> entry = cache.peek(primaryKey);
+        if (entry != null && entry.getExpiresAt() == deadlineMillis && entry.isExpired(System.currentTimeMillis())) {
+            reclaim(primaryKey, entry);
+        }
+    }
+
+    private void reclaim(K primaryKey, CacheEntry<V> entry) {
+        synchronized (keyLock(primaryKey)) {
+            // Only drop the entry that expired, not one written in its place nor given a new deadline meanwhile
+            if (cache.peek(primaryKey) != entry || !entry.isExpired(System.currentTimeMillis())) {
+                return;
+            }
+            cache.remove(primaryKey, RemovalCause.EXPIRED);
+        }
+        expiredCount.increment();
+        try {
+            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics ->
+                    metrics.getMetricCollector().increment(MetricName.CACHE_EXPIRED_TOTAL));
+        } catch (Exception ignored) {
+            // Metrics are best effort, never fail an expiry because of them
+        }
+    }
+
+    private void scheduleExpiry(K primaryKey, long expiresAt) {
+        startExpiration();
+        expirationWheel.schedule(primaryKey, expiresAt);
+    }
+
+    private void startExpiration() {
+        if (expirationScheduler == null) {
+            synchronized (expirationWheel) {
+                if (expirationScheduler == null) {
+                    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                        Thread t = new Thread(r, "CacheExpirationThread");
+                        t.setDaemon(true);
+                        return t;
+                    });
+                    long tick = expirationWheel.getTickMillis();
+                    scheduler.scheduleAtFixedRate(() -> {
+                        try {
+                            expirationWheel.advance(System.currentTimeMillis());
+                        } catch (Exception e) {
+                            LogHelper.getInstance().logError("[Cache] Expiration tick failed: " + e.getMessage());
+                        }
+                    }, tick, tick, TimeUnit.MILLISECONDS);
+                    expirationScheduler = scheduler;
+                }
+            }
+        }
+    }
+
+    private void stopExpiration() {
+        ScheduledExecutorService scheduler = expirationScheduler;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            expirationScheduler = null;
+        }
+        expirationWheel.clear();
+        tenantPartitions.values().forEach(Cache::stopExpiration);
+    }
+
+    public Map<Object, K> getReadOnlySecondaryIndex(int index) {
+        return cache.getReadOnlySecondaryIndex(index);
     }
 
     public Map<Object, K> getReadOnlySecondaryIndexOne() {
@@ -122,48 +1109,254 @@ public class Cache<K, V> {
 
     public Map<K, CacheIndexRef> getReverseIndex() { return cache.getReverseIndex(); }
 
+    /**
+     * Every primary key carrying the index value, unlike the point lookup this is not limited to the last writer.
+     */
+    public List<K> getKeysBySecondaryKey(String indexName, Object secondaryKey) {
+        return getKeysBySecondaryKey(indexOf(indexName), secondaryKey);
+    }
+
+    public List<K> getKeysBySecondaryKey(int index, Object secondaryKey) {
+        return cache.getKeysBySecondaryKey(index, secondaryKey);
+    }
+
     public boolean containsKey(K key) {
-        return cache.containsKey(key);
+        return liveEntry(key, cache.peek(key)) != null;
     }
 
     public boolean containsValue(V value) {
         return cache.keySet().stream()
                 .map(k -> cache.get(k))
-                .anyMatch(e -> e != null && e.getValue().equals(value));
+                .anyMatch(e -> e != null && Objects.deepEquals(e.getValue(), value));
     }
 
     public void remove(K primaryKey) {
-        cache.cleanupIndexFor(primaryKey);
-        cache.remove(primaryKey);
+        trace(TraceOp.DEL, primaryKey);
+        synchronized (keyLock(primaryKey)) {
+            bumpKeyGeneration(primaryKey);
+            CacheLoader current = loader;
+            if (current != null) {
+                // The datastore may hold the key even when the cache does not
+                current.delete(name, primaryKey);
+            }
+            CommandLog log = commandLog;
+            if (log != null && cache.peek(primaryKey) != null) {
+                cache.remove(primaryKey, RemovalCause.EXPLICIT);
+                log.appendDelete(name, partitionTenant(), primaryKey);
+                return;
+            }
+            cache.remove(primaryKey, RemovalCause.EXPLICIT);
+        }
+    }
+
+    public void addRemovalListener(RemovalListener<K, V> listener) {
+        removalListeners.add(listener);
+    }
+
+    public void removeRemovalListener(RemovalListener<K, V> listener) {
+        removalListeners.remove(listener);
     }
 
+    /*
+     * Single listener on the policy: forwards the value to the keyspace listeners, then hands the entry
+     * weight and off-heap chunk back. Indexes were already unlinked by the policy's removal pipeline.
+     */
+    private void onRemoval(K key, CacheEntry<V> entry, RemovalCause cause) {
+        if (!removalListeners.isEmpty()) {
+            fireRemovalListeners(key, entry.getValue(), cause);
+        }
+        if (entry.hasExpiry()) {
+            expirationWheel.cancel(key, entry.getExpiresAt());
+        }
+        releaseWeight(entry);
+        compressionSavedBytes.add(-entry.getSavedBytes());
+        entry.release();
+        if (cause == RemovalCause.EVICTED) {
+            evictedCount.increment();
+            try {
+                ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics ->
+                        metrics.getMetricCollector().increment(MetricName.CACHE_EVICTIONS_TOTAL));
+            } catch (Exception ignored) {
+                // Metrics are best effort, never fail an eviction because of them
+            }
+        }
+    }
+
+    /*
+     * Counted per entry rather than per key: a replaced entry leaves as its successor comes in. The weight
+     * is handed back once, so is the count, whichever of the removal hook and a declined write gets there first.
+     */
+    private void releaseWeight(CacheEntry<V> entry) {
+        int weight = entry.releaseWeight();
+        if (weight > 0) {
+            memoryUsage.add(-weight);
+            entryCount.decrement();
+        }
+    }
+
+    /*
+     * Also called by the tenant partitions, keyspace listeners follow the values of every tenant.
+     */
+    private void fireRemovalListeners(K key, V value, RemovalCause cause) {
+        for (RemovalListener<K, V> listener : removalListeners) {
+            try {
+                listener.onRemoval(key, value, cause);
+            } catch (RuntimeException e) {
+                LogHelper.getInstance().logError("[Cache] Removal listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Number of entries, not counting those held by tenant partitions.
+     */
     public int size() {
         return cache.size();
     }
 
     public void clear() {
+        // Ahead of the clear, a load that checks its generation before it cannot fill after it
+        for (int i = 0; i < KEY_LOCK_STRIPES; i++) {
+            keyGenerations.incrementAndGet(i);
+        }
         cache.clear();
+        expirationWheel.clear();
+        CommandLog log = commandLog;
+        if (log != null) {
+            log.appendClear(name, partitionTenant());
+        }
+        tenantPartitions.values().forEach(Cache::clear);
     }
 
     public static void destroy() {
+        Cache<?, ?> current = instance;
         instance = null;
+        if (current != null) {
+            current.stopExpiration();
+        }
+        keyspaces.values().forEach(Cache::stopExpiration);
+        keyspaces.clear();
+        tenantQuotas.clear();
     }
 
     public Set<String> keySet() {
         return (Set<String>) cache.keySet();
     }
 
+    public void setOrderedKeysEnabled(boolean enabled) {
+        cache.setOrderedKeysEnabled(enabled);
+        tenantPartitions.values().forEach(partition -> partition.setOrderedKeysEnabled(enabled));
+    }
+
+    public boolean isOrderedKeysEnabled() {
+        return cache.isOrderedKeysEnabled();
+    }
+
+    /**
+     * Live keys starting with the prefix in ascending order, at most limit of them (0 or less for all).
+     */
+    public List<K> keysWithPrefix(String prefix, int limit) {
+        return withoutExpired(cache.keysWithPrefix(prefix, limit));
+    }
+
+    /**
+     * Live keys from (inclusive) to (exclusive) in ascending order, at most limit of them (0 or less for
+     * all). A null bound leaves that side open.
+     */
+    public List<K> keyRange(K from, K to, int limit) {
+        return withoutExpired(cache.keyRange(from, to, limit));
+    }
+
+    /**
+     * Removes every key starting with the prefix, returns how many were removed.
+     */
+    public int removeByPrefix(String prefix) {
+        List<K> keys = cache.keysWithPrefix(prefix, 0);
+        for (K key : keys) {
+            trace(TraceOp.DEL, key);
+            synchronized (keyLock(key)) {
+                bumpKeyGeneration(key);
+                cache.remove(key, RemovalCause.EXPLICIT);
+            }
+        }
+        // One record for the whole purge rather than one per key
+        CommandLog log = commandLog;
+        if (log != null && !keys.isEmpty()) {
+            log.appendPurge(name, partitionTenant(), prefix);
+        }
+        return keys.size();
+    }
+
+    /**
+     * Next page of a cursor scan over the keys starting with prefix, in ascending order: examines at
+     * most count keys after the key `after` (from the start of the prefix when null) and returns those
+     * that are live and pass the filter.
+     *
+     * The cursor is the last key examined, not a position, so it stays valid whatever is inserted or
+     * removed between pages: a key present for the whole scan is returned exactly once, keys added or
+     * removed meanwhile may or may not be. Pages are served by the ordered key index in O(log n + count)
+     * when the keyspace keeps it (cache_ordered_keys), otherwise each page is a bounded scan of the
+     * keyspace, O(n). The scan ends on a range shorter than count, keys dropped as expired or filtered
+     * out do not end it early.
+     */
+    @SuppressWarnings("unchecked")
+    public ScanPage<String> scan(String prefix, String after, int count, Predicate<String> filter) {
+        count = Math.max(1, count);
+        String from = after != null && after.compareTo(prefix) >= 0
+                // Smallest key greater than the cursor
+                ? after + '\u0000'
+                : prefix;
+        List<K> batch = cache.keyRange((K) from, (K) prefixEnd(prefix), count);
+
+        List<String> keys = new ArrayList<>(batch.size());
+        for (K key : batch) {
+            if (liveEntry(key, cache.peek(key)) == null) {
+                continue;
+            }
+            String name = key.toString();
+            if (filter == null || filter.test(name)) {
+                keys.add(name);
+            }
+        }
+        String lastKey = batch.size() < count ? null : batch.get(batch.size() - 1).toString();
+        return new ScanPage<>(keys, lastKey);
+    }
+
+    /*
+     * Smallest key greater than every key starting with the prefix, null when there is none.
+     */
+    static String prefixEnd(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (c + 1);
+            }
+        }
+        return null;
+    }
+
+    private List<K> withoutExpired(List<K> keys) {
+        keys.removeIf(key -> liveEntry(key, cache.peek(key)) == null);
+        return keys;
+    }
+
     // Optional inspection utility
     public String inspect(K key) {
         CacheEntry<V> entry = cache.get(key);
         if (entry == null) return "Key not found";
+        if (!entry.hasAccessStats()) {
+            return String.format("accessStats=disabled, remote=%s, expiresAt=%d, offHeap=%s",
+                    entry.isRemote(), entry.getExpiresAt(), entry.isOffHeap());
+        }
         return String.format(
-                "createdAt=%d, lastAccessed=%d, lastUpdatedAt=%d, hitCount=%d, remote=%s",
+                "createdAt=%d, lastAccessed=%d, lastUpdatedAt=%d, hitCount=%d, remote=%s, expiresAt=%d, offHeap=%s",
                 entry.getCreatedAt(),
                 entry.getLastAccessed(),
                 entry.getLastUpdatedAt(),
                 entry.getHitCount(),
-                entry.isRemote()
+                entry.isRemote(),
+                entry.getExpiresAt(),
+                entry.isOffHeap()
         );
     }
 }
@@ -15,8 +15,12 @@
  */
 package com.vertexcache.core.cache;
 
-import com.vertexcache.core.cache.model.CacheIndexRef;
+import com.vertexcache.core.cache.compression.CompressedValue;
+import com.vertexcache.core.cache.compression.ValueCompressor;
 import com.vertexcache.core.cache.model.KeyPrefixer;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.cache.model.ScanPage;
+import com.vertexcache.core.cache.model.TenantKey;
 import com.vertexcache.core.cache.exception.VertexCacheException;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
 import com.vertexcache.core.module.ModuleRegistry;
@@ -26,8 +30,14 @@ import com.vertexcache.module.metric.service.MetricAccess;
 import com.vertexcache.server.session.ClientSessionContext;
 import com.vertexcache.common.log.LogHelper;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Core service responsible for handling all cache access operations such as get, set, and delete.
@@ -36,11 +46,18 @@ import java.util.Optional;
  * eviction policy details, index management, validation, and metrics tracking.
  *
  * Responsibilities include:
- * - Routing operations to the correct internal cache instance
- * - Applying key prefixing and validation rules
- * - Managing index consistency for secondary and tertiary lookups
+ * - Routing operations to the correct internal cache instance, the keyspace selected by the
+ *   session (SELECT or a per-command @keyspace prefix) or the default keyspace, and within it the
+ *   partition of a tenant with a quota (tenant_quotas)
+ * - Applying key prefixing and validation rules, tenant-scoped keys and index values being TenantKeys
+ * - Managing index consistency for the named secondary indexes of each keyspace, including the
+ *   multi-valued lookups returning every value that shares an index value
  * - Recording metrics for cache activity (e.g., hits, misses, sets, deletions)
  *
+ * Values are either Strings (SET) or raw byte arrays (BSET), the byte arrays are stored and returned
+ * as-is. Reading a binary value through the String getters decodes it as UTF-8. Clients accepting
+ * compressed replies read values through getStored, which leaves a value held compressed as it is.
+ *
  */
 public class CacheAccessService {
 
@@ -51,119 +68,209 @@ public class CacheAccessService {
 
     public void put(ClientSessionContext session, String key, String value) {
         try {
-            Cache.getInstance().put(KeyPrefixer.prefixKey(key, session), value);
-            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
-                metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL);
-                try {
-                    metrics.getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT,Cache.getInstance().size());
-                } catch (VertexCacheTypeException e) {
-                    throw new RuntimeException(e);
-                }
-            });
+            cacheFor(session).put(KeyPrefixer.prefixKey(key, session), value);
+            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL));
         } catch (VertexCacheTypeException ex) {
             logAndRethrow("put(session, key, value)", session.getClientId(), key, ex);
         }
     }
 
-    public void put(ClientSessionContext session, String key, String value, String idx1) {
+    public void put(TenantId tenant, String key, String value) {
         try {
-            Cache.getInstance().put(KeyPrefixer.prefixKey(key, session), value, KeyPrefixer.prefixKey(idx1, session));
-            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
-                metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL);
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX1);
-                try {
-                    metrics.getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT,Cache.getInstance().size());
-                } catch (VertexCacheTypeException e) {
-                    throw new RuntimeException(e);
-                }
-            });
+            cacheFor(tenant).put(new TenantKey(tenant, key), value);
+            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL));
         } catch (VertexCacheTypeException ex) {
-            logAndRethrow("put(session, key, value, idx1)", session.getClientId(), key, ex);
+            logAndRethrow("put(tenant, key, value)", tenant, key, ex);
         }
     }
 
-    public void put(ClientSessionContext session, String key, String value, String idx1, String idx2) {
+    /**
+     * Stores the value with index values by index name, ie: {email=a@b.c, phone=555}. The names are
+     * those declared by the keyspace, idx1 and idx2 addressing its first two indexes, an unknown name
+     * fails before anything is stored.
+     */
+    public void put(ClientSessionContext session, String key, String value, long ttlMillis, Map<String, String> indexes) throws VertexCacheTypeException {
+        Cache<Object, Object> cache = cacheFor(session);
+        Object[] secondaryKeys = toSecondaryKeys(cache, indexes, idx -> KeyPrefixer.prefixKey(idx, session));
         try {
-            Cache.getInstance().put(KeyPrefixer.prefixKey(key, session), value, KeyPrefixer.prefixKey(idx1, session), KeyPrefixer.prefixKey(idx2, session));
-            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
-                metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL);
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX1);
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX2);
-                try {
-                    metrics.getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT,Cache.getInstance().size());
-                } catch (VertexCacheTypeException e) {
-                    throw new RuntimeException(e);
-                }
-            });
+            cache.put(KeyPrefixer.prefixKey(key, session), value, ttlMillis, secondaryKeys);
+            recordPut(ttlMillis, secondaryKeys);
         } catch (VertexCacheTypeException ex) {
-            logAndRethrow("put(session, key, value, idx1, idx2)", session.getClientId(), key, ex);
+            logAndRethrow("put(session, key, value, ttl, indexes)", session.getClientId(), key, ex);
         }
     }
 
-    public void put(TenantId tenant, String key, String value) {
+    public void put(ClientSessionContext session, String key, byte[] value, long ttlMillis, Map<String, String> indexes) throws VertexCacheTypeException {
+        Cache<Object, Object> cache = cacheFor(session);
+        Object[] secondaryKeys = toSecondaryKeys(cache, indexes, idx -> KeyPrefixer.prefixKey(idx, session));
         try {
-            Cache.getInstance().put(tenant + "::" + key, value);
-            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL));
-            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
-                metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL);
-                try {
-                    metrics.getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT,Cache.getInstance().size());
-                } catch (VertexCacheTypeException e) {
-                    throw new RuntimeException(e);
-                }
-            });
+            cache.put(KeyPrefixer.prefixKey(key, session), value, ttlMillis, secondaryKeys);
+            recordPut(ttlMillis, secondaryKeys);
         } catch (VertexCacheTypeException ex) {
-            logAndRethrow("put(tenant, key, value)", tenant, key, ex);
+            logAndRethrow("put(session, key, bytes, ttl, indexes)", session.getClientId(), key, ex);
         }
     }
 
-    public void put(TenantId tenant, String key, String value, String idx1) {
+    public void put(TenantId tenant, String key, String value, long ttlMillis, Map<String, String> indexes) throws VertexCacheTypeException {
+        Cache<Object, Object> cache = cacheFor(tenant);
+        Object[] secondaryKeys = toSecondaryKeys(cache, indexes, idx -> new TenantKey(tenant, idx));
         try {
-            Cache.getInstance().put(tenant + "::" + key, value, tenant + "::" + idx1);
-            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
-                metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL);
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX1);
-                try {
-                    metrics.getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT,Cache.getInstance().size());
-                } catch (VertexCacheTypeException e) {
-                    throw new RuntimeException(e);
-                }
-            });
+            cache.put(new TenantKey(tenant, key), value, ttlMillis, secondaryKeys);
+            recordPut(ttlMillis, secondaryKeys);
         } catch (VertexCacheTypeException ex) {
-            logAndRethrow("put(tenant, key, value, idx1)", tenant, key, ex);
+            logAndRethrow("put(tenant, key, value, ttl, indexes)", tenant, key, ex);
         }
     }
 
-    public void put(TenantId tenant, String key, String value, String idx1, String idx2) {
-        try {
-            Cache.getInstance().put(tenant + "::" + key, value, tenant + "::" + idx1, tenant + "::" + idx2);
-            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
-                metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL);
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX1);
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX2);
-                try {
-                    metrics.getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT,Cache.getInstance().size());
-                } catch (VertexCacheTypeException e) {
-                    throw new RuntimeException(e);
-                }
-            });
-        } catch (VertexCacheTypeException ex) {
-            logAndRethrow("put(tenant, key, value, idx1, idx2)", tenant, key, ex);
+    public void put(ClientSessionContext session, String key, String value, long ttlMillis, String idx1, String idx2) throws VertexCacheTypeException {
+        put(session, key, value, ttlMillis, legacyIndexes(idx1, idx2));
+    }
+
+    public void put(TenantId tenant, String key, String value, long ttlMillis, String idx1, String idx2) throws VertexCacheTypeException {
+        put(tenant, key, value, ttlMillis, legacyIndexes(idx1, idx2));
+    }
+
+    public void put(ClientSessionContext session, String key, byte[] value, long ttlMillis, String idx1, String idx2) throws VertexCacheTypeException {
+        put(session, key, value, ttlMillis, legacyIndexes(idx1, idx2));
+    }
+
+    /**
+     * Index values by name from the idx1 / idx2 pair, idx2 being ignored without idx1.
+     */
+    public static Map<String, String> legacyIndexes(String idx1, String idx2) {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        if (idx1 != null) {
+            indexes.put(KeyspaceDefinition.INDEX_ONE, idx1);
+            if (idx2 != null) {
+                indexes.put(KeyspaceDefinition.INDEX_TWO, idx2);
+            }
         }
+        return indexes;
+    }
+
+    /*
+     * Positional, prefixed index values of the keyspace for the named ones.
+     */
+    private static Object[] toSecondaryKeys(Cache<Object, Object> cache, Map<String, String> indexes,
+                                            Function<String, Object> prefixer) throws VertexCacheTypeException {
+        if (indexes == null || indexes.isEmpty()) {
+            return new Object[0];
+        }
+        String[] values = cache.toSecondaryKeys(indexes);
+        Object[] secondaryKeys = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                secondaryKeys[i] = prefixer.apply(values[i]);
+            }
+        }
+        return secondaryKeys;
+    }
+
+    /*
+     * Keyspace selected by the session, the default keyspace without one, narrowed to the partition of
+     * the session's tenant when it has a quota.
+     */
+    private static Cache<Object, Object> cacheFor(ClientSessionContext session) throws VertexCacheTypeException {
+        if (session == null) {
+            return Cache.getInstance();
+        }
+        // The default keyspace is the common case, it skips the keyspace lookup
+        Cache<Object, Object> keyspace = session.getKeyspace() == null ? Cache.getInstance() : Cache.getKeyspace(session.getKeyspace());
+        return partitionFor(keyspace, session.getTenantId());
+    }
+
+    private static Cache<Object, Object> cacheFor(TenantId tenant) throws VertexCacheTypeException {
+        return partitionFor(Cache.getInstance(), tenant);
+    }
+
+    /*
+     * Without tenant quotas there are no partitions, the partition lookup is skipped.
+     */
+    private static Cache<Object, Object> partitionFor(Cache<Object, Object> keyspace, TenantId tenant) {
+        return tenant != null && Cache.hasTenantQuotas() ? keyspace.forTenant(tenant) : keyspace;
+    }
+
+    private void recordPut(long ttlMillis, Object[] secondaryKeys) {
+        ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
+            metrics.getMetricCollector().increment(MetricName.CACHE_SET_TOTAL);
+            for (int i = 0; i < secondaryKeys.length; i++) {
+                MetricName indexMetric = indexMetric(i);
+                if (secondaryKeys[i] != null && indexMetric != null) {
+                    metrics.getMetricCollector().increment(indexMetric);
+                }
+            }
+            if (ttlMillis > 0) metrics.getMetricCollector().increment(ttlBucket(ttlMillis));
+        });
+    }
+
+    /*
+     * Index usage is tracked for the first two positions, the idx1 / idx2 pair of the default layout.
+     */
+    private static MetricName indexMetric(int index) {
+        if (index == 0) return MetricName.CACHE_INDEX_USAGE_IDX1;
+        if (index == 1) return MetricName.CACHE_INDEX_USAGE_IDX2;
+        return null;
+    }
+
+    private static MetricName ttlBucket(long ttlMillis) {
+        if (ttlMillis < 10_000) return MetricName.CACHE_TTL_LT_10S;
+        if (ttlMillis < 60_000) return MetricName.CACHE_TTL_10S_60S;
+        if (ttlMillis < 600_000) return MetricName.CACHE_TTL_60S_600S;
+        return MetricName.CACHE_TTL_600S_PLUS;
     }
 
 
     // === GET ===
 
     public String get(ClientSessionContext session, String key) throws VertexCacheTypeException {
-        return hitAndMissMetricTracking(key, (String) Cache.getInstance().get(KeyPrefixer.prefixKey(key, session)));
+        return asString(hitAndMissMetricTracking(key, cacheFor(session).get(KeyPrefixer.prefixKey(key, session))));
     }
 
     public String get(TenantId tenant, String key) throws VertexCacheTypeException {
-        return hitAndMissMetricTracking(key, (String) Cache.getInstance().get(tenant + "::" + key));
+        return asString(hitAndMissMetricTracking(key, cacheFor(tenant).get(new TenantKey(tenant, key))));
     }
 
-    private String hitAndMissMetricTracking(String key, String result) {
+    /**
+     * Value as raw bytes, String values are returned UTF-8 encoded.
+     */
+    public byte[] getBytes(ClientSessionContext session, String key) throws VertexCacheTypeException {
+        return asBytes(hitAndMissMetricTracking(key, cacheFor(session).get(KeyPrefixer.prefixKey(key, session))));
+    }
+
+    /**
+     * Value as held by the cache: the CompressedValue of a value held compressed, the String or byte
+     * array otherwise.
+     */
+    public Object getStored(ClientSessionContext session, String key) throws VertexCacheTypeException {
+        return hitAndMissMetricTracking(key, cacheFor(session).getStoredValue(KeyPrefixer.prefixKey(key, session)));
+    }
+
+    public static String asString(Object value) {
+        if (value instanceof CompressedValue compressed) {
+            return asString(inflate(compressed));
+        }
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return (String) value;
+    }
+
+    public static byte[] asBytes(Object value) {
+        if (value instanceof CompressedValue compressed) {
+            return asBytes(inflate(compressed));
+        }
+        if (value instanceof String string) {
+            return string.getBytes(StandardCharsets.UTF_8);
+        }
+        return (byte[]) value;
+    }
+
+    private static Object inflate(CompressedValue compressed) {
+        byte[] raw = ValueCompressor.inflate(compressed);
+        return compressed.isBinary() ? raw : new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private <T> T hitAndMissMetricTracking(String key, T result) {
         Optional<MetricAccess> optionalMetricAccess = ModuleRegistry.getMetricAccessIfEnabled();
         if (optionalMetricAccess.isPresent()) {
             MetricAccess metrics = optionalMetricAccess.get();
@@ -179,76 +286,119 @@ public class CacheAccessService {
         return result;
     }
 
-    public String getBySecondaryIdx1(ClientSessionContext session, String idxKey) throws VertexCacheTypeException {
-        return this.getBySecondaryIdx1(KeyPrefixer.prefixKey(idxKey, session));
+    /**
+     * Value of the key last written with the index value, null when there is none.
+     */
+    public String getBySecondaryIdx(ClientSessionContext session, String indexName, String idxKey) throws VertexCacheTypeException {
+        Cache<Object, Object> cache = cacheFor(session);
+        return this.getBySecondaryIdx(cache, indexOf(cache, indexName), KeyPrefixer.prefixKey(idxKey, session));
     }
 
-    public String getBySecondaryIdx1(TenantId tenant, String idxKey) throws VertexCacheTypeException {
-        return this.getBySecondaryIdx1(tenant + "::" + idxKey);
+    public String getBySecondaryIdx(TenantId tenant, String indexName, String idxKey) throws VertexCacheTypeException {
+        Cache<Object, Object> cache = cacheFor(tenant);
+        return this.getBySecondaryIdx(cache, indexOf(cache, indexName), new TenantKey(tenant, idxKey));
     }
 
-    private String getBySecondaryIdx1(String key) throws VertexCacheTypeException {
+    private String getBySecondaryIdx(Cache<Object, Object> cache, int index, Object key) {
 
         // Look up the primary key using the reverse index
-        String primaryKey = (String) Cache.getInstance().getReadOnlySecondaryIndexOne().get(key);
+        Object primaryKey = cache.getReadOnlySecondaryIndex(index).get(key);
         if (primaryKey == null) {
             return null;
         }
 
         // Record metric for index lookup usage
-        ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics ->
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX1)
-        );
+        recordIndexUsage(index);
 
         // Return the value associated with the resolved primary key
-        return (String) Cache.getInstance().get(primaryKey);
+        return asString(cache.get(primaryKey));
     }
 
-    public String getBySecondaryIdx2(ClientSessionContext session, String idxKey) throws VertexCacheTypeException {
-        return this.getBySecondaryIdx2(KeyPrefixer.prefixKey(idxKey, session));
+    /**
+     * Values of every key carrying the index value, empty when there is none.
+     */
+    public List<String> getAllBySecondaryIdx(ClientSessionContext session, String indexName, String idxKey) throws VertexCacheTypeException {
+        Cache<Object, Object> cache = cacheFor(session);
+        int index = indexOf(cache, indexName);
+        List<Object> primaryKeys = cache.getKeysBySecondaryKey(index, KeyPrefixer.prefixKey(idxKey, session));
+        List<String> values = new ArrayList<>(primaryKeys.size());
+        for (Object primaryKey : primaryKeys) {
+            // Members evicted or expired since the index lookup are skipped
+            Object value = cache.get(primaryKey);
+            if (value != null) {
+                values.add(asString(value));
+            }
+        }
+        if (!primaryKeys.isEmpty()) {
+            recordIndexUsage(index);
+        }
+        return values;
     }
 
-    public String getBySecondaryIdx2(TenantId tenant, String idxKey) throws VertexCacheTypeException {
-        return this.getBySecondaryIdx2(tenant + "::" + idxKey);
+    private static int indexOf(Cache<Object, Object> cache, String indexName) throws VertexCacheTypeException {
+        int index = cache.indexOf(indexName);
+        if (index < 0) {
+            throw new VertexCacheTypeException("Unknown secondary index: " + indexName);
+        }
+        return index;
     }
 
-    private String getBySecondaryIdx2(String key) throws VertexCacheTypeException {
+    private static void recordIndexUsage(int index) {
+        MetricName indexMetric = indexMetric(index);
+        if (indexMetric != null) {
+            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics ->
+                    metrics.getMetricCollector().increment(indexMetric));
+        }
+    }
 
-        // Look up the primary key using the reverse index
-        String primaryKey = (String) Cache.getInstance().getReadOnlySecondaryIndexTwo().get(key);
-        if (primaryKey == null) {
-            return null;
+    // === TTL ===
+
+    public boolean expire(ClientSessionContext session, String key, long ttlMillis) throws VertexCacheTypeException {
+        return this.expire(cacheFor(session), KeyPrefixer.prefixKey(key, session), ttlMillis);
+    }
+
+    public boolean expire(TenantId tenant, String key, long ttlMillis) throws VertexCacheTypeException {
+        return this.expire(cacheFor(tenant), new TenantKey(tenant, key), ttlMillis);
+    }
+
+    private boolean expire(Cache<Object, Object> cache, Object key, long ttlMillis) {
+        boolean updated = cache.expire(key, ttlMillis);
+        if (updated) {
+            ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics ->
+                    metrics.getMetricCollector().increment(ttlBucket(ttlMillis)));
         }
+        return updated;
+    }
 
-        // Record metric for index lookup usage
-        ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics ->
-                metrics.getMetricCollector().increment(MetricName.CACHE_INDEX_USAGE_IDX2)
-        );
+    public long ttl(ClientSessionContext session, String key) throws VertexCacheTypeException {
+        return cacheFor(session).ttl(KeyPrefixer.prefixKey(key, session));
+    }
 
-        // Return the value associated with the resolved primary key
-        return (String) Cache.getInstance().get(primaryKey);
+    public long ttl(TenantId tenant, String key) throws VertexCacheTypeException {
+        return cacheFor(tenant).ttl(new TenantKey(tenant, key));
+    }
+
+    public boolean persist(ClientSessionContext session, String key) throws VertexCacheTypeException {
+        return cacheFor(session).persist(KeyPrefixer.prefixKey(key, session));
+    }
+
+    public boolean persist(TenantId tenant, String key) throws VertexCacheTypeException {
+        return cacheFor(tenant).persist(new TenantKey(tenant, key));
     }
 
     // === DELETE ===
 
     public void remove(ClientSessionContext session, String key) throws VertexCacheTypeException {
-        this.remove(KeyPrefixer.prefixKey(key, session));
+        this.remove(cacheFor(session), KeyPrefixer.prefixKey(key, session));
     }
 
     public void remove(TenantId tenant, String key) throws VertexCacheTypeException {
-        this.remove(tenant + "::" + key);
+        this.remove(cacheFor(tenant), new TenantKey(tenant, key));
     }
 
-    private void remove(String key) throws VertexCacheTypeException {
-        Cache.getInstance().remove( key);
-        ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> {
-            metrics.getMetricCollector().increment(MetricName.CACHE_DEL_TOTAL);
-            try {
-                metrics.getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT,Cache.getInstance().size());
-            } catch (VertexCacheTypeException e) {
-                throw new RuntimeException(e);
-            }
-        });
+    private void remove(Cache<Object, Object> cache, Object key) {
+        cache.remove(key);
+        ModuleRegistry.getMetricAccessIfEnabled().ifPresent(metrics -> metrics.getMetricCollector().increment(MetricName.CACHE_DEL_TOTAL));
     }
 
     // === Centralized Logging ===
@@ -260,36 +410,33 @@ public class CacheAccessService {
         throw new RuntimeException(msg, ex);
     }
 
-    // ==== Cache Utils ===
-
-    public void sweepOrphanedIndexEntries() throws VertexCacheException {
-        try {
-            Map<Object, CacheIndexRef> reverseIndex = Cache.getInstance().getReverseIndex();
-            Map<Object, Object> idx1Map = Cache.getInstance().getReadOnlySecondaryIndexOne();
-            Map<Object, Object> idx2Map = Cache.getInstance().getReadOnlySecondaryIndexTwo();
-
-            for (Map.Entry<Object, CacheIndexRef> entry : reverseIndex.entrySet()) {
-                Object primaryKey = entry.getKey();
-                CacheIndexRef ref = entry.getValue();
-
-                if (!Cache.getInstance().containsKey(primaryKey)) {
-                    if (ref.getIdx1() != null) {
-                        idx1Map.remove(ref.getIdx1(), primaryKey);
-                    }
-                    if (ref.getIdx2() != null) {
-                        idx2Map.remove(ref.getIdx2(), primaryKey);
-                    }
-
-                    reverseIndex.remove(primaryKey);
-                }
-            }
-        } catch (Exception e) {
-            throw new VertexCacheException("sweepOrphanedIndexEntries Failed");
+    // ==== Scan ===
+
+    /**
+     * Next page of a cursor scan over the session's keys starting with prefix, see Cache.scan. Keys,
+     * the cursor key and the filter all see keys without the tenant prefix, which confines the scan
+     * to the tenant's own keys when tenant key prefixing is on.
+     */
+    public ScanPage<String> scan(ClientSessionContext session, String prefix, String afterKey, int count, Predicate<String> filter) throws VertexCacheTypeException {
+        Cache<Object, Object> cache = cacheFor(session);
+        ScanPage<String> page = cache.scan(
+                KeyPrefixer.prefixKey(prefix, session).toString(),
+                afterKey != null ? KeyPrefixer.prefixKey(afterKey, session).toString() : null,
+                count,
+                filter != null ? key -> filter.test(KeyPrefixer.removePrefix(key, session)) : null);
+
+        List<String> keys = new ArrayList<>(page.getKeys().size());
+        for (String key : page.getKeys()) {
+            keys.add(KeyPrefixer.removePrefix(key, session));
         }
+        String lastKey = page.getLastKey();
+        return new ScanPage<>(keys, lastKey != null ? KeyPrefixer.removePrefix(lastKey, session) : null);
     }
 
+    // ==== Cache Utils ===
+
     public int getKeyCount() throws VertexCacheTypeException {
-        return Cache.getInstance().size();
+        return (int) Math.min(Cache.getTotalSize(), Integer.MAX_VALUE);
     }
 
 }
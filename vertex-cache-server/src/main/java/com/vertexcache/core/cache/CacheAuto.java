@@ -0,0 +1,413 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.index.SecondaryIndex;
+import com.vertexcache.core.cache.model.CacheIndexRef;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.RemovalCause;
+import com.vertexcache.core.cache.tuning.AutoPolicyTuner;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Self-tuning cache for the AUTO eviction policy.
+ *
+ * Entries live in a complete CacheBase of the policy the AutoPolicyTuner currently favours, every
+ * operation is forwarded to it. Reads are also offered to the tuner, which runs ghost simulations of
+ * the candidate policies on a sample of the key stream. When it picks another policy the next read or
+ * write hands the switch to a background thread, which migrates the entries, with their index values,
+ * into a fresh instance of that policy and swaps it in, so admission and eviction follow the winner
+ * from then on.
+ *
+ * Migration: the entries are copied while clients keep using the live policy, which records the keys
+ * written or removed meanwhile. The swap then re-copies those keys under the write lock, so its pause
+ * is proportional to the writes that raced with the copy rather than to the entries.
+ *
+ * Trade-offs:
+ * - A switch is O(n) in the entries on the migration thread, and the new policy starts from the
+ *   recency order of the old one but without its frequency history. The tuner's hysteresis keeps
+ *   switches rare.
+ * - Reads served by the old policy while a switch copies it are not seen by the new one.
+ * - Index and key set views returned by this cache belong to the live policy at the time of the call.
+ *
+ * Thread-safety: reads take no lock, they read the volatile live policy and retry on the new one when
+ * a swap raced with them. Writes take the read lock and the swap takes the write lock, so no write
+ * lands in a policy after it was replaced. Inside a segmented cache every segment shares one tuner and
+ * switches on its own.
+ */
+public class CacheAuto<K, V> extends CacheBase<K, V> {
+
+    private static final ExecutorService MIGRATIONS = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "CacheAutoMigrationThread");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final int sizeCapacity;
+    private final AutoPolicyTuner tuner;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<RemovalListener<K, V>> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean migrating = new AtomicBoolean();
+    private final RemovalListener<K, V> changeTracker = (key, value, cause) -> track(key);
+    private volatile CacheBase<K, V> delegate;
+    private volatile EvictionPolicy activePolicy;
+    // Keys written or removed in the live policy while a migration copies it, null otherwise
+    private volatile Set<K> changed;
+
+    public CacheAuto(int sizeCapacity) {
+        this(sizeCapacity, new AutoPolicyTuner(sizeCapacity));
+    }
+
+    public CacheAuto(int sizeCapacity, AutoPolicyTuner tuner) {
+        this.sizeCapacity = sizeCapacity;
+        this.tuner = tuner;
+        this.activePolicy = tuner.getActivePolicy();
+        this.delegate = Cache.createCacheBase(activePolicy, sizeCapacity);
+        this.delegate.addRemovalListener(changeTracker);
+    }
+
+    /**
+     * Policy currently holding the entries.
+     */
+    public EvictionPolicy getActivePolicy() {
+        return activePolicy;
+    }
+
+    @Override
+    public AutoPolicyTuner getPolicyTuner() {
+        return tuner;
+    }
+
+    /*
+     * Starts a migration when the tuner favours another policy, unless one is already running.
+     */
+    private void followTuner() {
+        if (tuner.getActivePolicy() != activePolicy && migrating.compareAndSet(false, true)) {
+            try {
+                MIGRATIONS.execute(this::migrate);
+            } catch (RejectedExecutionException e) {
+                migrating.set(false);
+            }
+        }
+    }
+
+    private void migrate() {
+        try {
+            EvictionPolicy target = tuner.getActivePolicy();
+            if (target != activePolicy) {
+                switchTo(target);
+            }
+        } catch (RuntimeException e) {
+            LogHelper.getInstance().logError("[CacheAuto] Policy switch failed: " + e.getMessage());
+        } finally {
+            migrating.set(false);
+        }
+        // The tuner may have moved on while this one ran
+        followTuner();
+    }
+
+    private void track(K key) {
+        Set<K> keys = changed;
+        if (keys != null) {
+            keys.add(key);
+        }
+    }
+
+    /*
+     * Copies every entry into a new instance of the policy, then swaps it in under the write lock after
+     * re-copying the keys written meanwhile. Entries the new policy refuses are reported to the
+     * listeners as evictions at the swap, unless the live policy let go of them first.
+     */
+    private void switchTo(EvictionPolicy target) {
+        Set<K> written = ConcurrentHashMap.newKeySet();
+        changed = written;
+        CacheBase<K, V> previous = delegate;
+        CacheBase<K, V> next = Cache.createCacheBase(target, sizeCapacity);
+        next.configureIndexes(previous.getIndexCount());
+        next.setOrderedKeysEnabled(previous.isOrderedKeysEnabled());
+        List<Map.Entry<K, V>> refused = new ArrayList<>();
+        RemovalListener<K, V> collector = (key, value, cause) -> {
+            if (cause == RemovalCause.EVICTED) {
+                refused.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+            }
+        };
+        next.addRemovalListener(collector);
+
+        try {
+            List<K> keys;
+            synchronized (previous.getPrimaryCache()) {
+                keys = new ArrayList<>(previous.getPrimaryCache().keySet());
+            }
+            for (K key : keys) {
+                copy(previous, next, key);
+            }
+
+            lock.writeLock().lock();
+            try {
+                changed = null;
+                if (next.getIndexCount() != previous.getIndexCount()) {
+                    // Reconfigured while copying, the next access starts over
+                    return;
+                }
+                for (K key : written) {
+                    copy(previous, next, key);
+                }
+                next.setOrderedKeysEnabled(previous.isOrderedKeysEnabled());
+                next.removeRemovalListener(collector);
+                for (Map.Entry<K, V> entry : refused) {
+                    K key = entry.getKey();
+                    if (previous.peek(key) == entry.getValue() && next.peek(key) != entry.getValue()) {
+                        fireEvicted(key, entry.getValue());
+                    }
+                }
+                for (RemovalListener<K, V> listener : listeners) {
+                    next.addRemovalListener(listener);
+                }
+                next.addRemovalListener(changeTracker);
+                delegate = next;
+                activePolicy = target;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (VertexCacheTypeException e) {
+            // Same index count on both sides, a put cannot be refused
+            throw new IllegalStateException("Switching to " + target + " failed: " + e.getMessage(), e);
+        } finally {
+            changed = null;
+        }
+    }
+
+    /*
+     * Makes the key hold in next what it holds in previous.
+     */
+    private void copy(CacheBase<K, V> previous, CacheBase<K, V> next, K key) throws VertexCacheTypeException {
+        V value = previous.peek(key);
+        if (value == null) {
+            next.remove(key, RemovalCause.EXPLICIT);
+        } else if (next.peek(key) != value) {
+            CacheIndexRef ref = previous.getReverseIndex().get(key);
+            next.put(key, value, ref != null ? ref.toArray() : new Object[0]);
+        }
+    }
+
+    private void fireEvicted(K key, V value) {
+        for (RemovalListener<K, V> listener : listeners) {
+            try {
+                listener.onRemoval(key, value, RemovalCause.EVICTED);
+            } catch (RuntimeException e) {
+                LogHelper.getInstance().logError("[Cache] Removal listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Runs a read on the live policy, again on the new one when a swap replaced it meanwhile.
+     */
+    private <R> R read(Function<CacheBase<K, V>, R> operation) {
+        for (;;) {
+            CacheBase<K, V> current = delegate;
+            R result = operation.apply(current);
+            if (current == delegate) {
+                return result;
+            }
+        }
+    }
+
+    @Override
+    public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
+        followTuner();
+        lock.readLock().lock();
+        try {
+            track(primaryKey);
+            delegate.put(primaryKey, value, secondaryKeys);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public V get(K primaryKey) {
+        tuner.recordAccess(primaryKey);
+        followTuner();
+        for (;;) {
+            CacheBase<K, V> current = delegate;
+            V value = current.get(primaryKey);
+            if (current == delegate) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public V peek(K primaryKey) {
+        for (;;) {
+            CacheBase<K, V> current = delegate;
+            V value = current.peek(primaryKey);
+            if (current == delegate) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public void remove(K primaryKey, RemovalCause cause) {
+        lock.readLock().lock();
+        try {
+            track(primaryKey);
+            delegate.remove(primaryKey, cause);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean evictOne() {
+        lock.readLock().lock();
+        try {
+            return delegate.evictOne();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void addRemovalListener(RemovalListener<K, V> listener) {
+        lock.writeLock().lock();
+        try {
+            listeners.add(listener);
+            delegate.addRemovalListener(listener);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeRemovalListener(RemovalListener<K, V> listener) {
+        lock.writeLock().lock();
+        try {
+            listeners.remove(listener);
+            delegate.removeRemovalListener(listener);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void cleanupIndexFor(K key) {
+        delegate.cleanupIndexFor(key);
+    }
+
+    @Override
+    public void configureIndexes(int count) {
+        lock.writeLock().lock();
+        try {
+            super.configureIndexes(count);
+            delegate.configureIndexes(count);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void setOrderedKeysEnabled(boolean enabled) {
+        lock.writeLock().lock();
+        try {
+            delegate.setOrderedKeysEnabled(enabled);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isOrderedKeysEnabled() {
+        return delegate.isOrderedKeysEnabled();
+    }
+
+    @Override
+    public List<K> keysWithPrefix(String prefix, int limit) {
+        return read(current -> current.keysWithPrefix(prefix, limit));
+    }
+
+    @Override
+    public List<K> keyRange(K from, K to, int limit) {
+        return read(current -> current.keyRange(from, to, limit));
+    }
+
+    @Override
+    protected SecondaryIndex<K> getSecondaryIndex(int index) {
+        return delegate.getSecondaryIndex(index);
+    }
+
+    @Override
+    public List<K> getKeysBySecondaryKey(int index, Object secondaryKey) {
+        return read(current -> current.getKeysBySecondaryKey(index, secondaryKey));
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return read(current -> current.containsKey(key));
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        return read(current -> current.containsValue(value));
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        lock.readLock().lock();
+        try {
+            delegate.clear();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Map<Object, K> getReadOnlySecondaryIndex(int index) {
+        return delegate.getReadOnlySecondaryIndex(index);
+    }
+
+    @Override
+    public Map<K, CacheIndexRef> getReverseIndex() {
+        return delegate.getReverseIndex();
+    }
+}
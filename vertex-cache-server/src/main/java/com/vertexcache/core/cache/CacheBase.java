@@ -15,13 +15,26 @@
  */
 package com.vertexcache.core.cache;
 
+import com.vertexcache.common.log.LogHelper;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.index.KeyOrder;
+import com.vertexcache.core.cache.index.OrderedKeyIndex;
+import com.vertexcache.core.cache.index.SecondaryIndex;
 import com.vertexcache.core.cache.model.CacheIndexRef;
+import com.vertexcache.core.cache.model.RemovalCause;
+import com.vertexcache.core.cache.tuning.AutoPolicyTuner;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 /**
  * Abstract base class for all cache algorithm implementations.
@@ -37,100 +50,373 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * This class is intended to be extended by concrete cache implementations that apply specific
  * eviction logic.
+ *
+ * Removal pipeline: every value leaving the primary map goes through notifyRemoved with its cause
+ * (see RemovalCause). The pipeline first unlinks the key from the secondary and reverse indexes, unless
+ * the value was only replaced, then hands the value to the registered RemovalListeners. Index
+ * maintenance therefore never depends on a policy remembering it, implementations only have to go
+ * through putPrimary / removePrimary, or call notifyRemoved themselves when the map evicts on its own.
+ *
+ * Secondary indexes are addressed by position, the number of them is set per cache through
+ * configureIndexes (two by default, the idx1 / idx2 pair) and their names live in Cache. Indexes are
+ * not unique: besides the point lookup (last writer wins) every index value keeps the set of all
+ * primary keys carrying it, see SecondaryIndex. The reverse index keeps one compact CacheIndexRef per
+ * indexed key, keys without index values cost nothing.
+ *
+ * Ordered keys: when enabled (setOrderedKeysEnabled) the primary keys are also kept in an
+ * OrderedKeyIndex, added by putPrimary and removed by the removal pipeline, so prefix lookups and range
+ * iteration cost O(log n + matches). Without it they fall back to a scan of the primary map.
  */
 abstract public class CacheBase<K, V> {
 
-    protected static final int MAX_SECONDARY_INDEXES = 2;
+    public static final int DEFAULT_SECONDARY_INDEXES = 2;
 
     private Map<K, V> primaryCache = new ConcurrentHashMap<>();
-    private Map<Object, K> secondaryIndexOne = new ConcurrentHashMap<>();
-    private Map<Object, K> secondaryIndexTwo = new ConcurrentHashMap<>();
+    private volatile SecondaryIndex<K>[] secondaryIndexes = newIndexes(DEFAULT_SECONDARY_INDEXES);
     private final Map<K, CacheIndexRef> reverseIndex = new ConcurrentHashMap<>();
+    private final List<RemovalListener<K, V>> removalListeners = new CopyOnWriteArrayList<>();
+    private volatile OrderedKeyIndex<K> orderedKeys;
 
     abstract public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException;
     abstract public V get(K primaryKey);
-    abstract public void remove(K primaryKey);
+    abstract public void remove(K primaryKey, RemovalCause cause);
+
+    public void remove(K primaryKey) {
+        remove(primaryKey, RemovalCause.EXPLICIT);
+    }
 
     protected void putDefaultImpl(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
-        if (secondaryKeys.length <= MAX_SECONDARY_INDEXES) {
+        if (secondaryKeys.length <= secondaryIndexes.length) {
             try {
                 synchronized (this.getPrimaryCache()) {
-                    this.getPrimaryCache().put(primaryKey, value);
+                    this.putPrimary(primaryKey, value);
                 }
                 updateSecondaryKeys(primaryKey, secondaryKeys);
             } catch (OutOfMemoryError e) {
                 throw new VertexCacheTypeException("Out of memory, increase memory or use eviction policy other than none.");
             }
         } else {
-            throw new VertexCacheTypeException("Too many secondary index, maximum 2 allowed.");
+            throw new VertexCacheTypeException("Too many secondary index, maximum " + secondaryIndexes.length + " allowed.");
         }
     }
 
     protected void updateSecondaryKeys(K primaryKey, Object... secondaryKeys) {
-        Object idx1 = null;
-        Object idx2 = null;
+        SecondaryIndex<K>[] indexes = secondaryIndexes;
+        CacheIndexRef ref = CacheIndexRef.of(indexes.length, secondaryKeys);
 
-        if (secondaryKeys.length > 0 && secondaryKeys[0] != null) {
-            idx1 = secondaryKeys[0];
-            secondaryIndexOne.put(idx1, primaryKey);
-        }
+        CacheIndexRef previous = ref != null
+                ? reverseIndex.put(primaryKey, ref)
+                // Clear any existing stale mapping
+                : reverseIndex.remove(primaryKey);
 
-        if (secondaryKeys.length > 1 && secondaryKeys[1] != null) {
-            idx2 = secondaryKeys[1];
-            secondaryIndexTwo.put(idx2, primaryKey);
+        // Index values the key no longer carries
+        if (previous != null) {
+            for (int i = 0; i < previous.length() && i < indexes.length; i++) {
+                Object old = previous.get(i);
+                if (old != null && !old.equals(ref != null ? ref.get(i) : null)) {
+                    indexes[i].remove(old, primaryKey);
+                }
+            }
         }
 
-        if (idx1 != null || idx2 != null) {
-            reverseIndex.put(primaryKey, new CacheIndexRef(idx1, idx2));
-        } else {
-            // Clear any existing stale mapping
-            reverseIndex.remove(primaryKey);
+        if (ref != null) {
+            for (int i = 0; i < ref.length(); i++) {
+                Object value = ref.get(i);
+                if (value != null) {
+                    indexes[i].add(value, primaryKey);
+                }
+            }
         }
     }
 
-    public void removeDefaultImpl(K primaryKey) {
+    public void removeDefaultImpl(K primaryKey, RemovalCause cause) {
         synchronized (this) {
-            primaryCache.remove(primaryKey);
-            cleanupIndexFor(primaryKey);
+            removePrimary(primaryKey, cause);
+        }
+    }
+
+    /**
+     * Evicts one entry picked by the policy, used to enforce a memory budget on top of the entry
+     * count. Returns false when the policy does not evict or holds nothing.
+     */
+    public boolean evictOne() {
+        return false;
+    }
+
+    /*
+     * evictOne for policies whose primary map iterates in eviction order (LRUMap, insertion ordered map).
+     */
+    protected boolean evictEldest() {
+        K eldest;
+        synchronized (this.getPrimaryCache()) {
+            Iterator<K> keys = this.getPrimaryCache().keySet().iterator();
+            if (!keys.hasNext()) {
+                return false;
+            }
+            eldest = keys.next();
+        }
+        removeDefaultImpl(eldest, RemovalCause.EVICTED);
+        return true;
+    }
+
+    public void addRemovalListener(RemovalListener<K, V> listener) {
+        removalListeners.add(listener);
+    }
+
+    public void removeRemovalListener(RemovalListener<K, V> listener) {
+        removalListeners.remove(listener);
+    }
+
+    /**
+     * Removal pipeline entry point: unlinks the indexes of a removed key, then notifies the listeners of
+     * the value. Called for a key that may no longer be in the primary map, or is about to leave it when
+     * the map evicts on its own.
+     */
+    protected void notifyRemoved(K key, V value, RemovalCause cause) {
+        if (cause.isKeyRemoved()) {
+            cleanupIndexFor(key);
+            OrderedKeyIndex<K> ordered = orderedKeys;
+            if (ordered != null) {
+                ordered.remove(key);
+                // A put of the same key may have landed in between, an eviction callback still sees its victim
+                if (cause != RemovalCause.EVICTED && primaryCache.containsKey(key)) {
+                    ordered.add(key);
+                }
+            }
+        }
+        if (value != null) {
+            fireRemoval(key, value, cause);
         }
     }
 
+    private void fireRemoval(K key, V value, RemovalCause cause) {
+        for (RemovalListener<K, V> listener : removalListeners) {
+            try {
+                listener.onRemoval(key, value, cause);
+            } catch (RuntimeException e) {
+                LogHelper.getInstance().logError("[Cache] Removal listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Puts into the primary map, passing the value it replaces down the removal pipeline.
+     */
+    protected V putPrimary(K key, V value) {
+        V previous = primaryCache.put(key, value);
+        OrderedKeyIndex<K> ordered = orderedKeys;
+        if (ordered != null && previous == null) {
+            ordered.add(key);
+        }
+        if (previous != null && previous != value) {
+            notifyRemoved(key, previous, RemovalCause.REPLACED);
+        }
+        return previous;
+    }
+
+    /**
+     * Removes from the primary map, passing the key down the removal pipeline even when it held no
+     * value so stale index entries are unlinked as well.
+     */
+    protected V removePrimary(K key, RemovalCause cause) {
+        V removed = primaryCache.remove(key);
+        notifyRemoved(key, removed, cause);
+        return removed;
+    }
+
     protected void cleanupIndexFor(K key) {
         CacheIndexRef ref = reverseIndex.remove(key);
         if (ref != null) {
-            if (ref.idx1 != null) secondaryIndexOne.remove(ref.idx1);
-            if (ref.idx2 != null) secondaryIndexTwo.remove(ref.idx2);
+            unlink(ref, key);
         }
     }
 
-    public V getDefaultImpl(K primaryKey) {
-        synchronized (this) {
-            return this.getPrimaryCache().get(primaryKey);
+    private void unlink(CacheIndexRef ref, K key) {
+        SecondaryIndex<K>[] indexes = secondaryIndexes;
+        for (int i = 0; i < ref.length() && i < indexes.length; i++) {
+            Object value = ref.get(i);
+            if (value != null) {
+                indexes[i].remove(value, key);
+            }
         }
     }
 
-    public V getBySecondaryKeyIndexOne(Object secondaryKey) {
-        synchronized (this) {
-            if (secondaryKey != null && getSecondaryIndexOne().containsKey(secondaryKey)) {
-                K primaryCacheKey = getSecondaryIndexOne().get(secondaryKey);
-                if (primaryCacheKey != null) {
-                    return getPrimaryCache().get(primaryCacheKey);
-                }
+    /**
+     * Sets the number of secondary indexes, existing index data is dropped so it is meant to be
+     * called before the cache is used.
+     */
+    public void configureIndexes(int count) {
+        this.secondaryIndexes = newIndexes(count);
+        reverseIndex.clear();
+    }
+
+    public int getIndexCount() {
+        return secondaryIndexes.length;
+    }
+
+    /**
+     * Turns the ordered key index on (built from the keys already cached) or off.
+     */
+    public void setOrderedKeysEnabled(boolean enabled) {
+        synchronized (this.getPrimaryCache()) {
+            if (!enabled) {
+                orderedKeys = null;
+                return;
+            }
+            // Checked under the lock, two callers must not both build and publish an index
+            if (orderedKeys != null) {
+                return;
+            }
+            OrderedKeyIndex<K> ordered = new OrderedKeyIndex<>();
+            // Published before the copy so puts racing with it are not missed
+            orderedKeys = ordered;
+            for (K key : this.getPrimaryCache().keySet()) {
+                ordered.add(key);
             }
         }
-        return null;
     }
 
-    public V getBySecondaryKeyIndexTwo(Object secondaryKey) {
-        synchronized (this) {
-            if (secondaryKey != null && getSecondaryIndexTwo().containsKey(secondaryKey)) {
-                K primaryCacheKey = getSecondaryIndexTwo().get(secondaryKey);
-                if (primaryCacheKey != null) {
-                    return getPrimaryCache().get(primaryCacheKey);
+    public boolean isOrderedKeysEnabled() {
+        return orderedKeys != null;
+    }
+
+    /**
+     * Keys starting with the prefix in ascending order, at most limit of them (0 or less for all).
+     * Served by the ordered key index when enabled, otherwise by a scan of the primary map.
+     */
+    public List<K> keysWithPrefix(String prefix, int limit) {
+        OrderedKeyIndex<K> ordered = orderedKeys;
+        if (ordered != null) {
+            return live(ordered.withPrefix(prefix, limit));
+        }
+        return scan(key -> KeyOrder.startsWith(key, prefix), limit);
+    }
+
+    /**
+     * Keys from (inclusive) to (exclusive) in ascending order, at most limit of them (0 or less for
+     * all), a null bound leaves that side open. Falls back to a scan when the ordered index is off.
+     *
+     * Keys whose removal is still on its way through the pipeline are kept, so a range shorter than
+     * limit means the range is exhausted; callers check the keys they use are still present.
+     */
+    public List<K> keyRange(K from, K to, int limit) {
+        OrderedKeyIndex<K> ordered = orderedKeys;
+        if (ordered != null) {
+            return ordered.range(from, to, limit);
+        }
+        return scan(key -> (from == null || KeyOrder.compare(key, from) >= 0)
+                && (to == null || KeyOrder.compare(key, to) < 0), limit);
+    }
+
+    /*
+     * Drops keys whose removal is still on its way through the pipeline.
+     */
+    private List<K> live(List<K> keys) {
+        keys.removeIf(key -> !primaryCache.containsKey(key));
+        return keys;
+    }
+
+    /*
+     * Smallest matching keys in ascending order. With a limit only that many are held at any time, in
+     * a max-heap, so paging through a large keyspace never copies it.
+     */
+    private List<K> scan(Predicate<K> filter, int limit) {
+        Comparator<K> order = KeyOrder.comparator();
+        PriorityQueue<K> smallest = new PriorityQueue<>(order.reversed());
+        List<K> matches = new ArrayList<>();
+        synchronized (this.getPrimaryCache()) {
+            for (K key : this.getPrimaryCache().keySet()) {
+                if (!filter.test(key)) {
+                    continue;
+                }
+                if (limit <= 0) {
+                    matches.add(key);
+                } else if (smallest.size() < limit) {
+                    smallest.add(key);
+                } else if (order.compare(key, smallest.peek()) < 0) {
+                    smallest.poll();
+                    smallest.add(key);
                 }
             }
         }
-        return null;
+        matches.addAll(smallest);
+        matches.sort(order);
+        return matches;
+    }
+
+    private static <K> SecondaryIndex<K>[] newIndexes(int count) {
+        @SuppressWarnings("unchecked")
+        SecondaryIndex<K>[] indexes = (SecondaryIndex<K>[]) new SecondaryIndex<?>[Math.max(0, count)];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = new SecondaryIndex<>();
+        }
+        return indexes;
+    }
+
+    /**
+     * Index at the position, null when the cache has fewer indexes.
+     */
+    protected SecondaryIndex<K> getSecondaryIndex(int index) {
+        SecondaryIndex<K>[] indexes = secondaryIndexes;
+        return index >= 0 && index < indexes.length ? indexes[index] : null;
+    }
+
+    /**
+     * Every primary key carrying the index value, in no particular order.
+     *
+     * Members are confirmed against the reverse index and the primary map, a concurrent re-index or
+     * removal of the same key may leave one behind for a moment and it must not be reported.
+     */
+    public List<K> getKeysBySecondaryKey(int index, Object secondaryKey) {
+        SecondaryIndex<K> secondaryIndex = getSecondaryIndex(index);
+        List<K> keys = secondaryIndex != null ? secondaryIndex.members(secondaryKey) : Collections.emptyList();
+        if (keys.isEmpty()) {
+            return keys;
+        }
+        List<K> live = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            CacheIndexRef ref = reverseIndex.get(key);
+            if (ref != null && secondaryKey.equals(ref.get(index)) && primaryCache.containsKey(key)) {
+                live.add(key);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Looks up the value without recording an access, for housekeeping such as expiry checks.
+     */
+    public V peek(K primaryKey) {
+        return this.getPrimaryCache().get(primaryKey);
+    }
+
+    public V getDefaultImpl(K primaryKey) {
+        synchronized (this) {
+            return this.getPrimaryCache().get(primaryKey);
+        }
+    }
+
+    /**
+     * Value of the key last written with the index value, the read counts as an access to that key.
+     */
+    public V getBySecondaryKey(int index, Object secondaryKey) {
+        SecondaryIndex<K> secondaryIndex = getSecondaryIndex(index);
+        K primaryKey = secondaryIndex != null ? secondaryIndex.lookup(secondaryKey) : null;
+        return primaryKey != null ? get(primaryKey) : null;
+    }
+
+    /**
+     * Shorthand for the first index, idx1 in the default layout.
+     */
+    public V getBySecondaryKeyIndexOne(Object secondaryKey) {
+        return getBySecondaryKey(0, secondaryKey);
+    }
+
+    /**
+     * Shorthand for the second index, idx2 in the default layout.
+     */
+    public V getBySecondaryKeyIndexTwo(Object secondaryKey) {
+        return getBySecondaryKey(1, secondaryKey);
     }
 
     public synchronized boolean containsKey(K key) {
@@ -147,14 +433,22 @@ abstract public class CacheBase<K, V> {
 
     public void clear() {
         synchronized (this.getPrimaryCache()) {
+            // Indexes are dropped as a whole below, listeners still hear of every value
+            if (!removalListeners.isEmpty()) {
+                for (Map.Entry<K, V> entry : this.getPrimaryCache().entrySet()) {
+                    fireRemoval(entry.getKey(), entry.getValue(), RemovalCause.EXPLICIT);
+                }
+            }
             this.getPrimaryCache().clear();
+            OrderedKeyIndex<K> ordered = orderedKeys;
+            if (ordered != null) {
+                ordered.clear();
+            }
         }
-        synchronized (secondaryIndexOne) {
-            this.getSecondaryIndexOne().clear();
-        }
-        synchronized (secondaryIndexTwo) {
-            this.getSecondaryIndexTwo().clear();
+        for (SecondaryIndex<K> index : secondaryIndexes) {
+            index.clear();
         }
+        reverseIndex.clear();
     }
 
     protected Map<K, V> getPrimaryCache() {
@@ -165,33 +459,32 @@ abstract public class CacheBase<K, V> {
         this.primaryCache = primaryCache;
     }
 
-    protected Map<Object, K> getSecondaryIndexOne() {
-        return secondaryIndexOne;
-    }
-
-    protected void setSecondaryIndexOne(Map<Object, K> secondaryIndexOne) {
-        this.secondaryIndexOne = secondaryIndexOne;
-    }
-
-    protected Map<Object, K> getSecondaryIndexTwo() {
-        return secondaryIndexTwo;
-    }
-
-    protected void setSecondaryIndexTwo(Map<Object, K> secondaryIndexTwo) {
-        this.secondaryIndexTwo = secondaryIndexTwo;
-    }
-
     public synchronized Set<K> keySet() {
         return this.getPrimaryCache().keySet();
     }
 
+    /**
+     * Point lookups of the index, index value to the primary key last written with it.
+     */
+    public Map<Object, K> getReadOnlySecondaryIndex(int index) {
+        SecondaryIndex<K> secondaryIndex = getSecondaryIndex(index);
+        return secondaryIndex != null ? secondaryIndex.getReadOnlyLookup() : Collections.emptyMap();
+    }
+
     public Map<Object, K> getReadOnlySecondaryIndexOne() {
-        return Collections.unmodifiableMap(secondaryIndexOne);
+        return getReadOnlySecondaryIndex(0);
     }
 
     public Map<Object, K> getReadOnlySecondaryIndexTwo() {
-        return Collections.unmodifiableMap(secondaryIndexTwo);
+        return getReadOnlySecondaryIndex(1);
     }
 
     public Map<K, CacheIndexRef> getReverseIndex() { return reverseIndex; }
+
+    /**
+     * Tuner choosing the live policy, null unless the cache runs the AUTO policy.
+     */
+    public AutoPolicyTuner getPolicyTuner() {
+        return null;
+    }
 }
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.index.KeyOrder;
+import com.vertexcache.core.cache.index.SecondaryIndex;
+import com.vertexcache.core.cache.model.CacheIndexRef;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.RemovalCause;
+import com.vertexcache.core.cache.tuning.AutoPolicyTuner;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Lock-striped cache that splits the keyspace into independent segments.
+ *
+ * Each segment is a complete CacheBase instance for the configured eviction policy, holding its own
+ * primary map, secondary indexes, reverse index, lock and eviction bookkeeping. A key is routed to
+ * exactly one segment by its spread hash, so operations on keys in different segments never contend
+ * on the same monitor and GET throughput scales with the number of client threads.
+ *
+ * Trade-offs:
+ * - Capacity is divided evenly, each segment evicts against sizeCapacity / segmentCount, so the
+ *   eviction order is per segment rather than global.
+ * - Secondary index lookups probe the segments in turn since the index value does not tell us
+ *   which segment owns the primary key, views keyed by primary key (the reverse index) go straight
+ *   to the key's segment. An indexed SET clears the same index value from the other
+ *   segments so the last writer still wins, matching the unsegmented behaviour. Member lookups
+ *   (all keys of an index value) collect every segment since members may live in any of them.
+ * - Prefix and range lookups run on every segment and merge the sorted results.
+ *
+ * A segment count of 1 is never used, Cache falls back to the plain policy implementation instead.
+ */
+public class CacheSegmented<K, V> extends CacheBase<K, V> {
+
+    public static final int MAX_SEGMENTS = 1 << 10;
+
+    private final CacheBase<K, V>[] segments;
+    private final int segmentMask;
+    private final AtomicInteger evictionCursor = new AtomicInteger();
+
+    public CacheSegmented(EvictionPolicy evictionPolicy, int sizeCapacity, int segmentCount) {
+        this(segmentCount, segmentFactory(evictionPolicy, sizeCapacity), sizeCapacity);
+    }
+
+    private static <K, V> Function<Integer, CacheBase<K, V>> segmentFactory(EvictionPolicy evictionPolicy, int sizeCapacity) {
+        if (evictionPolicy == EvictionPolicy.AUTO) {
+            // One tuner sees the whole key stream, every segment follows its pick
+            AutoPolicyTuner tuner = new AutoPolicyTuner(sizeCapacity);
+            return segmentCapacity -> new CacheAuto<>(segmentCapacity, tuner);
+        }
+        return segmentCapacity -> Cache.createCacheBase(evictionPolicy, segmentCapacity);
+    }
+
+    CacheSegmented(int segmentCount, Function<Integer, CacheBase<K, V>> segmentFactory, int sizeCapacity) {
+        int count = toPowerOfTwo(segmentCount);
+        int perSegmentCapacity = Math.max(1, (int) Math.ceil((double) sizeCapacity / count));
+        @SuppressWarnings("unchecked")
+        CacheBase<K, V>[] segments = (CacheBase<K, V>[]) new CacheBase<?, ?>[count];
+        this.segments = segments;
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = segmentFactory.apply(perSegmentCapacity);
+        }
+        this.segmentMask = count - 1;
+    }
+
+    public static int toPowerOfTwo(int segmentCount) {
+        int count = Math.max(1, Math.min(segmentCount, MAX_SEGMENTS));
+        return count == 1 ? 1 : Integer.highestOneBit(count - 1) << 1;
+    }
+
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    protected CacheBase<K, V> segmentFor(Object key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & segmentMask];
+    }
+
+    @Override
+    public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
+        CacheBase<K, V> owner = segmentFor(primaryKey);
+        if (secondaryKeys.length > 0) {
+            clearForeignIndexes(owner, primaryKey, secondaryKeys);
+        }
+        owner.put(primaryKey, value, secondaryKeys);
+    }
+
+    private void clearForeignIndexes(CacheBase<K, V> owner, K primaryKey, Object... secondaryKeys) {
+        for (CacheBase<K, V> segment : segments) {
+            if (segment == owner) continue;
+            for (int i = 0; i < secondaryKeys.length; i++) {
+                SecondaryIndex<K> index = secondaryKeys[i] != null ? segment.getSecondaryIndex(i) : null;
+                if (index != null) index.yieldLookup(secondaryKeys[i], primaryKey);
+            }
+        }
+    }
+
+    @Override
+    public V get(K primaryKey) {
+        return segmentFor(primaryKey).get(primaryKey);
+    }
+
+    @Override
+    public V peek(K primaryKey) {
+        return segmentFor(primaryKey).peek(primaryKey);
+    }
+
+    @Override
+    public void remove(K primaryKey, RemovalCause cause) {
+        segmentFor(primaryKey).remove(primaryKey, cause);
+    }
+
+    @Override
+    public boolean evictOne() {
+        // Round robin so the memory budget is taken evenly from every segment
+        int start = evictionCursor.getAndIncrement();
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[(start + i) & segmentMask].evictOne()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void addRemovalListener(RemovalListener<K, V> listener) {
+        for (CacheBase<K, V> segment : segments) {
+            segment.addRemovalListener(listener);
+        }
+    }
+
+    @Override
+    public void removeRemovalListener(RemovalListener<K, V> listener) {
+        for (CacheBase<K, V> segment : segments) {
+            segment.removeRemovalListener(listener);
+        }
+    }
+
+    @Override
+    protected void cleanupIndexFor(K key) {
+        segmentFor(key).cleanupIndexFor(key);
+    }
+
+    @Override
+    public void configureIndexes(int count) {
+        super.configureIndexes(count);
+        for (CacheBase<K, V> segment : segments) {
+            segment.configureIndexes(count);
+        }
+    }
+
+    @Override
+    public void setOrderedKeysEnabled(boolean enabled) {
+        for (CacheBase<K, V> segment : segments) {
+            segment.setOrderedKeysEnabled(enabled);
+        }
+    }
+
+    @Override
+    public boolean isOrderedKeysEnabled() {
+        return segments[0].isOrderedKeysEnabled();
+    }
+
+    @Override
+    public List<K> keysWithPrefix(String prefix, int limit) {
+        return merge(segment -> segment.keysWithPrefix(prefix, limit), limit);
+    }
+
+    @Override
+    public List<K> keyRange(K from, K to, int limit) {
+        return merge(segment -> segment.keyRange(from, to, limit), limit);
+    }
+
+    /*
+     * Merges the sorted keys of every segment, each segment only contributes its first limit keys
+     * since none past them can make the overall first limit.
+     */
+    private List<K> merge(Function<CacheBase<K, V>, List<K>> selector, int limit) {
+        List<K> keys = new ArrayList<>();
+        for (CacheBase<K, V> segment : segments) {
+            keys.addAll(selector.apply(segment));
+        }
+        keys.sort(KeyOrder.comparator());
+        return limit > 0 && keys.size() > limit ? new ArrayList<>(keys.subList(0, limit)) : keys;
+    }
+
+    @Override
+    public V getBySecondaryKey(int index, Object secondaryKey) {
+        if (secondaryKey == null) return null;
+        for (CacheBase<K, V> segment : segments) {
+            SecondaryIndex<K> secondaryIndex = segment.getSecondaryIndex(index);
+            K primaryKey = secondaryIndex != null ? secondaryIndex.lookup(secondaryKey) : null;
+            if (primaryKey != null) {
+                return segment.get(primaryKey);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<K> getKeysBySecondaryKey(int index, Object secondaryKey) {
+        List<K> keys = new ArrayList<>();
+        for (CacheBase<K, V> segment : segments) {
+            keys.addAll(segment.getKeysBySecondaryKey(index, secondaryKey));
+        }
+        return keys;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return segmentFor(key).containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        for (CacheBase<K, V> segment : segments) {
+            if (segment.containsValue(value)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (CacheBase<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (CacheBase<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keys = new HashSet<>();
+        for (CacheBase<K, V> segment : segments) {
+            keys.addAll(segment.keySet());
+        }
+        return keys;
+    }
+
+    @Override
+    public Map<Object, K> getReadOnlySecondaryIndex(int index) {
+        return new SegmentedMapView<>(this, false, segment -> {
+            SecondaryIndex<K> secondaryIndex = segment.getSecondaryIndex(index);
+            return secondaryIndex != null ? secondaryIndex.getLookup() : Collections.emptyMap();
+        });
+    }
+
+    @Override
+    public Map<K, CacheIndexRef> getReverseIndex() {
+        return new SegmentedMapView<>(this, true, CacheBase::getReverseIndex);
+    }
+
+    @Override
+    public AutoPolicyTuner getPolicyTuner() {
+        return segments[0].getPolicyTuner();
+    }
+
+    /*
+     * View across the same map of every segment. Lookups and removals go to the key's segment when the
+     * map is keyed by primary key, otherwise they probe the segments in turn. Iteration walks them one
+     * after another without copying.
+     */
+    private static final class SegmentedMapView<K, V, MK, MV> extends AbstractMap<MK, MV> {
+
+        private final CacheSegmented<K, V> owner;
+        private final boolean primaryKeyed;
+        private final Function<CacheBase<K, V>, Map<MK, MV>> selector;
+
+        SegmentedMapView(CacheSegmented<K, V> owner, boolean primaryKeyed, Function<CacheBase<K, V>, Map<MK, MV>> selector) {
+            this.owner = owner;
+            this.primaryKeyed = primaryKeyed;
+            this.selector = selector;
+        }
+
+        @Override
+        public MV get(Object key) {
+            if (key == null) return null;
+            if (primaryKeyed) {
+                return selector.apply(owner.segmentFor(key)).get(key);
+            }
+            for (CacheBase<K, V> segment : owner.segments) {
+                MV value = selector.apply(segment).get(key);
+                if (value != null) return value;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public MV remove(Object key) {
+            if (key == null) return null;
+            if (primaryKeyed) {
+                return selector.apply(owner.segmentFor(key)).remove(key);
+            }
+            MV removed = null;
+            for (CacheBase<K, V> segment : owner.segments) {
+                MV value = selector.apply(segment).remove(key);
+                if (value != null) removed = value;
+            }
+            return removed;
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (CacheBase<K, V> segment : owner.segments) {
+                size += selector.apply(segment).size();
+            }
+            return size;
+        }
+
+        @Override
+        public Set<Entry<MK, MV>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<MK, MV>> iterator() {
+                    return new Iterator<>() {
+                        private int index = 0;
+                        private Iterator<Entry<MK, MV>> current = Collections.emptyIterator();
+
+                        @Override
+                        public boolean hasNext() {
+                            while (!current.hasNext() && index < owner.segments.length) {
+                                current = Collections.unmodifiableMap(selector.apply(owner.segments[index++])).entrySet().iterator();
+                            }
+                            return current.hasNext();
+                        }
+
+                        @Override
+                        public Entry<MK, MV> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            return current.next();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return SegmentedMapView.this.size();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.compression.CompressedValue;
+import com.vertexcache.core.cache.model.TenantKey;
+
+/**
+ * Estimates the heap footprint of a cache entry, used to enforce cache_max_memory.
+ *
+ * The weight of an entry is its key, its value and every secondary index key it is registered under,
+ * plus a fixed overhead for the entry object, the map and policy nodes holding it and one index node per
+ * secondary key. Strings are counted as compact (Latin-1) strings, byte arrays by their length, tenant
+ * keys by their key string (the tenant's string is shared by all its keys), compressed values by their
+ * compressed bytes, any other object by a fixed header size.
+ *
+ * These are estimates, not measurements: they are cheap to compute on every write and close enough to
+ * keep the process within its budget, the true size depends on the JVM and its settings.
+ */
+public final class CacheWeigher {
+
+    static final int ENTRY_OVERHEAD = 128;
+    static final int INDEX_OVERHEAD = 64;
+    static final int STRING_OVERHEAD = 40;
+    static final int ARRAY_OVERHEAD = 16;
+    static final int OBJECT_OVERHEAD = 16;
+
+    private CacheWeigher() {
+    }
+
+    public static int weigh(Object key, Object value, Object... secondaryKeys) {
+        long weight = ENTRY_OVERHEAD + sizeOf(key) + sizeOf(value);
+        if (secondaryKeys != null) {
+            for (Object secondaryKey : secondaryKeys) {
+                if (secondaryKey != null) {
+                    weight += INDEX_OVERHEAD + sizeOf(secondaryKey);
+                }
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    public static long sizeOf(Object object) {
+        if (object == null) {
+            return 0;
+        }
+        if (object instanceof String) {
+            return STRING_OVERHEAD + ((String) object).length();
+        }
+        if (object instanceof TenantKey tenantKey) {
+            return OBJECT_OVERHEAD + sizeOf(tenantKey.getKey());
+        }
+        if (object instanceof byte[]) {
+            return ARRAY_OVERHEAD + ((byte[]) object).length;
+        }
+        if (object instanceof CompressedValue compressed) {
+            return OBJECT_OVERHEAD + ARRAY_OVERHEAD + compressed.getData().length;
+        }
+        return OBJECT_OVERHEAD;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache;
+
+/**
+ * Receives the live entries of a cache, see Cache.forEachEntry.
+ *
+ * expiresAt is the absolute deadline in epoch millis, 0 for an entry that never expires, indexValues
+ * the index values of the entry by position (empty when it has none).
+ */
+@FunctionalInterface
+public interface EntryVisitor<K, V> {
+
+    void visit(K key, V value, long expiresAt, Object[] indexValues);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.model.RemovalCause;
+
+/**
+ * Receives every value leaving a cache together with the cause of its removal.
+ *
+ * Listeners are called synchronously on the thread performing the removal, after the entry left the
+ * primary map and its secondary indexes, and possibly while the policy holds its lock. They must be
+ * quick and must not call back into the same cache. An exception thrown by a listener is logged and
+ * does not stop the removal nor the other listeners.
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+    void onRemoval(K key, V value, RemovalCause cause);
+}
@@ -17,135 +17,305 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
-/*
- * ARC (Adaptive Replacement Cache) is a cache replacement algorithm designed to adapt dynamically to changing access
- * patterns to improve cache hit rates and overall performance. It combines the benefits of both LRU
- * (Least Recently Used) and LFU (Least Frequently Used) cache eviction policies.
- *
- * Cache Structure:
- *  - primaryCache: Represents the main cache where frequently accessed items are stored.
- *  - ghostCache: Acts as a secondary cache for items that were recently accessed but not frequently accessed.
- *  - mainEvict: Contains items that were evicted from the main cache.
- *  - ghostEvict: Holds items that were evicted from the ghost cache.
+/**
+ * ARC (Adaptive Replacement Cache) eviction policy, after Megiddo and Modha, with O(1) access and eviction.
  *
- * Adaptation:
- *   ARC dynamically adjusts the sizes of mainCache and ghostCache based on recent access patterns to optimize cache
- *   performance. It aims to strike a balance between storing frequently accessed items in primaryCache and retaining
- *   recently accessed items in ghostCache.
+ * Lists
+ * -----
+ *  T1: resident keys seen once recently (recency).
+ *  T2: resident keys seen at least twice recently (frequency).
+ *  B1: ghost keys recently evicted from T1, key only, no value.
+ *  B2: ghost keys recently evicted from T2, key only, no value.
  *
- * New Item Insertion (PUT):
- *    When a new item is inserted into the cache, ARC first checks if it already exists in either primaryCache or
- *    ghostCache. If found, no further action is taken. If the cache is full (mainCache + ghostCache size exceeds the
- *    capacity), ARC initiates a replacement process to evict an item from either mainCache or ghostCache based on
- *    predefined rules.
+ * All four are doubly linked lists ordered LRU (head) to MRU (tail), indexed by a single node map, so
+ * every move between them is O(1). T1 + T2 hold at most capacity keys, the whole directory at most
+ * twice that.
  *
- * Cache Hit (GET):
- *    When an item is accessed from the cache (GET operation), ARC first checks if the item exists in either
- *    primaryCache or ghostCache. If found in mainCache, the item is promoted to ghostCache to indicate recent use.
- *    If found in ghostCache, its access frequency is increased, but it remains in ghostCache to maintain its position
- *    as a recently used item.
- *
- * Replacement (REPLACE):
- *   When the cache is full and a replacement is required, ARC selects a victim item from either mainEvict or
- *   ghostEvict based on predefined rules. The selection criteria prioritize evicting items that are less likely to be
- *   accessed again soon, based on both recency and frequency of access.
+ * Adaptation
+ * ----------
+ *  p is the target size of T1. A write of a key found in B1 means T1 was too small and grows p, one
+ *  found in B2 means T2 was too small and shrinks p, in both cases by the ratio of the ghost list sizes
+ *  (at least 1). On replacement the LRU of T1 is demoted to B1 while T1 is above p, otherwise the LRU
+ *  of T2 is demoted to B2. A write of a new key enters T1, a hit or a ghost hit enters T2.
  *
+ * Reads do not take the policy lock. Values are served straight from the concurrent primary map and
+ * the hit is recorded in a lossy ReadBuffer, replayed under the lock by the next writer or by a reader
+ * that finds the buffer full. A ghost key is not resident, so reading it is a plain miss, its ghost hit
+ * is taken into account when the caller writes the key back.
  */
 public class CacheARC<K, V> extends CacheBase<K, V> {
 
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private Map<K, V> ghostCache = Collections.synchronizedMap(new ConcurrentHashMap<K, V>());
-    private Map<K, V> mainEvict = Collections.synchronizedMap(new ConcurrentHashMap<K, V>());
-    private Map<K, V> ghostEvict = Collections.synchronizedMap(new ConcurrentHashMap<K, V>());
-
-    private int sizeCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Node<K>> nodeMap = new HashMap<>();
+    private final ReadBuffer<K> readBuffer = new ReadBuffer<>();
+    private final AccessQueue<K> t1 = new AccessQueue<>();
+    private final AccessQueue<K> t2 = new AccessQueue<>();
+    private final AccessQueue<K> b1 = new AccessQueue<>();
+    private final AccessQueue<K> b2 = new AccessQueue<>();
+    private final int sizeCapacity;
+    private int p;
 
     public CacheARC(int sizeCapacity) {
-        this.sizeCapacity = sizeCapacity;
-        this.setPrimaryCache(Collections.synchronizedMap(new ConcurrentHashMap<K, V>()));
-        this.setSecondaryIndexOne(Collections.synchronizedMap(new ConcurrentHashMap<Object, K>()));
-        this.setSecondaryIndexTwo(Collections.synchronizedMap(new ConcurrentHashMap<Object, K>()));
+        this.sizeCapacity = Math.max(1, sizeCapacity);
     }
 
     @Override
     public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
-        lock.writeLock().lock();
+        lock.lock();
         try {
-            if (this.getPrimaryCache().containsKey(primaryKey) || ghostCache.containsKey(primaryKey)) {
+            drainReadBuffer();
+            Node<K> node = nodeMap.get(primaryKey);
+
+            if (node != null && node.isResident()) {
+                this.putDefaultImpl(primaryKey, value, secondaryKeys);
+                onHit(node);
                 return;
             }
 
-            if (this.getPrimaryCache().size() + ghostCache.size() >= sizeCapacity) {
-                if (this.getPrimaryCache().size() < sizeCapacity) {
-                    replace();
+            if (node != null) {
+                boolean inB2 = node.list == Node.B2;
+                if (inB2) {
+                    p = Math.max(0, p - Math.max(b1.size / b2.size, 1));
                 } else {
-                    if (!this.getPrimaryCache().isEmpty()) {
-                        K keyToEvict = this.getPrimaryCache().keySet().iterator().next();
-                        ghostEvict.put(keyToEvict, this.getPrimaryCache().remove(keyToEvict));
-                        this.cleanupIndexFor(keyToEvict);
-                    } else {
-                        K ghostKey = ghostCache.keySet().iterator().next();
-                        ghostEvict.put(ghostKey, ghostCache.remove(ghostKey));
+                    p = Math.min(sizeCapacity, p + Math.max(b2.size / b1.size, 1));
+                }
+                listOf(node).remove(node);
+                if (t1.size + t2.size >= sizeCapacity) {
+                    replace(inB2);
+                }
+                this.putDefaultImpl(primaryKey, value, secondaryKeys);
+                node.list = Node.T2;
+                t2.addLast(node);
+                return;
+            }
+
+            if (t1.size + b1.size >= sizeCapacity) {
+                if (t1.size < sizeCapacity) {
+                    forget(b1.head);
+                    if (t1.size + t2.size >= sizeCapacity) {
+                        replace(false);
                     }
+                } else {
+                    // T1 alone fills the cache, its LRU is dropped without leaving a ghost
+                    Node<K> victim = t1.head;
+                    t1.remove(victim);
+                    nodeMap.remove(victim.key);
+                    evictValue(victim.key);
+                }
+            } else if (t1.size + t2.size + b1.size + b2.size >= sizeCapacity) {
+                if (t1.size + t2.size + b1.size + b2.size >= 2 * sizeCapacity) {
+                    forget(b2.head);
+                }
+                if (t1.size + t2.size >= sizeCapacity) {
+                    replace(false);
                 }
             }
 
-            this.getPrimaryCache().put(primaryKey, value);
-            this.updateSecondaryKeys(primaryKey, secondaryKeys);
+            this.putDefaultImpl(primaryKey, value, secondaryKeys);
+            node = new Node<>(primaryKey, Node.T1);
+            nodeMap.put(primaryKey, node);
+            t1.addLast(node);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public V get(K key) {
-        lock.writeLock().lock(); // needed because we update ghostCache
+        V value = this.getPrimaryCache().get(key);
+        if (value != null && readBuffer.offer(key) && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void remove(K primaryKey, RemovalCause cause) {
+        lock.lock();
         try {
-            if (this.getPrimaryCache().containsKey(key)) {
-                return this.getPrimaryCache().get(key);
-            } else if (ghostCache.containsKey(key)) {
-                ghostEvict.put(key, ghostCache.remove(key)); // touch for recency
+            drainReadBuffer();
+            Node<K> node = nodeMap.remove(primaryKey);
+            if (node != null) {
+                listOf(node).remove(node);
             }
-            return null;
+            this.removeDefaultImpl(primaryKey, cause);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
-    public void remove(K key) {
-        lock.writeLock().lock();
+    public void clear() {
+        lock.lock();
         try {
-            this.getPrimaryCache().remove(key);
-            ghostCache.remove(key);
-            mainEvict.remove(key);
-            ghostEvict.remove(key);
-            this.cleanupIndexFor(key);
+            drainReadBuffer();
+            super.clear();
+            nodeMap.clear();
+            t1.clear();
+            t2.clear();
+            b1.clear();
+            b2.clear();
+            p = 0;
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
-    private void replace() {
-        lock.writeLock().lock();
+    @Override
+    public boolean evictOne() {
+        lock.lock();
         try {
-            if (!mainEvict.isEmpty()) {
-                K key = mainEvict.keySet().iterator().next();
-                mainEvict.remove(key);
-                this.getPrimaryCache().put(key, null);
-            } else if (!ghostCache.isEmpty()) {
-                K key = ghostEvict.keySet().iterator().next();
-                ghostEvict.remove(key);
-                ghostCache.put(key, null);
+            drainReadBuffer();
+            if (t1.size + t2.size == 0) {
+                return false;
             }
+            replace(false);
+            while (t1.size + t2.size + b1.size + b2.size > 2 * sizeCapacity) {
+                forget(b1.size > b2.size ? b1.head : b2.head);
+            }
+            return true;
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current target size of T1, exposed for inspection and tests.
+     */
+    public int getTargetRecencySize() {
+        lock.lock();
+        try {
+            return p;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(key -> {
+            Node<K> node = nodeMap.get(key);
+            if (node != null && node.isResident()) {
+                onHit(node);
+            }
+        });
+    }
+
+    private void onHit(Node<K> node) {
+        if (node.list == Node.T1) {
+            t1.remove(node);
+            node.list = Node.T2;
+            t2.addLast(node);
+        } else {
+            t2.moveToLast(node);
+        }
+    }
+
+    /*
+     * Demotes one resident key to its ghost list, T1 when it is above its target p (or at it on a B2
+     * ghost hit), T2 otherwise.
+     */
+    private void replace(boolean ghostHitInB2) {
+        Node<K> victim;
+        if (t1.size > 0 && (t1.size > p || (ghostHitInB2 && t1.size == p) || t2.size == 0)) {
+            victim = t1.head;
+            t1.remove(victim);
+            victim.list = Node.B1;
+            b1.addLast(victim);
+        } else {
+            victim = t2.head;
+            t2.remove(victim);
+            victim.list = Node.B2;
+            b2.addLast(victim);
+        }
+        evictValue(victim.key);
+    }
+
+    private void forget(Node<K> ghost) {
+        listOf(ghost).remove(ghost);
+        nodeMap.remove(ghost.key);
+    }
+
+    private void evictValue(K key) {
+        this.removePrimary(key, RemovalCause.EVICTED);
+    }
+
+    private AccessQueue<K> listOf(Node<K> node) {
+        switch (node.list) {
+            case Node.T1: return t1;
+            case Node.T2: return t2;
+            case Node.B1: return b1;
+            default: return b2;
+        }
+    }
+
+    // ==== Internal access ordered lists ====
+
+    private static class Node<K> {
+        static final byte T1 = 0;
+        static final byte T2 = 1;
+        static final byte B1 = 2;
+        static final byte B2 = 3;
+
+        final K key;
+        byte list;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, byte list) {
+            this.key = key;
+            this.list = list;
+        }
+
+        boolean isResident() {
+            return list == T1 || list == T2;
+        }
+    }
+
+    /*
+     * Doubly linked list ordered from least (head) to most (tail) recently used.
+     */
+    private static class AccessQueue<K> {
+        private Node<K> head;
+        private Node<K> tail;
+        private int size;
+
+        void addLast(Node<K> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail != null) tail.next = node;
+            tail = node;
+            if (head == null) head = node;
+            size++;
+        }
+
+        void moveToLast(Node<K> node) {
+            if (node == tail) return;
+            remove(node);
+            addLast(node);
+        }
+
+        void remove(Node<K> node) {
+            if (node.prev != null) node.prev.next = node.next;
+            if (node.next != null) node.next.prev = node.prev;
+            if (node == head) head = node.next;
+            if (node == tail) tail = node.prev;
+            node.prev = node.next = null;
+            size--;
+        }
+
+        void clear() {
+            head = tail = null;
+            size = 0;
         }
     }
 }
@@ -17,134 +17,191 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
-/*
- * Clock algorithm used in the ClockCache efficiently manages the cache by distinguishing between hot and cold items and
- * selectively evicting less recently used items to make room for new entries. It provides a straightforward yet
- * effective approach to cache management, offering good performance in practice. The Clock algorithm, also known as
- * the Second Chance algorithm, is a page replacement algorithm used in computer operating systems and cache management.
- * It is based on the concept of a circular buffer or clock hand, which moves through the cache slots or page frames.
- *
- * Clock Hand:
- *  In the ClockCache, the clock hand (hand) is represented by an integer that tracks the current position in the cache.
- *  The clock hand moves circularly through the cache slots, visiting each slot in a sequential order.
- *
- * Hot and Cold Pages:
- *  Each cache slot is associated with a boolean flag (bit), called the clock bit, which indicates whether the
- *  corresponding item is "hot" (recently used) or "cold" (not recently used). Initially, all clock bits are set to
- *  false, indicating that all items are cold.
- *
- * Adding Items to the Cache (put method):
- *   When a new item is added to the cache, the clock hand moves forward, scanning each slot in the cache. If an empty
- *   slot is encountered, the new item is placed in that slot, and its clock bit is set to true, indicating that it is
- *   hot. If the clock bit of a slot is already true (indicating that the item is hot), the clock bit is reset to false,
- *   and the clock hand continues to move forward.
- *
- * Eviction Process:
- *   If the clock hand encounters a slot with a false clock bit (indicating a cold item), it marks that slot for
- *   eviction. The clock hand continues to move forward until it finds an empty slot or another hot item. If the cache
- *   is full and no empty slots are available, the eviction process stops when the clock hand returns to the original
- *   position. The item marked for eviction is removed from the cache, making room for the new item.
+/**
+ * CLOCK (second chance) eviction policy over a slot array.
  *
- * Replacement Strategy:
- *   The Clock algorithm provides a form of least recently used (LRU) replacement strategy, where cold items are more
- *   likely to be evicted than hot items. By resetting the clock bit of hot items, the algorithm gives them a
- *   "second chance" to be retained in the cache, hence the name "Second Chance algorithm."
+ * Every resident key owns one slot of a fixed-capacity array, its reference bit lives at the same index
+ * of a parallel byte array. A read sets the bit with a single opaque store and no lock. On eviction
+ * the hand sweeps the slots, clearing set bits and evicting the first key whose bit is already clear.
+ * A bit is only cleared once per set, so the hand moves amortized O(1) per eviction and never more than
+ * two rotations. Freed slots go on a free list and are reused before the array grows.
  *
- * Optimizations:
- *   The Clock algorithm provides a balance between simplicity and effectiveness, making it suitable for various cache
- *   management scenarios. Variants such as Clock-Pro introduce additional features for improved performance and
- *   adaptability to different workload patterns.
+ * New keys start with a clear bit, a key is only given a second chance after it has been read or
+ * written again. The arrays start small and double up to the capacity, so a large cache_size does not
+ * allocate its slots up front.
  *
+ * Structural changes (put of a new key, remove, eviction) run under one lock per instance.
  */
 public class CacheClock<K, V> extends CacheBase<K, V> {
 
-    private final List<K> keyRing = new ArrayList<>();
-    private int sizeCapacity;
-    private Map<K, Boolean> clockBits = new HashMap<>();
-    private final ReentrantReadWriteLock lock;
+    private static final int INITIAL_SLOTS = 1024;
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Integer> slotIndex = new ConcurrentHashMap<>();
+    private final int sizeCapacity;
+
+    private Object[] keys;
+    private volatile byte[] referenced;
+    private int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
     private int hand;
 
     public CacheClock(int sizeCapacity) {
-        this.sizeCapacity = sizeCapacity;
-        this.setPrimaryCache(new ConcurrentHashMap<>());
-        this.clockBits = new HashMap<>();
-        this.lock = new ReentrantReadWriteLock();
-        this.setSecondaryIndexOne(new ConcurrentHashMap<>());
-        this.setSecondaryIndexTwo(new ConcurrentHashMap<>());
-        this.hand = 0;
+        this.sizeCapacity = Math.max(1, sizeCapacity);
+        int initial = Math.min(this.sizeCapacity, INITIAL_SLOTS);
+        this.keys = new Object[initial];
+        this.referenced = new byte[initial];
+        this.freeSlots = new int[initial];
     }
 
     @Override
     public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
-        lock.writeLock().lock();
+        lock.lock();
         try {
-            if (this.getPrimaryCache().containsKey(primaryKey)) {
-                // Update existing key; refresh value only
-                this.getPrimaryCache().put(primaryKey, value);
+            Integer slot = slotIndex.get(primaryKey);
+            if (slot != null) {
+                this.putDefaultImpl(primaryKey, value, secondaryKeys);
+                BITS.setOpaque(referenced, (int) slot, (byte) 1);
                 return;
             }
 
-            // Eviction check
-
-            if (this.getPrimaryCache().size() >= this.sizeCapacity) {
-                int attempts = 0;
-                while (attempts < sizeCapacity * 2) {
-                    if (keyRing.isEmpty()) {
-                        throw new VertexCacheTypeException("Clock put() failed: keyRing unexpectedly empty.");
-                    }
-
-                    K candidateKey = keyRing.get(hand);
-                    Boolean bit = clockBits.getOrDefault(candidateKey, false);
-
-                    if (!bit) {
-                        this.getPrimaryCache().remove(candidateKey);
-                        this.cleanupIndexFor(candidateKey);
-                        clockBits.remove(candidateKey);
-                        keyRing.remove(hand);
-                        if (hand >= keyRing.size()) hand = 0;
-                        break;
-                    } else {
-                        clockBits.put(candidateKey, false);
-                        hand = (hand + 1) % keyRing.size();
-                    }
-                    attempts++;
-                }
-
-                if (attempts >= sizeCapacity * 2) {
-                    throw new VertexCacheTypeException("Clock put() failed to find eviction candidate after full rotation.");
-                }
+            if (slotIndex.size() >= sizeCapacity) {
+                sweep();
             }
 
-            keyRing.add(primaryKey);
-            clockBits.put(primaryKey, true);
+            int free = allocateSlot();
+            keys[free] = primaryKey;
+            BITS.setOpaque(referenced, free, (byte) 0);
+            slotIndex.put(primaryKey, free);
             this.putDefaultImpl(primaryKey, value, secondaryKeys);
-
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public V get(K primaryKey) {
-        return this.getDefaultImpl(primaryKey);
+        V value = this.getPrimaryCache().get(primaryKey);
+        if (value != null) {
+            Integer slot = slotIndex.get(primaryKey);
+            byte[] bits = referenced;
+            // The slot may have been reused or the array grown meanwhile, a lost or stray bit is harmless
+            if (slot != null && slot < bits.length) {
+                BITS.setOpaque(bits, (int) slot, (byte) 1);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void remove(K primaryKey, RemovalCause cause) {
+        lock.lock();
+        try {
+            Integer slot = slotIndex.remove(primaryKey);
+            if (slot != null) {
+                releaseSlot(slot);
+            }
+            this.removeDefaultImpl(primaryKey, cause);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            super.clear();
+            slotIndex.clear();
+            int initial = Math.min(sizeCapacity, INITIAL_SLOTS);
+            keys = new Object[initial];
+            referenced = new byte[initial];
+            freeSlots = new int[initial];
+            freeCount = 0;
+            usedSlots = 0;
+            hand = 0;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    public void remove(K primaryKey) {
-        lock.writeLock().lock();
+    public boolean evictOne() {
+        lock.lock();
         try {
-            this.getPrimaryCache().remove(primaryKey);
-            this.cleanupIndexFor(primaryKey);
+            if (slotIndex.isEmpty()) {
+                return false;
+            }
+            sweep();
+            return true;
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
-}
\ No newline at end of file
+
+    /*
+     * Advances the hand, clearing reference bits, until it evicts a key. Caller holds the lock and
+     * guarantees at least one slot is in use.
+     */
+    @SuppressWarnings("unchecked")
+    private void sweep() {
+        byte[] bits = referenced;
+        while (true) {
+            if (hand >= usedSlots) {
+                hand = 0;
+            }
+            int slot = hand++;
+            K key = (K) keys[slot];
+            if (key == null) {
+                continue;
+            }
+            if ((byte) BITS.getOpaque(bits, slot) != 0) {
+                BITS.setOpaque(bits, slot, (byte) 0);
+                continue;
+            }
+            slotIndex.remove(key);
+            releaseSlot(slot);
+            this.removePrimary(key, RemovalCause.EVICTED);
+            return;
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (usedSlots == keys.length) {
+            grow();
+        }
+        return usedSlots++;
+    }
+
+    private void releaseSlot(int slot) {
+        keys[slot] = null;
+        BITS.setOpaque(referenced, slot, (byte) 0);
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow() {
+        int length = (int) Math.min((long) keys.length << 1, sizeCapacity);
+        Object[] grownKeys = new Object[length];
+        byte[] grownBits = new byte[length];
+        int[] grownFree = new int[length];
+        System.arraycopy(keys, 0, grownKeys, 0, keys.length);
+        System.arraycopy(referenced, 0, grownBits, 0, keys.length);
+        System.arraycopy(freeSlots, 0, grownFree, 0, freeCount);
+        keys = grownKeys;
+        referenced = grownBits;
+        freeSlots = grownFree;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.algos;
+
+import com.vertexcache.core.cache.CacheBase;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CLOCK-Pro eviction policy (Jiang, Chen and Zhang), a scan resistant CLOCK that approximates LIRS.
+ *
+ * Keys live on one circular list and are either hot (resident, proven reuse), cold (resident, on trial)
+ * or test (non-resident ghost of a recently evicted cold key, no value). Three hands walk the list:
+ *
+ *  hand cold: evicts the value of an unreferenced cold key, leaving it behind as a test key, and
+ *             promotes a referenced cold key to hot.
+ *  hand hot:  demotes an unreferenced hot key to cold, clearing reference bits on the way. It runs
+ *             whenever the hot keys exceed capacity minus the cold target.
+ *  hand test: drops test keys, at most capacity of them are remembered.
+ *
+ * Writing a key back while it is still a test key means its reuse distance was just above what the cold
+ * area could hold, so it comes back hot and the cold target grows. A test key expiring unused shrinks
+ * the cold target. A one-off scan only ever cycles through the cold area and leaves the hot keys alone.
+ *
+ * As in common CLOCK-Pro implementations, a cold key's test period is its time on the list, it is not
+ * tracked separately. Reads do not take the lock: they set the reference bit of the key's node, looked
+ * up in a concurrent map. Structural changes and the hands run under one lock per instance.
+ */
+public class CacheClockPro<K, V> extends CacheBase<K, V> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Node<K>> nodeMap = new ConcurrentHashMap<>();
+    private final int sizeCapacity;
+
+    private Node<K> handHot;
+    private Node<K> handCold;
+    private Node<K> handTest;
+    private int hotCount;
+    private int coldCount;
+    private int testCount;
+    private int coldTarget;
+
+    public CacheClockPro(int sizeCapacity) {
+        this.sizeCapacity = Math.max(1, sizeCapacity);
+        this.coldTarget = this.sizeCapacity;
+    }
+
+    @Override
+    public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
+        lock.lock();
+        try {
+            Node<K> node = nodeMap.get(primaryKey);
+            if (node != null && node.type != Node.TEST) {
+                this.putDefaultImpl(primaryKey, value, secondaryKeys);
+                node.referenced = true;
+                return;
+            }
+
+            if (node != null) {
+                // Reused within its test period, bring it back hot and make room for more cold keys
+                coldTarget = Math.min(sizeCapacity, coldTarget + 1);
+                unlink(node);
+                testCount--;
+                makeRoom();
+                node.type = Node.HOT;
+                node.referenced = false;
+                hotCount++;
+            } else {
+                makeRoom();
+                node = new Node<>(primaryKey, Node.COLD);
+                coldCount++;
+            }
+
+            this.putDefaultImpl(primaryKey, value, secondaryKeys);
+            nodeMap.put(primaryKey, node);
+            link(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V get(K primaryKey) {
+        V value = this.getPrimaryCache().get(primaryKey);
+        if (value != null) {
+            Node<K> node = nodeMap.get(primaryKey);
+            if (node != null) {
+                node.referenced = true;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void remove(K primaryKey, RemovalCause cause) {
+        lock.lock();
+        try {
+            Node<K> node = nodeMap.remove(primaryKey);
+            if (node != null) {
+                unlink(node);
+                countDown(node);
+            }
+            this.removeDefaultImpl(primaryKey, cause);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            super.clear();
+            nodeMap.clear();
+            handHot = handCold = handTest = null;
+            hotCount = coldCount = testCount = 0;
+            coldTarget = sizeCapacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean evictOne() {
+        lock.lock();
+        try {
+            int resident = hotCount + coldCount;
+            if (resident == 0) {
+                return false;
+            }
+            while (hotCount + coldCount >= resident) {
+                advance();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current target number of cold resident keys, exposed for inspection and tests.
+     */
+    public int getColdTarget() {
+        lock.lock();
+        try {
+            return coldTarget;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void makeRoom() {
+        while (hotCount + coldCount >= sizeCapacity) {
+            advance();
+        }
+    }
+
+    /*
+     * One eviction step, runs the hot hand directly when no cold key is left for the cold hand.
+     */
+    private void advance() {
+        if (coldCount == 0) {
+            runHandHot();
+        } else {
+            runHandCold();
+        }
+    }
+
+    private void runHandCold() {
+        Node<K> node = handCold;
+        if (node == null) {
+            return;
+        }
+        handCold = node.next;
+        if (node.type == Node.COLD) {
+            coldCount--;
+            if (node.referenced) {
+                node.type = Node.HOT;
+                node.referenced = false;
+                hotCount++;
+            } else {
+                node.type = Node.TEST;
+                testCount++;
+                this.removePrimary(node.key, RemovalCause.EVICTED);
+                while (testCount > sizeCapacity) {
+                    runHandTest();
+                }
+            }
+        }
+        while (hotCount > sizeCapacity - coldTarget) {
+            runHandHot();
+        }
+    }
+
+    private void runHandHot() {
+        if (handHot == handTest) {
+            runHandTest();
+        }
+        Node<K> node = handHot;
+        if (node == null) {
+            return;
+        }
+        handHot = node.next;
+        if (node.type == Node.HOT) {
+            if (node.referenced) {
+                node.referenced = false;
+            } else {
+                node.type = Node.COLD;
+                hotCount--;
+                coldCount++;
+            }
+        }
+    }
+
+    private void runHandTest() {
+        if (handTest == handCold) {
+            runHandCold();
+        }
+        Node<K> node = handTest;
+        if (node == null) {
+            return;
+        }
+        handTest = node.next;
+        if (node.type == Node.TEST) {
+            nodeMap.remove(node.key);
+            unlink(node);
+            testCount--;
+            if (coldTarget > 1) {
+                coldTarget--;
+            }
+        }
+    }
+
+    private void countDown(Node<K> node) {
+        switch (node.type) {
+            case Node.HOT: hotCount--; break;
+            case Node.COLD: coldCount--; break;
+            default: testCount--; break;
+        }
+    }
+
+    /*
+     * Inserts the node at the list head, right behind the hot hand, so every hand reaches it last.
+     */
+    private void link(Node<K> node) {
+        if (handHot == null) {
+            node.prev = node.next = node;
+            handHot = handCold = handTest = node;
+            return;
+        }
+        Node<K> tail = handHot.prev;
+        node.prev = tail;
+        node.next = handHot;
+        tail.next = node;
+        handHot.prev = node;
+    }
+
+    private void unlink(Node<K> node) {
+        Node<K> next = node.next == node ? null : node.next;
+        if (handHot == node) handHot = next;
+        if (handCold == node) handCold = next;
+        if (handTest == node) handTest = next;
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = node.next = node;
+    }
+
+    // ==== Internal clock list ====
+
+    private static class Node<K> {
+        static final byte HOT = 0;
+        static final byte COLD = 1;
+        static final byte TEST = 2;
+
+        final K key;
+        byte type;
+        volatile boolean referenced;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, byte type) {
+            this.key = key;
+            this.type = type;
+        }
+    }
+}
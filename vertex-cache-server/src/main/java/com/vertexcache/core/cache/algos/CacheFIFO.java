@@ -17,6 +17,7 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -49,11 +50,13 @@ public class CacheFIFO<K, V> extends CacheBase<K, V> {
         this.setPrimaryCache(Collections.synchronizedMap(new LinkedHashMap<>(sizeCapacity, LOAD_FACTOR, false) {
             @Override
             protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > sizeCapacity;
+                if (size() > sizeCapacity) {
+                    notifyRemoved(eldest.getKey(), eldest.getValue(), RemovalCause.EVICTED);
+                    return true;
+                }
+                return false;
             }
         }));
-        this.setSecondaryIndexOne(Collections.synchronizedMap(new LinkedHashMap<>(sizeCapacity, LOAD_FACTOR, false)));
-        this.setSecondaryIndexTwo(Collections.synchronizedMap(new LinkedHashMap<>(sizeCapacity, LOAD_FACTOR, false)));
     }
 
     @Override
@@ -67,8 +70,13 @@ public class CacheFIFO<K, V> extends CacheBase<K, V> {
     }
 
     @Override
-    public void remove(K primaryKey) {
-        this.removeDefaultImpl(primaryKey);
+    public void remove(K primaryKey, RemovalCause cause) {
+        this.removeDefaultImpl(primaryKey, cause);
+    }
+
+    @Override
+    public boolean evictOne() {
+        return this.evictEldest();
     }
 
 
@@ -17,82 +17,215 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * LFU (Least Frequently Used) eviction policy with O(1) access and eviction.
+ *
+ * Keys are kept in frequency buckets, a doubly-linked list of frequency nodes in ascending order where
+ * each node holds the keys seen exactly that many times, oldest first. A hit moves the key to the next
+ * bucket (creating it if needed) and the victim is always the oldest key of the first bucket, so
+ * neither access nor eviction ever scans the cache. Ties within a frequency are broken by recency.
+ *
+ * Reads do not take the policy lock. Values are served straight from the concurrent primary map and
+ * the frequency bump is recorded in a lossy ReadBuffer, which is replayed under the lock by the next
+ * writer or by a reader that finds the buffer full. Under heavy contention a few bumps may be dropped,
+ * which only slightly blurs the frequency estimate.
+ */
 public class CacheLFU <K, V> extends CacheBase<K, V> {
 
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Map<K, Integer> frequencyMap;
-    private int sizeCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, KeyNode<K>> keyMap = new HashMap<>();
+    private final ReadBuffer<K> readBuffer = new ReadBuffer<>();
+    private final FrequencyNode<K> frequencyHead = new FrequencyNode<>(0);
+    private final int sizeCapacity;
 
     public CacheLFU(int sizeCapacity) {
         this.sizeCapacity = sizeCapacity;
-        this.setPrimaryCache(Collections.synchronizedMap(new LinkedHashMap<>(sizeCapacity, 0.75f, true)));
-        this.frequencyMap = Collections.synchronizedMap(new LinkedHashMap<>(sizeCapacity, 0.75f, true));
-        this.setSecondaryIndexOne(Collections.synchronizedMap(new LinkedHashMap<>(sizeCapacity, 0.75f, true)));
-        this.setSecondaryIndexTwo(Collections.synchronizedMap(new LinkedHashMap<>(sizeCapacity, 0.75f, true)));
+        frequencyHead.prev = frequencyHead;
+        frequencyHead.next = frequencyHead;
     }
 
     @Override
     public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
-        lock.writeLock().lock();
+        lock.lock();
         try {
-            if (secondaryKeys.length > MAX_SECONDARY_INDEXES) {
-                throw new VertexCacheTypeException("Too many secondary indexes, maximum 2 allowed.");
+            drainReadBuffer();
+            this.putDefaultImpl(primaryKey, value, secondaryKeys);
+
+            KeyNode<K> node = keyMap.get(primaryKey);
+            if (node != null) {
+                increment(node);
+                return;
+            }
+
+            if (keyMap.size() >= sizeCapacity) {
+                evict();
             }
-            this.getPrimaryCache().put(primaryKey, value);
-            frequencyMap.put(primaryKey, frequencyMap.getOrDefault(primaryKey, 0) + 1);
-            this.updateSecondaryKeys(primaryKey, secondaryKeys);
-            evictIfNecessary();
-        } catch (OutOfMemoryError e) {
-            throw new VertexCacheTypeException("Out of memory, increase memory or use eviction policy other than none.");
+
+            node = new KeyNode<>(primaryKey);
+            keyMap.put(primaryKey, node);
+            FrequencyNode<K> first = frequencyHead.next;
+            if (first.frequency != 1) {
+                first = insertAfter(frequencyHead, 1);
+            }
+            first.addLast(node);
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
     @Override
-    public void remove(K primaryKey) {
-        this.removeDefaultImpl(primaryKey);
+    public void remove(K primaryKey, RemovalCause cause) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            KeyNode<K> node = keyMap.remove(primaryKey);
+            if (node != null) {
+                unlink(node);
+            }
+            this.removeDefaultImpl(primaryKey, cause);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public V get(K key) {
-        lock.writeLock().lock(); // because it mutates frequencyMap
-        try {
-            V value = this.getPrimaryCache().get(key);
-            if (value != null) {
-                frequencyMap.put(key, frequencyMap.getOrDefault(key, 0) + 1);
+        V value = this.getPrimaryCache().get(key);
+        if (value != null && readBuffer.offer(key) && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
             }
-            return value;
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            super.clear();
+            keyMap.clear();
+            frequencyHead.prev = frequencyHead;
+            frequencyHead.next = frequencyHead;
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
     }
 
-    private void evictIfNecessary() {
-        synchronized (this.getPrimaryCache()) {
-            if (this.getPrimaryCache().size() > sizeCapacity) {
-                K leastFrequentKey = null;
-                int minFrequency = Integer.MAX_VALUE;
-
-                for (Map.Entry<K, Integer> entry : frequencyMap.entrySet()) {
-                    if (entry.getValue() < minFrequency) {
-                        minFrequency = entry.getValue();
-                        leastFrequentKey = entry.getKey();
-                    }
-                }
-
-                if (leastFrequentKey != null) {
-                    this.getPrimaryCache().remove(leastFrequentKey);
-                    this.cleanupIndexFor(leastFrequentKey);
-                    frequencyMap.remove(leastFrequentKey);
-                }
+    private void drainReadBuffer() {
+        readBuffer.drainTo(key -> {
+            KeyNode<K> node = keyMap.get(key);
+            if (node != null) {
+                increment(node);
             }
+        });
+    }
+
+    private void increment(KeyNode<K> node) {
+        FrequencyNode<K> current = node.parent;
+        FrequencyNode<K> next = current.next;
+        if (next == frequencyHead || next.frequency != current.frequency + 1) {
+            next = insertAfter(current, current.frequency + 1);
+        }
+        unlink(node);
+        next.addLast(node);
+    }
+
+    @Override
+    public boolean evictOne() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            return evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean evict() {
+        FrequencyNode<K> first = frequencyHead.next;
+        if (first == frequencyHead) {
+            return false;
+        }
+        KeyNode<K> victim = first.head;
+        unlink(victim);
+        keyMap.remove(victim.key);
+        this.removePrimary(victim.key, RemovalCause.EVICTED);
+        return true;
+    }
+
+    /*
+     * Detaches the key from its bucket, dropping the bucket once it is empty.
+     */
+    private void unlink(KeyNode<K> node) {
+        FrequencyNode<K> parent = node.parent;
+        parent.remove(node);
+        if (parent.head == null) {
+            parent.prev.next = parent.next;
+            parent.next.prev = parent.prev;
+        }
+    }
+
+    private FrequencyNode<K> insertAfter(FrequencyNode<K> previous, int frequency) {
+        FrequencyNode<K> node = new FrequencyNode<>(frequency);
+        node.prev = previous;
+        node.next = previous.next;
+        previous.next.prev = node;
+        previous.next = node;
+        return node;
+    }
+
+    // ==== Internal frequency buckets ====
+
+    private static class KeyNode<K> {
+        final K key;
+        FrequencyNode<K> parent;
+        KeyNode<K> prev;
+        KeyNode<K> next;
+
+        KeyNode(K key) {
+            this.key = key;
+        }
+    }
+
+    /*
+     * One bucket per distinct frequency, keys ordered oldest (head) to newest (tail).
+     */
+    private static class FrequencyNode<K> {
+        final int frequency;
+        FrequencyNode<K> prev;
+        FrequencyNode<K> next;
+        KeyNode<K> head;
+        KeyNode<K> tail;
+
+        FrequencyNode(int frequency) {
+            this.frequency = frequency;
+        }
+
+        void addLast(KeyNode<K> node) {
+            node.parent = this;
+            node.prev = tail;
+            node.next = null;
+            if (tail != null) tail.next = node;
+            tail = node;
+            if (head == null) head = node;
+        }
+
+        void remove(KeyNode<K> node) {
+            if (node.prev != null) node.prev.next = node.next;
+            if (node.next != null) node.next.prev = node.prev;
+            if (node == head) head = node.next;
+            if (node == tail) tail = node.prev;
+            node.prev = node.next = null;
         }
     }
 }
@@ -17,6 +17,7 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 import org.apache.commons.collections4.map.LRUMap;
 
 import java.util.Collections;
@@ -37,9 +38,13 @@ import java.util.Collections;
 public class CacheLRU<K, V> extends CacheBase<K, V> {
 
     public CacheLRU(int sizeCapacity) {
-        this.setPrimaryCache(Collections.synchronizedMap(new LRUMap<>(sizeCapacity)));
-        this.setSecondaryIndexOne(Collections.synchronizedMap(new LRUMap<>(sizeCapacity)));
-        this.setSecondaryIndexTwo(Collections.synchronizedMap(new LRUMap<>(sizeCapacity)));
+        this.setPrimaryCache(Collections.synchronizedMap(new LRUMap<K, V>(sizeCapacity) {
+            @Override
+            protected boolean removeLRU(LinkEntry<K, V> entry) {
+                notifyRemoved(entry.getKey(), entry.getValue(), RemovalCause.EVICTED);
+                return true;
+            }
+        }));
     }
 
     @Override
@@ -53,8 +58,13 @@ public class CacheLRU<K, V> extends CacheBase<K, V> {
     }
 
     @Override
-    public void remove(K primaryKey) {
-        this.removeDefaultImpl(primaryKey);
+    public void remove(K primaryKey, RemovalCause cause) {
+        this.removeDefaultImpl(primaryKey, cause);
+    }
+
+    @Override
+    public boolean evictOne() {
+        return this.evictEldest();
     }
 
 
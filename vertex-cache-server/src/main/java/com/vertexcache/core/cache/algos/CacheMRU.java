@@ -17,6 +17,7 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -44,13 +45,7 @@ public class CacheMRU<K, V> extends CacheBase<K, V> {
         lock.writeLock().lock();
         try {
             if (this.getPrimaryCache().size() >= this.sizeCapacity) {
-                K mruKey = accessList.getHeadKey();
-                if (mruKey != null) {
-                    this.getPrimaryCache().remove(mruKey);
-                    this.cleanupIndexFor(mruKey);
-                    accessList.removeHead();
-                    nodeMap.remove(mruKey);
-                }
+                evictMostRecent();
             }
 
             boolean isUpdate = this.containsKey(primaryKey);
@@ -89,10 +84,10 @@ public class CacheMRU<K, V> extends CacheBase<K, V> {
     }
 
     @Override
-    public void remove(K primaryKey) {
+    public void remove(K primaryKey, RemovalCause cause) {
         lock.writeLock().lock();
         try {
-            this.removeDefaultImpl(primaryKey);
+            this.removeDefaultImpl(primaryKey, cause);
             Node<K> node = nodeMap.remove(primaryKey);
             if (node != null) {
                 accessList.remove(node);
@@ -103,45 +98,24 @@ public class CacheMRU<K, V> extends CacheBase<K, V> {
     }
 
     @Override
-    public V getBySecondaryKeyIndexOne(Object secondaryKey) {
+    public boolean evictOne() {
         lock.writeLock().lock();
         try {
-            if (secondaryKey != null && this.getSecondaryIndexOne().containsKey(secondaryKey)) {
-                K key = this.getSecondaryIndexOne().get(secondaryKey);
-                V value = this.getPrimaryCache().get(key);
-                if (value != null) {
-                    Node<K> node = nodeMap.get(key);
-                    if (node != null) {
-                        accessList.moveToFront(node);
-                    }
-                }
-                return value;
-            }
-            return null;
+            return evictMostRecent();
         } finally {
             lock.writeLock().unlock();
         }
     }
 
-    @Override
-    public V getBySecondaryKeyIndexTwo(Object secondaryKey) {
-        lock.writeLock().lock();
-        try {
-            if (secondaryKey != null && this.getSecondaryIndexTwo().containsKey(secondaryKey)) {
-                K key = this.getSecondaryIndexTwo().get(secondaryKey);
-                V value = this.getPrimaryCache().get(key);
-                if (value != null) {
-                    Node<K> node = nodeMap.get(key);
-                    if (node != null) {
-                        accessList.moveToFront(node);
-                    }
-                }
-                return value;
-            }
-            return null;
-        } finally {
-            lock.writeLock().unlock();
+    private boolean evictMostRecent() {
+        K mruKey = accessList.getHeadKey();
+        if (mruKey == null) {
+            return false;
         }
+        this.removePrimary(mruKey, RemovalCause.EVICTED);
+        accessList.removeHead();
+        nodeMap.remove(mruKey);
+        return true;
     }
 
     // ==== Internal Doubly Linked List ====
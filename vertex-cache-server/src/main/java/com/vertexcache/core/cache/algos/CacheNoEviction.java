@@ -17,6 +17,7 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
 /*
  * A simple cache strategy that performs no automatic eviction.
@@ -50,7 +51,7 @@ public class CacheNoEviction<K, V> extends CacheBase<K, V> {
     }
 
     @Override
-    public void remove(K primaryKey) {
-        this.removeDefaultImpl(primaryKey);
+    public void remove(K primaryKey, RemovalCause cause) {
+        this.removeDefaultImpl(primaryKey, cause);
     }
 }
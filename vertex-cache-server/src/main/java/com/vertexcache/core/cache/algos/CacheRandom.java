@@ -17,6 +17,7 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -41,8 +42,6 @@ public class CacheRandom<K, V> extends CacheBase<K, V> {
     public CacheRandom(int sizeCapacity) {
         this.sizeCapacity = sizeCapacity;
         this.setPrimaryCache(new ConcurrentHashMap<>());
-        this.setSecondaryIndexOne(new ConcurrentHashMap<>());
-        this.setSecondaryIndexTwo(new ConcurrentHashMap<>());
         this.random = new Random();
 
         this.keyList = new ArrayList<>(sizeCapacity);
@@ -70,6 +69,20 @@ public class CacheRandom<K, V> extends CacheBase<K, V> {
         }
     }
 
+    @Override
+    public boolean evictOne() {
+        lock.writeLock().lock();
+        try {
+            if (keyList.isEmpty()) {
+                return false;
+            }
+            evictRandom();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     private void evictRandom() {
         if (keyList.isEmpty()) return;
 
@@ -77,8 +90,7 @@ public class CacheRandom<K, V> extends CacheBase<K, V> {
         K keyToRemove = keyList.get(index);
 
         // Remove from map and indexes
-        this.getPrimaryCache().remove(keyToRemove);
-        this.cleanupIndexFor(keyToRemove);
+        this.removePrimary(keyToRemove, RemovalCause.EVICTED);
 
         // Swap with last element in list and pop
         int lastIndex = keyList.size() - 1;
@@ -103,12 +115,10 @@ public class CacheRandom<K, V> extends CacheBase<K, V> {
     }
 
     @Override
-    public void remove(K primaryKey) {
+    public void remove(K primaryKey, RemovalCause cause) {
         lock.writeLock().lock();
         try {
-            if (this.getPrimaryCache().remove(primaryKey) != null) {
-                this.cleanupIndexFor(primaryKey);
-
+            if (this.removePrimary(primaryKey, cause) != null) {
                 Integer index = keyIndexMap.remove(primaryKey);
                 if (index != null && index < keyList.size()) {
                     int lastIndex = keyList.size() - 1;
@@ -17,6 +17,7 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -83,15 +84,18 @@ public class CacheTinyLFU<K, V> extends CacheBase<K, V> {
         this.sizeCapacity = sizeCapacity;
         this.lruCache = new LinkedHashMap<>(sizeCapacity, 0.75f, true) {
             protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > sizeCapacity;
+                if (size() > sizeCapacity) {
+                    lruQueue.remove(eldest.getKey());
+                    removePrimary(eldest.getKey(), RemovalCause.EVICTED);
+                    return true;
+                }
+                return false;
             }
         };
         this.lfuCache = new ConcurrentHashMap<>();
         this.frequencySketch = new CountMinSketch<>(4, 1000); // 4 hash functions, 1000 buckets
         this.lruQueue = new LinkedList<>();
         this.lock = new ReentrantReadWriteLock();
-        this.setSecondaryIndexOne(new ConcurrentHashMap<>());
-        this.setSecondaryIndexTwo(new ConcurrentHashMap<>());
     }
 
     @Override
@@ -111,7 +115,7 @@ public class CacheTinyLFU<K, V> extends CacheBase<K, V> {
                 K victim = selectLFUEvictionCandidate();
                 if (victim != null) {
                     lfuCache.remove(victim);
-                    cleanupIndexFor(victim);
+                    removePrimary(victim, RemovalCause.EVICTED);
                 }
             }
 
@@ -123,7 +127,7 @@ public class CacheTinyLFU<K, V> extends CacheBase<K, V> {
             frequencySketch.add(primaryKey);
 
             // Store in primary cache
-            getPrimaryCache().put(primaryKey, value);
+            putPrimary(primaryKey, value);
 
             // Indexing
             updateSecondaryKeys(primaryKey, secondaryKeys);
@@ -134,7 +138,8 @@ public class CacheTinyLFU<K, V> extends CacheBase<K, V> {
 
     @Override
     public V get(K key) {
-        lock.readLock().lock();
+        // Write lock, a hit in the LFU segment promotes the key and a read lock cannot be upgraded
+        lock.writeLock().lock();
         try {
             V value = lruCache.get(key);
             if (value != null) {
@@ -147,19 +152,40 @@ public class CacheTinyLFU<K, V> extends CacheBase<K, V> {
             }
             return value;
         } finally {
-            lock.readLock().unlock();
+            lock.writeLock().unlock();
         }
     }
 
     @Override
-    public void remove(K key) {
+    public void remove(K key, RemovalCause cause) {
         lock.writeLock().lock();
         try {
             lruCache.remove(key);
             lruQueue.remove(key);
             lfuCache.remove(key);
-            getPrimaryCache().remove(key);
-            cleanupIndexFor(key);
+            removePrimary(key, cause);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean evictOne() {
+        lock.writeLock().lock();
+        try {
+            K victim = lruQueue.peekFirst();
+            if (victim == null) {
+                victim = selectLFUEvictionCandidate();
+            }
+            if (victim == null) {
+                Iterator<K> keys = this.getPrimaryCache().keySet().iterator();
+                victim = keys.hasNext() ? keys.next() : null;
+            }
+            if (victim == null) {
+                return false;
+            }
+            remove(victim, RemovalCause.EVICTED);
+            return true;
         } finally {
             lock.writeLock().unlock();
         }
@@ -186,7 +212,7 @@ public class CacheTinyLFU<K, V> extends CacheBase<K, V> {
         }
         K keyToRemove = lruQueue.removeFirst();
         lruCache.remove(keyToRemove);
-        this.cleanupIndexFor(keyToRemove);
+        this.removePrimary(keyToRemove, RemovalCause.EVICTED);
     }
 
     private void promoteToLRU(K key, V value) {
@@ -17,6 +17,7 @@ package com.vertexcache.core.cache.algos;
 
 import com.vertexcache.core.cache.CacheBase;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
 
 import java.util.*;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -59,8 +60,6 @@ public class CacheTwoQueues<K, V> extends CacheBase<K, V> {
         this.inQueue = Collections.synchronizedMap(new LinkedHashMap<>());
         this.outQueue = Collections.synchronizedMap(new LinkedHashMap<>());
         this.setPrimaryCache(Collections.synchronizedMap(new HashMap<>()));
-        this.setSecondaryIndexOne(Collections.synchronizedMap(new HashMap<>()));
-        this.setSecondaryIndexTwo(Collections.synchronizedMap(new HashMap<>()));
     }
 
     @Override
@@ -70,30 +69,15 @@ public class CacheTwoQueues<K, V> extends CacheBase<K, V> {
             if (this.getPrimaryCache().containsKey(primaryKey)) {
                 inQueue.remove(primaryKey);
                 inQueue.put(primaryKey, true);
-                this.getPrimaryCache().put(primaryKey, value);
+                this.putPrimary(primaryKey, value);
             } else {
                 while (this.getPrimaryCache().size() >= sizeCapacity) {
-                    Iterator<Map.Entry<K, Boolean>> iterator = outQueue.entrySet().iterator();
-                    if (iterator.hasNext()) {
-                        K outKey = iterator.next().getKey();
-                        iterator.remove();
-                        this.getPrimaryCache().remove(outKey);
-                        this.cleanupIndexFor(outKey);
-                    } else {
-                        // fallback: remove from inQueue
-                        Iterator<Map.Entry<K, Boolean>> inIterator = inQueue.entrySet().iterator();
-                        if (inIterator.hasNext()) {
-                            K inKey = inIterator.next().getKey();
-                            inIterator.remove();
-                            this.getPrimaryCache().remove(inKey);
-                            this.cleanupIndexFor(inKey);
-                        } else {
-                            break; // nothing more to evict
-                        }
+                    if (!evictQueued()) {
+                        break; // nothing more to evict
                     }
                 }
                 inQueue.put(primaryKey, true);
-                this.getPrimaryCache().put(primaryKey, value);
+                this.putPrimary(primaryKey, value);
             }
             this.updateSecondaryKeys(primaryKey, secondaryKeys);
         } finally {
@@ -101,6 +85,36 @@ public class CacheTwoQueues<K, V> extends CacheBase<K, V> {
         }
     }
 
+    @Override
+    public boolean evictOne() {
+        lock.writeLock().lock();
+        try {
+            return evictQueued();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean evictQueued() {
+        Iterator<Map.Entry<K, Boolean>> iterator = outQueue.entrySet().iterator();
+        if (iterator.hasNext()) {
+            K outKey = iterator.next().getKey();
+            iterator.remove();
+            this.removePrimary(outKey, RemovalCause.EVICTED);
+            return true;
+        }
+
+        // fallback: remove from inQueue
+        Iterator<Map.Entry<K, Boolean>> inIterator = inQueue.entrySet().iterator();
+        if (inIterator.hasNext()) {
+            K inKey = inIterator.next().getKey();
+            inIterator.remove();
+            this.removePrimary(inKey, RemovalCause.EVICTED);
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public V get(K key) {
         synchronized (this.getPrimaryCache()) {
@@ -115,12 +129,11 @@ public class CacheTwoQueues<K, V> extends CacheBase<K, V> {
     }
 
     @Override
-    public void remove(K key) {
+    public void remove(K key, RemovalCause cause) {
         synchronized (this.getPrimaryCache()) {
             if (this.getPrimaryCache().containsKey(key)) {
-                this.getPrimaryCache().remove(key);
+                this.removePrimary(key, cause);
                 inQueue.remove(key);
-                this.cleanupIndexFor(key);
             }
         }
     }
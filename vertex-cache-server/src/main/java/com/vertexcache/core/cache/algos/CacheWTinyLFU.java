@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.algos;
+
+import com.vertexcache.core.cache.CacheBase;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.RemovalCause;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * W-TinyLFU (Window TinyLFU) eviction policy with O(1) access, admission and eviction.
+ *
+ * Layout
+ * ------
+ *  Window: a small LRU (1% of capacity) that every new key enters first, so bursts of recent keys
+ *          get a chance to build up frequency before competing for space.
+ *  Main:   a segmented LRU holding the rest of the capacity, split into probation (20%) and
+ *          protected (80%). A hit in probation promotes the key to protected, overflow of protected
+ *          demotes its LRU key back to probation.
+ *  FrequencySketch: 4-bit count-min sketch sized to the capacity with periodic halving and a
+ *          doorkeeper bloom filter, recording every access including misses.
+ *
+ * Admission
+ * ---------
+ *  When the window overflows, its LRU key becomes a candidate for the main area. If the main area is
+ *  full the candidate is compared with the main victim (LRU of probation, else of protected) and only
+ *  the key with the higher estimated frequency stays, the other is evicted. This keeps scans and
+ *  one-hit wonders from flushing the popular keys.
+ *
+ * Thread-safety: all structural changes and access reordering run under one lock per instance,
+ * use cache_segments to stripe it across cores.
+ */
+public class CacheWTinyLFU<K, V> extends CacheBase<K, V> {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Node<K>> nodeMap = new HashMap<>();
+    private final AccessQueue<K> window = new AccessQueue<>();
+    private final AccessQueue<K> probation = new AccessQueue<>();
+    private final AccessQueue<K> protectedQueue = new AccessQueue<>();
+    private final FrequencySketch<K> sketch;
+
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final int protectedCapacity;
+
+    public CacheWTinyLFU(int sizeCapacity) {
+        int capacity = Math.max(1, sizeCapacity);
+        this.windowCapacity = Math.max(1, (int) (capacity * WINDOW_RATIO));
+        this.mainCapacity = capacity - windowCapacity;
+        this.protectedCapacity = (int) (mainCapacity * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch<>(capacity);
+    }
+
+    @Override
+    public void put(K primaryKey, V value, Object... secondaryKeys) throws VertexCacheTypeException {
+        lock.lock();
+        try {
+            sketch.increment(primaryKey);
+            this.putDefaultImpl(primaryKey, value, secondaryKeys);
+
+            Node<K> node = nodeMap.get(primaryKey);
+            if (node != null) {
+                onHit(node);
+                return;
+            }
+
+            node = new Node<>(primaryKey, Node.WINDOW);
+            nodeMap.put(primaryKey, node);
+            window.addLast(node);
+            if (window.size > windowCapacity) {
+                admitFromWindow();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V get(K primaryKey) {
+        lock.lock();
+        try {
+            sketch.increment(primaryKey);
+            Node<K> node = nodeMap.get(primaryKey);
+            if (node == null) {
+                return null;
+            }
+            onHit(node);
+            return this.getPrimaryCache().get(primaryKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(K primaryKey, RemovalCause cause) {
+        lock.lock();
+        try {
+            Node<K> node = nodeMap.remove(primaryKey);
+            if (node != null) {
+                queueOf(node).remove(node);
+            }
+            this.removeDefaultImpl(primaryKey, cause);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            super.clear();
+            nodeMap.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+            sketch.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean evictOne() {
+        lock.lock();
+        try {
+            Node<K> victim = probation.head != null ? probation.head
+                    : window.head != null ? window.head : protectedQueue.head;
+            if (victim == null) {
+                return false;
+            }
+            queueOf(victim).remove(victim);
+            evict(victim);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onHit(Node<K> node) {
+        switch (node.queue) {
+            case Node.WINDOW:
+                window.moveToLast(node);
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                node.queue = Node.PROTECTED;
+                protectedQueue.addLast(node);
+                if (protectedQueue.size > protectedCapacity) {
+                    Node<K> demoted = protectedQueue.pollFirst();
+                    demoted.queue = Node.PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            default:
+                protectedQueue.moveToLast(node);
+                break;
+        }
+    }
+
+    /*
+     * Moves the window LRU into probation, letting the frequency sketch decide between it and the
+     * main victim once the main area is full.
+     */
+    private void admitFromWindow() {
+        Node<K> candidate = window.pollFirst();
+        if (probation.size + protectedQueue.size < mainCapacity) {
+            candidate.queue = Node.PROBATION;
+            probation.addLast(candidate);
+            return;
+        }
+
+        Node<K> victim = probation.head != null ? probation.head : protectedQueue.head;
+        if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+            evict(candidate);
+            return;
+        }
+
+        queueOf(victim).remove(victim);
+        evict(victim);
+        candidate.queue = Node.PROBATION;
+        probation.addLast(candidate);
+    }
+
+    private void evict(Node<K> node) {
+        nodeMap.remove(node.key);
+        this.removePrimary(node.key, RemovalCause.EVICTED);
+    }
+
+    private AccessQueue<K> queueOf(Node<K> node) {
+        switch (node.queue) {
+            case Node.WINDOW: return window;
+            case Node.PROBATION: return probation;
+            default: return protectedQueue;
+        }
+    }
+
+    // ==== Internal access ordered queues ====
+
+    private static class Node<K> {
+        static final byte WINDOW = 0;
+        static final byte PROBATION = 1;
+        static final byte PROTECTED = 2;
+
+        final K key;
+        byte queue;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, byte queue) {
+            this.key = key;
+            this.queue = queue;
+        }
+    }
+
+    /*
+     * Doubly linked list ordered from least (head) to most (tail) recently used.
+     */
+    private static class AccessQueue<K> {
+        private Node<K> head;
+        private Node<K> tail;
+        private int size;
+
+        void addLast(Node<K> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail != null) tail.next = node;
+            tail = node;
+            if (head == null) head = node;
+            size++;
+        }
+
+        void moveToLast(Node<K> node) {
+            if (node == tail) return;
+            remove(node);
+            addLast(node);
+        }
+
+        void remove(Node<K> node) {
+            if (node.prev != null) node.prev.next = node.next;
+            if (node.next != null) node.next.prev = node.prev;
+            if (node == head) head = node.next;
+            if (node == tail) tail = node.prev;
+            node.prev = node.next = null;
+            size--;
+        }
+
+        Node<K> pollFirst() {
+            Node<K> first = head;
+            if (first != null) remove(first);
+            return first;
+        }
+
+        void clear() {
+            head = tail = null;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.algos;
+
+import java.util.Arrays;
+
+/**
+ * Approximate access frequency counter used for TinyLFU admission.
+ *
+ * A count-min sketch of 4-bit counters packed sixteen to a long, with four counters per key, sized from
+ * the cache capacity. Counters saturate at 15, and once the number of recorded accesses reaches ten
+ * times the capacity every counter is halved so that old popularity fades (aging). Aging is amortized
+ * O(1) per access.
+ *
+ * A doorkeeper bloom filter sits in front of the sketch: the first access of a key only sets its
+ * doorkeeper bits, later accesses increment the counters. One-hit wonders therefore never reach the
+ * sketch, which keeps the counters accurate for the keys that matter. The doorkeeper is cleared on
+ * every aging reset.
+ *
+ * Not thread-safe, callers guard it with the same lock as the cache structure it belongs to.
+ */
+public class FrequencySketch<K> {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+    private static final int SAMPLE_MULTIPLIER = 10;
+
+    private final long[] table;
+    private final int counterMask;
+    private final long[] doorkeeper;
+    private final int doorkeeperMask;
+    private final int sampleSize;
+    private int additions;
+
+    public FrequencySketch(int sizeCapacity) {
+        int capacity = Math.max(16, Math.min(sizeCapacity, 1 << 26));
+        int tableLength = ceilingPowerOfTwo(capacity);
+        this.table = new long[tableLength];
+        this.counterMask = (tableLength << 4) - 1;
+
+        // Roughly 8 bits per expected key keeps the false positive rate of 3 probes low
+        int doorkeeperBits = ceilingPowerOfTwo(capacity) << 3;
+        this.doorkeeper = new long[doorkeeperBits >>> 6];
+        this.doorkeeperMask = doorkeeperBits - 1;
+
+        this.sampleSize = (int) Math.min((long) SAMPLE_MULTIPLIER * capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Records one access of the key.
+     */
+    public void increment(K key) {
+        int hash = spread(key.hashCode());
+        if (doorkeeperPut(hash)) {
+            for (int i = 0; i < SEEDS.length; i++) {
+                incrementAt(indexOf(hash, i));
+            }
+        }
+
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimated number of accesses of the key since the last aging, capped at 16.
+     */
+    public int frequency(K key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return doorkeeperContains(hash) ? frequency + 1 : frequency;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+        Arrays.fill(doorkeeper, 0L);
+        additions = 0;
+    }
+
+    private void incrementAt(int index) {
+        int slot = index >>> 4;
+        int shift = (index & 15) << 2;
+        if (((table[slot] >>> shift) & 0xfL) < MAX_COUNT) {
+            table[slot] += 1L << shift;
+        }
+    }
+
+    /*
+     * Halve every counter and start a new doorkeeper generation.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+        Arrays.fill(doorkeeper, 0L);
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    /*
+     * Sets the doorkeeper bits of the hash, returns true if they were all set already.
+     */
+    private boolean doorkeeperPut(int hash) {
+        boolean present = true;
+        for (int i = 0; i < 3; i++) {
+            int bit = doorkeeperBit(hash, i);
+            long mask = 1L << bit;
+            int slot = bit >>> 6;
+            if ((doorkeeper[slot] & mask) == 0) {
+                doorkeeper[slot] |= mask;
+                present = false;
+            }
+        }
+        return present;
+    }
+
+    private boolean doorkeeperContains(int hash) {
+        for (int i = 0; i < 3; i++) {
+            int bit = doorkeeperBit(hash, i);
+            if ((doorkeeper[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int doorkeeperBit(int hash, int i) {
+        int h = hash + i * (Integer.rotateLeft(hash, 16) | 1);
+        return spread(h) & doorkeeperMask;
+    }
+
+    static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    static int ceilingPowerOfTwo(int x) {
+        return x <= 1 ? 1 : Integer.highestOneBit(x - 1) << 1;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.algos;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lossy, striped buffer of read events used to record accesses without taking the policy lock.
+ *
+ * Readers append the key they just read to a small ring buffer picked by thread id, using a single
+ * CAS and no lock. When a ring is full, or another reader wins the CAS race, the event is simply
+ * dropped: access order and frequency are heuristics and losing a few samples under heavy
+ * contention is far cheaper than serializing every GET.
+ *
+ * The owning policy replays the buffered events under its own lock, either when a writer holds the
+ * lock anyway or when a reader sees a full ring and manages to tryLock.
+ *
+ * Offering is thread-safe, draining must be done by one thread at a time (under the policy lock).
+ */
+public class ReadBuffer<K> {
+
+    private static final int STRIPE_SIZE = 32;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private final Stripe<K>[] stripes;
+    private final int stripeMask;
+
+    public ReadBuffer() {
+        int count = FrequencySketch.ceilingPowerOfTwo(Math.min(64, Runtime.getRuntime().availableProcessors()));
+        @SuppressWarnings("unchecked")
+        Stripe<K>[] stripes = (Stripe<K>[]) new Stripe<?>[count];
+        this.stripes = stripes;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    /**
+     * Records a read of the key, returns true when the buffer should be drained.
+     */
+    public boolean offer(K key) {
+        Stripe<K> stripe = stripes[FrequencySketch.spread((int) Thread.currentThread().threadId()) & stripeMask];
+        return stripe.offer(key);
+    }
+
+    /**
+     * Replays and clears every buffered read. Caller must hold the owning policy lock.
+     */
+    public void drainTo(Consumer<K> consumer) {
+        for (Stripe<K> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private static final class Stripe<K> {
+        private final AtomicReferenceArray<K> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(K key) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            long size = tail - head;
+            if (size >= STRIPE_SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) tail & STRIPE_MASK, key);
+                return size + 1 >= STRIPE_SIZE;
+            }
+            return false;
+        }
+
+        void drainTo(Consumer<K> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            while (head < tail) {
+                int index = (int) head & STRIPE_MASK;
+                K key = buffer.get(index);
+                if (key == null) {
+                    // Slot claimed but not yet published, pick it up on the next drain
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(key);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+}
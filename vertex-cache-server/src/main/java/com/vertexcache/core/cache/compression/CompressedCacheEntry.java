@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.compression;
+
+import com.vertexcache.core.cache.model.CacheEntry;
+
+/**
+ * Cache entry of a keyspace with compression on, holding its value compressed when the ValueCompressor
+ * found it worth it and as-is otherwise.
+ *
+ * The held form is a single volatile reference, so a read sees either the old or the new value of a
+ * concurrent update, never a mix. Every read of the value inflates it, getStoredValue hands out the
+ * compressed form instead for callers able to ship it as it is. An update compresses the new value on
+ * its own terms, a small value replacing a large one is held as-is.
+ */
+public class CompressedCacheEntry<V> extends CacheEntry<V> {
+
+    private final ValueCompressor compressor;
+    private volatile Object stored;
+
+    public CompressedCacheEntry(ValueCompressor compressor, V value, boolean isRemote, long expiresAt, boolean trackAccess) {
+        super(null, isRemote, expiresAt, trackAccess);
+        this.compressor = compressor;
+        this.stored = hold(value);
+    }
+
+    private Object hold(V value) {
+        CompressedValue compressed = compressor.compress(value);
+        return compressed != null ? compressed : value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected V loadValue() {
+        Object current = stored;
+        return current instanceof CompressedValue compressed ? (V) compressor.decompress(compressed) : (V) current;
+    }
+
+    @Override
+    protected void storeValue(V value) {
+        this.stored = hold(value);
+    }
+
+    @Override
+    protected Object loadStoredValue() {
+        return stored;
+    }
+
+    @Override
+    public boolean isCompressed() {
+        return stored instanceof CompressedValue;
+    }
+
+    @Override
+    public int getSavedBytes() {
+        return stored instanceof CompressedValue compressed ? compressed.getSavedBytes() : 0;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.compression;
+
+/**
+ * A cache value held deflated (zlib format), with what it takes to restore it: its length once
+ * inflated, whether it was a byte array or a String (UTF-8) and the dictionary it was compressed with,
+ * null for none.
+ */
+public final class CompressedValue {
+
+    private final byte[] data;
+    private final int rawLength;
+    private final boolean binary;
+    private final CompressionDictionary dictionary;
+
+    public CompressedValue(byte[] data, int rawLength, boolean binary) {
+        this(data, rawLength, binary, null);
+    }
+
+    public CompressedValue(byte[] data, int rawLength, boolean binary, CompressionDictionary dictionary) {
+        this.data = data;
+        this.rawLength = rawLength;
+        this.binary = binary;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * The zlib stream, shared and not to be modified.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    public int getRawLength() {
+        return rawLength;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Dictionary the value needs to be inflated, null when the zlib stream stands on its own.
+     */
+    public CompressionDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Bytes saved by holding the value compressed.
+     */
+    public int getSavedBytes() {
+        return rawLength - data.length;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.compression;
+
+import com.vertexcache.core.cache.model.DataType;
+
+/**
+ * A preset dictionary trained from sampled values of one format, JSON or XML.
+ *
+ * Every value compressed with it keeps a reference to it, which is how an entry records the version
+ * it needs to be inflated: a retrained dictionary only applies to the values written after it, the
+ * earlier ones keep theirs until they are overwritten or leave the cache.
+ */
+public final class CompressionDictionary {
+
+    private final DataType format;
+    private final int version;
+    private final byte[] bytes;
+    private final int sampleCount;
+
+    public CompressionDictionary(DataType format, int version, byte[] bytes, int sampleCount) {
+        this.format = format;
+        this.version = version;
+        this.bytes = bytes;
+        this.sampleCount = sampleCount;
+    }
+
+    public DataType getFormat() {
+        return format;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * The dictionary content, shared and not to be modified.
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Number of sampled values it was trained from.
+     */
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    @Override
+    public String toString() {
+        return format + " v" + version + " (" + bytes.length + " bytes from " + sampleCount + " samples)";
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.compression;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.model.DataType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The dictionaries small JSON and XML values are compressed with (cache_compression_dictionary_size),
+ * one per format, and the live values they are trained from.
+ *
+ * The cache does not know what a value holds, its format is told from its first character: { or [ for
+ * JSON, < for XML. One value in SAMPLE_RATE of each format is kept in a window of the last MAX_SAMPLES,
+ * the first dictionary of a format is trained as soon as MIN_SAMPLES are in, by the write bringing in
+ * the last one. Later ones are only trained on demand (DICTIONARY TRAIN), from the window as it then
+ * is, so the dictionary follows values whose shape drifts over time.
+ */
+public class DictionaryRegistry {
+
+    /**
+     * Largest dictionary, deflate only looks back 32 KB.
+     */
+    public static final int MAX_DICTIONARY_BYTES = 32 * 1024;
+
+    static final int SAMPLE_RATE = 8;
+    static final int MIN_SAMPLES = 64;
+    static final int MAX_SAMPLES = 1024;
+    static final int MAX_SAMPLE_BYTES = 4096;
+
+    private final int dictionaryBytes;
+    private final Map<DataType, FormatState> formats = new EnumMap<>(DataType.class);
+    private final AtomicInteger versions = new AtomicInteger();
+
+    public DictionaryRegistry(int dictionaryBytes) {
+        this.dictionaryBytes = Math.min(Math.max(1, dictionaryBytes), MAX_DICTIONARY_BYTES);
+        formats.put(DataType.JSON, new FormatState(DataType.JSON));
+        formats.put(DataType.XML, new FormatState(DataType.XML));
+    }
+
+    /**
+     * JSON or XML from the first non-blank character of the value, null for anything else.
+     */
+    public static DataType detectFormat(byte[] value) {
+        for (byte b : value) {
+            switch (b) {
+                case ' ', '\t', '\r', '\n' -> {}
+                case '{', '[' -> { return DataType.JSON; }
+                case '<' -> { return DataType.XML; }
+                default -> { return null; }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Samples the value and hands back the dictionary to compress it with, null while there is none yet.
+     */
+    CompressionDictionary sample(DataType format, byte[] value) {
+        FormatState state = formats.get(format);
+        if (state.seen.getAndIncrement() % SAMPLE_RATE == 0 && value.length <= MAX_SAMPLE_BYTES) {
+            state.add(value);
+            if (state.current == null && state.count() >= MIN_SAMPLES && state.training.compareAndSet(false, true)) {
+                try {
+                    train(state);
+                } finally {
+                    state.training.set(false);
+                }
+            }
+        }
+        return state.current;
+    }
+
+    /**
+     * Trains a new dictionary for every format with enough samples, the values written from then on
+     * are compressed with it.
+     */
+    public List<CompressionDictionary> retrain() {
+        List<CompressionDictionary> trained = new ArrayList<>();
+        for (FormatState state : formats.values()) {
+            if (state.count() >= MIN_SAMPLES) {
+                CompressionDictionary dictionary = train(state);
+                if (dictionary != null) {
+                    trained.add(dictionary);
+                }
+            }
+        }
+        return trained;
+    }
+
+    private CompressionDictionary train(FormatState state) {
+        List<byte[]> samples = state.snapshot();
+        byte[] content = DictionaryTrainer.train(samples, dictionaryBytes);
+        if (content.length == 0) {
+            LogHelper.getInstance().logWarn("[Compression] No " + state.format + " dictionary trained, the "
+                    + samples.size() + " samples share no content");
+            return null;
+        }
+        CompressionDictionary dictionary = new CompressionDictionary(state.format, versions.incrementAndGet(), content, samples.size());
+        state.current = dictionary;
+        LogHelper.getInstance().logInfo("[Compression] Trained dictionary " + dictionary);
+        return dictionary;
+    }
+
+    /**
+     * Dictionary values of the format are compressed with, null before the first is trained.
+     */
+    public CompressionDictionary getDictionary(DataType format) {
+        FormatState state = formats.get(format);
+        return state != null ? state.current : null;
+    }
+
+    /**
+     * Values of the format currently held for training.
+     */
+    public int getSampleCount(DataType format) {
+        FormatState state = formats.get(format);
+        return state != null ? state.count() : 0;
+    }
+
+    public int getDictionaryBytes() {
+        return dictionaryBytes;
+    }
+
+    private static final class FormatState {
+        private final DataType format;
+        private final AtomicLong seen = new AtomicLong();
+        private final AtomicBoolean training = new AtomicBoolean();
+        private final byte[][] samples = new byte[MAX_SAMPLES][];
+        private int next;
+        private volatile CompressionDictionary current;
+
+        private FormatState(DataType format) {
+            this.format = format;
+        }
+
+        private synchronized void add(byte[] value) {
+            samples[next % MAX_SAMPLES] = value.clone();
+            next++;
+        }
+
+        private synchronized int count() {
+            return Math.min(next, MAX_SAMPLES);
+        }
+
+        private synchronized List<byte[]> snapshot() {
+            List<byte[]> copy = new ArrayList<>(count());
+            for (int i = 0; i < count(); i++) {
+                copy.add(samples[i]);
+            }
+            return copy;
+        }
+    }
+}
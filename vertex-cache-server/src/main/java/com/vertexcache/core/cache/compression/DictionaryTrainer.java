@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Builds a preset dictionary out of sampled values, a simplified form of the COVER algorithm.
+ *
+ * Every 8-byte sequence (k-mer) of the samples is counted once per sample it appears in. The samples
+ * are cut into overlapping segments, each scored by the counts of the k-mers it holds that no segment
+ * picked before holds, and the best segments are picked greedily until the dictionary is full. Field
+ * names, tags and recurring values shared by most documents score high, what is unique to a document
+ * does not count at all.
+ *
+ * Deflate codes nearer matches in fewer bits, the best segment ends up last in the dictionary.
+ */
+public final class DictionaryTrainer {
+
+    static final int K = 8;
+    static final int SEGMENT_LENGTH = 64;
+
+    private DictionaryTrainer() {}
+
+    /**
+     * Dictionary of at most maxBytes bytes, empty when the samples share nothing.
+     */
+    public static byte[] train(List<byte[]> samples, int maxBytes) {
+        Map<Long, Integer> frequencies = countKmers(samples);
+
+        PriorityQueue<Segment> candidates = new PriorityQueue<>();
+        for (byte[] sample : samples) {
+            for (int start = 0; start + K <= sample.length; start += SEGMENT_LENGTH / 2) {
+                Segment segment = new Segment(sample, start, Math.min(SEGMENT_LENGTH, sample.length - start));
+                segment.score = segment.score(frequencies);
+                if (segment.score > 0) {
+                    candidates.add(segment);
+                }
+            }
+        }
+
+        List<Segment> picked = new ArrayList<>();
+        int size = 0;
+        while (!candidates.isEmpty() && size < maxBytes) {
+            Segment best = candidates.poll();
+            // Scores only drop as k-mers get covered, a stale one is rescored and queued again
+            int score = best.score(frequencies);
+            if (score <= 0) {
+                continue;
+            }
+            if (!candidates.isEmpty() && score < candidates.peek().score) {
+                best.score = score;
+                candidates.add(best);
+                continue;
+            }
+            best.cover(frequencies);
+            picked.add(best);
+            size += best.length;
+        }
+
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream(Math.min(size, maxBytes));
+        for (int i = picked.size() - 1; i >= 0; i--) {
+            Segment segment = picked.get(i);
+            int skip = Math.max(0, dictionary.size() + segment.length - maxBytes);
+            dictionary.write(segment.sample, segment.start + skip, segment.length - skip);
+        }
+        return dictionary.toByteArray();
+    }
+
+    /*
+     * Number of samples each k-mer appears in, those found in a single sample left out.
+     */
+    private static Map<Long, Integer> countKmers(List<byte[]> samples) {
+        Map<Long, Integer> frequencies = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (byte[] sample : samples) {
+            seen.clear();
+            for (int i = 0; i + K <= sample.length; i++) {
+                long kmer = kmer(sample, i);
+                if (seen.add(kmer)) {
+                    frequencies.merge(kmer, 1, Integer::sum);
+                }
+            }
+        }
+        frequencies.values().removeIf(count -> count < 2);
+        return frequencies;
+    }
+
+    private static long kmer(byte[] data, int offset) {
+        long kmer = 0;
+        for (int i = 0; i < K; i++) {
+            kmer = (kmer << 8) | (data[offset + i] & 0xFF);
+        }
+        return kmer;
+    }
+
+    private static final class Segment implements Comparable<Segment> {
+        private final byte[] sample;
+        private final int start;
+        private final int length;
+        private int score;
+
+        private Segment(byte[] sample, int start, int length) {
+            this.sample = sample;
+            this.start = start;
+            this.length = length;
+        }
+
+        private int score(Map<Long, Integer> frequencies) {
+            int total = 0;
+            Set<Long> counted = new HashSet<>();
+            for (int i = start; i + K <= start + length; i++) {
+                long kmer = kmer(sample, i);
+                if (counted.add(kmer)) {
+                    total += frequencies.getOrDefault(kmer, 0);
+                }
+            }
+            return total;
+        }
+
+        private void cover(Map<Long, Integer> frequencies) {
+            for (int i = start; i + K <= start + length; i++) {
+                frequencies.remove(kmer(sample, i));
+            }
+        }
+
+        @Override
+        public int compareTo(Segment other) {
+            return Integer.compare(other.score, score);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.compression;
+
+import com.vertexcache.core.cache.model.DataType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses the values written to the cache from a size threshold on (cache_compression_threshold).
+ *
+ * Values are deflated once, when they are written, at the fastest level: the aim is to fit more
+ * entries in memory, not the smallest possible output. A value is only kept compressed when that saves
+ * at least a tenth of its size, already compressed payloads (images, archives) are stored as they are
+ * after the one attempt. Inflating is left to the reads that need the value, see CompressedCacheEntry.
+ *
+ * With a DictionaryRegistry, JSON and XML values from DICTIONARY_MIN_BYTES on are deflated with the
+ * dictionary of their format, threshold or not: documents of a few hundred bytes hardly compress on
+ * their own, most of their content being the field names every other document repeats. Until a
+ * dictionary is trained, and when it does not do better than the MAX_RATIO, they are left to the
+ * threshold like any other value.
+ *
+ * Deflaters and inflaters hold native memory, one of each is kept per thread and reset between values
+ * rather than allocated on every write.
+ *
+ * The counters (values compressed or skipped, bytes in and out, time spent both ways) are cumulative
+ * and shared by every keyspace using the compressor.
+ */
+public class ValueCompressor {
+
+    /**
+     * Largest compressed to raw size ratio a value is kept compressed at.
+     */
+    static final double MAX_RATIO = 0.9;
+
+    /**
+     * Smallest JSON or XML value compressed with a dictionary.
+     */
+    public static final int DICTIONARY_MIN_BYTES = 64;
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final int thresholdBytes;
+    private final DictionaryRegistry dictionaries;
+
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder decompressedCount = new LongAdder();
+    private final LongAdder decompressNanos = new LongAdder();
+    private final LongAdder dictionaryCount = new LongAdder();
+    private final LongAdder dictionaryRawBytes = new LongAdder();
+    private final LongAdder dictionaryCompressedBytes = new LongAdder();
+
+    /**
+     * Compresses byte arrays of at least thresholdBytes bytes and Strings of at least thresholdBytes characters.
+     */
+    public ValueCompressor(int thresholdBytes) {
+        this(thresholdBytes, null);
+    }
+
+    /**
+     * Also compresses small JSON and XML values with the dictionaries, a threshold of 0 leaves every
+     * other value uncompressed.
+     */
+    public ValueCompressor(int thresholdBytes, DictionaryRegistry dictionaries) {
+        this.thresholdBytes = dictionaries != null ? Math.max(0, thresholdBytes) : Math.max(1, thresholdBytes);
+        this.dictionaries = dictionaries;
+    }
+
+    /**
+     * The value compressed, null when it is under the threshold, not a String or byte array, or does not
+     * compress well enough to be worth inflating on reads.
+     */
+    public CompressedValue compress(Object value) {
+        int length;
+        if (value instanceof byte[] bytes) {
+            length = bytes.length;
+        } else if (value instanceof String string) {
+            length = string.length();
+        } else {
+            return null;
+        }
+        boolean overThreshold = thresholdBytes > 0 && length >= thresholdBytes;
+        if (!overThreshold && (dictionaries == null || length < DICTIONARY_MIN_BYTES)) {
+            return null;
+        }
+        boolean binary = value instanceof byte[];
+        byte[] raw = binary ? (byte[]) value : ((String) value).getBytes(StandardCharsets.UTF_8);
+
+        if (dictionaries != null && raw.length >= DICTIONARY_MIN_BYTES) {
+            DataType format = DictionaryRegistry.detectFormat(raw);
+            CompressionDictionary dictionary = format != null ? dictionaries.sample(format, raw) : null;
+            if (dictionary != null) {
+                CompressedValue compressed = deflate(raw, binary, dictionary);
+                if (compressed != null) {
+                    dictionaryCount.increment();
+                    dictionaryRawBytes.add(raw.length);
+                    dictionaryCompressedBytes.add(compressed.getData().length);
+                    return compressed;
+                }
+            }
+        }
+        if (!overThreshold) {
+            return null;
+        }
+        CompressedValue compressed = deflate(raw, binary, null);
+        if (compressed == null) {
+            skippedCount.increment();
+        }
+        return compressed;
+    }
+
+    /*
+     * Null when the output does not fit within MAX_RATIO of the input.
+     */
+    private CompressedValue deflate(byte[] raw, boolean binary, CompressionDictionary dictionary) {
+        long start = System.nanoTime();
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary.getBytes());
+        }
+        deflater.setInput(raw);
+        deflater.finish();
+        // Output that does not fit in the budget is not worth keeping, deflating stops there
+        byte[] out = new byte[Math.max(1, (int) (raw.length * MAX_RATIO))];
+        int length = 0;
+        while (!deflater.finished() && length < out.length) {
+            length += deflater.deflate(out, length, out.length - length);
+        }
+        boolean worthIt = deflater.finished();
+        compressNanos.add(System.nanoTime() - start);
+        if (!worthIt) {
+            return null;
+        }
+        compressedCount.increment();
+        rawBytes.add(raw.length);
+        compressedBytes.add(length);
+        return new CompressedValue(Arrays.copyOf(out, length), raw.length, binary, dictionary);
+    }
+
+    /**
+     * The value as it was written, a byte array or a String.
+     */
+    public Object decompress(CompressedValue value) {
+        long start = System.nanoTime();
+        byte[] raw = inflate(value);
+        decompressNanos.add(System.nanoTime() - start);
+        decompressedCount.increment();
+        return value.isBinary() ? raw : new String(raw, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The raw bytes of a compressed value, inflated with its dictionary when it has one.
+     */
+    public static byte[] inflate(CompressedValue value) {
+        CompressionDictionary dictionary = value.getDictionary();
+        return inflate(value.getData(), value.getRawLength(), dictionary != null ? dictionary.getBytes() : null);
+    }
+
+    /**
+     * Inflates a zlib stream of rawLength bytes once inflated.
+     */
+    public static byte[] inflate(byte[] data, int rawLength) {
+        return inflate(data, rawLength, null);
+    }
+
+    private static byte[] inflate(byte[] data, int rawLength, byte[] dictionary) {
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(data);
+        byte[] raw = new byte[rawLength];
+        try {
+            int length = 0;
+            while (length < rawLength) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && inflater.needsDictionary() && dictionary != null) {
+                    inflater.setDictionary(dictionary);
+                    dictionary = null;
+                    continue;
+                }
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Compressed value truncated at " + length + " of " + rawLength + " bytes");
+                }
+                length += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed value: " + e.getMessage(), e);
+        }
+        return raw;
+    }
+
+    public int getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    /**
+     * Dictionaries small JSON and XML values are compressed with, null when they are not.
+     */
+    public DictionaryRegistry getDictionaries() {
+        return dictionaries;
+    }
+
+    public long getCompressedCount() {
+        return compressedCount.sum();
+    }
+
+    /**
+     * Values over the threshold stored uncompressed because they did not compress well enough.
+     */
+    public long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    /**
+     * Compressed to raw size of the values compressed so far, 1.0 before any.
+     */
+    public double getRatio() {
+        long raw = rawBytes.sum();
+        return raw > 0 ? (double) compressedBytes.sum() / raw : 1.0;
+    }
+
+    /**
+     * Values compressed with a dictionary, also counted in getCompressedCount.
+     */
+    public long getDictionaryCount() {
+        return dictionaryCount.sum();
+    }
+
+    /**
+     * Compressed to raw size of the values compressed with a dictionary, 1.0 before any.
+     */
+    public double getDictionaryRatio() {
+        long raw = dictionaryRawBytes.sum();
+        return raw > 0 ? (double) dictionaryCompressedBytes.sum() / raw : 1.0;
+    }
+
+    /**
+     * Time spent compressing, skipped values included.
+     */
+    public long getCompressNanos() {
+        return compressNanos.sum();
+    }
+
+    public long getDecompressedCount() {
+        return decompressedCount.sum();
+    }
+
+    public long getDecompressNanos() {
+        return decompressNanos.sum();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.expiry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel used to actively reclaim keys once their TTL has passed.
+ *
+ * Five wheels of 64 buckets each, the first ticking every tickMillis and every next wheel covering
+ * 64 times the span of the previous one (with the default 10ms tick: 640ms, 41s, 44min, 47h, 124 days).
+ * A deadline is hashed into the lowest wheel whose span covers it, so scheduling is O(1) and never
+ * looks at the keyspace. Each time a wheel completes a rotation the matching bucket of the wheel above
+ * is cascaded down, a key moves down at most once per level, and the lowest wheel bucket of the
+ * current tick holds exactly the keys that are due.
+ *
+ * A key holds at most one node: buckets are doubly linked and the node of every key is indexed, so
+ * rescheduling a key unlinks its previous node and cancel unlinks it on PERSIST or removal, both O(1).
+ * The handler still compares the node deadline with the entry's current one when it fires, a key
+ * rewritten while its node is being handed over is not expired. Deadlines past the top wheel are
+ * parked in its furthest bucket and simply cascade again until they are in range.
+ *
+ * The wheel does not own a thread, the owner calls advance(now) periodically. Due keys are handed to
+ * the ExpiryHandler outside the wheel lock.
+ */
+public class TimingWheel<K> {
+
+    public static final long DEFAULT_TICK_MILLIS = 10;
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    @FunctionalInterface
+    public interface ExpiryHandler<K> {
+        void onExpire(K key, long deadlineMillis);
+    }
+
+    private final long tickMillis;
+    private final ExpiryHandler<K> handler;
+    private final Node<K>[][] wheels;
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, long nowMillis, ExpiryHandler<K> handler) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.handler = handler;
+        @SuppressWarnings("unchecked")
+        Node<K>[][] wheels = (Node<K>[][]) new Node<?>[LEVELS][WHEEL_SIZE];
+        this.wheels = wheels;
+        this.currentTick = nowMillis / this.tickMillis;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Schedules the key to be handed to the handler once deadlineMillis has passed, replacing the
+     * deadline it was scheduled with before.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Node<K> node = new Node<>(key, deadlineMillis, Math.max(tickOf(deadlineMillis), currentTick + 1));
+        Node<K> previous = nodes.put(key, node);
+        if (previous != null) {
+            unlink(previous);
+        }
+        add(node);
+    }
+
+    /**
+     * Drops the key's node if it is still scheduled for deadlineMillis, a later deadline is kept.
+     */
+    public synchronized void cancel(K key, long deadlineMillis) {
+        Node<K> node = nodes.get(key);
+        if (node != null && node.deadlineMillis == deadlineMillis) {
+            nodes.remove(key);
+            unlink(node);
+        }
+    }
+
+    /**
+     * Moves the wheel forward to nowMillis and fires every key due by then.
+     */
+    public void advance(long nowMillis) {
+        List<Node<K>> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                int slot = (int) (currentTick & WHEEL_MASK);
+                for (Node<K> node = wheels[0][slot]; node != null; node = node.next) {
+                    due.add(node);
+                    nodes.remove(node.key, node);
+                }
+                wheels[0][slot] = null;
+            }
+        }
+
+        for (Node<K> node : due) {
+            handler.onExpire(node.key, node.deadlineMillis);
+        }
+    }
+
+    /**
+     * Number of keys scheduled.
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    public synchronized void clear() {
+        for (Node<K>[] wheel : wheels) {
+            Arrays.fill(wheel, null);
+        }
+        nodes.clear();
+    }
+
+    private void add(Node<K> node) {
+        long delta = node.tick - currentTick;
+        if (delta >= MAX_SPAN) {
+            // Park in the furthest bucket of the top wheel, it is re-added when that bucket cascades
+            node.tick = currentTick + MAX_SPAN - 1;
+            delta = MAX_SPAN - 1;
+        }
+
+        int level = 0;
+        while (delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        link(node, level, (int) ((node.tick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+    }
+
+    private void link(Node<K> node, int level, int slot) {
+        Node<K> head = wheels[level][slot];
+        node.level = level;
+        node.slot = slot;
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        wheels[level][slot] = node;
+    }
+
+    private void unlink(Node<K> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (wheels[node.level][node.slot] == node) {
+            wheels[node.level][node.slot] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    /*
+     * On every rotation boundary of a wheel, redistribute the due bucket of the wheel above it.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            Node<K> node = wheels[level][slot];
+            wheels[level][slot] = null;
+            while (node != null) {
+                Node<K> next = node.next;
+                node.tick = tickOf(node.deadlineMillis);
+                if (node.tick <= currentTick) {
+                    // Due on this very tick, hand it to the lowest wheel bucket fired right after
+                    link(node, 0, (int) (currentTick & WHEEL_MASK));
+                } else {
+                    add(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private long tickOf(long deadlineMillis) {
+        return (deadlineMillis + tickMillis - 1) / tickMillis;
+    }
+
+    private static final class Node<K> {
+        final K key;
+        final long deadlineMillis;
+        long tick;
+        int level;
+        int slot;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, long deadlineMillis, long tick) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+            this.tick = tick;
+        }
+    }
+}
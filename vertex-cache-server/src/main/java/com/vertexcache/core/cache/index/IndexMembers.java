@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Multi-valued secondary index, maps an index value to every primary key carrying it.
+ *
+ * Member sets are kept as small as the number of members allows:
+ *  - one member is stored as the primary key itself, no container at all,
+ *  - up to SMALL_MAX members live in an exact sized array, replaced on every change,
+ *  - larger sets use a concurrent hash set, converted back to an array once they shrink below
+ *    SHRINK_AT so a burst of evictions gives the memory back.
+ *
+ * Mutations for one index value run inside ConcurrentHashMap.compute so they never race each other,
+ * lookups only read immutable arrays or the concurrent set and take no lock.
+ */
+public class IndexMembers<K> {
+
+    static final int SMALL_MAX = 8;
+    static final int SHRINK_AT = SMALL_MAX / 2;
+
+    private final ConcurrentHashMap<Object, Object> members = new ConcurrentHashMap<>();
+
+    public void add(Object indexValue, K primaryKey) {
+        members.compute(indexValue, (value, current) -> with(current, primaryKey));
+    }
+
+    public void remove(Object indexValue, K primaryKey) {
+        members.computeIfPresent(indexValue, (value, current) -> without(current, primaryKey));
+    }
+
+    /**
+     * Snapshot of the primary keys carrying the index value, empty when there are none.
+     */
+    @SuppressWarnings("unchecked")
+    public List<K> get(Object indexValue) {
+        Object current = indexValue != null ? members.get(indexValue) : null;
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        if (current instanceof Small small) {
+            List<K> keys = new ArrayList<>(small.keys.length);
+            for (Object key : small.keys) {
+                keys.add((K) key);
+            }
+            return keys;
+        }
+        if (current instanceof Large large) {
+            return new ArrayList<>((Set<K>) large.keys);
+        }
+        return Collections.singletonList((K) current);
+    }
+
+    /**
+     * Any one primary key carrying the index value, null when there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public K any(Object indexValue) {
+        Object current = indexValue != null ? members.get(indexValue) : null;
+        if (current instanceof Small small) {
+            return (K) small.keys[small.keys.length - 1];
+        }
+        if (current instanceof Large large) {
+            for (Object key : large.keys) {
+                return (K) key;
+            }
+            return null;
+        }
+        return (K) current;
+    }
+
+    public int count(Object indexValue) {
+        Object current = indexValue != null ? members.get(indexValue) : null;
+        if (current == null) return 0;
+        if (current instanceof Small small) return small.keys.length;
+        if (current instanceof Large large) return large.keys.size();
+        return 1;
+    }
+
+    /**
+     * Number of distinct index values.
+     */
+    public int size() {
+        return members.size();
+    }
+
+    public void clear() {
+        members.clear();
+    }
+
+    private static Object with(Object current, Object key) {
+        if (current == null || current.equals(key)) {
+            return key;
+        }
+        if (current instanceof Large large) {
+            large.keys.add(key);
+            return large;
+        }
+        if (!(current instanceof Small small)) {
+            return new Small(new Object[]{current, key});
+        }
+        for (Object member : small.keys) {
+            if (member.equals(key)) return small;
+        }
+        if (small.keys.length < SMALL_MAX) {
+            Object[] grown = new Object[small.keys.length + 1];
+            System.arraycopy(small.keys, 0, grown, 0, small.keys.length);
+            grown[small.keys.length] = key;
+            return new Small(grown);
+        }
+        Large large = new Large();
+        Collections.addAll(large.keys, small.keys);
+        large.keys.add(key);
+        return large;
+    }
+
+    /*
+     * Returns null once the last member is gone so compute drops the index value.
+     */
+    private static Object without(Object current, Object key) {
+        if (current instanceof Large large) {
+            large.keys.remove(key);
+            return large.keys.size() < SHRINK_AT ? compact(large.keys.toArray()) : large;
+        }
+        if (!(current instanceof Small small)) {
+            return current.equals(key) ? null : current;
+        }
+        int index = -1;
+        for (int i = 0; i < small.keys.length; i++) {
+            if (small.keys[i].equals(key)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return small;
+        }
+        Object[] shrunk = new Object[small.keys.length - 1];
+        System.arraycopy(small.keys, 0, shrunk, 0, index);
+        System.arraycopy(small.keys, index + 1, shrunk, index, shrunk.length - index);
+        return compact(shrunk);
+    }
+
+    private static Object compact(Object[] keys) {
+        if (keys.length == 0) return null;
+        if (keys.length == 1) return keys[0];
+        return new Small(keys);
+    }
+
+    /*
+     * Immutable, insertion ordered member array, never mutated once published.
+     */
+    private static final class Small {
+        final Object[] keys;
+
+        Small(Object[] keys) {
+            this.keys = keys;
+        }
+    }
+
+    private static final class Large {
+        final Set<Object> keys = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.index;
+
+import com.vertexcache.core.cache.model.TenantKey;
+
+import java.util.Comparator;
+
+/**
+ * Ordering and prefix matching of primary keys for the ordered key index, range iteration and prefix
+ * operations.
+ *
+ * Keys are Strings, or TenantKeys when tenant key prefixing is on. Both are compared as character
+ * sequences, a TenantKey reading as its "tenant::key" form, so String prefixes and bounds can be used
+ * against either without concatenating any key. Other keys use their natural order.
+ */
+public final class KeyOrder {
+
+    private KeyOrder() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K> Comparator<K> comparator() {
+        return (Comparator<K>) (Comparator<Object>) KeyOrder::compare;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static int compare(Object a, Object b) {
+        if (a instanceof String x && b instanceof String y) {
+            return x.compareTo(y);
+        }
+        if (a instanceof TenantKey x && b instanceof TenantKey y) {
+            return x.compareTo(y);
+        }
+        if (a instanceof CharSequence x && b instanceof CharSequence y) {
+            return TenantKey.compare(x, y);
+        }
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    public static boolean startsWith(Object key, String prefix) {
+        if (key instanceof String string) {
+            return string.startsWith(prefix);
+        }
+        if (key instanceof TenantKey tenantKey) {
+            return tenantKey.startsWith(prefix);
+        }
+        return key.toString().startsWith(prefix);
+    }
+}
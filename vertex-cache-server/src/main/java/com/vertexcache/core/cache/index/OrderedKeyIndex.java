@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Optional ordered view of the primary keys of a cache, a concurrent skip list kept in step with puts
+ * and with every removal of the removal pipeline.
+ *
+ * Prefix lookups and range iteration seek to their first key in O(log n) and then only walk the keys
+ * they return, instead of scanning the whole keyspace. Keys are kept in KeyOrder, the lexicographic
+ * order prefix operations rely on for the String and TenantKey keys used by the server.
+ */
+public class OrderedKeyIndex<K> {
+
+    private final ConcurrentSkipListSet<K> keys = new ConcurrentSkipListSet<>(KeyOrder.comparator());
+
+    public void add(K key) {
+        keys.add(key);
+    }
+
+    public void remove(K key) {
+        keys.remove(key);
+    }
+
+    public void clear() {
+        keys.clear();
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Keys starting with the prefix in ascending order, at most limit of them (0 or less for all).
+     */
+    @SuppressWarnings("unchecked")
+    public List<K> withPrefix(String prefix, int limit) {
+        List<K> matches = new ArrayList<>();
+        for (K key : keys.tailSet((K) prefix, true)) {
+            if (!KeyOrder.startsWith(key, prefix) || (limit > 0 && matches.size() >= limit)) {
+                break;
+            }
+            matches.add(key);
+        }
+        return matches;
+    }
+
+    /**
+     * Keys from (inclusive) to (exclusive) in ascending order, at most limit of them (0 or less for
+     * all). A null bound leaves that side open.
+     */
+    public List<K> range(K from, K to, int limit) {
+        NavigableSet<K> view = keys;
+        if (from != null && to != null) {
+            if (KeyOrder.compare(from, to) >= 0) {
+                return new ArrayList<>();
+            }
+            view = keys.subSet(from, true, to, false);
+        } else if (from != null) {
+            view = keys.tailSet(from, true);
+        } else if (to != null) {
+            view = keys.headSet(to, false);
+        }
+        List<K> matches = new ArrayList<>();
+        for (K key : view) {
+            if (limit > 0 && matches.size() >= limit) {
+                break;
+            }
+            matches.add(key);
+        }
+        return matches;
+    }
+}
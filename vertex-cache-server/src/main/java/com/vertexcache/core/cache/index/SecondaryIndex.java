@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.index;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One secondary index of a cache: the point lookup map used by GETIDX (last writer wins) and the
+ * members of every index value used by MGETIDX.
+ *
+ * When the key a point lookup resolves to leaves the index, the lookup is handed to a remaining
+ * member rather than dropped, so an index value stays reachable as long as any key carries it.
+ */
+public class SecondaryIndex<K> {
+
+    private final Map<Object, K> lookup = new ConcurrentHashMap<>();
+    private final IndexMembers<K> members = new IndexMembers<>();
+
+    public void add(Object indexValue, K primaryKey) {
+        lookup.put(indexValue, primaryKey);
+        members.add(indexValue, primaryKey);
+    }
+
+    public void remove(Object indexValue, K primaryKey) {
+        members.remove(indexValue, primaryKey);
+        if (lookup.remove(indexValue, primaryKey)) {
+            K next = members.any(indexValue);
+            if (next != null) {
+                lookup.putIfAbsent(indexValue, next);
+            }
+        }
+    }
+
+    /**
+     * Drops the point lookup of the index value unless it resolves to primaryKey, members are kept.
+     * Used when the last writer of the value lives in another segment.
+     */
+    public void yieldLookup(Object indexValue, K primaryKey) {
+        K previous = lookup.get(indexValue);
+        if (previous != null && !previous.equals(primaryKey)) {
+            lookup.remove(indexValue, previous);
+        }
+    }
+
+    /**
+     * Primary key last written with the index value, null when none.
+     */
+    public K lookup(Object indexValue) {
+        return indexValue != null ? lookup.get(indexValue) : null;
+    }
+
+    public boolean contains(Object indexValue) {
+        return indexValue != null && lookup.containsKey(indexValue);
+    }
+
+    /**
+     * Snapshot of every primary key carrying the index value.
+     */
+    public List<K> members(Object indexValue) {
+        return members.get(indexValue);
+    }
+
+    public Map<Object, K> getLookup() {
+        return lookup;
+    }
+
+    public Map<Object, K> getReadOnlyLookup() {
+        return Collections.unmodifiableMap(lookup);
+    }
+
+    public void clear() {
+        lookup.clear();
+        members.clear();
+    }
+}
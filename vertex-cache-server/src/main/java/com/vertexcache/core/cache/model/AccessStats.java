@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+import com.vertexcache.common.util.CoarseClock;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Optional per-entry access statistics, only allocated when cache_access_stats is enabled.
+ *
+ * Timestamps come from the CoarseClock and lastAccessed is only written when the clock has moved, so a
+ * hot key does not bounce its cache line on every read. The hit count is relaxed: it is a plain field
+ * (concurrent hits may be lost, no CAS on the read path), exact for the first EXACT_HITS hits and sampled
+ * beyond that, counting one in SAMPLE_RATE hits as SAMPLE_RATE. Good enough for inspection, not billing.
+ */
+public final class AccessStats {
+
+    static final int EXACT_HITS = 64;
+    static final int SAMPLE_RATE = 8;
+
+    private final long createdAt;
+    private volatile long lastAccessed;
+    private volatile long lastUpdatedAt;
+    private int hitCount;
+
+    AccessStats() {
+        long now = CoarseClock.currentTimeMillis();
+        this.createdAt = now;
+        this.lastAccessed = now;
+        this.lastUpdatedAt = now;
+    }
+
+    void recordAccess() {
+        long now = CoarseClock.currentTimeMillis();
+        if (lastAccessed != now) {
+            lastAccessed = now;
+        }
+        int hits = hitCount;
+        if (hits < EXACT_HITS) {
+            hitCount = hits + 1;
+        } else if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0 && hits <= Integer.MAX_VALUE - SAMPLE_RATE) {
+            hitCount = hits + SAMPLE_RATE;
+        }
+    }
+
+    void recordUpdate() {
+        lastUpdatedAt = CoarseClock.currentTimeMillis();
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getLastAccessed() {
+        return lastAccessed;
+    }
+
+    public long getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+}
@@ -15,58 +15,191 @@
  */
 package com.vertexcache.core.cache.model;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * Represents a single value entry stored in the cache, associated with a specific key.
  * This class encapsulates the actual value and metadata.
+ *
+ * expiresAt is the absolute epoch millis after which the entry is considered gone, 0 means
+ * the entry never expires.
+ *
+ * The value is held on the heap, storage engines that keep it elsewhere override loadValue,
+ * storeValue and release (see OffHeapCacheEntry), and entries holding it in another form override
+ * loadStoredValue as well (see CompressedCacheEntry).
+ *
+ * weight is the estimated footprint accounted against cache_max_memory while the entry is in the
+ * cache, releaseWeight hands it back exactly once when the entry leaves.
+ *
+ * Access statistics (timestamps and hit count) are optional, see AccessStats. When they are disabled the
+ * entry carries no clock reads, counters or timestamps at all, and getValue is a plain load. The stats
+ * getters then return 0.
  */
-public final class CacheEntry<V> {
+public class CacheEntry<V> {
+
+    private static final AtomicIntegerFieldUpdater<CacheEntry> WEIGHT =
+            AtomicIntegerFieldUpdater.newUpdater(CacheEntry.class, "weight");
+
     private V value;
-    private final long createdAt;
-    private volatile long lastAccessed;
-    private volatile long lastUpdatedAt;
-    private final AtomicInteger hitCount;
+    private final AccessStats stats;
     private final boolean isRemote;
+    private volatile long expiresAt;
+    private volatile int weight;
 
     public CacheEntry(V value, boolean isRemote) {
-        long now = System.currentTimeMillis();
+        this(value, isRemote, 0);
+    }
+
+    public CacheEntry(V value, boolean isRemote, long expiresAt) {
+        this(value, isRemote, expiresAt, false);
+    }
+
+    public CacheEntry(V value, boolean isRemote, long expiresAt, boolean trackAccess) {
         this.value = value;
-        this.createdAt = now;
-        this.lastAccessed = now;
-        this.lastUpdatedAt = now;
-        this.hitCount = new AtomicInteger(0);
+        this.stats = trackAccess ? new AccessStats() : null;
         this.isRemote = isRemote;
+        this.expiresAt = expiresAt;
     }
 
     public synchronized void updateValue(V newValue) {
-        this.value = newValue;
-        this.lastUpdatedAt = System.currentTimeMillis();
+        storeValue(newValue);
+        if (stats != null) {
+            stats.recordUpdate();
+        }
     }
 
     public V getValue() {
-        this.lastAccessed = System.currentTimeMillis();
-        this.hitCount.incrementAndGet();
+        if (stats != null) {
+            stats.recordAccess();
+        }
+        return loadValue();
+    }
+
+    /**
+     * The value without recording an access, for housekeeping such as snapshots.
+     */
+    public V peekValue() {
+        return loadValue();
+    }
+
+    protected V loadValue() {
         return value;
     }
 
+    /**
+     * The value in the form it is held in, a CompressedValue for a compressed entry, recording an access.
+     */
+    public Object getStoredValue() {
+        if (stats != null) {
+            stats.recordAccess();
+        }
+        return loadStoredValue();
+    }
+
+    /**
+     * The held form without recording an access, for housekeeping such as weighing the entry.
+     */
+    public Object peekStoredValue() {
+        return loadStoredValue();
+    }
+
+    protected Object loadStoredValue() {
+        return loadValue();
+    }
+
+    public boolean isCompressed() {
+        return false;
+    }
+
+    /**
+     * Bytes saved by holding the value compressed, 0 for an uncompressed entry.
+     */
+    public int getSavedBytes() {
+        return 0;
+    }
+
+    protected void storeValue(V newValue) {
+        this.value = newValue;
+    }
+
+    /**
+     * Frees storage held outside the heap once the entry has left the cache, no-op for heap entries.
+     */
+    public void release() {
+    }
+
+    public boolean isOffHeap() {
+        return false;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Clears the weight and returns what it was, so only the first caller gets to release it.
+     */
+    public int releaseWeight() {
+        return WEIGHT.getAndSet(this, 0);
+    }
+
+    /**
+     * Changes the weight of an entry still accounted for, returns the difference to apply (0 once released).
+     */
+    public int reweigh(int newWeight) {
+        while (true) {
+            int current = weight;
+            if (current == 0) {
+                return 0;
+            }
+            if (WEIGHT.compareAndSet(this, current, newWeight)) {
+                return newWeight - current;
+            }
+        }
+    }
+
+    public boolean hasAccessStats() {
+        return stats != null;
+    }
+
     public long getCreatedAt() {
-        return createdAt;
+        return stats != null ? stats.getCreatedAt() : 0;
     }
 
     public long getLastAccessed() {
-        return lastAccessed;
+        return stats != null ? stats.getLastAccessed() : 0;
     }
 
     public long getLastUpdatedAt() {
-        return lastUpdatedAt;
+        return stats != null ? stats.getLastUpdatedAt() : 0;
     }
 
     public int getHitCount() {
-        return hitCount.get();
+        return stats != null ? stats.getHitCount() : 0;
     }
 
     public boolean isRemote() {
         return isRemote;
     }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean hasExpiry() {
+        return expiresAt > 0;
+    }
+
+    public boolean isExpired(long now) {
+        long deadline = expiresAt;
+        return deadline > 0 && now >= deadline;
+    }
 }
@@ -16,26 +16,59 @@
 package com.vertexcache.core.cache.model;
 
 /**
- * Represents a reference to a secondary or tertiary index associated with a cache entry.
- * This object is used to maintain reverse mappings from index values (e.g., idx1, idx2)
- * back to the primary cache key, enabling fast lookup and index-based retrieval.
+ * Represents the secondary index values carried by one cache entry, the reverse mapping from a primary
+ * key back to its index values so they can be unlinked when the entry goes away.
  *
- * Typically managed internally by the indexing subsystem to support efficient multi-key access patterns.
+ * Values are kept in a compact array by index position and trimmed after the last one set, a key using
+ * only the first index of a keyspace declaring several pays for one slot. Keys without any index value
+ * have no reference at all.
  */
-public class CacheIndexRef {
-    public final Object idx1;
-    public final Object idx2;
+public final class CacheIndexRef {
 
-    public CacheIndexRef(Object idx1, Object idx2) {
-        this.idx1 = idx1;
-        this.idx2 = idx2;
+    private final Object[] values;
+
+    private CacheIndexRef(Object[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Reference for the index values by position, null when none is set.
+     */
+    public static CacheIndexRef of(Object... secondaryKeys) {
+        return of(secondaryKeys.length, secondaryKeys);
+    }
+
+    /**
+     * Same as of(secondaryKeys), ignoring any value past the first limit positions.
+     */
+    public static CacheIndexRef of(int limit, Object... secondaryKeys) {
+        int length = Math.min(limit, secondaryKeys.length);
+        while (length > 0 && secondaryKeys[length - 1] == null) {
+            length--;
+        }
+        if (length == 0) {
+            return null;
+        }
+        Object[] values = new Object[length];
+        System.arraycopy(secondaryKeys, 0, values, 0, length);
+        return new CacheIndexRef(values);
+    }
+
+    /**
+     * Index value at the position, null when the entry does not use that index.
+     */
+    public Object get(int index) {
+        return index < values.length ? values[index] : null;
     }
 
-    public Object getIdx1() {
-        return idx1;
+    /**
+     * Number of positions held, one past the last index the entry uses.
+     */
+    public int length() {
+        return values.length;
     }
 
-    public Object getIdx2() {
-        return idx2;
+    public Object[] toArray() {
+        return values.clone();
     }
 }
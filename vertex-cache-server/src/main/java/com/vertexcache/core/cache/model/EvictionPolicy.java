@@ -25,9 +25,12 @@ package com.vertexcache.core.cache.model;
  * - FIFO: First-In-First-Out
  * - MRU: Most Recently Used
  * - CLOCK: Clock algorithm (approximation of LRU)
+ * - CLOCKPRO: Clock-Pro, scan resistant Clock with hot, cold and non-resident test keys
  * - ARC: Adaptive Replacement Cache
  * - RANDOM: Random entry eviction
  * - TINYLFU: TinyLFU with admission filtering
+ * - WTINYLFU: Window TinyLFU, admission window plus segmented LRU guarded by a frequency sketch
+ * - AUTO: Runs whichever of LRU, LFU and W-TinyLFU shadow simulation shows the best recent hit ratio
  * - NONE: No eviction; cache will reject inserts once full
  *
  * The selected policy impacts cache performance characteristics and should align with access patterns.
@@ -43,8 +46,11 @@ public enum EvictionPolicy {
 
     ARC("ARC", "Adaptive Replacement Cache", "Combines the benefits of both LRU (Least Recently Used) and LFU (Least Frequently Used) cache"),
     TwoQueues("2Queue", "Two Queues", "Cache by prioritizing recently accessed items (inQueue) and identifying less frequently accessed items for potential eviction (outQueue)"),
-    Clock("Clock", "Clock (or Clock-Pro)", "Cache based on the Clock (or Clock-Pro) algorithm, designed to efficiently manage a cache of key-value pairs with a limited capacity"),
+    Clock("Clock", "Clock", "Second chance eviction over a slot array, reference bits set lock-free on reads and an amortized O(1) hand"),
+    ClockPro("Clock-Pro", "Clock-Pro", "Clock with hot, cold and non-resident test keys and an adaptive cold area, scan resistant like LIRS"),
     TinyLFU("TinyLFU", "Tiny Least Frequently Used", " Cache designed to efficiently manage cache evictions while maintaining high hit ratios, especially in scenarios with skewed access patterns"),
+    WTinyLFU("W-TinyLFU", "Window Tiny Least Frequently Used", "Small LRU admission window in front of a segmented LRU main area, admission decided by an aging count-min sketch with doorkeeper, O(1) and scan resistant"),
+    AUTO("AUTO", "Auto", "Shadow simulates LRU, LFU and W-TinyLFU on a sample of the keys and switches the live policy to the one with the best recent hit ratio"),
     ;
 
     private final String abbreviation;
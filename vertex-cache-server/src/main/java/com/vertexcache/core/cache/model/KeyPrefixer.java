@@ -16,6 +16,7 @@
 package com.vertexcache.core.cache.model;
 
 import com.vertexcache.core.setting.Config;
+import com.vertexcache.module.auth.model.TenantId;
 import com.vertexcache.server.session.ClientSessionContext;
 
 /**
@@ -27,33 +28,44 @@ import com.vertexcache.server.session.ClientSessionContext;
  * Example:
  * - Input key: "user:123"
  * - Tenant prefix: "tenantA"
- * - Resulting stored key: "tenantA:user:123"
+ * - Resulting stored key: TenantKey("tenantA", "user:123"), reading as "tenantA::user:123"
  *
- * The prefix strategy can be customized based on tenant identifiers, environments, or application domains.
+ * Prefixed keys are TenantKeys rather than concatenated strings, so a command neither copies nor rehashes
+ * the key. Whether a session's keys are prefixed depends on settings that do not change at runtime, it is
+ * resolved on the session's first command and kept by the session.
  */
 public class KeyPrefixer {
 
-    private static final String SEPARATOR = "::";
-
-    public static String prefixKey(String key, ClientSessionContext context) {
-        if (!Config.getInstance().getAuthWithTenantConfigLoader().isAuthEnabled() ||
-                !Config.getInstance().getAuthWithTenantConfigLoader().isTenantKeyPrefixingEnabled() ||
-                context == null ||
-                context.getTenantId() == null) {
-            return key;
-        }
-        return context.getTenantId().getValue() + SEPARATOR + key;
+    /**
+     * The key scoped to the session's tenant, or the key itself when tenant key prefixing does not apply.
+     */
+    public static Object prefixKey(String key, ClientSessionContext context) {
+        TenantId tenant = keyTenant(context);
+        return tenant != null ? new TenantKey(tenant, key) : key;
     }
 
     public static String removePrefix(String fullKey, ClientSessionContext context) {
-        if (!Config.getInstance().getAuthWithTenantConfigLoader().isAuthEnabled() ||
-                !Config.getInstance().getAuthWithTenantConfigLoader().isTenantKeyPrefixingEnabled() ||
-                context == null ||
-                context.getTenantId() == null) {
+        TenantId tenant = keyTenant(context);
+        if (tenant == null) {
             return fullKey;
         }
 
-        String prefix = context.getTenantId().getValue() + SEPARATOR;
+        String prefix = tenant.getValue() + TenantKey.SEPARATOR;
         return fullKey.startsWith(prefix) ? fullKey.substring(prefix.length()) : fullKey;
     }
+
+    /**
+     * Tenant the session's keys are scoped to, null when they are not prefixed.
+     */
+    public static TenantId keyTenant(ClientSessionContext context) {
+        if (context == null) {
+            return null;
+        }
+        if (!context.isKeyTenantResolved()) {
+            boolean prefixing = Config.getInstance().getAuthWithTenantConfigLoader().isAuthEnabled()
+                    && Config.getInstance().getAuthWithTenantConfigLoader().isTenantKeyPrefixingEnabled();
+            context.setKeyTenant(prefixing ? context.getTenantId() : null);
+        }
+        return context.getKeyTenant();
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Settings of one named keyspace, an independent cache with its own eviction policy, capacity and
+ * memory budget living next to the default keyspace.
+ *
+ * Declared in cache_keyspaces as name:policy:size[:max_memory[:segments[:indexes]]], ie: sessions:LRU:100000:256mb
+ * or users:LRU:50000:::email|phone|tenant. Indexes are the secondary index names of the keyspace in
+ * position order, idx1 and idx2 when not given.
+ */
+public class KeyspaceDefinition {
+
+    public static final String DEFAULT_NAME = "default";
+    public static final String INDEX_ONE = "idx1";
+    public static final String INDEX_TWO = "idx2";
+    public static final List<String> DEFAULT_INDEXES = List.of(INDEX_ONE, INDEX_TWO);
+    public static final int MAX_INDEXES = 16;
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final String name;
+    private final EvictionPolicy evictionPolicy;
+    private final int sizeCapacity;
+    private final long maxMemoryBytes;
+    private final int segments;
+    private final List<String> indexes;
+
+    public KeyspaceDefinition(String name, EvictionPolicy evictionPolicy, int sizeCapacity, long maxMemoryBytes, int segments) {
+        this(name, evictionPolicy, sizeCapacity, maxMemoryBytes, segments, DEFAULT_INDEXES);
+    }
+
+    public KeyspaceDefinition(String name, EvictionPolicy evictionPolicy, int sizeCapacity, long maxMemoryBytes,
+                              int segments, List<String> indexes) {
+        if (!isValidName(name)) {
+            throw new IllegalArgumentException("Invalid keyspace name: " + name);
+        }
+        this.name = name;
+        this.evictionPolicy = evictionPolicy;
+        this.sizeCapacity = sizeCapacity;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.segments = Math.max(1, segments);
+        this.indexes = validateIndexes(indexes);
+    }
+
+    public static boolean isValidName(String name) {
+        return name != null && NAME_PATTERN.matcher(name).matches();
+    }
+
+    /**
+     * Checks a list of secondary index names (same charset as keyspace names, unique ignoring case, at
+     * most MAX_INDEXES) and returns it as an unmodifiable list. Null stands for the default idx1, idx2.
+     */
+    public static List<String> validateIndexes(List<String> indexes) {
+        if (indexes == null) {
+            return DEFAULT_INDEXES;
+        }
+        if (indexes.size() > MAX_INDEXES) {
+            throw new IllegalArgumentException("Too many secondary indexes, maximum " + MAX_INDEXES + " allowed.");
+        }
+        Set<String> seen = new HashSet<>();
+        List<String> names = new ArrayList<>(indexes.size());
+        for (String index : indexes) {
+            String trimmed = index != null ? index.trim() : null;
+            if (!isValidName(trimmed)) {
+                throw new IllegalArgumentException("Invalid secondary index name: " + index);
+            }
+            if (!seen.add(trimmed.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Duplicate secondary index name: " + trimmed);
+            }
+            names.add(trimmed);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    public int getSizeCapacity() {
+        return sizeCapacity;
+    }
+
+    public long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public List<String> getIndexes() {
+        return indexes;
+    }
+
+    @Override
+    public String toString() {
+        return name + ":" + evictionPolicy.getAbbreviation() + ":" + sizeCapacity + ":" + maxMemoryBytes + ":" + segments + ":" + String.join("|", indexes);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+/**
+ * One switch of the live eviction policy made by the AUTO policy, with the smoothed shadow hit ratios
+ * of the policy it left and the one it picked at the time.
+ */
+public class PolicyDecision {
+
+    private final long epoch;
+    private final long timestamp;
+    private final EvictionPolicy from;
+    private final EvictionPolicy to;
+    private final double fromHitRatio;
+    private final double toHitRatio;
+
+    public PolicyDecision(long epoch, long timestamp, EvictionPolicy from, EvictionPolicy to,
+                          double fromHitRatio, double toHitRatio) {
+        this.epoch = epoch;
+        this.timestamp = timestamp;
+        this.from = from;
+        this.to = to;
+        this.fromHitRatio = fromHitRatio;
+        this.toHitRatio = toHitRatio;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public EvictionPolicy getFrom() {
+        return from;
+    }
+
+    public EvictionPolicy getTo() {
+        return to;
+    }
+
+    public double getFromHitRatio() {
+        return fromHitRatio;
+    }
+
+    public double getToHitRatio() {
+        return toHitRatio;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("epoch %d: %s (%.3f) -> %s (%.3f)", epoch,
+                from.getAbbreviation(), fromHitRatio, to.getAbbreviation(), toHitRatio);
+    }
+}
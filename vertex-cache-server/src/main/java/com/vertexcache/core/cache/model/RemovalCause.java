@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+/**
+ * Why an entry left the cache, passed to every RemovalListener along with the entry.
+ *
+ * - EXPLICIT: removed by a client (DEL, clear) or by the application
+ * - REPLACED: overwritten by a new value for the same key, the key itself stays in the cache
+ * - EXPIRED: reclaimed once past its TTL, lazily on read or by the timing wheel
+ * - EVICTED: dropped by the eviction policy to honour the capacity or cache_max_memory
+ */
+public enum RemovalCause {
+    EXPLICIT,
+    REPLACED,
+    EXPIRED,
+    EVICTED;
+
+    /**
+     * True when the key is gone from the cache, only a replacement keeps it.
+     */
+    public boolean isKeyRemoved() {
+        return this != REPLACED;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+import java.util.List;
+
+/**
+ * One page of a cursor scan over the keys of a keyspace.
+ *
+ * Holds the keys of the page that passed the scan filter, possibly none, and the last key examined,
+ * which the next page resumes after. The last key is null once the scan has covered its whole range.
+ */
+public final class ScanPage<K> {
+
+    private final List<K> keys;
+    private final K lastKey;
+
+    public ScanPage(List<K> keys, K lastKey) {
+        this.keys = keys;
+        this.lastKey = lastKey;
+    }
+
+    public List<K> getKeys() {
+        return keys;
+    }
+
+    public K getLastKey() {
+        return lastKey;
+    }
+
+    public boolean isComplete() {
+        return lastKey == null;
+    }
+}
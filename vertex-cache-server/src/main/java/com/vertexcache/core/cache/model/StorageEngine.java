@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+/**
+ * Enum representing where cache values are stored.
+ *
+ * - HEAP: values are regular Java objects referenced by their CacheEntry (default)
+ * - OFFHEAP: value bytes live in slab-allocated direct memory, the heap only keeps a compact
+ *            handle per entry, which keeps large caches out of reach of GC pauses
+ */
+public enum StorageEngine {
+    HEAP("heap", "Values stored on the Java heap"),
+    OFFHEAP("offheap", "Value bytes stored in slab-allocated direct memory");
+
+    private final String abbreviation;
+    private final String description;
+
+    StorageEngine(String abbreviation, String description) {
+        this.abbreviation = abbreviation;
+        this.description = description;
+    }
+
+    public static StorageEngine fromString(String value) {
+        for (StorageEngine engine : StorageEngine.values()) {
+            if (engine.name().equalsIgnoreCase(value) || engine.getAbbreviation().equalsIgnoreCase(value)) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("Unknown storage engine: " + value);
+    }
+
+    public String getAbbreviation() {
+        return abbreviation;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return this.abbreviation + " (" + this.description + ")";
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+import com.vertexcache.module.auth.model.TenantId;
+
+/**
+ * Key of a tenant-scoped entry, the tenant and the client's key held side by side instead of being
+ * concatenated into a new "tenant::key" string on every command.
+ *
+ * The hash is computed once from the hashes of both parts, the tenant's being cached by its long-lived
+ * String, so a lookup neither copies the key nor hashes more than the key the client sent. Two keys are
+ * equal when both parts are, a TenantKey never equals the String of its concatenated form.
+ *
+ * As a CharSequence it reads as "tenant::key" without building it, which keeps prefix matching and the
+ * ordering of the ordered key index (see KeyOrder) identical to those of the concatenated strings.
+ */
+public final class TenantKey implements CharSequence, Comparable<TenantKey> {
+
+    public static final String SEPARATOR = "::";
+
+    private final String tenant;
+    private final String key;
+    private final int hash;
+
+    public TenantKey(String tenant, String key) {
+        this.tenant = tenant;
+        this.key = key;
+        this.hash = 31 * tenant.hashCode() + key.hashCode();
+    }
+
+    public TenantKey(TenantId tenant, String key) {
+        this(tenant.getValue(), key);
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    /**
+     * The key as sent by the client, without the tenant.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Whether the concatenated form starts with the prefix, without building it.
+     */
+    public boolean startsWith(String prefix) {
+        if (prefix.length() > length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return tenant.length() + SEPARATOR.length() + key.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < tenant.length()) {
+            return tenant.charAt(index);
+        }
+        index -= tenant.length();
+        if (index < SEPARATOR.length()) {
+            return SEPARATOR.charAt(index);
+        }
+        return key.charAt(index - SEPARATOR.length());
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public int compareTo(TenantKey other) {
+        if (tenant.equals(other.tenant)) {
+            return key.compareTo(other.key);
+        }
+        return compare(this, other);
+    }
+
+    /**
+     * Lexicographic comparison of two character sequences, what String.compareTo does for Strings.
+     */
+    public static int compare(CharSequence a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TenantKey other)) return false;
+        return hash == other.hash && key.equals(other.key) && tenant.equals(other.tenant);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return tenant + SEPARATOR + key;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+import java.util.regex.Pattern;
+
+/**
+ * Quota of one tenant: the entries and bytes its keys may hold in each keyspace.
+ *
+ * Declared in tenant_quotas as tenant:max_entries[:max_memory], ie: tenantA:100000:256mb or tenantB:5000.
+ * A tenant with a quota gets its own partition in every keyspace it writes to, with its own eviction
+ * domain, so reaching its quota evicts its own keys and never those of other tenants. A limit of 0
+ * leaves that dimension unbounded.
+ */
+public class TenantQuota {
+
+    private static final Pattern TENANT_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final String tenantId;
+    private final int maxEntries;
+    private final long maxMemoryBytes;
+
+    public TenantQuota(String tenantId, int maxEntries, long maxMemoryBytes) {
+        if (tenantId == null || !TENANT_PATTERN.matcher(tenantId).matches()) {
+            throw new IllegalArgumentException("Invalid tenant id: " + tenantId);
+        }
+        if (maxEntries < 0 || maxMemoryBytes < 0) {
+            throw new IllegalArgumentException("max_entries and max_memory must be positive");
+        }
+        this.tenantId = tenantId;
+        this.maxEntries = maxEntries;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    @Override
+    public String toString() {
+        return tenantId + ":" + maxEntries + ":" + maxMemoryBytes;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.model;
+
+/**
+ * Usage of one tenant against its quota, entries, bytes and evictions summed over the tenant's
+ * partitions in every keyspace. The quota applies to each partition on its own.
+ */
+public class TenantUsage {
+
+    private final TenantQuota quota;
+    private long keyCount;
+    private long memoryBytes;
+    private long evictions;
+
+    public TenantUsage(TenantQuota quota) {
+        this.quota = quota;
+    }
+
+    public void add(long keyCount, long memoryBytes, long evictions) {
+        this.keyCount += keyCount;
+        this.memoryBytes += memoryBytes;
+        this.evictions += evictions;
+    }
+
+    public String getTenantId() {
+        return quota.getTenantId();
+    }
+
+    public TenantQuota getQuota() {
+        return quota;
+    }
+
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.offheap;
+
+import com.vertexcache.core.cache.model.CacheEntry;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Cache entry whose value bytes live in an off-heap slab, the heap only holds the packed handle.
+ *
+ * Reads are lock-free and validated like a sequence lock: the handle is read, the bytes are copied,
+ * and the copy is only used if the handle is still the same afterwards. An update or release swaps
+ * the handle before its chunk is freed, so a reader racing with either retries or sees the entry as
+ * gone instead of decoding a reused chunk.
+ *
+ * A replacement value that cannot go off-heap (not a String or byte array, not of the entry's kind,
+ * empty or larger than a slab) is kept on the heap and the handle is set to ON_HEAP. The kind is final so
+ * a validated read always decodes the bytes the way they were written.
+ *
+ * ON_HEAP and RELEASED are distinct from each other and from SlabAllocator.NO_MEMORY, and none of them
+ * can be a handle: their length bits would exceed the largest slab.
+ */
+public class OffHeapCacheEntry<V> extends CacheEntry<V> {
+
+    static final long ON_HEAP = -2L;
+    static final long RELEASED = -1L;
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicLongFieldUpdater<OffHeapCacheEntry<?>> HANDLE =
+            AtomicLongFieldUpdater.newUpdater((Class<OffHeapCacheEntry<?>>) (Class<?>) OffHeapCacheEntry.class, "handle");
+
+    private final OffHeapValueStore<V> store;
+    private final boolean binary;
+    private volatile long handle;
+
+    OffHeapCacheEntry(OffHeapValueStore<V> store, long handle, boolean binary, boolean isRemote, long expiresAt, boolean trackAccess) {
+        super(null, isRemote, expiresAt, trackAccess);
+        this.store = store;
+        this.binary = binary;
+        this.handle = handle;
+    }
+
+    @Override
+    protected V loadValue() {
+        for (;;) {
+            long current = handle;
+            if (current == RELEASED) {
+                return null;
+            }
+            if (current == ON_HEAP) {
+                V value = super.loadValue();
+                if (handle == ON_HEAP) {
+                    return value;
+                }
+                continue;
+            }
+            byte[] bytes = store.read(current);
+            VarHandle.acquireFence();
+            if (handle == current) {
+                return store.decode(bytes, binary);
+            }
+        }
+    }
+
+    @Override
+    protected void storeValue(V value) {
+        long next = store.store(value, binary);
+        if (next == ON_HEAP) {
+            super.storeValue(value);
+        }
+        for (;;) {
+            long current = handle;
+            if (current == RELEASED) {
+                // Released while updating, the entry is no longer in the cache
+                if (next != ON_HEAP) store.free(next);
+                super.storeValue(null);
+                return;
+            }
+            if (HANDLE.compareAndSet(this, current, next)) {
+                if (current != ON_HEAP) store.free(current);
+                if (next != ON_HEAP) super.storeValue(null);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        long current = HANDLE.getAndSet(this, RELEASED);
+        if (current != RELEASED && current != ON_HEAP) {
+            store.free(current);
+        }
+        super.storeValue(null);
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        long current = handle;
+        return current != ON_HEAP && current != RELEASED;
+    }
+
+    /**
+     * Length in bytes of the value stored off-heap, 0 when it is on the heap or released.
+     */
+    public int getOffHeapLength() {
+        long current = handle;
+        return current != ON_HEAP && current != RELEASED ? SlabAllocator.lengthOf(current) : 0;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.offheap;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.CacheEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Off-heap storage engine for cache values.
+ *
+ * Encodes values into a SlabAllocator and hands out OffHeapCacheEntry instances that keep only the
+ * packed handle on the heap. String values are stored as UTF-8 and byte array values as-is, anything
+ * else, empty values and values larger than one slab stay on the heap in a regular CacheEntry. Whether an
+ * entry decodes to a String or a byte array is fixed when it is created, a replacement of the other kind
+ * is kept on the heap.
+ *
+ * Chunks are returned to the allocator when the owning entry is released, which Cache wires to the
+ * removal hook of the eviction policy so evicted, removed, replaced and cleared entries give their
+ * memory back. A full arena makes room the same way cache_max_memory does: policy victims are evicted
+ * until the value fits, a write only fails once there is nothing left to evict.
+ */
+public class OffHeapValueStore<V> {
+
+    private final SlabAllocator allocator;
+    private final BooleanSupplier evictor;
+
+    /**
+     * Stores into the allocator, evictor evicting one entry of the cache and returning false when it
+     * holds none.
+     */
+    public OffHeapValueStore(SlabAllocator allocator, BooleanSupplier evictor) {
+        this.allocator = allocator;
+        this.evictor = evictor;
+    }
+
+    public CacheEntry<V> newEntry(V value, boolean isRemote, long expiresAt, boolean trackAccess) throws VertexCacheTypeException {
+        byte[] bytes = encode(value);
+        if (bytes == null || bytes.length == 0 || bytes.length > allocator.getSlabSize()) {
+            return new CacheEntry<>(value, isRemote, expiresAt, trackAccess);
+        }
+        long handle = allocate(bytes);
+        if (handle == SlabAllocator.NO_MEMORY) {
+            throw new VertexCacheTypeException("Off-heap memory exhausted, increase cache_offheap_size_mb or lower cache_size.");
+        }
+        return new OffHeapCacheEntry<>(this, handle, value instanceof byte[], isRemote, expiresAt, trackAccess);
+    }
+
+    /**
+     * Stores the bytes of a replacement value and returns their handle, OffHeapCacheEntry.ON_HEAP when
+     * the value has to stay on the heap. Throws IllegalStateException when the arena is full and the
+     * cache has nothing left to evict.
+     */
+    long store(V value, boolean binary) {
+        byte[] bytes = (value instanceof byte[]) == binary ? encode(value) : null;
+        if (bytes == null || bytes.length == 0 || bytes.length > allocator.getSlabSize()) {
+            return OffHeapCacheEntry.ON_HEAP;
+        }
+        long handle = allocate(bytes);
+        if (handle == SlabAllocator.NO_MEMORY) {
+            throw new IllegalStateException("Off-heap memory exhausted, increase cache_offheap_size_mb or lower cache_size.");
+        }
+        return handle;
+    }
+
+    /*
+     * Evicts until the bytes fit in the arena, NO_MEMORY once nothing is left to evict.
+     */
+    private long allocate(byte[] bytes) {
+        long handle = allocator.store(bytes);
+        while (handle == SlabAllocator.NO_MEMORY && evictor.getAsBoolean()) {
+            handle = allocator.store(bytes);
+        }
+        return handle;
+    }
+
+    byte[] read(long handle) {
+        return allocator.read(handle);
+    }
+
+    void free(long handle) {
+        allocator.free(handle);
+    }
+
+    @SuppressWarnings("unchecked")
+    V decode(byte[] bytes, boolean binary) {
+        return binary ? (V) bytes : (V) new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte[] encode(V value) {
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        return value instanceof String s ? s.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    public SlabAllocator getAllocator() {
+        return allocator;
+    }
+
+    public void clear() {
+        allocator.clear();
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Slab allocator over direct (off-heap) memory, in the style of memcached.
+ *
+ * The arena is cut into fixed size slabs (1 MiB by default) that are allocated lazily as direct
+ * ByteBuffers up to the configured capacity. A slab is assigned to one size class at a time and carved
+ * into equal chunks, size classes grow by a factor of 1.25 from 64 bytes up to the slab size, which
+ * bounds internal fragmentation to roughly 20%.
+ *
+ * Free chunks of a slab form an intrusive free list kept in the chunk bytes themselves (the first four
+ * bytes hold the index of the next free chunk), so freeing costs no heap allocation. Slabs with room
+ * are linked per size class. Once every chunk of a slab has been freed, typically by eviction, the
+ * whole slab goes back to the shared pool and can be reassigned to any other size class, so memory
+ * follows the value size distribution over time.
+ *
+ * A handle packs the slab index, the chunk offset and the stored length into one long:
+ *   [ slab : 19 bits ][ offset : 22 bits ][ length : 23 bits ]
+ * 0 is never a valid handle since stored lengths are at least one byte.
+ *
+ * allocate and free are serialized by one lock. read and write use absolute ByteBuffer access and
+ * need no lock, callers make sure a handle is not read after it has been freed.
+ */
+public class SlabAllocator {
+
+    public static final int DEFAULT_SLAB_SIZE = 1 << 20;
+    public static final int MAX_SLAB_SIZE = 1 << 22;
+    public static final int MIN_CHUNK_SIZE = 64;
+    public static final long NO_MEMORY = 0L;
+
+    private static final double GROWTH_FACTOR = 1.25;
+    private static final int MAX_SLABS = 1 << 19;
+    private static final int OFFSET_BITS = 22;
+    private static final int LENGTH_BITS = 23;
+    private static final int NONE = -1;
+
+    private final int slabSize;
+    private final int maxSlabs;
+    private final int[] chunkSizes;
+    private final int[] partialHead;
+
+    private final ByteBuffer[] slabs;
+    private final int[] slabClass;
+    private final int[] slabUsed;
+    private final int[] slabCarved;
+    private final int[] slabFreeHead;
+    private final int[] slabPrev;
+    private final int[] slabNext;
+
+    private final int[] freeSlabs;
+    private int freeSlabCount;
+    private int createdSlabs;
+    private long usedBytes;
+    private long storedBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SlabAllocator(long capacityBytes) {
+        this(capacityBytes, DEFAULT_SLAB_SIZE);
+    }
+
+    public SlabAllocator(long capacityBytes, int slabSize) {
+        if (slabSize < MIN_CHUNK_SIZE || slabSize > MAX_SLAB_SIZE) {
+            throw new IllegalArgumentException("Slab size must be between " + MIN_CHUNK_SIZE + " and " + MAX_SLAB_SIZE + " bytes");
+        }
+        this.slabSize = slabSize;
+        this.maxSlabs = (int) Math.max(1, Math.min(MAX_SLABS, capacityBytes / slabSize));
+        this.chunkSizes = buildSizeClasses(slabSize);
+        this.partialHead = new int[chunkSizes.length];
+        Arrays.fill(partialHead, NONE);
+
+        this.slabs = new ByteBuffer[maxSlabs];
+        this.slabClass = new int[maxSlabs];
+        this.slabUsed = new int[maxSlabs];
+        this.slabCarved = new int[maxSlabs];
+        this.slabFreeHead = new int[maxSlabs];
+        this.slabPrev = new int[maxSlabs];
+        this.slabNext = new int[maxSlabs];
+        this.freeSlabs = new int[maxSlabs];
+    }
+
+    private static int[] buildSizeClasses(int slabSize) {
+        int[] sizes = new int[64];
+        int count = 0;
+        double size = MIN_CHUNK_SIZE;
+        while (size < slabSize) {
+            int chunk = ((int) Math.ceil(size) + 7) & ~7;
+            if (count == 0 || chunk > sizes[count - 1]) {
+                sizes[count++] = chunk;
+            }
+            size *= GROWTH_FACTOR;
+        }
+        if (count == 0 || sizes[count - 1] < slabSize) {
+            sizes[count++] = slabSize;
+        }
+        return Arrays.copyOf(sizes, count);
+    }
+
+    /**
+     * Copies the bytes into a newly allocated chunk, returns its handle or NO_MEMORY when the arena is
+     * exhausted or the value does not fit in a slab.
+     */
+    public long store(byte[] bytes) {
+        if (bytes.length == 0 || bytes.length > slabSize) {
+            return NO_MEMORY;
+        }
+        long handle = allocate(bytes.length);
+        if (handle != NO_MEMORY) {
+            slabs[slabOf(handle)].put(offsetOf(handle), bytes, 0, bytes.length);
+        }
+        return handle;
+    }
+
+    public byte[] read(long handle) {
+        byte[] bytes = new byte[lengthOf(handle)];
+        slabs[slabOf(handle)].get(offsetOf(handle), bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    public void free(long handle) {
+        int slab = slabOf(handle);
+        lock.lock();
+        try {
+            int sizeClass = slabClass[slab];
+            int chunkSize = chunkSizes[sizeClass];
+            int chunk = offsetOf(handle) / chunkSize;
+            boolean wasFull = slabFreeHead[slab] == NONE && slabCarved[slab] == chunksPerSlab(sizeClass);
+
+            slabs[slab].putInt(chunk * chunkSize, slabFreeHead[slab]);
+            slabFreeHead[slab] = chunk;
+            slabUsed[slab]--;
+            usedBytes -= chunkSize;
+            storedBytes -= lengthOf(handle);
+
+            if (slabUsed[slab] == 0) {
+                if (!wasFull) unlink(sizeClass, slab);
+                releaseSlab(slab);
+            } else if (wasFull) {
+                link(sizeClass, slab);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees every chunk and returns all slabs to the pool, handles issued before are invalid afterwards.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            Arrays.fill(partialHead, NONE);
+            freeSlabCount = 0;
+            for (int slab = createdSlabs - 1; slab >= 0; slab--) {
+                releaseSlab(slab);
+            }
+            usedBytes = 0;
+            storedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long allocate(int length) {
+        int sizeClass = sizeClassFor(length);
+        lock.lock();
+        try {
+            int slab = partialHead[sizeClass];
+            if (slab == NONE) {
+                slab = acquireSlab(sizeClass);
+                if (slab == NONE) {
+                    return NO_MEMORY;
+                }
+                link(sizeClass, slab);
+            }
+
+            int chunk = slabFreeHead[slab];
+            if (chunk != NONE) {
+                slabFreeHead[slab] = slabs[slab].getInt(chunk * chunkSizes[sizeClass]);
+            } else {
+                chunk = slabCarved[slab]++;
+            }
+            slabUsed[slab]++;
+            usedBytes += chunkSizes[sizeClass];
+            storedBytes += length;
+
+            if (slabFreeHead[slab] == NONE && slabCarved[slab] == chunksPerSlab(sizeClass)) {
+                unlink(sizeClass, slab);
+            }
+            return pack(slab, chunk * chunkSizes[sizeClass], length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int acquireSlab(int sizeClass) {
+        int slab;
+        if (freeSlabCount > 0) {
+            slab = freeSlabs[--freeSlabCount];
+        } else if (createdSlabs < maxSlabs) {
+            try {
+                slabs[createdSlabs] = ByteBuffer.allocateDirect(slabSize);
+            } catch (OutOfMemoryError e) {
+                // Direct memory limit of the JVM is lower than the configured arena
+                return NONE;
+            }
+            slab = createdSlabs++;
+        } else {
+            return NONE;
+        }
+        slabClass[slab] = sizeClass;
+        slabUsed[slab] = 0;
+        slabCarved[slab] = 0;
+        slabFreeHead[slab] = NONE;
+        return slab;
+    }
+
+    private void releaseSlab(int slab) {
+        slabClass[slab] = NONE;
+        slabUsed[slab] = 0;
+        slabCarved[slab] = 0;
+        slabFreeHead[slab] = NONE;
+        slabPrev[slab] = NONE;
+        slabNext[slab] = NONE;
+        freeSlabs[freeSlabCount++] = slab;
+    }
+
+    private void link(int sizeClass, int slab) {
+        int head = partialHead[sizeClass];
+        slabPrev[slab] = NONE;
+        slabNext[slab] = head;
+        if (head != NONE) slabPrev[head] = slab;
+        partialHead[sizeClass] = slab;
+    }
+
+    private void unlink(int sizeClass, int slab) {
+        int prev = slabPrev[slab];
+        int next = slabNext[slab];
+        if (prev != NONE) slabNext[prev] = next;
+        else partialHead[sizeClass] = next;
+        if (next != NONE) slabPrev[next] = prev;
+        slabPrev[slab] = NONE;
+        slabNext[slab] = NONE;
+    }
+
+    private int chunksPerSlab(int sizeClass) {
+        return slabSize / chunkSizes[sizeClass];
+    }
+
+    int sizeClassFor(int length) {
+        int index = Arrays.binarySearch(chunkSizes, length);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // ==== Handle encoding ====
+
+    private static long pack(int slab, int offset, int length) {
+        return ((long) slab << (OFFSET_BITS + LENGTH_BITS)) | ((long) offset << LENGTH_BITS) | length;
+    }
+
+    static int slabOf(long handle) {
+        return (int) (handle >>> (OFFSET_BITS + LENGTH_BITS));
+    }
+
+    static int offsetOf(long handle) {
+        return (int) ((handle >>> LENGTH_BITS) & ((1L << OFFSET_BITS) - 1));
+    }
+
+    public static int lengthOf(long handle) {
+        return (int) (handle & ((1L << LENGTH_BITS) - 1));
+    }
+
+    // ==== Statistics ====
+
+    public int getSlabSize() {
+        return slabSize;
+    }
+
+    public long getCapacityBytes() {
+        return (long) maxSlabs * slabSize;
+    }
+
+    /**
+     * Direct memory reserved so far, slabs are only allocated when first needed.
+     */
+    public long getReservedBytes() {
+        lock.lock();
+        try {
+            return (long) createdSlabs * slabSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bytes of the chunks in use, including the slack of each size class.
+     */
+    public long getUsedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bytes of the stored values themselves.
+     */
+    public long getStoredBytes() {
+        lock.lock();
+        try {
+            return storedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getFreeSlabCount() {
+        lock.lock();
+        try {
+            return freeSlabCount + (maxSlabs - createdSlabs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSizeClassCount() {
+        return chunkSizes.length;
+    }
+}
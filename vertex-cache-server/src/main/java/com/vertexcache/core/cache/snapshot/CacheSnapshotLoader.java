@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.snapshot;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.TenantKey;
+import com.vertexcache.module.auth.model.TenantId;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Loads a snapshot written by CacheSnapshotWriter back into the keyspaces, before the server accepts
+ * clients.
+ *
+ * The chunk table at the end of the file lists every chunk, each is then memory-mapped and decoded by
+ * its own task on a pool of loader threads, so a snapshot of millions of keys loads at the pace of all
+ * cores instead of one stream. Entries keep their deadline, those past due by now are skipped, and
+ * index values are matched to the keyspace's indexes by name. Chunks of a keyspace that is no longer
+ * configured are skipped, a chunk failing its CRC is logged and skipped without losing the others.
+ */
+public final class CacheSnapshotLoader {
+
+    private CacheSnapshotLoader() {}
+
+    public static SnapshotStats load(Path file) throws IOException {
+        return load(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static SnapshotStats load(Path file, int threads) throws IOException {
+        long started = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<Chunk> chunks = readTable(channel);
+            LongAdder restored = new LongAdder();
+            LongAdder skipped = new LongAdder();
+            if (!chunks.isEmpty()) {
+                AtomicInteger threadCount = new AtomicInteger();
+                ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, chunks.size())), r -> {
+                    Thread t = new Thread(r, "CacheSnapshotLoader-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+                try {
+                    List<Future<?>> tasks = new ArrayList<>(chunks.size());
+                    for (Chunk chunk : chunks) {
+                        tasks.add(pool.submit(() -> loadChunk(channel, chunk, restored, skipped)));
+                    }
+                    for (Future<?> task : tasks) {
+                        task.get();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Snapshot load interrupted");
+                } catch (ExecutionException e) {
+                    throw new IOException("Snapshot load failed: " + e.getCause().getMessage(), e.getCause());
+                } finally {
+                    pool.shutdownNow();
+                }
+            }
+            return new SnapshotStats(restored.sum(), skipped.sum(), chunks.size(), channel.size(),
+                    System.currentTimeMillis() - started);
+        }
+    }
+
+    private static List<Chunk> readTable(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < SnapshotFormat.HEADER_BYTES + SnapshotFormat.FOOTER_BYTES) {
+            throw new IOException("Not a cache snapshot, file too short");
+        }
+        ByteBuffer header = read(channel, 0, SnapshotFormat.HEADER_BYTES);
+        if (header.getInt() != SnapshotFormat.MAGIC) {
+            throw new IOException("Not a cache snapshot, bad magic number");
+        }
+        byte version = header.get();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IOException("Unsupported cache snapshot version " + version);
+        }
+
+        ByteBuffer footer = read(channel, size - SnapshotFormat.FOOTER_BYTES, SnapshotFormat.FOOTER_BYTES);
+        long tableOffset = footer.getLong();
+        int chunkCount = footer.getInt();
+        if (footer.getInt() != SnapshotFormat.MAGIC || chunkCount < 0
+                || tableOffset + (long) chunkCount * SnapshotFormat.TABLE_ENTRY_BYTES != size - SnapshotFormat.FOOTER_BYTES) {
+            throw new IOException("Cache snapshot is truncated or corrupt");
+        }
+
+        ByteBuffer table = read(channel, tableOffset, chunkCount * SnapshotFormat.TABLE_ENTRY_BYTES);
+        List<Chunk> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = new Chunk(table.getLong(), table.getInt(), table.getInt(), table.getInt());
+            if (chunk.offset < SnapshotFormat.HEADER_BYTES || chunk.length < 0 || chunk.offset + chunk.length > tableOffset) {
+                throw new IOException("Cache snapshot chunk " + i + " lies outside the file");
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Cache snapshot is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void loadChunk(FileChannel channel, Chunk chunk, LongAdder restored, LongAdder skipped) {
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.offset, chunk.length);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if ((int) crc.getValue() != chunk.crc) {
+                throw new IOException("CRC mismatch");
+            }
+            decode(buffer, chunk, restored, skipped);
+        } catch (IOException | BufferUnderflowException e) {
+            skipped.add(chunk.entries);
+            LogHelper.getInstance().logWarn("[Snapshot] Skipping corrupt chunk at offset " + chunk.offset + ": " + e.getMessage());
+        }
+    }
+
+    private static void decode(ByteBuffer in, Chunk chunk, LongAdder restored, LongAdder skipped) throws IOException {
+        String keyspaceName = SnapshotFormat.readString(in);
+        String tenant = SnapshotFormat.readString(in);
+        Cache<Object, Object> target = resolve(keyspaceName, tenant);
+        if (target == null) {
+            skipped.add(chunk.entries);
+            LogHelper.getInstance().logWarn("[Snapshot] Keyspace " + keyspaceName + " is not configured, skipping "
+                    + chunk.entries + " entries");
+            return;
+        }
+
+        // Snapshot index position to the keyspace's current one, -1 for an index it no longer has
+        int[] positions = new int[SnapshotFormat.readVarInt(in)];
+        int width = 0;
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = target.indexOf(SnapshotFormat.readString(in));
+            width = Math.max(width, positions[i] + 1);
+        }
+
+        for (int i = 0; i < chunk.entries; i++) {
+            byte flags = in.get();
+            Object key = (flags & SnapshotFormat.FLAG_TENANT_KEY) != 0
+                    ? new TenantKey(SnapshotFormat.readString(in), SnapshotFormat.readString(in))
+                    : SnapshotFormat.readString(in);
+            byte[] bytes = SnapshotFormat.readBytes(in);
+            Object value = (flags & SnapshotFormat.FLAG_BINARY_VALUE) != 0 ? bytes : new String(bytes, StandardCharsets.UTF_8);
+            long expiresAt = (flags & SnapshotFormat.FLAG_EXPIRES) != 0 ? in.getLong() : 0;
+
+            int indexCount = SnapshotFormat.readVarInt(in);
+            Object[] secondaryKeys = new Object[width];
+            for (int index = 0; index < indexCount; index++) {
+                Object indexValue = SnapshotFormat.readTagged(in);
+                if (indexValue != null && index < positions.length && positions[index] >= 0) {
+                    secondaryKeys[positions[index]] = indexValue;
+                }
+            }
+
+            try {
+                if (target.restore(key, value, expiresAt, secondaryKeys)) {
+                    restored.increment();
+                } else {
+                    skipped.increment();
+                }
+            } catch (VertexCacheTypeException e) {
+                // ie: a keyspace without eviction that is now smaller than the snapshot
+                skipped.increment();
+            }
+        }
+    }
+
+    private static Cache<Object, Object> resolve(String keyspaceName, String tenant) {
+        if (!Cache.hasKeyspace(keyspaceName)) {
+            return null;
+        }
+        try {
+            Cache<Object, Object> keyspace = Cache.getKeyspace(keyspaceName);
+            // Lands in the tenant's partition as long as the tenant still has a quota
+            return tenant.isEmpty() ? keyspace : keyspace.forTenant(new TenantId(tenant));
+        } catch (VertexCacheTypeException e) {
+            return null;
+        }
+    }
+
+    private static final class Chunk {
+        final long offset;
+        final int length;
+        final int entries;
+        final int crc;
+
+        Chunk(long offset, int length, int entries, int crc) {
+            this.offset = offset;
+            this.length = length;
+            this.entries = entries;
+            this.crc = crc;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.snapshot;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.TenantKey;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Writes point-in-time snapshots of every keyspace, tenant partitions included, to a single file (see
+ * SnapshotFormat), periodically from a background thread and once more when stopped.
+ *
+ * Writers are never locked out: each keyspace is walked with Cache.forEachEntry, which copies the keys
+ * and then reads the entries one at a time, so the snapshot is fuzzy, every entry as it was when it was
+ * visited. The file is written next to the target and moved over it once complete, a crash mid-write
+ * leaves the previous snapshot in place.
+ */
+public class CacheSnapshotWriter {
+
+    static final int CHUNK_BYTES = 1024 * 1024;
+
+    private static final int OUTPUT_BUFFER_BYTES = 256 * 1024;
+
+    private final Path file;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private volatile ScheduledExecutorService scheduler;
+    private volatile SnapshotStats lastStats;
+
+    public CacheSnapshotWriter(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Outcome of the last snapshot written, null before the first one.
+     */
+    public SnapshotStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Writes a snapshot every intervalSeconds from a daemon thread, 0 or less only writes on stop.
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (intervalSeconds <= 0 || scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "CacheSnapshotThread");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::writeQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        scheduler = executor;
+    }
+
+    /**
+     * Stops the periodic snapshots and writes the final one, only the first call does anything.
+     */
+    public void stop() {
+        if (!stopped.compareAndSet(false, true)) {
+            return;
+        }
+        ScheduledExecutorService executor = scheduler;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        writeQuietly();
+    }
+
+    private void writeQuietly() {
+        try {
+            SnapshotStats stats = write();
+            LogHelper.getInstance().logInfo("[Snapshot] Wrote " + stats + " to " + file);
+        } catch (IOException | RuntimeException e) {
+            LogHelper.getInstance().logError("[Snapshot] Writing " + file + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a snapshot of every keyspace, one at a time whoever calls it.
+     */
+    public synchronized SnapshotStats write() throws IOException {
+        long started = System.currentTimeMillis();
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        SnapshotOutput output;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            output = new SnapshotOutput(new BufferedOutputStream(Channels.newOutputStream(channel), OUTPUT_BUFFER_BYTES));
+            output.writeHeader(started);
+            for (String name : Cache.getKeyspaceNames()) {
+                Cache<Object, Object> keyspace;
+                try {
+                    keyspace = Cache.getKeyspace(name);
+                } catch (VertexCacheTypeException e) {
+                    // The default keyspace is not initialized yet
+                    continue;
+                }
+                output.writeDomain(name, "", keyspace);
+                for (Map.Entry<String, Cache<Object, Object>> partition : keyspace.getTenantPartitions().entrySet()) {
+                    output.writeDomain(name, partition.getKey(), partition.getValue());
+                }
+            }
+            output.writeTable();
+            output.out.flush();
+            channel.force(true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        SnapshotStats stats = new SnapshotStats(output.entries, output.skipped, output.chunkCount, output.position,
+                System.currentTimeMillis() - started);
+        lastStats = stats;
+        return stats;
+    }
+
+    /*
+     * Streams the chunks to the file, keeping their table entries for the end of the file.
+     */
+    private static final class SnapshotOutput {
+        private final OutputStream out;
+        private final ByteArrayOutputStream table = new ByteArrayOutputStream();
+        private final ChunkBuffer chunk = new ChunkBuffer();
+        private long position;
+        private int chunkCount;
+        private long entries;
+        private long skipped;
+
+        SnapshotOutput(OutputStream out) {
+            this.out = out;
+        }
+
+        void writeHeader(long createdAt) throws IOException {
+            ByteArrayOutputStream header = new ByteArrayOutputStream(SnapshotFormat.HEADER_BYTES);
+            writeInt(header, SnapshotFormat.MAGIC);
+            header.write(SnapshotFormat.VERSION);
+            SnapshotFormat.writeLong(header, createdAt);
+            header.writeTo(out);
+            position += header.size();
+        }
+
+        void writeDomain(String keyspace, String tenant, Cache<Object, Object> cache) throws IOException {
+            List<String> indexNames = cache.getIndexNames();
+            chunk.start(keyspace, tenant, indexNames);
+            cache.forEachEntry((key, value, expiresAt, indexValues) -> {
+                try {
+                    if (!chunk.add(key, value, expiresAt, indexValues)) {
+                        skipped++;
+                        return;
+                    }
+                    if (chunk.size() >= CHUNK_BYTES) {
+                        flushChunk();
+                        chunk.start(keyspace, tenant, indexNames);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (chunk.entries > 0) {
+                flushChunk();
+            }
+        }
+
+        private void flushChunk() throws IOException {
+            CRC32 crc = new CRC32();
+            chunk.writeTo(out, crc);
+            SnapshotFormat.writeLong(table, position);
+            writeInt(table, chunk.size());
+            writeInt(table, chunk.entries);
+            writeInt(table, (int) crc.getValue());
+            position += chunk.size();
+            entries += chunk.entries;
+            chunkCount++;
+        }
+
+        void writeTable() throws IOException {
+            long tableOffset = position;
+            table.writeTo(out);
+            position += table.size();
+            ByteArrayOutputStream footer = new ByteArrayOutputStream(SnapshotFormat.FOOTER_BYTES);
+            SnapshotFormat.writeLong(footer, tableOffset);
+            writeInt(footer, chunkCount);
+            writeInt(footer, SnapshotFormat.MAGIC);
+            footer.writeTo(out);
+            position += footer.size();
+        }
+
+        private static void writeInt(OutputStream out, int value) throws IOException {
+            out.write(value >>> 24);
+            out.write(value >>> 16);
+            out.write(value >>> 8);
+            out.write(value);
+        }
+    }
+
+    /*
+     * Entries of the chunk being filled, behind the keyspace, tenant and index names it starts with.
+     */
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+        private int entries;
+
+        ChunkBuffer() {
+            super(CHUNK_BYTES + CHUNK_BYTES / 4);
+        }
+
+        void start(String keyspace, String tenant, List<String> indexNames) throws IOException {
+            reset();
+            entries = 0;
+            SnapshotFormat.writeString(this, keyspace);
+            SnapshotFormat.writeString(this, tenant);
+            SnapshotFormat.writeVarInt(this, indexNames.size());
+            for (String indexName : indexNames) {
+                SnapshotFormat.writeString(this, indexName);
+            }
+        }
+
+        /*
+         * Returns false, writing nothing, for a key, value or index value of a type snapshots do not hold.
+         */
+        boolean add(Object key, Object value, long expiresAt, Object[] indexValues) throws IOException {
+            byte flags = 0;
+            if (key instanceof TenantKey) {
+                flags |= SnapshotFormat.FLAG_TENANT_KEY;
+            } else if (!(key instanceof String)) {
+                return false;
+            }
+            if (value instanceof byte[]) {
+                flags |= SnapshotFormat.FLAG_BINARY_VALUE;
+            } else if (!(value instanceof String)) {
+                return false;
+            }
+            for (Object indexValue : indexValues) {
+                if (!SnapshotFormat.isTaggable(indexValue)) {
+                    return false;
+                }
+            }
+            if (expiresAt > 0) {
+                flags |= SnapshotFormat.FLAG_EXPIRES;
+            }
+
+            write(flags);
+            writeKey(key);
+            SnapshotFormat.writeBytes(this, value instanceof byte[] bytes ? bytes : ((String) value).getBytes(StandardCharsets.UTF_8));
+            if (expiresAt > 0) {
+                SnapshotFormat.writeLong(this, expiresAt);
+            }
+            SnapshotFormat.writeVarInt(this, indexValues.length);
+            for (Object indexValue : indexValues) {
+                SnapshotFormat.writeTagged(this, indexValue);
+            }
+            entries++;
+            return true;
+        }
+
+        private void writeKey(Object key) throws IOException {
+            if (key instanceof TenantKey tenantKey) {
+                SnapshotFormat.writeString(this, tenantKey.getTenant());
+                SnapshotFormat.writeString(this, tenantKey.getKey());
+            } else {
+                SnapshotFormat.writeString(this, (String) key);
+            }
+        }
+
+        void writeTo(OutputStream out, CRC32 crc) throws IOException {
+            crc.update(buf, 0, count);
+            out.write(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.snapshot;
+
+import com.vertexcache.core.cache.model.TenantKey;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of a cache snapshot file, shared by CacheSnapshotWriter and CacheSnapshotLoader.
+ *
+ *  Header:      magic (int), version (byte), created at epoch millis (long)
+ *  Chunks:      one after the other, each holding entries of a single keyspace or tenant partition
+ *  Chunk table: per chunk its offset (long), length (int), entry count (int) and CRC32 (int)
+ *  Footer:      chunk table offset (long), chunk count (int), magic (int)
+ *
+ * A chunk starts with the keyspace name, the tenant of the partition ("" for the keyspace itself) and
+ * the index names of the keyspace, so index values are matched by name when the layout changed between
+ * the snapshot and the restart. Each entry then follows as:
+ *
+ *  flags (byte), key (string, or tenant and key strings for a TenantKey), value (bytes),
+ *  expires at (long, only with FLAG_EXPIRES), index value count (varint) and each index value tagged
+ *  (see writeTagged)
+ *
+ * Lengths and counts are unsigned varints, strings their UTF-8 bytes prefixed with the byte count. The
+ * chunk table sits at the end so the writer streams chunks as it goes and the loader finds every chunk
+ * with one read, to map and decode them in parallel.
+ *
+ * The encoding helpers are shared with the command log (see CommandLog), whose records hold the same
+ * keys, values and index values.
+ */
+public final class SnapshotFormat {
+
+    static final int MAGIC = 0x56435353;
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 13;
+    static final int FOOTER_BYTES = 16;
+    static final int TABLE_ENTRY_BYTES = 20;
+
+    static final byte FLAG_TENANT_KEY = 1;
+    static final byte FLAG_BINARY_VALUE = 1 << 1;
+    static final byte FLAG_EXPIRES = 1 << 2;
+
+    public static final byte TAG_NONE = 0;
+    public static final byte TAG_STRING = 1;
+    public static final byte TAG_TENANT_KEY = 2;
+    public static final byte TAG_BINARY = 3;
+
+    private SnapshotFormat() {}
+
+    public static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    public static void writeBytes(OutputStream out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    public static void writeString(OutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void writeLong(OutputStream out, long value) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    public static int readVarInt(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in snapshot");
+    }
+
+    public static byte[] readBytes(ByteBuffer in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("Snapshot length " + length + " runs past its chunk");
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return bytes;
+    }
+
+    public static String readString(ByteBuffer in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether writeTagged can encode the value: null, a String or a TenantKey.
+     */
+    public static boolean isTaggable(Object value) {
+        return value == null || value instanceof String || value instanceof TenantKey;
+    }
+
+    /**
+     * Writes a key or index value as a tag byte followed by its string, or the tenant and key strings
+     * of a TenantKey. null is written as TAG_NONE alone.
+     */
+    public static void writeTagged(OutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.write(TAG_NONE);
+        } else if (value instanceof TenantKey tenantKey) {
+            out.write(TAG_TENANT_KEY);
+            writeString(out, tenantKey.getTenant());
+            writeString(out, tenantKey.getKey());
+        } else {
+            out.write(TAG_STRING);
+            writeString(out, (String) value);
+        }
+    }
+
+    public static Object readTagged(ByteBuffer in) throws IOException {
+        byte tag = in.get();
+        switch (tag) {
+            case TAG_NONE:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_TENANT_KEY:
+                return new TenantKey(readString(in), readString(in));
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    /**
+     * Whether writeValue can encode the value: a String or a byte array.
+     */
+    public static boolean isValue(Object value) {
+        return value instanceof String || value instanceof byte[];
+    }
+
+    /**
+     * Writes a cache value as a tag byte (TAG_STRING or TAG_BINARY) followed by its bytes.
+     */
+    public static void writeValue(OutputStream out, Object value) throws IOException {
+        if (value instanceof byte[] bytes) {
+            out.write(TAG_BINARY);
+            writeBytes(out, bytes);
+        } else {
+            out.write(TAG_STRING);
+            writeString(out, (String) value);
+        }
+    }
+
+    public static Object readValue(ByteBuffer in) throws IOException {
+        byte tag = in.get();
+        if (tag == TAG_BINARY) {
+            return readBytes(in);
+        }
+        if (tag == TAG_STRING) {
+            return readString(in);
+        }
+        throw new IOException("Unknown value tag " + tag);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.snapshot;
+
+/**
+ * Outcome of writing or loading a snapshot: entries written or restored, entries skipped (expired,
+ * unsupported type, unknown keyspace or rejected by the cache), chunks, file size and elapsed time.
+ */
+public final class SnapshotStats {
+
+    private final long entries;
+    private final long skipped;
+    private final int chunks;
+    private final long bytes;
+    private final long millis;
+
+    public SnapshotStats(long entries, long skipped, int chunks, long bytes, long millis) {
+        this.entries = entries;
+        this.skipped = skipped;
+        this.chunks = chunks;
+        this.bytes = bytes;
+        this.millis = millis;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    @Override
+    public String toString() {
+        return entries + " entries (" + skipped + " skipped) in " + chunks + " chunks, " + bytes + " bytes, " + millis + " ms";
+    }
+}
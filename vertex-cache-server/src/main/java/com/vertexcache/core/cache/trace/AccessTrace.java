@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.trace;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Access trace written by AccessTraceRecorder, loaded in memory for replay: 9 bytes per record, so a
+ * trace of 100 million sampled accesses needs about 900MB of heap.
+ */
+public class AccessTrace {
+
+    private final int sampleShift;
+    private final long startMillis;
+    private final byte[] ops;
+    private final long[] hashes;
+
+    public AccessTrace(int sampleShift, long startMillis, byte[] ops, long[] hashes) {
+        this.sampleShift = sampleShift;
+        this.startMillis = startMillis;
+        this.ops = ops;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Reads a whole trace file, a record cut short by a crash is ignored.
+     */
+    public static AccessTrace read(Path path) throws IOException {
+        long records = Math.max(0, (Files.size(path) - AccessTraceRecorder.HEADER_BYTES) / AccessTraceRecorder.RECORD_BYTES);
+        if (records > Integer.MAX_VALUE - 8) {
+            throw new IOException("Trace too large to replay in memory: " + records + " records");
+        }
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file, 64 * 1024))) {
+            int magic;
+            byte version;
+            int sampleShift;
+            long startMillis;
+            try {
+                magic = in.readInt();
+                version = in.readByte();
+                sampleShift = in.readByte();
+                startMillis = in.readLong();
+            } catch (EOFException e) {
+                throw new IOException("Not an access trace, header is truncated: " + path);
+            }
+            if (magic != AccessTraceRecorder.MAGIC) {
+                throw new IOException("Not an access trace: " + path);
+            }
+            if (version != AccessTraceRecorder.VERSION) {
+                throw new IOException("Unsupported access trace version " + version + ": " + path);
+            }
+            if (sampleShift < 0 || sampleShift > AccessTraceRecorder.MAX_SAMPLE_SHIFT) {
+                throw new IOException("Invalid access trace sample shift " + sampleShift + ": " + path);
+            }
+
+            byte[] ops = new byte[(int) records];
+            long[] hashes = new long[(int) records];
+            for (int i = 0; i < records; i++) {
+                ops[i] = in.readByte();
+                TraceOp.fromCode(ops[i]);
+                hashes[i] = in.readLong();
+            }
+            return new AccessTrace(sampleShift, startMillis, ops, hashes);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt access trace " + path + ": " + e.getMessage());
+        }
+    }
+
+    public int size() {
+        return hashes.length;
+    }
+
+    public TraceOp op(int index) {
+        return TraceOp.fromCode(ops[index]);
+    }
+
+    public long hash(int index) {
+        return hashes[index];
+    }
+
+    /**
+     * Keys are sampled 1 in 2^sampleShift.
+     */
+    public int getSampleShift() {
+        return sampleShift;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Number of distinct key hashes in the trace.
+     */
+    public int distinctKeys() {
+        long[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.trace;
+
+import com.vertexcache.common.log.LogHelper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes a sampled access trace of a keyspace to a compact binary file, for offline replay by the
+ * trace simulator (tool.trace.TraceSimulator).
+ *
+ * File layout (big endian)
+ * ------------------------
+ *  Header: magic "VCTR" (int), format version (byte), sample shift (byte), start time millis (long).
+ *  Records: operation code (byte, see TraceOp) followed by the 64-bit key hash (long), 9 bytes each.
+ *
+ * Keys are never written, only their 64-bit hash (keyHash). A key is recorded when the top bits of its
+ * mixed hashCode select it (isSampled), 1 in 2^sampleShift keys, so every access of a sampled key is
+ * kept and the reuse pattern survives the sampling: a simulation at capacity / 2^sampleShift sees the
+ * same pressure as the full cache at capacity. The hashCode is the one the cache computes for its own
+ * lookups, String and TenantKey keys cache it, so only sampled keys pay for the 64-bit hash.
+ *
+ * Records go into a 64KB buffer handed to a writer thread whenever it fills, on flush and on close, the
+ * thread recording never waits on the disk. When the writer falls MAX_QUEUED_BUFFERS behind records are
+ * dropped (getDroppedCount) rather than slowing the cache down. The first write error closes the
+ * recorder, tracing must never fail a cache operation.
+ *
+ * Thread-safe, unsampled accesses cost a mix and a mask, sampled ones take the recorder monitor.
+ */
+public class AccessTraceRecorder implements Closeable {
+
+    public static final int MAGIC = 0x56435452;
+    public static final byte VERSION = 1;
+    public static final int HEADER_BYTES = 14;
+    public static final int RECORD_BYTES = 9;
+    public static final int MAX_SAMPLE_SHIFT = 20;
+
+    static final int MAX_QUEUED_BUFFERS = 8;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int sampleShift;
+    private final Thread writer;
+    private final BlockingQueue<ByteBuffer> filled = new ArrayBlockingQueue<>(MAX_QUEUED_BUFFERS);
+    private final BlockingQueue<ByteBuffer> spare = new ArrayBlockingQueue<>(MAX_QUEUED_BUFFERS + 1);
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    private long recordCount;
+    private long droppedCount;
+    private long handedOff;
+    private boolean closing;
+    private volatile boolean closed;
+
+    // Guarded by the writer's monitor (progress)
+    private final Object progress = new Object();
+    private long written;
+    private boolean stopped;
+
+    private AccessTraceRecorder(Path path, FileChannel channel, int sampleShift) {
+        this.path = path;
+        this.channel = channel;
+        this.sampleShift = sampleShift;
+        this.writer = new Thread(this::runWriter, "AccessTraceWriter");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Creates (or truncates) the trace file, sampling 1 in sampleRate keys rounded down to a power of
+     * two.
+     */
+    public static AccessTraceRecorder open(Path path, int sampleRate) throws IOException {
+        int sampleShift = Math.min(MAX_SAMPLE_SHIFT, 31 - Integer.numberOfLeadingZeros(Math.max(1, sampleRate)));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        AccessTraceRecorder recorder = new AccessTraceRecorder(path, channel, sampleShift);
+        recorder.buffer.putInt(MAGIC).put(VERSION).put((byte) sampleShift).putLong(System.currentTimeMillis());
+        recorder.writer.start();
+        return recorder;
+    }
+
+    /**
+     * 64-bit hash of a key, FNV-1a over the characters of a String or TenantKey, the spread hashCode for
+     * anything else, finished with a murmur3 mix so distinct keys rarely collide in a trace.
+     */
+    public static long keyHash(Object key) {
+        long h;
+        if (key instanceof CharSequence chars) {
+            h = 0xcbf29ce484222325L;
+            for (int i = 0; i < chars.length(); i++) {
+                h ^= chars.charAt(i);
+                h *= 0x100000001b3L;
+            }
+        } else {
+            h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Whether the key belongs to the sample, decided by the top bits of its hashCode after a murmur3
+     * mix so keys with close hashCodes are sampled independently.
+     */
+    public static boolean isSampled(Object key, int sampleShift) {
+        if (sampleShift == 0) {
+            return true;
+        }
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h >>> (32 - sampleShift)) == 0;
+    }
+
+    public void record(TraceOp op, Object key) {
+        if (!isSampled(key, sampleShift)) {
+            return;
+        }
+        long hash = keyHash(key);
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (buffer.remaining() < RECORD_BYTES && !handOff(false)) {
+                droppedCount++;
+                return;
+            }
+            buffer.put(op.getCode()).putLong(hash);
+            recordCount++;
+        }
+    }
+
+    /**
+     * Hands the records buffered so far to the writer and waits until they are written.
+     */
+    public void flush() {
+        long target;
+        synchronized (this) {
+            if (closed || buffer.position() == 0) {
+                return;
+            }
+            handOff(true);
+            target = handedOff;
+        }
+        awaitWritten(target);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            if (!closed && buffer.position() > 0) {
+                handOff(true);
+            }
+            closed = true;
+            putUninterruptibly(END);
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LogHelper.getInstance().logWarn("[Trace] Closing " + path + " failed: " + e.getMessage());
+        }
+    }
+
+    /*
+     * Queues the current buffer for the writer and starts a new one, false when the writer is too far
+     * behind and wait is not set. Called holding the recorder monitor.
+     */
+    private boolean handOff(boolean wait) {
+        if (wait) {
+            putUninterruptibly(buffer);
+        } else if (!filled.offer(buffer)) {
+            return false;
+        }
+        handedOff++;
+        ByteBuffer next = spare.poll();
+        buffer = next != null ? next : ByteBuffer.allocate(BUFFER_BYTES);
+        return true;
+    }
+
+    private void putUninterruptibly(ByteBuffer full) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                filled.put(full);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitWritten(long target) {
+        synchronized (progress) {
+            while (written < target && !stopped) {
+                try {
+                    progress.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // === Writer thread ===
+
+    private void runWriter() {
+        boolean failed = false;
+        try {
+            while (true) {
+                ByteBuffer full;
+                try {
+                    full = filled.take();
+                } catch (InterruptedException e) {
+                    // Only close stops the writer
+                    continue;
+                }
+                if (full == END) {
+                    return;
+                }
+                if (!failed) {
+                    failed = !writeBuffer(full);
+                }
+                full.clear();
+                spare.offer(full);
+                synchronized (progress) {
+                    written++;
+                    progress.notifyAll();
+                }
+            }
+        } finally {
+            synchronized (progress) {
+                stopped = true;
+                progress.notifyAll();
+            }
+        }
+    }
+
+    private boolean writeBuffer(ByteBuffer full) {
+        full.flip();
+        try {
+            while (full.hasRemaining()) {
+                channel.write(full);
+            }
+            return true;
+        } catch (IOException e) {
+            LogHelper.getInstance().logError("[Trace] Writing " + path + " failed, access trace stopped: " + e.getMessage());
+            // Records still buffered or queued are dropped, close releases the channel
+            closed = true;
+            return false;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getSampleShift() {
+        return sampleShift;
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Sampled accesses not recorded because the writer was too far behind.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.trace;
+
+/**
+ * Operation type of an access trace record, stored as its one byte code.
+ */
+public enum TraceOp {
+    GET((byte) 0),
+    SET((byte) 1),
+    DEL((byte) 2);
+
+    private static final TraceOp[] BY_CODE = values();
+
+    private final byte code;
+
+    TraceOp(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static TraceOp fromCode(byte code) {
+        // Codes follow the declaration order
+        if (code >= 0 && code < BY_CODE.length) {
+            return BY_CODE[code];
+        }
+        throw new IllegalArgumentException("Unknown trace operation code: " + code);
+    }
+}
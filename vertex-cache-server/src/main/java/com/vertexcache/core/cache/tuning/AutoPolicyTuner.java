@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.tuning;
+
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.PolicyDecision;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Picks the live policy of the AUTO eviction policy.
+ *
+ * Every read of the cache is offered to recordAccess. A fixed subset of the keys, chosen by their
+ * 64-bit hash, is fed to one ShadowCache per candidate policy (LRU, LFU and W-TinyLFU), each sized to
+ * the capacity scaled down by the same sampling rate so it sees the same pressure as the real cache.
+ * Sampling by key rather than by access keeps the reuse pattern of the sampled keys intact. Caches below
+ * 2048 entries sample every key, larger ones sample down to 1/64 keeping at least 1024 shadow
+ * entries.
+ *
+ * Accesses are grouped in epochs. At the end of each one the shadow hit ratios are folded into an
+ * exponentially smoothed ratio per candidate, and the live policy moves to the best candidate once it
+ * has led the live one by SWITCH_MARGIN for CONFIRM_EPOCHS epochs in a row, so noise does not make the
+ * cache flap between policies. The first epoch only warms the shadows up.
+ *
+ * Thread-safe, one tuner is shared by every segment of a segmented cache. Unsampled reads cost a hash
+ * and a mask, sampled ones take the tuner monitor.
+ */
+public class AutoPolicyTuner {
+
+    public static final EvictionPolicy INITIAL_POLICY = EvictionPolicy.WTinyLFU;
+
+    private static final int MIN_SHADOW_CAPACITY = 1024;
+    private static final int MAX_SAMPLE_SHIFT = 6;
+    private static final int MIN_EPOCH_ACCESSES = 1000;
+    private static final double SMOOTHING = 0.5;
+    private static final double SWITCH_MARGIN = 0.02;
+    private static final int CONFIRM_EPOCHS = 2;
+    private static final int MAX_DECISIONS = 32;
+
+    private final ShadowCache[] shadows;
+    private final double[] hitRatios;
+    private final long sampleMask;
+    private final int epochAccesses;
+    private final Deque<PolicyDecision> decisions = new ArrayDeque<>();
+
+    private volatile EvictionPolicy activePolicy = INITIAL_POLICY;
+    private long epoch;
+    private int sampled;
+    private EvictionPolicy leader;
+    private int leaderEpochs;
+
+    public AutoPolicyTuner(int sizeCapacity) {
+        this(sizeCapacity, sampleShiftFor(sizeCapacity), 0);
+    }
+
+    /**
+     * Samples 1 in 2^sampleShift keys and ends an epoch every epochAccesses sampled reads, 0 picks
+     * twice the shadow capacity with a floor of 1000.
+     */
+    public AutoPolicyTuner(int sizeCapacity, int sampleShift, int epochAccesses) {
+        int shadowCapacity = Math.max(1, sizeCapacity >> sampleShift);
+        this.shadows = new ShadowCache[] {
+                new ShadowLRU(shadowCapacity),
+                new ShadowLFU(shadowCapacity),
+                new ShadowWTinyLFU(shadowCapacity)
+        };
+        this.hitRatios = new double[shadows.length];
+        this.sampleMask = (1L << sampleShift) - 1;
+        this.epochAccesses = epochAccesses > 0 ? epochAccesses : Math.max(MIN_EPOCH_ACCESSES, 2 * shadowCapacity);
+    }
+
+    static int sampleShiftFor(int sizeCapacity) {
+        int shift = 0;
+        while (shift < MAX_SAMPLE_SHIFT && (sizeCapacity >> (shift + 1)) >= MIN_SHADOW_CAPACITY) {
+            shift++;
+        }
+        return shift;
+    }
+
+    /**
+     * Offers one read of the key to the shadows.
+     */
+    public void recordAccess(Object key) {
+        long hash = hash(key.hashCode());
+        // High bits pick the sample, the shadows' own tables hash on the low ones
+        if (((hash >>> 40) & sampleMask) != 0) {
+            return;
+        }
+        synchronized (this) {
+            for (ShadowCache shadow : shadows) {
+                shadow.record(hash);
+            }
+            if (++sampled >= epochAccesses) {
+                endEpoch();
+            }
+        }
+    }
+
+    private static long hash(int hashCode) {
+        long h = hashCode * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private void endEpoch() {
+        epoch++;
+        sampled = 0;
+        int best = 0;
+        for (int i = 0; i < shadows.length; i++) {
+            double ratio = shadows[i].takeHitRatio();
+            hitRatios[i] = epoch == 1 ? ratio : SMOOTHING * ratio + (1 - SMOOTHING) * hitRatios[i];
+            if (hitRatios[i] > hitRatios[best]) {
+                best = i;
+            }
+        }
+        if (epoch == 1) {
+            return;
+        }
+
+        EvictionPolicy candidate = shadows[best].getPolicy();
+        double activeRatio = hitRatios[indexOf(activePolicy)];
+        if (candidate == activePolicy || hitRatios[best] - activeRatio < SWITCH_MARGIN) {
+            leader = null;
+            leaderEpochs = 0;
+            return;
+        }
+        if (candidate != leader) {
+            leader = candidate;
+            leaderEpochs = 0;
+        }
+        if (++leaderEpochs >= CONFIRM_EPOCHS) {
+            if (decisions.size() == MAX_DECISIONS) {
+                decisions.removeFirst();
+            }
+            decisions.addLast(new PolicyDecision(epoch, System.currentTimeMillis(), activePolicy, candidate,
+                    activeRatio, hitRatios[best]));
+            activePolicy = candidate;
+            leader = null;
+            leaderEpochs = 0;
+        }
+    }
+
+    private int indexOf(EvictionPolicy policy) {
+        for (int i = 0; i < shadows.length; i++) {
+            if (shadows[i].getPolicy() == policy) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No shadow for policy " + policy);
+    }
+
+    /**
+     * Policy the cache should run, changes only at the end of an epoch.
+     */
+    public EvictionPolicy getActivePolicy() {
+        return activePolicy;
+    }
+
+    public synchronized long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Smoothed shadow hit ratio of every candidate, in candidate order.
+     */
+    public synchronized Map<EvictionPolicy, Double> getHitRatios() {
+        Map<EvictionPolicy, Double> ratios = new LinkedHashMap<>();
+        for (int i = 0; i < shadows.length; i++) {
+            ratios.put(shadows[i].getPolicy(), hitRatios[i]);
+        }
+        return ratios;
+    }
+
+    /**
+     * Most recent policy switches, oldest first, at most 32 of them.
+     */
+    public synchronized List<PolicyDecision> getDecisions() {
+        return new ArrayList<>(decisions);
+    }
+}
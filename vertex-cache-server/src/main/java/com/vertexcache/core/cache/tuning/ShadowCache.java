@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.tuning;
+
+import com.vertexcache.core.cache.model.EvictionPolicy;
+
+/**
+ * Ghost simulation of one eviction policy for AutoPolicyTuner.
+ *
+ * Holds 64-bit key hashes only, never keys or values, and counts the hits and misses the policy would
+ * have had on the sampled key stream since the hit ratio was last taken. A miss admits the hash, as
+ * the client normally stores the value it could not read.
+ *
+ * Not thread-safe, the tuner serializes every access.
+ */
+public abstract class ShadowCache {
+
+    private final EvictionPolicy policy;
+    protected final int capacity;
+    private long hits;
+    private long misses;
+
+    protected ShadowCache(EvictionPolicy policy, int capacity) {
+        this.policy = policy;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    public void record(long hash) {
+        if (access(hash)) {
+            hits++;
+        } else {
+            misses++;
+        }
+    }
+
+    /**
+     * Accesses the hash, admitting it on a miss, and tells whether it was resident.
+     */
+    protected abstract boolean access(long hash);
+
+    /**
+     * Hit ratio since the previous call, 0 when nothing was recorded.
+     */
+    public double takeHitRatio() {
+        long total = hits + misses;
+        double ratio = total > 0 ? (double) hits / total : 0.0;
+        hits = 0;
+        misses = 0;
+        return ratio;
+    }
+
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.tuning;
+
+import com.vertexcache.core.cache.model.EvictionPolicy;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Shadow of CacheLFU, O(1) frequency buckets evicting the least frequent hash, the oldest of them on
+ * a tie.
+ */
+public class ShadowLFU extends ShadowCache {
+
+    private final Map<Long, Integer> frequencies = new HashMap<>();
+    private final Map<Integer, LinkedHashSet<Long>> buckets = new HashMap<>();
+    private int minFrequency;
+
+    public ShadowLFU(int capacity) {
+        super(EvictionPolicy.LFU, capacity);
+    }
+
+    @Override
+    protected boolean access(long hash) {
+        Integer frequency = frequencies.get(hash);
+        if (frequency != null) {
+            unlink(hash, frequency);
+            frequencies.put(hash, frequency + 1);
+            buckets.computeIfAbsent(frequency + 1, f -> new LinkedHashSet<>()).add(hash);
+            return true;
+        }
+
+        if (frequencies.size() >= capacity) {
+            Long victim = buckets.get(minFrequency).iterator().next();
+            unlink(victim, minFrequency);
+            frequencies.remove(victim);
+        }
+        frequencies.put(hash, 1);
+        buckets.computeIfAbsent(1, f -> new LinkedHashSet<>()).add(hash);
+        minFrequency = 1;
+        return false;
+    }
+
+    private void unlink(long hash, int frequency) {
+        LinkedHashSet<Long> bucket = buckets.get(frequency);
+        bucket.remove(hash);
+        if (bucket.isEmpty()) {
+            buckets.remove(frequency);
+            if (frequency == minFrequency) {
+                minFrequency++;
+            }
+        }
+    }
+}
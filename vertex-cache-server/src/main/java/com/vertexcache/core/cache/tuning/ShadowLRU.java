@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.tuning;
+
+import com.vertexcache.core.cache.model.EvictionPolicy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shadow of CacheLRU, an access ordered map evicting its eldest hash.
+ */
+public class ShadowLRU extends ShadowCache {
+
+    private final Map<Long, Boolean> keys;
+
+    public ShadowLRU(int capacity) {
+        super(EvictionPolicy.LRU, capacity);
+        this.keys = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > ShadowLRU.this.capacity;
+            }
+        };
+    }
+
+    @Override
+    protected boolean access(long hash) {
+        if (keys.get(hash) != null) {
+            return true;
+        }
+        keys.put(hash, Boolean.TRUE);
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.cache.tuning;
+
+import com.vertexcache.core.cache.algos.FrequencySketch;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * Shadow of CacheWTinyLFU with the same layout: a 1% LRU window in front of a segmented LRU main area
+ * (20% probation, 80% protected), admission from the window decided by a FrequencySketch.
+ */
+public class ShadowWTinyLFU extends ShadowCache {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final LinkedHashSet<Long> window = new LinkedHashSet<>();
+    private final LinkedHashSet<Long> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<Long> protectedKeys = new LinkedHashSet<>();
+    private final FrequencySketch<Long> sketch;
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final int protectedCapacity;
+
+    public ShadowWTinyLFU(int capacity) {
+        super(EvictionPolicy.WTinyLFU, capacity);
+        this.windowCapacity = Math.max(1, (int) (this.capacity * WINDOW_RATIO));
+        this.mainCapacity = this.capacity - windowCapacity;
+        this.protectedCapacity = (int) (mainCapacity * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch<>(this.capacity);
+    }
+
+    @Override
+    protected boolean access(long hash) {
+        sketch.increment(hash);
+        if (window.remove(hash)) {
+            window.add(hash);
+            return true;
+        }
+        if (probation.remove(hash)) {
+            protectedKeys.add(hash);
+            if (protectedKeys.size() > protectedCapacity) {
+                probation.add(pollFirst(protectedKeys));
+            }
+            return true;
+        }
+        if (protectedKeys.remove(hash)) {
+            protectedKeys.add(hash);
+            return true;
+        }
+
+        window.add(hash);
+        if (window.size() > windowCapacity) {
+            admit(pollFirst(window));
+        }
+        return false;
+    }
+
+    private void admit(Long candidate) {
+        if (probation.size() + protectedKeys.size() < mainCapacity) {
+            probation.add(candidate);
+            return;
+        }
+        LinkedHashSet<Long> victims = !probation.isEmpty() ? probation : protectedKeys;
+        if (victims.isEmpty()) {
+            return;
+        }
+        Long victim = victims.iterator().next();
+        if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+            victims.remove(victim);
+            probation.add(candidate);
+        }
+    }
+
+    private static Long pollFirst(LinkedHashSet<Long> keys) {
+        Iterator<Long> iterator = keys.iterator();
+        Long first = iterator.next();
+        iterator.remove();
+        return first;
+    }
+}
@@ -50,14 +50,24 @@ public class CommandFactory {
         commandMap = new CaseInsensitiveMap<>();
 
         commandMap.put(PingCommand.COMMAND_KEY, new PingCommand());
+        commandMap.put(SelectCommand.COMMAND_KEY, new SelectCommand());
 
         commandMap.put(GetCommand.COMMAND_KEY, new GetCommand());
+        commandMap.put(GetSecondaryIdxCommand.COMMAND_KEY, new GetSecondaryIdxCommand());
         commandMap.put(GetSecondaryIdxOneCommand.COMMAND_KEY, new GetSecondaryIdxOneCommand());
         commandMap.put(GetSecondaryIdxTwoCommand.COMMAND_KEY, new GetSecondaryIdxTwoCommand());
+        commandMap.put(MultiGetSecondaryIdxCommand.COMMAND_KEY, new MultiGetSecondaryIdxCommand());
+        commandMap.put(ScanCommand.COMMAND_KEY, new ScanCommand());
+        commandMap.put(BGetCommand.COMMAND_KEY, new BGetCommand());
 
         commandMap.put(SetCommand.COMMAND_KEY, new SetCommand());
+        commandMap.put(BSetCommand.COMMAND_KEY, new BSetCommand());
         commandMap.put(DelCommand.COMMAND_KEY, new DelCommand());
 
+        commandMap.put(ExpireCommand.COMMAND_KEY, new ExpireCommand());
+        commandMap.put(TtlCommand.COMMAND_KEY, new TtlCommand());
+        commandMap.put(PersistCommand.COMMAND_KEY, new PersistCommand());
+
         // Intended for Admin Only
         commandMap.put(StatusCommand.COMMAND_KEY, new StatusCommand());
         commandMap.put(ShutdownCommand.COMMAND_KEY, new ShutdownCommand());
@@ -67,6 +77,7 @@ public class CommandFactory {
         commandMap.put(SessionsCommand.COMMAND_KEY, new SessionsCommand());
         commandMap.put(PurgeCommand.COMMAND_KEY, new PurgeCommand());
         commandMap.put(MetricsCommand.COMMAND_KEY, new MetricsCommand());
+        commandMap.put(DictionaryCommand.COMMAND_KEY, new DictionaryCommand());
 
         // Intended for Internal M2M / Clustering
         commandMap.put(RoleChangeCommand.COMMAND_KEY, new RoleChangeCommand());
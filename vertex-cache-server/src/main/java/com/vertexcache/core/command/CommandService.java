@@ -15,7 +15,10 @@
  */
 package com.vertexcache.core.command;
 
+import com.vertexcache.common.protocol.VertexCacheMessageProtocol;
+import com.vertexcache.core.cache.Cache;
 import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.command.impl.BSetCommand;
 import com.vertexcache.core.command.impl.PingCommand;
 import com.vertexcache.core.command.impl.UnknownCommand;
 import com.vertexcache.core.setting.Config;
@@ -24,6 +27,8 @@ import com.vertexcache.core.validation.validators.RoleCommandValidator;
 import com.vertexcache.module.ratelimiter.service.RateLimiterManager;
 import com.vertexcache.server.session.ClientSessionContext;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Set;
 
 /**
@@ -34,6 +39,12 @@ import java.util.Set;
  * - Delegates execution to the appropriate command handler
  * - Manages command lifecycle, including logging and error handling
  *
+ * Requests of binary commands are split at the end of their command line, the rest of the frame is
+ * handed to the command as the raw value payload without any charset conversion.
+ *
+ * A request prefixed with @<keyspace> (ie: @sessions GET user:1) runs against that keyspace instead of
+ * the one selected for the connection, without changing the selection.
+ *
  */
 public class CommandService {
 
@@ -41,11 +52,20 @@ public class CommandService {
             PingCommand.COMMAND_KEY
     );
 
+    private static final Set<String> BINARY_COMMANDS = Set.of(
+            BSetCommand.COMMAND_KEY
+    );
+
+    private static final byte KEYSPACE_PREFIX = '@';
+
     private final CommandFactory commandFactory = new CommandFactory();
 
     public byte[] execute(byte[] requestAsBytes, ClientSessionContext session) {
+        if (requestAsBytes != null && requestAsBytes.length > 0 && requestAsBytes[0] == KEYSPACE_PREFIX) {
+            return executeInKeyspace(requestAsBytes, session);
+        }
         if (requestAsBytes != null && requestAsBytes.length > 0) {
-            ArgumentParser argumentParser = new ArgumentParser(new String(requestAsBytes));
+            ArgumentParser argumentParser = toArgumentParser(requestAsBytes);
             Command<String> command = commandFactory.getCommand(argumentParser.getPrimaryArgument().getName());
             CommandResponse response = processCommand(command, argumentParser, session);
             return response.toVCMPAsBytes();
@@ -53,6 +73,55 @@ public class CommandService {
         return (new UnknownCommand()).execute().toVCMPAsBytes();
     }
 
+    /*
+     * Runs the rest of the request with the prefixed keyspace selected, then restores the connection's own.
+     */
+    private byte[] executeInKeyspace(byte[] requestAsBytes, ClientSessionContext session) {
+        int space = 1;
+        while (space < requestAsBytes.length && requestAsBytes[space] != ' ') {
+            space++;
+        }
+        String keyspace = new String(requestAsBytes, 1, space - 1, StandardCharsets.UTF_8);
+        String error = null;
+        if (space == 1 || space >= requestAsBytes.length - 1) {
+            error = "Keyspace prefix requires a keyspace and a command, ie: @<keyspace> GET <key>";
+        } else if (!Cache.hasKeyspace(keyspace)) {
+            error = "Unknown keyspace: " + keyspace;
+        } else if (session == null) {
+            error = "Keyspace prefix requires a client session";
+        }
+        if (error != null) {
+            CommandResponse response = new CommandResponse();
+            response.setResponseError(error);
+            return response.toVCMPAsBytes();
+        }
+
+        String selected = session.getKeyspace();
+        session.setKeyspace(Cache.DEFAULT_KEYSPACE.equals(keyspace) ? null : keyspace);
+        try {
+            return execute(Arrays.copyOfRange(requestAsBytes, space + 1, requestAsBytes.length), session);
+        } finally {
+            session.setKeyspace(selected);
+        }
+    }
+
+    private ArgumentParser toArgumentParser(byte[] requestAsBytes) {
+        int lineEnd = VertexCacheMessageProtocol.indexOfLineEnd(requestAsBytes);
+        if (lineEnd > 0 && BINARY_COMMANDS.contains(commandNameOf(requestAsBytes, lineEnd))) {
+            return new ArgumentParser(new String(requestAsBytes, 0, lineEnd, StandardCharsets.UTF_8),
+                    Arrays.copyOfRange(requestAsBytes, lineEnd + 2, requestAsBytes.length));
+        }
+        return new ArgumentParser(new String(requestAsBytes));
+    }
+
+    private static String commandNameOf(byte[] requestAsBytes, int lineEnd) {
+        int end = 0;
+        while (end < lineEnd && requestAsBytes[end] != ' ') {
+            end++;
+        }
+        return new String(requestAsBytes, 0, end, StandardCharsets.US_ASCII).toUpperCase();
+    }
+
     private CommandResponse processCommand(Command<String> command, ArgumentParser argumentParser, ClientSessionContext session) {
 
         try {
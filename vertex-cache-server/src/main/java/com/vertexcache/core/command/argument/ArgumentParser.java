@@ -30,6 +30,9 @@ import java.util.regex.Pattern;
  * - Simplify argument handling for command implementations
  *
  * Ensures consistent and robust parsing logic across all commands.
+ *
+ * Binary commands (ie: BSET) carry their value as a raw payload after the command line, it is kept
+ * as-is and exposed through getPayload() instead of being tokenized.
  */
 public class ArgumentParser {
 
@@ -37,6 +40,12 @@ public class ArgumentParser {
     private String[] parts;
     private Map<String, Boolean> subArguments;
     private List<Argument> arguments = new ArrayList<>();
+    private byte[] payload;
+
+    public ArgumentParser(String argumentString, byte[] payload) {
+        this(argumentString);
+        this.payload = payload;
+    }
 
     public ArgumentParser(String argumentString) {
         if(argumentString != null && !argumentString.isEmpty()) {
@@ -122,6 +131,14 @@ public class ArgumentParser {
         return getSubArgumentByName(subArgumentName.toLowerCase()) != null;
     }
 
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public boolean hasPayload() {
+        return payload != null;
+    }
+
     public boolean isArgumentsExists() {
         return !this.arguments.isEmpty();
     }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.argument;
+
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.validation.validators.KeyValidator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the secondary index arguments of SET and BSET into index values by name.
+ *
+ * Accepts the legacy IDX1 <value> [IDX2 <value>] form as well as IDX <name> <value> [<name> <value> ...]
+ * for keyspaces declaring named indexes, ie: SET user:1 {...} IDX email a@b.c phone 555. Names are
+ * resolved against the keyspace by the cache, values are validated like keys.
+ */
+public final class IndexArgument {
+
+    public static final String SUB_ARG_INDEX = "IDX";
+    public static final String SUB_ARG_INDEX_ONE = "IDX1";
+    public static final String SUB_ARG_INDEX_TWO = "IDX2";
+
+    private IndexArgument() {}
+
+    /**
+     * Index sub-arguments to register on the parser, next to the command's own.
+     */
+    public static List<String> subArguments() {
+        return List.of(SUB_ARG_INDEX_ONE, SUB_ARG_INDEX_TWO, SUB_ARG_INDEX);
+    }
+
+    /**
+     * Index values by name, empty when the command carries none. IDX2 without IDX1 is ignored as
+     * it always has been.
+     */
+    public static Map<String, String> toIndexes(ArgumentParser argumentParser) {
+        Map<String, String> indexes = new LinkedHashMap<>();
+
+        String idx1 = singleArg(argumentParser, SUB_ARG_INDEX_ONE);
+        if (idx1 != null) {
+            indexes.put(KeyspaceDefinition.INDEX_ONE, validate(KeyspaceDefinition.INDEX_ONE, idx1));
+            String idx2 = singleArg(argumentParser, SUB_ARG_INDEX_TWO);
+            if (idx2 != null) {
+                indexes.put(KeyspaceDefinition.INDEX_TWO, validate(KeyspaceDefinition.INDEX_TWO, idx2));
+            }
+        }
+
+        if (argumentParser.subArgumentExists(SUB_ARG_INDEX)) {
+            List<String> pairs = argumentParser.getSubArgumentByName(SUB_ARG_INDEX).getArgs();
+            if (pairs.isEmpty() || pairs.size() % 2 != 0) {
+                throw new IllegalArgumentException("IDX requires pairs of index name and value, ie: IDX email a@b.c phone 555");
+            }
+            for (int i = 0; i < pairs.size(); i += 2) {
+                String name = pairs.get(i);
+                if (indexes.put(name, validate(name, pairs.get(i + 1))) != null) {
+                    throw new IllegalArgumentException("Index given more than once: " + name);
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private static String validate(String name, String value) {
+        new KeyValidator(name, value).validate();
+        return value;
+    }
+
+    private static String singleArg(ArgumentParser argumentParser, String name) {
+        if (argumentParser.subArgumentExists(name) && argumentParser.getSubArgumentByName(name).getArgs().size() == 1) {
+            return argumentParser.getSubArgumentByName(name).getArgs().getFirst();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.argument;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the arguments of SCAN <cursor> [MATCH pattern] [COUNT n].
+ *
+ * The cursor is opaque to clients: 0 starts a scan and is returned once it is complete, any other
+ * cursor is the last key examined by the previous page, Base64 (URL-safe) encoded so it survives the
+ * protocol whatever the key contains. MATCH takes a glob pattern (* any run of characters, ? one
+ * character, \ escapes the next one), COUNT the number of keys examined per page.
+ */
+public final class ScanArgument {
+
+    public static final String SUB_ARG_MATCH = "MATCH";
+    public static final String SUB_ARG_COUNT = "COUNT";
+    public static final String START_CURSOR = "0";
+    public static final int DEFAULT_COUNT = 10;
+    public static final int MAX_COUNT = 1000;
+
+    private ScanArgument() {}
+
+    /**
+     * Key the scan resumes after, null for the start cursor.
+     */
+    public static String toAfterKey(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            throw new IllegalArgumentException("SCAN requires a cursor, 0 to start.");
+        }
+        if (START_CURSOR.equals(cursor)) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid SCAN cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Cursor handed back to the client, the start cursor once the scan is complete.
+     */
+    public static String toCursor(String lastKey) {
+        if (lastKey == null) {
+            return START_CURSOR;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int toCount(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("COUNT requires a number of keys, ie: COUNT 100");
+        }
+        try {
+            int count = Integer.parseInt(value.trim());
+            if (count <= 0 || count > MAX_COUNT) {
+                throw new IllegalArgumentException("COUNT must be between 1 and " + MAX_COUNT + ": " + value);
+            }
+            return count;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid COUNT value: " + value);
+        }
+    }
+
+    /**
+     * Literal characters a key must start with to match the glob, up to its first wildcard.
+     */
+    public static String literalPrefix(String glob) {
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' || c == '?') {
+                break;
+            }
+            if (c == '\\' && i + 1 < glob.length()) {
+                c = glob.charAt(++i);
+            }
+            prefix.append(c);
+        }
+        return prefix.toString();
+    }
+
+    public static Pattern toPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                if (c == '\\' && i + 1 < glob.length()) {
+                    c = glob.charAt(++i);
+                }
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.argument;
+
+/**
+ * Parses the time to live argument of SET ... TTL and EXPIRE.
+ *
+ * Accepts a positive whole number of seconds, optionally suffixed with "s", or of milliseconds
+ * when suffixed with "ms", ie: 30, 30s, 1500ms.
+ */
+public final class TtlArgument {
+
+    private static final String SUFFIX_MILLIS = "ms";
+    private static final String SUFFIX_SECONDS = "s";
+
+    private TtlArgument() {}
+
+    public static long toMillis(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("TTL requires a value in seconds or milliseconds, ie: 30 or 1500ms");
+        }
+
+        String ttl = value.trim().toLowerCase();
+        long multiplier = 1000;
+        if (ttl.endsWith(SUFFIX_MILLIS)) {
+            ttl = ttl.substring(0, ttl.length() - SUFFIX_MILLIS.length());
+            multiplier = 1;
+        } else if (ttl.endsWith(SUFFIX_SECONDS)) {
+            ttl = ttl.substring(0, ttl.length() - SUFFIX_SECONDS.length());
+        }
+
+        try {
+            long amount = Long.parseLong(ttl);
+            if (amount <= 0) {
+                throw new IllegalArgumentException("TTL must be greater than zero: " + value);
+            }
+            return Math.multiplyExact(amount, multiplier);
+        } catch (NumberFormatException | ArithmeticException ex) {
+            throw new IllegalArgumentException("Invalid TTL value: " + value);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.common.protocol.VertexCacheMessageProtocol;
+import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.compression.CompressedValue;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.validation.validators.KeyValidator;
+import com.vertexcache.module.restapi.model.ApiParameter;
+import com.vertexcache.server.session.ClientSessionContext;
+
+/**
+ * Command used to retrieve a value from the cache as raw bytes.
+ *
+ * The value is returned as a binary reply, $<length>\r\n<bytes>\r\n, written straight from the stored
+ * byte array. Values stored with SET are returned UTF-8 encoded. A miss returns the usual (nil).
+ * A client accepting compressed values gets a value held compressed as ~<length>\r\n<zlib bytes>\r\n,
+ * unless it was compressed with a server-side dictionary.
+ *
+ * Requires READ or higher privileges to execute.
+ */
+public class BGetCommand extends BaseCommand<String> {
+
+    public static final String COMMAND_KEY = "BGET";
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        try {
+            if (argumentParser.getPrimaryArgument().getArgs().size() != 1) {
+                response.setResponseError("BGET command requires a single argument: the key to retrieve.");
+                return response;
+            }
+
+            String key = argumentParser.getPrimaryArgument().getArgs().getFirst();
+
+            try {
+                new KeyValidator(ApiParameter.KEY.value(), key).validate();
+            } catch (Exception ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            CacheAccessService service = new CacheAccessService();
+            byte[] value;
+            if (session.isCompressionAccepted()) {
+                Object stored = service.getStored(session, key);
+                if (stored instanceof CompressedValue compressed && compressed.getDictionary() == null) {
+                    response.setResponse(VertexCacheMessageProtocol.encodeCompressed(compressed.getData()));
+                    return response;
+                }
+                value = stored != null ? CacheAccessService.asBytes(stored) : null;
+            } else {
+                value = service.getBytes(session, key);
+            }
+
+            if (value != null) {
+                response.setResponse(VertexCacheMessageProtocol.encodeBinary(value));
+            } else {
+                response.setResponseNil();
+            }
+
+        } catch (Exception ex) {
+            response.setResponseError("BGET command failed. Check logs.");
+            LogHelper.getInstance().logFatal("[BGetCommand] error: " + ex.getMessage(), ex);
+        }
+
+        return response;
+    }
+}
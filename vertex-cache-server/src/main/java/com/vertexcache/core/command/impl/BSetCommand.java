@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.command.argument.IndexArgument;
+import com.vertexcache.core.command.argument.TtlArgument;
+import com.vertexcache.core.validation.exception.VertexCacheValidationException;
+import com.vertexcache.core.validation.validators.KeyValidator;
+import com.vertexcache.module.restapi.model.ApiParameter;
+import com.vertexcache.server.session.ClientSessionContext;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Command used to store a binary value in the cache.
+ *
+ * The command line names the key and the same optional IDX1, IDX2, IDX and TTL arguments as SET, the value
+ * follows the command line (after CRLF) as a raw payload running to the end of the frame:
+ *
+ *   BSET <key> [IDX1 <idx1>] [IDX2 <idx2>] [IDX <name> <value> ...] [TTL <seconds|ms>]\r\n<value bytes>
+ *
+ * The bytes are stored as-is, with no charset conversion, tokenizing or escaping, so images, protobufs
+ * or compressed payloads round-trip unchanged through BGET.
+ *
+ * Requires READ_WRITE or higher privileges to execute.
+ */
+public class BSetCommand extends BaseCommand<String> {
+
+    private static final String SUB_ARG_TTL = "TTL";
+
+    public static final String COMMAND_KEY = "BSET";
+    private final ArrayList<String> subArguments;
+
+    public BSetCommand() {
+        this.subArguments = new ArrayList<>(IndexArgument.subArguments());
+        this.subArguments.add(SUB_ARG_TTL);
+    }
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        try {
+            argumentParser.setSubArguments(this.subArguments);
+
+            var args = argumentParser.getPrimaryArgument().getArgs();
+            if (args.size() != 1 || !argumentParser.hasPayload() || argumentParser.getPayload().length == 0) {
+                response.setResponseError("BSET requires a key-name [IDX1] <optional-index-1> [IDX2] <optional-index-2> [IDX] <optional-index-name value ...> [TTL] <optional-seconds|ms>, followed by CRLF and the value bytes");
+                return response;
+            }
+
+            String key = args.getFirst();
+
+            long ttlMillis = 0;
+            if (argumentParser.subArgumentExists(SUB_ARG_TTL)) {
+                var ttlArgs = argumentParser.getSubArgumentByName(SUB_ARG_TTL).getArgs();
+                try {
+                    ttlMillis = TtlArgument.toMillis(ttlArgs.size() == 1 ? ttlArgs.getFirst() : null);
+                } catch (IllegalArgumentException ex) {
+                    response.setResponseError(ex.getMessage());
+                    return response;
+                }
+            }
+
+            Map<String, String> indexes;
+            try {
+                new KeyValidator(ApiParameter.KEY.value(), key).validate();
+                indexes = IndexArgument.toIndexes(argumentParser);
+            } catch (IllegalArgumentException | VertexCacheValidationException ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            CacheAccessService service = new CacheAccessService();
+            try {
+                service.put(session, key, argumentParser.getPayload(), ttlMillis, indexes);
+            } catch (VertexCacheTypeException ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+            response.setResponseOK();
+
+        } catch (Exception ex) {
+            response.setResponseError("BSET command failed. Check logs.");
+            LogHelper.getInstance().logFatal("[BSetCommand] error: " + ex.getMessage(), ex);
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.command.argument.TtlArgument;
+import com.vertexcache.core.validation.validators.KeyValidator;
+import com.vertexcache.module.restapi.model.ApiParameter;
+import com.vertexcache.server.session.ClientSessionContext;
+
+/**
+ * Command used to set or replace the time to live of an existing key.
+ *
+ * EXPIRE <key> <seconds|ms>, ie: EXPIRE session:1 30 or EXPIRE session:1 1500ms
+ *
+ * Responds with 1 when the expiry was set, 0 when the key does not exist.
+ * Requires READ_WRITE or higher privileges to execute.
+ */
+public class ExpireCommand extends BaseCommand<String> {
+
+    public static final String COMMAND_KEY = "EXPIRE";
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        try {
+            var args = argumentParser.getPrimaryArgument().getArgs();
+            if (args.size() != 2) {
+                response.setResponseError("EXPIRE command requires two arguments: the key and the time to live <seconds|ms>.");
+                return response;
+            }
+
+            String key = args.get(0);
+            long ttlMillis;
+
+            try {
+                new KeyValidator(ApiParameter.KEY.value(), key).validate();
+                ttlMillis = TtlArgument.toMillis(args.get(1));
+            } catch (Exception ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            CacheAccessService service = new CacheAccessService();
+            response.setResponse(service.expire(session, key, ttlMillis) ? "1" : "0");
+
+        } catch (Exception ex) {
+            response.setResponseError("EXPIRE command failed. Check logs.");
+            LogHelper.getInstance().logFatal("[ExpireCommand] error: " + ex.getMessage(), ex);
+        }
+
+        return response;
+    }
+}
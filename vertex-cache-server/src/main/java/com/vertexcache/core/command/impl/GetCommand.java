@@ -16,8 +16,10 @@
 package com.vertexcache.core.command.impl;
 
 import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.common.protocol.VertexCacheMessageProtocol;
 import com.vertexcache.common.util.StringUtil;
 import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.compression.CompressedValue;
 import com.vertexcache.core.command.BaseCommand;
 import com.vertexcache.core.command.CommandResponse;
 import com.vertexcache.core.command.argument.ArgumentParser;
@@ -32,7 +34,10 @@ import com.vertexcache.server.session.ClientSessionContext;
  * are handled by separate commands.
  *
  * If the key exists, the value is returned as-is.
- * Otherwise, a cache miss response is returned.
+ * Otherwise, a cache miss response is returned. A client accepting compressed values gets a
+ * value held compressed as a compressed reply, ~<length>\r\n<zlib bytes>\r\n, inflating to the
+ * value UTF-8 encoded and unescaped. Values compressed with a server-side dictionary are inflated
+ * before they are sent, the client not having the dictionary.
  *
  * Requires READ or higher privileges to execute.
  */
@@ -65,6 +70,18 @@ public class GetCommand extends BaseCommand<String> {
             }
 
             CacheAccessService service = new CacheAccessService();
+            if (session.isCompressionAccepted()) {
+                Object stored = service.getStored(session, key);
+                if (stored instanceof CompressedValue compressed && compressed.getDictionary() == null) {
+                    response.setResponse(VertexCacheMessageProtocol.encodeCompressed(compressed.getData()));
+                } else if (stored != null) {
+                    response.setResponse(StringUtil.esacpeQuote(CacheAccessService.asString(stored)));
+                } else {
+                    response.setResponseNil();
+                }
+                return response;
+            }
+
             String value = service.get(session, key);
 
             if (value != null) {
@@ -18,6 +18,7 @@ package com.vertexcache.core.command.impl;
 import com.vertexcache.common.log.LogHelper;
 import com.vertexcache.common.util.StringUtil;
 import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
 import com.vertexcache.core.command.BaseCommand;
 import com.vertexcache.core.command.CommandResponse;
 import com.vertexcache.core.command.argument.ArgumentParser;
@@ -64,7 +65,7 @@ public class GetSecondaryIdxTwoCommand extends BaseCommand<String> {
             }
 
             CacheAccessService service = new CacheAccessService();
-            String value = service.getBySecondaryIdx2(session, idxKey);
+            String value = service.getBySecondaryIdx(session, KeyspaceDefinition.INDEX_TWO, idxKey);
 
             if (value != null) {
                 response.setResponse(StringUtil.esacpeQuote(value));
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.common.util.StringUtil;
+import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.validation.validators.KeyValidator;
+import com.vertexcache.server.session.ClientSessionContext;
+
+import java.util.List;
+
+/**
+ * Command used to retrieve the values of every cache entry sharing a secondary index value.
+ *
+ * MGETIDX <index> <value> returns an array with one value per matching key, in no particular order,
+ * and an empty array when nothing matches. The index is any name declared by the keyspace, IDX1 and IDX2
+ * addressing its first two indexes. Unlike GETIDX, which resolves to the last key written with the index
+ * value, this covers all of them in a single round trip, ie: every session of one user.
+ *
+ * Requires READ or higher privileges to execute.
+ */
+public class MultiGetSecondaryIdxCommand extends BaseCommand<String> {
+
+    public static final String COMMAND_KEY = "MGETIDX";
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        try {
+            List<String> args = argumentParser.getPrimaryArgument().getArgs();
+            if (args.size() != 2) {
+                response.setResponseError("MGETIDX command requires two arguments: the index name and the index key.");
+                return response;
+            }
+
+            String index = args.get(0);
+            String idxKey = args.get(1);
+
+            try {
+                new KeyValidator(index, idxKey).validate();
+            } catch (Exception ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            CacheAccessService service = new CacheAccessService();
+            List<String> values;
+            try {
+                values = service.getAllBySecondaryIdx(session, index, idxKey);
+            } catch (VertexCacheTypeException ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            values.replaceAll(StringUtil::esacpeQuote);
+            response.setResponseFromArray(values);
+
+        } catch (Exception ex) {
+            response.setResponseError("MGETIDX command failed. Check logs.");
+            LogHelper.getInstance().logFatal("[MultiGetSecondaryIdxCommand] error: " + ex.getMessage(), ex);
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.validation.validators.KeyValidator;
+import com.vertexcache.module.restapi.model.ApiParameter;
+import com.vertexcache.server.session.ClientSessionContext;
+
+/**
+ * Command used to remove the time to live of a key, so it no longer expires.
+ *
+ * PERSIST <key>
+ *
+ * Responds with 1 when an expiry was removed, 0 when the key does not exist or had none.
+ * Requires READ_WRITE or higher privileges to execute.
+ */
+public class PersistCommand extends BaseCommand<String> {
+
+    public static final String COMMAND_KEY = "PERSIST";
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        try {
+            if (argumentParser.getPrimaryArgument().getArgs().size() != 1) {
+                response.setResponseError("PERSIST command requires a single argument: the key.");
+                return response;
+            }
+
+            String key = argumentParser.getPrimaryArgument().getArgs().getFirst();
+
+            try {
+                new KeyValidator(ApiParameter.KEY.value(), key).validate();
+            } catch (Exception ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            CacheAccessService service = new CacheAccessService();
+            response.setResponse(service.persist(session, key) ? "1" : "0");
+
+        } catch (Exception ex) {
+            response.setResponseError("PERSIST command failed. Check logs.");
+            LogHelper.getInstance().logFatal("[PersistCommand] error: " + ex.getMessage(), ex);
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.model.ScanPage;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.command.argument.ScanArgument;
+import com.vertexcache.server.session.ClientSessionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Command used to enumerate the keys of the keyspace incrementally.
+ *
+ * SCAN <cursor> [MATCH pattern] [COUNT n] returns an array whose first element is the cursor of the
+ * next page followed by the keys of this page. A scan starts with cursor 0 and is complete when the
+ * returned cursor is 0 again. Each call examines at most COUNT keys (10 by default, at most 1000) so a
+ * page may hold fewer keys than COUNT, even none, without the scan being over.
+ *
+ * Keys are returned in ascending order and the cursor is the last key examined, so it stays valid
+ * across concurrent writes: a key present for the whole scan is returned exactly once. MATCH takes a
+ * glob (* and ?), its literal prefix narrows the range examined. With tenant key prefixing the scan
+ * only covers the tenant's own keys, returned without their prefix.
+ *
+ * Requires READ or higher privileges to execute.
+ */
+public class ScanCommand extends BaseCommand<String> {
+
+    public static final String COMMAND_KEY = "SCAN";
+
+    private final ArrayList<String> subArguments = new ArrayList<>(List.of(ScanArgument.SUB_ARG_MATCH, ScanArgument.SUB_ARG_COUNT));
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        try {
+            argumentParser.setSubArguments(this.subArguments);
+
+            List<String> args = argumentParser.getPrimaryArgument().getArgs();
+            if (args.size() != 1) {
+                response.setResponseError("SCAN requires a cursor: SCAN <cursor> [MATCH] <optional-pattern> [COUNT] <optional-count>");
+                return response;
+            }
+
+            String afterKey;
+            String prefix = "";
+            Predicate<String> filter = key -> true;
+            int count = ScanArgument.DEFAULT_COUNT;
+            try {
+                afterKey = ScanArgument.toAfterKey(args.getFirst());
+                if (argumentParser.subArgumentExists(ScanArgument.SUB_ARG_MATCH)) {
+                    String glob = singleArg(argumentParser, ScanArgument.SUB_ARG_MATCH, "MATCH requires a pattern, ie: MATCH user:*");
+                    prefix = ScanArgument.literalPrefix(glob);
+                    Pattern pattern = ScanArgument.toPattern(glob);
+                    filter = key -> pattern.matcher(key).matches();
+                }
+                if (argumentParser.subArgumentExists(ScanArgument.SUB_ARG_COUNT)) {
+                    count = ScanArgument.toCount(singleArg(argumentParser, ScanArgument.SUB_ARG_COUNT, null));
+                }
+            } catch (IllegalArgumentException ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            ScanPage<String> page = new CacheAccessService().scan(session, prefix, afterKey, count, filter);
+
+            List<String> lines = new ArrayList<>(page.getKeys().size() + 1);
+            lines.add(ScanArgument.toCursor(page.getLastKey()));
+            lines.addAll(page.getKeys());
+            response.setResponseFromArray(lines);
+
+        } catch (Exception ex) {
+            response.setResponseError("SCAN command failed. Check logs.");
+            LogHelper.getInstance().logFatal("[ScanCommand] error: " + ex.getMessage(), ex);
+        }
+
+        return response;
+    }
+
+    private static String singleArg(ArgumentParser argumentParser, String name, String message) {
+        List<String> values = argumentParser.getSubArgumentByName(name).getArgs();
+        if (values.size() != 1) {
+            throw new IllegalArgumentException(message != null ? message : name + " requires a single value");
+        }
+        return values.getFirst();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.server.session.ClientSessionContext;
+
+/**
+ * Command used to select the keyspace the connection's following commands run against.
+ *
+ * SELECT <keyspace> switches keyspace for the rest of the connection, SELECT default goes back to the
+ * default keyspace and SELECT without argument returns the current one. A single command can also target
+ * a keyspace without switching by prefixing it with @<keyspace>, ie: @sessions GET user:1
+ *
+ * Tenant key prefixing applies inside the selected keyspace as usual.
+ *
+ * Requires READ_ONLY or higher privileges to execute.
+ */
+public class SelectCommand extends BaseCommand<String> {
+
+    public static final String COMMAND_KEY = "SELECT";
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        var args = argumentParser.getPrimaryArgument().getArgs();
+        if (args.isEmpty()) {
+            String current = session != null ? session.getKeyspace() : null;
+            response.setResponse(current != null ? current : Cache.DEFAULT_KEYSPACE);
+            return response;
+        }
+        if (args.size() != 1) {
+            response.setResponseError("SELECT takes a single argument: the keyspace name.");
+            return response;
+        }
+
+        String keyspace = args.getFirst();
+        if (!Cache.hasKeyspace(keyspace)) {
+            response.setResponseError("Unknown keyspace: " + keyspace);
+            return response;
+        }
+        if (session == null) {
+            response.setResponseError("SELECT requires a client session.");
+            return response;
+        }
+
+        session.setKeyspace(Cache.DEFAULT_KEYSPACE.equals(keyspace) ? null : keyspace);
+        response.setResponseOK();
+        return response;
+    }
+}
@@ -17,39 +17,45 @@ package com.vertexcache.core.command.impl;
 
 import com.vertexcache.common.log.LogHelper;
 import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
 import com.vertexcache.core.command.BaseCommand;
 import com.vertexcache.core.command.CommandResponse;
 import com.vertexcache.core.command.argument.ArgumentParser;
-import com.vertexcache.core.validation.ValidationBatch;
+import com.vertexcache.core.command.argument.IndexArgument;
+import com.vertexcache.core.command.argument.TtlArgument;
+import com.vertexcache.core.validation.exception.VertexCacheValidationException;
 import com.vertexcache.core.validation.validators.KeyValidator;
 import com.vertexcache.module.restapi.model.ApiParameter;
 import com.vertexcache.server.session.ClientSessionContext;
 
 import java.util.ArrayList;
+import java.util.Map;
 
 /**
  * Command used to store or update a key-value entry in the cache.
  *
- * Supports optional indexing via secondary (idx1) and tertiary (idx2) keys,
- * allowing for advanced lookup capabilities beyond the primary key.
+ * Supports optional indexing via secondary (idx1) and tertiary (idx2) keys, or any of the named
+ * indexes of the keyspace via IDX <name> <value> [<name> <value> ...], allowing for advanced lookup
+ * capabilities beyond the primary key.
  *
- * Overwrites any existing value for the same key.
+ * Supports an optional time to live via TTL <seconds|ms>, ie: TTL 30 or TTL 1500ms,
+ * after which the entry expires.
+ *
+ * Overwrites any existing value for the same key, including its expiry.
  *
  * Requires READ_WRITE or higher privileges to execute.
  *
  */
 public class SetCommand extends BaseCommand<String> {
 
-    private static final String SUB_ARG_SECONDARY_INDEX_ONE = "IDX1";
-    private static final String SUB_ARG_SECONDARY_INDEX_TWO = "IDX2";
+    private static final String SUB_ARG_TTL = "TTL";
 
     public static final String COMMAND_KEY = "SET";
     private final ArrayList<String> subArguments;
 
     public SetCommand() {
-        this.subArguments = new ArrayList<>();
-        this.subArguments.add(SUB_ARG_SECONDARY_INDEX_ONE);
-        this.subArguments.add(SUB_ARG_SECONDARY_INDEX_TWO);
+        this.subArguments = new ArrayList<>(IndexArgument.subArguments());
+        this.subArguments.add(SUB_ARG_TTL);
     }
 
     @Override
@@ -66,58 +72,43 @@ public class SetCommand extends BaseCommand<String> {
 
             var args = argumentParser.getPrimaryArgument().getArgs();
             if (args.size() != 2) {
-                response.setResponseError("SET requires two arguments: key-name and key-value [IDX1] <optional-index-1> [IDX2] <optional-index-2>");
+                response.setResponseError("SET requires two arguments: key-name and key-value [IDX1] <optional-index-1> [IDX2] <optional-index-2> [IDX] <optional-index-name value ...> [TTL] <optional-seconds|ms>");
                 return response;
             }
 
             String key = args.get(0);
             String value = args.get(1).replace("\"", "\\\"");
 
-            CacheAccessService service = new CacheAccessService();
-
-            boolean hasIdx1 = argumentParser.subArgumentExists(SUB_ARG_SECONDARY_INDEX_ONE)
-                    && argumentParser.getSubArgumentByName(SUB_ARG_SECONDARY_INDEX_ONE).getArgs().size() == 1;
-            boolean hasIdx2 = argumentParser.subArgumentExists(SUB_ARG_SECONDARY_INDEX_TWO)
-                    && argumentParser.getSubArgumentByName(SUB_ARG_SECONDARY_INDEX_TWO).getArgs().size() == 1;
-
-
-
-            if (hasIdx1 && hasIdx2) {
-                String idx1 = argumentParser.getSubArgumentByName(SUB_ARG_SECONDARY_INDEX_ONE).getArgs().getFirst();
-                String idx2 = argumentParser.getSubArgumentByName(SUB_ARG_SECONDARY_INDEX_TWO).getArgs().getFirst();
-
-                ValidationBatch batch = new ValidationBatch();
-                batch.check(ApiParameter.KEY.value(), new KeyValidator(ApiParameter.KEY.value(), key));
-                batch.check(ApiParameter.IDX1.value(), new KeyValidator(ApiParameter.IDX1.value(), idx1));
-                batch.check(ApiParameter.IDX2.value(), new KeyValidator(ApiParameter.IDX2.value(), idx2));
-
-                if(batch.hasErrors()) {
-                    response.setResponseError(batch.getSummary());
+            long ttlMillis = 0;
+            if (argumentParser.subArgumentExists(SUB_ARG_TTL)) {
+                var ttlArgs = argumentParser.getSubArgumentByName(SUB_ARG_TTL).getArgs();
+                try {
+                    ttlMillis = TtlArgument.toMillis(ttlArgs.size() == 1 ? ttlArgs.getFirst() : null);
+                } catch (IllegalArgumentException ex) {
+                    response.setResponseError(ex.getMessage());
                     return response;
                 }
+            }
 
-                service.put(session, key, value, idx1, idx2);
-            } else if (hasIdx1) {
-                String idx1 = argumentParser.getSubArgumentByName(SUB_ARG_SECONDARY_INDEX_ONE).getArgs().getFirst();
-
-                ValidationBatch batch = new ValidationBatch();
-                batch.check(ApiParameter.KEY.value(), new KeyValidator(ApiParameter.KEY.value(), key));
-                batch.check(ApiParameter.IDX1.value(), new KeyValidator(ApiParameter.IDX1.value(), idx1));
-
-                if(batch.hasErrors()) {
-                    response.setResponseError(batch.getSummary());
-                    return response;
-                }
+            Map<String, String> indexes;
+            try {
+                new KeyValidator(ApiParameter.KEY.value(), key).validate();
+                indexes = IndexArgument.toIndexes(argumentParser);
+            } catch (IllegalArgumentException | VertexCacheValidationException ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
 
-                service.put(session, key, value, idx1);
+            CacheAccessService service = new CacheAccessService();
+            if (indexes.isEmpty() && ttlMillis <= 0) {
+                service.put(session, key, value);
             } else {
                 try {
-                    new KeyValidator(ApiParameter.KEY.value(), key).validate();
-                } catch (Exception ex) {
+                    service.put(session, key, value, ttlMillis, indexes);
+                } catch (VertexCacheTypeException ex) {
                     response.setResponseError(ex.getMessage());
                     return response;
                 }
-                service.put(session, key, value);
             }
 
             response.setResponseOK();
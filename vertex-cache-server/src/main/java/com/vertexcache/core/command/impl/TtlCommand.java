@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.command.BaseCommand;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.core.validation.validators.KeyValidator;
+import com.vertexcache.module.restapi.model.ApiParameter;
+import com.vertexcache.server.session.ClientSessionContext;
+
+/**
+ * Command used to read the remaining time to live of a key.
+ *
+ * TTL <key> [MS]
+ *
+ * Responds with the remaining seconds (rounded up), or milliseconds when MS is given,
+ * -1 when the key exists without expiry and -2 when the key does not exist.
+ * Requires READ or higher privileges to execute.
+ */
+public class TtlCommand extends BaseCommand<String> {
+
+    public static final String COMMAND_KEY = "TTL";
+
+    private static final String UNIT_MILLIS = "MS";
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse execute(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+
+        try {
+            var args = argumentParser.getPrimaryArgument().getArgs();
+            boolean inMillis = args.size() == 2 && UNIT_MILLIS.equalsIgnoreCase(args.get(1));
+            if (args.size() != 1 && !inMillis) {
+                response.setResponseError("TTL command requires a single argument: the key, optionally followed by MS.");
+                return response;
+            }
+
+            String key = args.getFirst();
+
+            try {
+                new KeyValidator(ApiParameter.KEY.value(), key).validate();
+            } catch (Exception ex) {
+                response.setResponseError(ex.getMessage());
+                return response;
+            }
+
+            CacheAccessService service = new CacheAccessService();
+            long ttlMillis = service.ttl(session, key);
+
+            if (ttlMillis == Cache.TTL_NONE || ttlMillis == Cache.TTL_MISSING || inMillis) {
+                response.setResponse(String.valueOf(ttlMillis));
+            } else {
+                response.setResponse(String.valueOf((ttlMillis + 999) / 1000));
+            }
+
+        } catch (Exception ex) {
+            response.setResponseError("TTL command failed. Check logs.");
+            LogHelper.getInstance().logFatal("[TtlCommand] error: " + ex.getMessage(), ex);
+        }
+
+        return response;
+    }
+}
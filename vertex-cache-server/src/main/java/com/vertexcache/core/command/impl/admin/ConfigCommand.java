@@ -63,6 +63,7 @@ public class ConfigCommand extends AdminCommand<String> {
             lines.add("  AES Key Enabled:     " + (mode == EncryptionMode.SYMMETRIC));
             lines.add("Auth Enabled:          " + cfg.getAuthWithTenantConfigLoader().isAuthEnabled());
             lines.add("Tenant Key Prefixing:  " + cfg.getAuthWithTenantConfigLoader().isTenantKeyPrefixingEnabled());
+            lines.add("Tenant Quotas:         " + cfg.getAuthWithTenantConfigLoader().getTenantQuotas().size());
             lines.add("Rate Limiting:         " + cfg.getRateLimitingConfigLoader().isRateLimitEnabled());
             lines.add("  Tokens/sec:          " + cfg.getRateLimitingConfigLoader().getRateLimitTokensTerSecond());
             lines.add("  Burst Size:          " + cfg.getRateLimitingConfigLoader().getRateLimitBurst());
@@ -94,6 +95,7 @@ public class ConfigCommand extends AdminCommand<String> {
                     "shared_key=" + (mode == EncryptionMode.SYMMETRIC ? "ENABLED" : "DISABLED"),
                     "auth_enabled=" + cfg.getAuthWithTenantConfigLoader().isAuthEnabled(),
                     "tenant_key_prefixing=" + cfg.getAuthWithTenantConfigLoader().isTenantKeyPrefixingEnabled(),
+                    "tenant_quotas=" + cfg.getAuthWithTenantConfigLoader().getTenantQuotas().size(),
                     "rate_limit_enabled=" + cfg.getRateLimitingConfigLoader().isRateLimitEnabled(),
                     "rate_limit_tokens_per_sec=" + cfg.getRateLimitingConfigLoader().getRateLimitTokensTerSecond(),
                     "rate_limit_burst=" + cfg.getRateLimitingConfigLoader().getRateLimitBurst(),
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.command.impl.admin;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.compression.CompressionDictionary;
+import com.vertexcache.core.cache.compression.DictionaryRegistry;
+import com.vertexcache.core.cache.compression.ValueCompressor;
+import com.vertexcache.core.cache.model.DataType;
+import com.vertexcache.core.command.CommandResponse;
+import com.vertexcache.core.command.argument.ArgumentParser;
+import com.vertexcache.server.session.ClientSessionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Administrative command used to inspect and retrain the dictionaries small JSON and XML values are
+ * compressed with (cache_compression_dictionary_size).
+ *
+ * DICTIONARY lists the current dictionary of each format, its version, size and the samples held for
+ * the next training. DICTIONARY TRAIN trains new ones from the values sampled lately, for when the
+ * shape of the values has changed since the last training: values written from then on use the new
+ * version, those already held keep the one they were compressed with.
+ *
+ * Requires ADMIN privileges to execute.
+ */
+public class DictionaryCommand extends AdminCommand<String> {
+
+    public static final String COMMAND_KEY = "DICTIONARY";
+    public static final String SUB_COMMAND_TRAIN = "TRAIN";
+
+    @Override
+    protected String getCommandKey() {
+        return COMMAND_KEY;
+    }
+
+    @Override
+    public CommandResponse executeAdminCommand(ArgumentParser argumentParser, ClientSessionContext session) {
+        CommandResponse response = new CommandResponse();
+        List<String> args = argumentParser.getPrimaryArgument().getArgs();
+
+        if (args.size() > 1 || (args.size() == 1 && !args.getFirst().equalsIgnoreCase(SUB_COMMAND_TRAIN))) {
+            response.setResponseError("DICTIONARY command takes no argument or TRAIN. Usage: DICTIONARY [TRAIN]");
+            return response;
+        }
+
+        try {
+            ValueCompressor compressor = Cache.getInstance().getValueCompressor();
+            DictionaryRegistry dictionaries = compressor != null ? compressor.getDictionaries() : null;
+            if (dictionaries == null) {
+                response.setResponseError("ERR_DICTIONARY Dictionary compression is not enabled (cache_compression_dictionary_size).");
+                return response;
+            }
+
+            if (args.isEmpty()) {
+                List<String> lines = new ArrayList<>();
+                for (DataType format : List.of(DataType.JSON, DataType.XML)) {
+                    CompressionDictionary dictionary = dictionaries.getDictionary(format);
+                    String prefix = format.name().toLowerCase();
+                    lines.add(prefix + "_version=" + (dictionary != null ? dictionary.getVersion() : 0));
+                    lines.add(prefix + "_bytes=" + (dictionary != null ? dictionary.getBytes().length : 0));
+                    lines.add(prefix + "_samples=" + dictionaries.getSampleCount(format));
+                }
+                response.setResponseFromArray(lines);
+                return response;
+            }
+
+            List<CompressionDictionary> trained = dictionaries.retrain();
+            if (trained.isEmpty()) {
+                response.setResponse("OK: Not enough sampled JSON or XML values to train a dictionary yet.");
+                return response;
+            }
+            response.setResponse("OK: Trained " + trained.stream().map(CompressionDictionary::toString).collect(Collectors.joining(", ")) + ".");
+
+        } catch (Exception e) {
+            response.setResponseError("ERR_DICTIONARY Cache operation failed: " + e.getMessage());
+        }
+
+        return response;
+    }
+}
@@ -36,6 +36,7 @@ import java.util.Optional;
  * - Hit/miss ratios
  * - Evictions, expirations, and key counts
  * - Index and value size distributions
+ * - Per-tenant keys, bytes and evictions against the tenant quotas
  *
  * Useful for monitoring, debugging, and capacity planning.
  */
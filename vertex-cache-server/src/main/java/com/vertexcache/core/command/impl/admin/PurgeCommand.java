@@ -16,16 +16,13 @@
 package com.vertexcache.core.command.impl.admin;
 
 import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.model.KeyPrefixer;
 import com.vertexcache.core.command.CommandResponse;
 import com.vertexcache.core.command.argument.ArgumentParser;
-import com.vertexcache.core.setting.Config;
 import com.vertexcache.core.validation.validators.KeyValidator;
 import com.vertexcache.module.restapi.model.ApiParameter;
 import com.vertexcache.server.session.ClientSessionContext;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 /**
  * Administrative command used to purge specific keys or key prefixes from the cache.
  *
@@ -35,6 +32,11 @@ import java.util.stream.Collectors;
  * Unlike ResetCommand, this does not affect metrics, alert state, or client usage statistics.
  * It is intended for fine-grained control over cache contents without resetting the system state.
  *
+ * Purges within the keyspace selected by the session (SELECT or @keyspace), the default one otherwise,
+ * and within the partition of the session's tenant when it has a quota (tenant_quotas).
+ * Matching keys are found through the keyspace's ordered key index when enabled (cache_ordered_keys),
+ * otherwise by a scan of the keyspace.
+ *
  * Requires ADMIN privileges to execute.
  *
  * Typical use cases include:
@@ -61,13 +63,7 @@ public class PurgeCommand extends AdminCommand<String> {
         }
 
         String inputPrefix = argumentParser.getPrimaryArgument().getArgs().getFirst();
-        String targetPrefix;
-
-        if (Config.getInstance().getAuthWithTenantConfigLoader().isTenantKeyPrefixingEnabled()) {
-            targetPrefix = session.getTenantId() + "::" + inputPrefix;
-        } else {
-            targetPrefix = inputPrefix;
-        }
+        String targetPrefix = KeyPrefixer.prefixKey(inputPrefix, session).toString();
 
         try {
             new KeyValidator(ApiParameter.KEY_OR_PREFIX.value(), targetPrefix).validate();
@@ -77,17 +73,16 @@ public class PurgeCommand extends AdminCommand<String> {
         }
 
         try {
-            Set<String> matches = Cache.getInstance().keySet().stream()
-                    .filter(k -> k.startsWith(targetPrefix))
-                    .collect(Collectors.toSet());
+            Cache<String, Object> keyspace = Cache.getKeyspace(session != null ? session.getKeyspace() : null);
+            Cache<String, Object> cache = keyspace.forTenant(session != null ? session.getTenantId() : null);
+            int purged = cache.removeByPrefix(targetPrefix);
 
-            if (matches.isEmpty()) {
+            if (purged == 0) {
                 response.setResponse("OK: No keys matched the prefix '" + inputPrefix + "'.");
                 return response;
             }
 
-            matches.forEach(Cache.getInstance()::remove);
-            response.setResponse("OK: Purged " + matches.size() + " key(s) matching prefix '" + inputPrefix + "'.");
+            response.setResponse("OK: Purged " + purged + " key(s) matching prefix '" + inputPrefix + "'.");
 
         } catch (Exception e) {
             response.setResponseError("ERR_PURGE Cache operation failed: " + e.getMessage());
@@ -24,7 +24,7 @@ import com.vertexcache.server.session.ClientSessionContext;
  * Administrative command that performs a full in-memory reset of the VertexCache node.
  *
  * This command clears:
- * - All cache entries
+ * - All cache entries, in every keyspace
  * - Metrics counters
  * - Alert retry/backoff state
  * - Client connection usage statistics
@@ -50,7 +50,7 @@ public class ResetCommand extends AdminCommand<String> {
         CommandResponse response = new CommandResponse();
         try {
             if (argumentParser.getPrimaryArgument().getArgs().size() == 1 && argumentParser.getPrimaryArgument().getArgs().getFirst().equalsIgnoreCase(COMMAND_CONFIRM)) {
-                Cache.getInstance().clear();
+                Cache.clearAll();
                 response.setResponse("OK: Cache has been reset.");
             } else {
                 response.setResponseError("ERR_CONFIRM_REQUIRED Reset requires confirmation. Usage: RESET CONFIRM");
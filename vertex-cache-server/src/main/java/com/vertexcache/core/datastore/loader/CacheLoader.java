@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.loader;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.snapshot.SnapshotFormat;
+import com.vertexcache.core.datastore.model.DatastoreKey;
+import com.vertexcache.core.datastore.model.DatastoreLoader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Reads cache misses through a DatastoreLoader and optionally writes SET and DEL behind to it
+ * (cache_loader), so clients no longer query the database and SET the result themselves.
+ *
+ * Read-through: the first miss on a key loads it from the datastore, the misses on the same key that
+ * arrive while the load runs wait for it and share its result instead of loading it again (single
+ * flight). The loading thread fills the cache before releasing them. A key with a write still queued
+ * for the datastore is served from the queue, a load would return the value it is about to replace.
+ * A SET or DEL of the key detaches the load running on it, later misses do not wait for a value the
+ * write made stale. A failed load is a miss.
+ *
+ * Write-behind: with a WriteBehindQueue, the values clients SET and the keys they DEL are queued and
+ * written to the datastore in batches. Without one the datastore is only read.
+ */
+public class CacheLoader implements Closeable {
+
+    private final DatastoreLoader datastore;
+    private final WriteBehindQueue writeBehind;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<DatastoreKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+
+    /**
+     * Loads from the connected datastore, entries loaded expiring after ttlMillis (0 never does),
+     * writes queued to writeBehind when not null.
+     */
+    public CacheLoader(DatastoreLoader datastore, WriteBehindQueue writeBehind, long ttlMillis) {
+        this.datastore = datastore;
+        this.writeBehind = writeBehind;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Value of the key in the datastore, null when it has none or the load failed. fill is called once
+     * with a value found, by the thread that loaded it, before the misses waiting on it are released.
+     */
+    public Object load(String keyspace, Object cacheKey, Consumer<Object> fill) {
+        DatastoreKey key = DatastoreKey.of(keyspace, cacheKey);
+        if (key == null) {
+            return null;
+        }
+        if (writeBehind != null) {
+            Object queued = writeBehind.peek(key);
+            if (queued != null) {
+                return queued == WriteBehindQueue.DELETED ? null : fill(fill, queued);
+            }
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalescedCount.increment();
+            return leader.join();
+        }
+        Object value = null;
+        try {
+            loadCount.increment();
+            value = datastore.load(key);
+            if (value != null && !SnapshotFormat.isValue(value)) {
+                throw new IOException("unsupported value type " + value.getClass().getName());
+            }
+            if (value != null) {
+                loadedCount.increment();
+                fill(fill, value);
+            }
+        } catch (IOException | RuntimeException e) {
+            failureCount.increment();
+            LogHelper.getInstance().logWarn("[CacheLoader] Load of " + key + " failed: " + e.getMessage());
+            value = null;
+        } finally {
+            flight.complete(value);
+            inFlight.remove(key, flight);
+        }
+        return value;
+    }
+
+    private static Object fill(Consumer<Object> fill, Object value) {
+        try {
+            fill.accept(value);
+        } catch (RuntimeException e) {
+            // The value is still returned, only the next miss loads it again
+            LogHelper.getInstance().logWarn("[CacheLoader] Loaded value not cached: " + e.getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * Queues the value SET on the key for the datastore, no-op without write-behind, and detaches the
+     * load running on the key.
+     */
+    public void write(String keyspace, Object cacheKey, Object value) {
+        DatastoreKey key = DatastoreKey.of(keyspace, cacheKey);
+        if (key != null) {
+            inFlight.remove(key);
+        }
+        if (writeBehind != null && key != null && SnapshotFormat.isValue(value)) {
+            writeBehind.enqueue(key, value);
+        }
+    }
+
+    /**
+     * Queues the delete of the key for the datastore, no-op without write-behind, and detaches the load
+     * running on the key.
+     */
+    public void delete(String keyspace, Object cacheKey) {
+        DatastoreKey key = DatastoreKey.of(keyspace, cacheKey);
+        if (key != null) {
+            inFlight.remove(key);
+        }
+        if (writeBehind != null && key != null) {
+            writeBehind.enqueue(key, null);
+        }
+    }
+
+    public DatastoreLoader getDatastore() {
+        return datastore;
+    }
+
+    /**
+     * Write-behind queue, null when the datastore is only read.
+     */
+    public WriteBehindQueue getWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Time to live of the entries loaded in the cache, 0 when they do not expire.
+     */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * Loads sent to the datastore, misses that shared another one's load not included.
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * Loads that found a value.
+     */
+    public long getLoadedCount() {
+        return loadedCount.sum();
+    }
+
+    /**
+     * Misses that waited for the load already running on their key.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * Flushes and stops the write-behind queue, then closes the datastore.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+        datastore.close();
+    }
+}
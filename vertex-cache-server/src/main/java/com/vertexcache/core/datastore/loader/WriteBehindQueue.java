@@ -0,0 +1,295 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.loader;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.datastore.model.DatastoreKey;
+import com.vertexcache.core.datastore.model.DatastoreLoader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous queue of the writes a CacheLoader hands to its datastore (cache_write_behind).
+ *
+ * Writes are queued by key, a key written again before its batch is flushed only keeps its last value,
+ * so a hot key costs the datastore one write per flush however often it changes. A single writer thread
+ * flushes the queue once it holds batchSize keys or its oldest write has waited delayMillis, in batches
+ * of at most batchSize keys (DatastoreLoader.writeAll).
+ *
+ * A failed batch is put back behind the writes queued since, unless they already replaced its keys,
+ * and retried after delayMillis. The queue is bounded to maxPending keys, a datastore that cannot keep
+ * up slows writers of new keys down rather than filling the heap. close flushes what is queued, making
+ * one last attempt at a failing batch.
+ */
+public class WriteBehindQueue implements Closeable {
+
+    /**
+     * Queued value of a deleted key, see peek.
+     */
+    static final Object DELETED = new Object();
+
+    public static final int DEFAULT_MAX_PENDING = 100_000;
+
+    private final DatastoreLoader datastore;
+    private final int batchSize;
+    private final long delayMillis;
+    private final int maxPending;
+    private final Thread writer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queued = lock.newCondition();
+    private final Condition progressed = lock.newCondition();
+    private LinkedHashMap<DatastoreKey, Object> pending = new LinkedHashMap<>();
+    private Map<DatastoreKey, Object> flushing = Map.of();
+    private long oldestQueuedAt;
+    private boolean closing;
+    private boolean closed;
+
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+
+    public WriteBehindQueue(DatastoreLoader datastore, int batchSize, long delayMillis) {
+        this(datastore, batchSize, delayMillis, DEFAULT_MAX_PENDING);
+    }
+
+    public WriteBehindQueue(DatastoreLoader datastore, int batchSize, long delayMillis, int maxPending) {
+        this.datastore = datastore;
+        this.batchSize = Math.max(1, batchSize);
+        this.delayMillis = Math.max(0, delayMillis);
+        this.maxPending = Math.max(this.batchSize, maxPending);
+        this.writer = new Thread(this::runWriter, "CacheWriteBehindThread");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues the value of the key, null deleting it. Returns false once the queue is closed.
+     */
+    public boolean enqueue(DatastoreKey key, Object value) {
+        lock.lock();
+        try {
+            while (pending.size() >= maxPending && !pending.containsKey(key) && !closing) {
+                progressed.awaitUninterruptibly();
+            }
+            if (closing) {
+                return false;
+            }
+            if (pending.isEmpty()) {
+                oldestQueuedAt = System.nanoTime();
+            }
+            pending.put(key, value != null ? value : DELETED);
+            if (pending.size() == 1 || pending.size() == batchSize) {
+                queued.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Latest value queued for the key and not yet written, DELETED for a queued delete, null when none is.
+     */
+    Object peek(DatastoreKey key) {
+        lock.lock();
+        try {
+            Object value = pending.get(key);
+            return value != null ? value : flushing.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every write queued so far has been attempted, false when timeoutMillis ran out first.
+     */
+    public boolean flush(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        lock.lock();
+        try {
+            // Flushed right away rather than after delayMillis
+            oldestQueuedAt = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            queued.signal();
+            while ((!pending.isEmpty() || !flushing.isEmpty()) && !closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                progressed.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // === Writer thread ===
+
+    private void runWriter() {
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        try {
+            while (true) {
+                Map<DatastoreKey, Object> batch;
+                boolean stop;
+                lock.lock();
+                try {
+                    while (!closing) {
+                        if (pending.isEmpty()) {
+                            queued.await();
+                            continue;
+                        }
+                        long remaining = delayNanos - (System.nanoTime() - oldestQueuedAt);
+                        if (pending.size() >= batchSize || remaining <= 0) {
+                            break;
+                        }
+                        queued.awaitNanos(remaining);
+                    }
+                    batch = pending;
+                    pending = new LinkedHashMap<>();
+                    flushing = batch;
+                    stop = closing;
+                    // Writers held back by a full queue can go on
+                    progressed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+
+                boolean failed = !batch.isEmpty() && !write(batch, stop);
+
+                lock.lock();
+                try {
+                    flushing = Map.of();
+                    progressed.signalAll();
+                    if (stop && pending.isEmpty()) {
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (failed && !stop) {
+                    Thread.sleep(Math.max(delayMillis, 100));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.lock();
+            try {
+                closed = true;
+                progressed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /*
+     * Writes the batch in chunks of batchSize, requeueing what is left after a failure unless stopping.
+     */
+    private boolean write(Map<DatastoreKey, Object> batch, boolean stop) {
+        List<Map.Entry<DatastoreKey, Object>> entries = new ArrayList<>(batch.entrySet());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, entries.size());
+            Map<DatastoreKey, Object> chunk = new LinkedHashMap<>((to - from) * 2);
+            for (Map.Entry<DatastoreKey, Object> entry : entries.subList(from, to)) {
+                chunk.put(entry.getKey(), entry.getValue() == DELETED ? null : entry.getValue());
+            }
+            try {
+                datastore.writeAll(chunk);
+                writeCount.add(chunk.size());
+                batchCount.increment();
+            } catch (IOException | RuntimeException e) {
+                failureCount.increment();
+                List<Map.Entry<DatastoreKey, Object>> unwritten = entries.subList(from, entries.size());
+                if (stop) {
+                    LogHelper.getInstance().logError("[WriteBehind] " + unwritten.size() + " writes lost on shutdown: " + e.getMessage());
+                } else {
+                    LogHelper.getInstance().logWarn("[WriteBehind] Batch of " + chunk.size() + " writes failed, retrying: " + e.getMessage());
+                    requeue(unwritten);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void requeue(List<Map.Entry<DatastoreKey, Object>> unwritten) {
+        lock.lock();
+        try {
+            LinkedHashMap<DatastoreKey, Object> retry = new LinkedHashMap<>();
+            for (Map.Entry<DatastoreKey, Object> entry : unwritten) {
+                retry.put(entry.getKey(), entry.getValue());
+            }
+            // Writes queued meanwhile are newer, they replace the failed ones
+            retry.putAll(pending);
+            pending = retry;
+            oldestQueuedAt = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size() + flushing.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closing = true;
+            queued.signal();
+            progressed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
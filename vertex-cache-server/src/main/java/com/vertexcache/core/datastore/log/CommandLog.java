@@ -0,0 +1,552 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.log;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.snapshot.SnapshotFormat;
+import com.vertexcache.core.datastore.model.FsyncMode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the mutating commands applied to the cache, the durability between two snapshots.
+ *
+ * Segments
+ * --------
+ *  The log is a sequence of segment files named after cache_log_file with a sequence number
+ *  (cache.log.000001, cache.log.000002, ...). A segment starts with a header (magic, version, created
+ *  at, and the index names of every keyspace so index values replay by name) followed by records:
+ *  payload length (int), CRC32 of the payload (int), payload. A rewrite (see CommandLogCompactor)
+ *  rotates to a new segment, snapshots the cache and deletes the segments before it.
+ *
+ * Writing
+ * -------
+ *  Records are encoded on the thread running the command, queued, and written by a single writer
+ *  thread which drains the whole queue into one buffered write. With FsyncMode.ALWAYS the command
+ *  waits until its record has been forced to disk, the records queued during one fsync are forced by
+ *  the next one (group commit). EVERYSEC forces at most once a second, NO leaves it to the OS. The
+ *  queue is bounded, a disk that cannot keep up slows writers down rather than filling the heap.
+ *
+ *  A record is appended once the cache applied the command, under the key's lock in Cache, so writes
+ *  to one key are logged in the order they were applied and replay keeps the value the cache held.
+ *
+ * A write error is logged and closes the log. With FsyncMode.ALWAYS every append made afterwards throws,
+ * so a command is never acknowledged without its record; with EVERYSEC and NO the cache keeps serving
+ * without durability.
+ */
+public class CommandLog implements Closeable {
+
+    public static final int MAGIC = 0x5643414C;
+    public static final byte VERSION = 1;
+    public static final int RECORD_HEADER_BYTES = 8;
+
+    static final long MAX_PENDING_BYTES = 64L * 1024 * 1024;
+
+    private static final int WRITE_BUFFER_BYTES = 1024 * 1024;
+    private static final long EVERYSEC_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final ThreadLocal<RecordBuffer> RECORD_BUFFER = ThreadLocal.withInitial(RecordBuffer::new);
+
+    private final Path file;
+    private final FsyncMode fsyncMode;
+    private final Map<String, List<String>> indexLayout;
+    private final Thread writer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queued = lock.newCondition();
+    private final Condition progressed = lock.newCondition();
+    private List<byte[]> pending = new ArrayList<>();
+    private long pendingBytes;
+    private long appendedSeq;
+    private long writtenSeq;
+    private boolean rotateRequested;
+    private boolean closing;
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    // Owned by the writer thread, read under the lock by rotate
+    private FileChannel channel;
+    private volatile long segmentSeq;
+
+    private final LongAdder recordCount = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder syncCount = new LongAdder();
+
+    private CommandLog(Path file, FsyncMode fsyncMode, Map<String, List<String>> indexLayout) {
+        this.file = file;
+        this.fsyncMode = fsyncMode;
+        this.indexLayout = indexLayout;
+        this.writer = new Thread(this::runWriter, "CommandLogWriter");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Opens a new segment after the existing ones and starts the writer thread. indexLayout holds the
+     * index names of each keyspace, written in the segment header.
+     */
+    public static CommandLog open(Path file, FsyncMode fsyncMode, Map<String, List<String>> indexLayout) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        CommandLog log = new CommandLog(file, fsyncMode, new TreeMap<>(indexLayout));
+        List<Path> existing = segments(file);
+        log.openSegment(existing.isEmpty() ? 1 : sequenceOf(file, existing.get(existing.size() - 1)) + 1);
+        log.writer.start();
+        return log;
+    }
+
+    // === Appending ===
+
+    public void appendSet(String keyspace, String tenant, Object key, Object value, long expiresAt, Object[] indexValues) {
+        if (closed) {
+            rejectIfFailed();
+            return;
+        }
+        if (!SnapshotFormat.isTaggable(key) || !SnapshotFormat.isValue(value)) {
+            return;
+        }
+        for (Object indexValue : indexValues) {
+            if (!SnapshotFormat.isTaggable(indexValue)) {
+                return;
+            }
+        }
+        try {
+            RecordBuffer record = RECORD_BUFFER.get().start(LogOp.SET, keyspace, tenant);
+            SnapshotFormat.writeTagged(record, key);
+            SnapshotFormat.writeValue(record, value);
+            SnapshotFormat.writeLong(record, expiresAt);
+            SnapshotFormat.writeVarInt(record, indexValues.length);
+            for (Object indexValue : indexValues) {
+                SnapshotFormat.writeTagged(record, indexValue);
+            }
+            append(record.finish());
+        } catch (IOException e) {
+            // In-memory buffer, never thrown
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void appendDelete(String keyspace, String tenant, Object key) {
+        appendKey(LogOp.DEL, keyspace, tenant, key, 0);
+    }
+
+    /**
+     * Records the new absolute deadline of the key, 0 when its expiry was removed.
+     */
+    public void appendExpire(String keyspace, String tenant, Object key, long expiresAt) {
+        appendKey(LogOp.EXPIRE, keyspace, tenant, key, expiresAt);
+    }
+
+    public void appendPurge(String keyspace, String tenant, String prefix) {
+        appendKey(LogOp.PURGE, keyspace, tenant, prefix, 0);
+    }
+
+    public void appendClear(String keyspace, String tenant) {
+        appendKey(LogOp.CLEAR, keyspace, tenant, null, 0);
+    }
+
+    private void appendKey(LogOp op, String keyspace, String tenant, Object key, long expiresAt) {
+        if (closed) {
+            rejectIfFailed();
+            return;
+        }
+        if (!SnapshotFormat.isTaggable(key)) {
+            return;
+        }
+        try {
+            RecordBuffer record = RECORD_BUFFER.get().start(op, keyspace, tenant);
+            SnapshotFormat.writeTagged(record, key);
+            if (op == LogOp.EXPIRE) {
+                SnapshotFormat.writeLong(record, expiresAt);
+            }
+            append(record.finish());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void append(byte[] record) {
+        lock.lock();
+        try {
+            while (pendingBytes >= MAX_PENDING_BYTES && !closing) {
+                progressed.awaitUninterruptibly();
+            }
+            if (closing) {
+                rejectIfFailed();
+                return;
+            }
+            long seq = ++appendedSeq;
+            pending.add(record);
+            pendingBytes += record.length;
+            if (pending.size() == 1) {
+                queued.signal();
+            }
+            if (fsyncMode == FsyncMode.ALWAYS) {
+                while (writtenSeq < seq && !closed) {
+                    progressed.awaitUninterruptibly();
+                }
+                if (writtenSeq < seq) {
+                    rejectIfFailed();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Once the writer failed nothing reaches the disk, with ALWAYS the command must fail rather than be acknowledged.
+     */
+    private void rejectIfFailed() {
+        if (failed && fsyncMode == FsyncMode.ALWAYS) {
+            throw new IllegalStateException("Command log " + file + " failed, the write was not logged");
+        }
+    }
+
+    // === Writer thread ===
+
+    private void runWriter() {
+        List<byte[]> batch = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        long lastSync = System.nanoTime();
+        boolean dirty = false;
+        try {
+            while (true) {
+                long batchSeq;
+                boolean rotate;
+                boolean stop;
+                lock.lock();
+                try {
+                    while (pending.isEmpty() && !closing && !rotateRequested) {
+                        if (fsyncMode == FsyncMode.EVERYSEC && dirty) {
+                            long remaining = EVERYSEC_NANOS - (System.nanoTime() - lastSync);
+                            if (remaining <= 0 || queued.awaitNanos(remaining) <= 0) {
+                                break;
+                            }
+                        } else {
+                            queued.awaitUninterruptibly();
+                        }
+                    }
+                    List<byte[]> swap = pending;
+                    pending = batch;
+                    batch = swap;
+                    pendingBytes = 0;
+                    batchSeq = appendedSeq;
+                    rotate = rotateRequested;
+                    stop = closing;
+                    // Writers held back by a full queue can go on
+                    progressed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+
+                if (!batch.isEmpty()) {
+                    write(batch, buffer);
+                    dirty = true;
+                }
+                long now = System.nanoTime();
+                if (dirty && (fsyncMode == FsyncMode.ALWAYS || rotate || stop
+                        || (fsyncMode == FsyncMode.EVERYSEC && now - lastSync >= EVERYSEC_NANOS))) {
+                    channel.force(false);
+                    syncCount.increment();
+                    dirty = false;
+                    lastSync = now;
+                }
+                if (rotate) {
+                    channel.close();
+                    openSegment(segmentSeq + 1);
+                }
+
+                lock.lock();
+                try {
+                    writtenSeq = batchSeq;
+                    if (rotate) {
+                        rotateRequested = false;
+                    }
+                    progressed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                if (stop) {
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            LogHelper.getInstance().logError("[CommandLog] Write to " + file + " failed, logging stopped: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.lock();
+            try {
+                closing = true;
+                closed = true;
+                pending.clear();
+                pendingBytes = 0;
+                progressed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already failing or closed
+            }
+        }
+    }
+
+    private void write(List<byte[]> batch, ByteBuffer buffer) throws IOException {
+        long bytes = 0;
+        for (byte[] record : batch) {
+            if (record.length > buffer.remaining()) {
+                drain(buffer);
+                if (record.length > buffer.capacity()) {
+                    channel.write(ByteBuffer.wrap(record));
+                    bytes += record.length;
+                    continue;
+                }
+            }
+            buffer.put(record);
+            bytes += record.length;
+        }
+        drain(buffer);
+        recordCount.add(batch.size());
+        bytesWritten.add(bytes);
+        batch.clear();
+    }
+
+    private void drain(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void openSegment(long seq) throws IOException {
+        Path segment = segmentPath(file, seq);
+        FileChannel newChannel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(MAGIC >>> 24);
+        header.write(MAGIC >>> 16);
+        header.write(MAGIC >>> 8);
+        header.write(MAGIC);
+        header.write(VERSION);
+        SnapshotFormat.writeLong(header, System.currentTimeMillis());
+        SnapshotFormat.writeVarInt(header, indexLayout.size());
+        for (Map.Entry<String, List<String>> keyspace : indexLayout.entrySet()) {
+            SnapshotFormat.writeString(header, keyspace.getKey());
+            SnapshotFormat.writeVarInt(header, keyspace.getValue().size());
+            for (String indexName : keyspace.getValue()) {
+                SnapshotFormat.writeString(header, indexName);
+            }
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(header.toByteArray());
+        while (bytes.hasRemaining()) {
+            newChannel.write(bytes);
+        }
+        newChannel.force(true);
+        channel = newChannel;
+        segmentSeq = seq;
+    }
+
+    // === Rotation and shutdown ===
+
+    /**
+     * Switches to a new segment once every record appended so far is written and forced, returns its
+     * sequence number. Every segment before it holds only records appended before the call returned.
+     */
+    public long rotate() throws IOException {
+        lock.lock();
+        try {
+            if (closing) {
+                throw new IOException("Command log is closed");
+            }
+            rotateRequested = true;
+            queued.signal();
+            while (rotateRequested && !closed) {
+                progressed.awaitUninterruptibly();
+            }
+            if (closed) {
+                throw new IOException("Command log closed while rotating");
+            }
+            return segmentSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes and forces the queued records, then stops the writer thread. Appends made afterwards are
+     * ignored.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public FsyncMode getFsyncMode() {
+        return fsyncMode;
+    }
+
+    public long getSegmentSeq() {
+        return segmentSeq;
+    }
+
+    public long getRecordCount() {
+        return recordCount.sum();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Number of fsyncs, with FsyncMode.ALWAYS and concurrent writers well below the record count.
+     */
+    public long getSyncCount() {
+        return syncCount.sum();
+    }
+
+    // === Segment files ===
+
+    public static Path segmentPath(Path file, long seq) {
+        return file.resolveSibling(file.getFileName() + "." + String.format("%06d", seq));
+    }
+
+    /**
+     * Segment files of the log in sequence order.
+     */
+    public static List<Path> segments(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        TreeMap<Long, Path> bySeq = new TreeMap<>();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return new ArrayList<>();
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir, file.getFileName() + ".*")) {
+            for (Path entry : entries) {
+                long seq = sequenceOf(file, entry);
+                if (seq > 0) {
+                    bySeq.put(seq, entry);
+                }
+            }
+        }
+        return new ArrayList<>(bySeq.values());
+    }
+
+    /**
+     * Total bytes of the segment files.
+     */
+    public static long size(Path file) throws IOException {
+        long total = 0;
+        for (Path segment : segments(file)) {
+            total += Files.size(segment);
+        }
+        return total;
+    }
+
+    /*
+     * Sequence number of the segment, 0 for a file of another kind (ie: the base snapshot).
+     */
+    static long sequenceOf(Path file, Path segment) {
+        String name = segment.getFileName().toString();
+        String suffix = name.substring(file.getFileName().toString().length() + 1);
+        if (suffix.isEmpty() || suffix.length() > 18) {
+            return 0;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return 0;
+            }
+        }
+        return Long.parseLong(suffix);
+    }
+
+    /*
+     * Per-thread buffer a record is encoded into behind room for its length and CRC.
+     */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+
+        RecordBuffer start(LogOp op, String keyspace, String tenant) throws IOException {
+            reset();
+            write(new byte[RECORD_HEADER_BYTES]);
+            write(op.getCode());
+            SnapshotFormat.writeString(this, keyspace);
+            SnapshotFormat.writeString(this, tenant);
+            return this;
+        }
+
+        byte[] finish() {
+            int length = count - RECORD_HEADER_BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buf, RECORD_HEADER_BYTES, length);
+            putInt(0, length);
+            putInt(4, (int) crc.getValue());
+            byte[] record = toByteArray();
+            if (buf.length > WRITE_BUFFER_BYTES) {
+                // Do not keep a huge value's buffer alive on the thread
+                buf = new byte[256];
+            }
+            return record;
+        }
+
+        private void putInt(int offset, int value) {
+            buf[offset] = (byte) (value >>> 24);
+            buf[offset + 1] = (byte) (value >>> 16);
+            buf[offset + 2] = (byte) (value >>> 8);
+            buf[offset + 3] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.log;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.snapshot.CacheSnapshotWriter;
+import com.vertexcache.core.cache.snapshot.SnapshotStats;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the command log short by rewriting it from a snapshot once its segments outgrow
+ * cache_log_rewrite_mb, checked from a background thread.
+ *
+ * A rewrite rotates the log to a new segment, writes the base snapshot (the log file name with .base
+ * appended) and deletes the segments before the new one. Replaying a segment on top of a snapshot taken
+ * after it started is harmless, so a crash at any point of the rewrite still restores every command:
+ * until the new base snapshot replaces the old one, the old segments are still there to replay.
+ */
+public class CommandLogCompactor {
+
+    static final long CHECK_INTERVAL_SECONDS = 10;
+
+    private final CommandLog log;
+    private final long rewriteBytes;
+    private final CacheSnapshotWriter snapshotWriter;
+    private volatile ScheduledExecutorService scheduler;
+    private volatile long rewriteCount;
+
+    /**
+     * rewriteBytes of 0 or less disables automatic rewrites, rewrite can still be called.
+     */
+    public CommandLogCompactor(CommandLog log, long rewriteBytes) {
+        this.log = log;
+        this.rewriteBytes = rewriteBytes;
+        this.snapshotWriter = new CacheSnapshotWriter(basePath(log.getFile()));
+    }
+
+    /**
+     * Base snapshot the segments of the log apply on top of.
+     */
+    public static Path basePath(Path file) {
+        return file.resolveSibling(file.getFileName() + ".base");
+    }
+
+    public synchronized void start() {
+        if (rewriteBytes <= 0 || scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "CommandLogRewriteThread");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::rewriteIfDue, CHECK_INTERVAL_SECONDS, CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        scheduler = executor;
+    }
+
+    public synchronized void stop() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor != null) {
+            executor.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void rewriteIfDue() {
+        try {
+            if (!log.isClosed() && CommandLog.size(log.getFile()) >= rewriteBytes) {
+                rewrite();
+            }
+        } catch (IOException | RuntimeException e) {
+            LogHelper.getInstance().logError("[CommandLog] Rewrite of " + log.getFile() + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rotates the log, snapshots the cache as the new base and deletes the segments it covers.
+     */
+    public synchronized SnapshotStats rewrite() throws IOException {
+        long seq = log.rotate();
+        SnapshotStats stats = snapshotWriter.write();
+        int deleted = 0;
+        for (Path segment : CommandLog.segments(log.getFile())) {
+            if (CommandLog.sequenceOf(log.getFile(), segment) < seq) {
+                Files.deleteIfExists(segment);
+                deleted++;
+            }
+        }
+        rewriteCount++;
+        LogHelper.getInstance().logInfo("[CommandLog] Rewrote " + log.getFile() + " from a snapshot of " + stats
+                + ", " + deleted + " segments deleted");
+        return stats;
+    }
+
+    public long getRewriteCount() {
+        return rewriteCount;
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.log;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.snapshot.SnapshotFormat;
+import com.vertexcache.module.auth.model.TenantId;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Replays the segments of a command log into the keyspaces on startup, after the base snapshot.
+ *
+ * Segments are memory-mapped and decoded in order on the calling thread, the decoded commands are then
+ * applied by a pool of threads, each owning the keys that hash to its lane so the commands of one key
+ * keep their order. PURGE and CLEAR span keys, every lane is drained before one is applied. A record
+ * failing its CRC or cut short by a crash ends the replay of its segment.
+ */
+public final class CommandLogReplayer {
+
+    static final int BATCH_RECORDS = 64 * 1024;
+
+    private static final long MAP_WINDOW_BYTES = 256L * 1024 * 1024;
+
+    private final int lanes;
+    private final ExecutorService pool;
+    private final List<List<Command>> pendingByLane = new ArrayList<>();
+    private final Map<String, Target> targets = new HashMap<>();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private int pendingCount;
+
+    private CommandLogReplayer(int threads) {
+        this.lanes = Math.max(1, threads);
+        for (int i = 0; i < lanes; i++) {
+            pendingByLane.add(new ArrayList<>());
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = lanes > 1 ? Executors.newFixedThreadPool(lanes, r -> {
+            Thread t = new Thread(r, "CommandLogReplay-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }) : null;
+    }
+
+    public static LogReplayStats replay(Path file) throws IOException {
+        return replay(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static LogReplayStats replay(Path file, int threads) throws IOException {
+        long started = System.currentTimeMillis();
+        List<Path> segments = CommandLog.segments(file);
+        CommandLogReplayer replayer = new CommandLogReplayer(threads);
+        long bytes = 0;
+        try {
+            for (Path segment : segments) {
+                bytes += Files.size(segment);
+                replayer.replaySegment(segment);
+            }
+            replayer.flush();
+        } finally {
+            if (replayer.pool != null) {
+                replayer.pool.shutdownNow();
+            }
+        }
+        return new LogReplayStats(replayer.applied.sum(), replayer.skipped.sum(), segments.size(), bytes,
+                System.currentTimeMillis() - started);
+    }
+
+    private void replaySegment(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, MAP_WINDOW_BYTES));
+            Map<String, List<String>> layout;
+            try {
+                layout = readHeader(window);
+            } catch (IOException | BufferUnderflowException e) {
+                LogHelper.getInstance().logWarn("[CommandLog] Skipping " + segment + ", unreadable header: " + e.getMessage());
+                return;
+            }
+            targets.clear();
+            CRC32 crc = new CRC32();
+
+            while (true) {
+                int length = window.remaining() >= CommandLog.RECORD_HEADER_BYTES ? window.getInt(window.position()) : -1;
+                if (window.remaining() >= CommandLog.RECORD_HEADER_BYTES && length <= 0) {
+                    LogHelper.getInstance().logWarn("[CommandLog] Corrupt record length in " + segment + " at offset "
+                            + (position + window.position()) + ", replay of the segment stopped");
+                    return;
+                }
+                if (length < 0 || window.remaining() - CommandLog.RECORD_HEADER_BYTES < length) {
+                    // Record runs past the window, remap from its start unless the segment ends there
+                    long recordStart = position + window.position();
+                    if (recordStart + window.remaining() >= size) {
+                        if (window.hasRemaining()) {
+                            LogHelper.getInstance().logWarn("[CommandLog] Ignoring " + window.remaining()
+                                    + " bytes of a record cut short at the end of " + segment);
+                        }
+                        return;
+                    }
+                    position = recordStart;
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position,
+                            Math.max(MAP_WINDOW_BYTES, CommandLog.RECORD_HEADER_BYTES + (long) Math.max(length, 0))));
+                    continue;
+                }
+                long recordOffset = position + window.position();
+                window.getInt();
+                int expectedCrc = window.getInt();
+                ByteBuffer payload = window.slice(window.position(), length);
+                window.position(window.position() + length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != expectedCrc) {
+                    LogHelper.getInstance().logWarn("[CommandLog] Corrupt record in " + segment + " at offset "
+                            + recordOffset + ", replay of the segment stopped");
+                    return;
+                }
+                try {
+                    decode(payload, layout);
+                } catch (IOException | BufferUnderflowException e) {
+                    skipped.increment();
+                }
+            }
+        }
+    }
+
+    private static Map<String, List<String>> readHeader(ByteBuffer in) throws IOException {
+        if (in.getInt() != CommandLog.MAGIC) {
+            throw new IOException("bad magic number");
+        }
+        byte version = in.get();
+        if (version != CommandLog.VERSION) {
+            throw new IOException("unsupported version " + version);
+        }
+        in.getLong();
+        int keyspaces = SnapshotFormat.readVarInt(in);
+        Map<String, List<String>> layout = new HashMap<>();
+        for (int i = 0; i < keyspaces; i++) {
+            String name = SnapshotFormat.readString(in);
+            int indexCount = SnapshotFormat.readVarInt(in);
+            List<String> indexNames = new ArrayList<>(indexCount);
+            for (int j = 0; j < indexCount; j++) {
+                indexNames.add(SnapshotFormat.readString(in));
+            }
+            layout.put(name, indexNames);
+        }
+        return layout;
+    }
+
+    private void decode(ByteBuffer in, Map<String, List<String>> layout) throws IOException {
+        LogOp op = LogOp.fromCode(in.get());
+        if (op == null) {
+            throw new IOException("Unknown log operation");
+        }
+        String keyspace = SnapshotFormat.readString(in);
+        String tenant = SnapshotFormat.readString(in);
+        Target target = targets.computeIfAbsent(keyspace + '\u0000' + tenant, id -> resolve(keyspace, tenant, layout.get(keyspace)));
+        if (target == null) {
+            skipped.increment();
+            return;
+        }
+        Object key = SnapshotFormat.readTagged(in);
+        if (key == null && op != LogOp.CLEAR) {
+            throw new IOException("Record without a key");
+        }
+        Command command = new Command(op, target.cache, key);
+        switch (op) {
+            case SET:
+                command.value = SnapshotFormat.readValue(in);
+                command.expiresAt = in.getLong();
+                int count = SnapshotFormat.readVarInt(in);
+                command.secondaryKeys = new Object[target.width];
+                for (int i = 0; i < count; i++) {
+                    Object indexValue = SnapshotFormat.readTagged(in);
+                    if (indexValue != null && i < target.positions.length && target.positions[i] >= 0) {
+                        command.secondaryKeys[target.positions[i]] = indexValue;
+                    }
+                }
+                break;
+            case EXPIRE:
+                command.expiresAt = in.getLong();
+                break;
+            case PURGE:
+            case CLEAR:
+                // Span keys of every lane
+                flush();
+                command.apply(applied, skipped);
+                return;
+            default:
+                break;
+        }
+        pendingByLane.get(lanes == 1 ? 0 : Math.floorMod(key.hashCode(), lanes)).add(command);
+        if (++pendingCount >= BATCH_RECORDS) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (pendingCount == 0) {
+            return;
+        }
+        try {
+            if (pool == null) {
+                applyAll(pendingByLane.get(0));
+            } else {
+                List<Callable<Void>> tasks = new ArrayList<>(lanes);
+                for (List<Command> lane : pendingByLane) {
+                    if (!lane.isEmpty()) {
+                        tasks.add(() -> {
+                            applyAll(lane);
+                            return null;
+                        });
+                    }
+                }
+                for (Future<Void> task : pool.invokeAll(tasks)) {
+                    task.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Command log replay interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Command log replay failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pendingByLane.forEach(List::clear);
+            pendingCount = 0;
+        }
+    }
+
+    private void applyAll(List<Command> commands) {
+        for (Command command : commands) {
+            command.apply(applied, skipped);
+        }
+    }
+
+    /*
+     * Keyspace or tenant partition the records apply to, null when the keyspace is no longer configured.
+     */
+    private static Target resolve(String keyspaceName, String tenant, List<String> indexNames) {
+        if (!Cache.hasKeyspace(keyspaceName)) {
+            LogHelper.getInstance().logWarn("[CommandLog] Keyspace " + keyspaceName + " is not configured, skipping its records");
+            return null;
+        }
+        try {
+            Cache<Object, Object> keyspace = Cache.getKeyspace(keyspaceName);
+            Cache<Object, Object> cache = tenant.isEmpty() ? keyspace : keyspace.forTenant(new TenantId(tenant));
+            List<String> names = indexNames != null ? indexNames : List.of();
+            int[] positions = new int[names.size()];
+            int width = 0;
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = cache.indexOf(names.get(i));
+                width = Math.max(width, positions[i] + 1);
+            }
+            return new Target(cache, positions, width);
+        } catch (VertexCacheTypeException e) {
+            return null;
+        }
+    }
+
+    private static final class Target {
+        final Cache<Object, Object> cache;
+        final int[] positions;
+        final int width;
+
+        Target(Cache<Object, Object> cache, int[] positions, int width) {
+            this.cache = cache;
+            this.positions = positions;
+            this.width = width;
+        }
+    }
+
+    private static final class Command {
+        final LogOp op;
+        final Cache<Object, Object> cache;
+        final Object key;
+        Object value;
+        long expiresAt;
+        Object[] secondaryKeys;
+
+        Command(LogOp op, Cache<Object, Object> cache, Object key) {
+            this.op = op;
+            this.cache = cache;
+            this.key = key;
+        }
+
+        void apply(LongAdder applied, LongAdder skipped) {
+            try {
+                switch (op) {
+                    case SET:
+                        if (!cache.restore(key, value, expiresAt, secondaryKeys)) {
+                            // Expired since, the value it replaced must not come back either
+                            cache.remove(key);
+                        }
+                        break;
+                    case DEL:
+                        cache.remove(key);
+                        break;
+                    case EXPIRE:
+                        if (expiresAt == 0) {
+                            cache.persist(key);
+                        } else if (expiresAt <= System.currentTimeMillis()) {
+                            cache.remove(key);
+                        } else {
+                            cache.expire(key, expiresAt - System.currentTimeMillis());
+                        }
+                        break;
+                    case PURGE:
+                        cache.removeByPrefix((String) key);
+                        break;
+                    case CLEAR:
+                        cache.clear();
+                        break;
+                }
+                applied.increment();
+            } catch (VertexCacheTypeException | RuntimeException e) {
+                skipped.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.log;
+
+/**
+ * Mutation recorded by a command log record, by the code stored in its first byte.
+ *
+ * - SET: key, value, absolute deadline (0 for none) and index values by position
+ * - DEL: key
+ * - EXPIRE: key and absolute deadline, 0 when the expiry was removed (PERSIST)
+ * - PURGE: key prefix, every key starting with it was removed
+ * - CLEAR: the keyspace or partition was emptied (RESET)
+ */
+public enum LogOp {
+    SET(1),
+    DEL(2),
+    EXPIRE(3),
+    PURGE(4),
+    CLEAR(5);
+
+    private static final LogOp[] BY_CODE = new LogOp[6];
+
+    static {
+        for (LogOp op : values()) {
+            BY_CODE[op.code] = op;
+        }
+    }
+
+    private final byte code;
+
+    LogOp(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Operation for the code, null when the code is unknown.
+     */
+    public static LogOp fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
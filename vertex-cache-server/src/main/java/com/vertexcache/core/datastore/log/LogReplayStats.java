@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.log;
+
+/**
+ * Outcome of a command log replay: records applied, records skipped (unknown keyspace, undecodable or
+ * rejected by the cache), segments read, their total size and the elapsed time.
+ */
+public final class LogReplayStats {
+
+    private final long records;
+    private final long skipped;
+    private final int segments;
+    private final long bytes;
+    private final long millis;
+
+    public LogReplayStats(long records, long skipped, int segments, long bytes, long millis) {
+        this.records = records;
+        this.skipped = skipped;
+        this.segments = segments;
+        this.bytes = bytes;
+        this.millis = millis;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    @Override
+    public String toString() {
+        return records + " records (" + skipped + " skipped) from " + segments + " segments, " + bytes + " bytes, " + millis + " ms";
+    }
+}
@@ -16,8 +16,12 @@
 package com.vertexcache.core.datastore.model;
 
 import com.vertexcache.core.datastore.exception.VertexCacheDataStoreTypeException;
+import com.vertexcache.core.datastore.model.providers.FileDatastoreProvider;
 import com.vertexcache.core.module.model.ModuleName;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
 /**
  * Factory responsible for creating instances of the configured VertexCache data store.
  *
@@ -47,4 +51,36 @@ public class DatastoreFactory {
         */
         return null;
     }
+
+    /**
+     * Datastore the cache loader reads misses from (cache_loader): a DatastoreType implementing
+     * DatastoreLoader, or the class name of a DatastoreLoader with a public no-arg constructor so a
+     * database can be plugged in without changing the server. file is the path FILE stores its rows in.
+     */
+    public static DatastoreLoader createLoader(String type, String file) throws VertexCacheDataStoreTypeException {
+        if (type.contains(".")) {
+            try {
+                Object loader = Class.forName(type.trim()).getDeclaredConstructor().newInstance();
+                if (loader instanceof DatastoreLoader datastoreLoader) {
+                    return datastoreLoader;
+                }
+                throw new VertexCacheDataStoreTypeException(type + " does not implement DatastoreLoader");
+            } catch (ReflectiveOperationException | LinkageError e) {
+                throw new VertexCacheDataStoreTypeException("Cannot instantiate datastore loader " + type, e);
+            }
+        }
+        return switch (DatastoreType.fromString(type.trim())) {
+            case FILE -> {
+                if (file == null) {
+                    throw new VertexCacheDataStoreTypeException("The file datastore requires cache_loader_file");
+                }
+                try {
+                    yield new FileDatastoreProvider(Path.of(file));
+                } catch (InvalidPathException e) {
+                    throw new VertexCacheDataStoreTypeException("Invalid cache_loader_file " + file, e);
+                }
+            }
+            default -> throw new VertexCacheDataStoreTypeException("Datastore type " + type + " cannot load cache misses");
+        };
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.model;
+
+import com.vertexcache.core.cache.model.TenantKey;
+
+import java.util.Objects;
+
+/**
+ * Key of a row in a loader's datastore: the keyspace, the tenant (empty without one) and the key as
+ * sent by the client, so a datastore never sees the cache's internal key types.
+ */
+public final class DatastoreKey {
+
+    private final String keyspace;
+    private final String tenant;
+    private final String key;
+
+    public DatastoreKey(String keyspace, String tenant, String key) {
+        this.keyspace = keyspace;
+        this.tenant = tenant;
+        this.key = key;
+    }
+
+    /**
+     * Datastore key of a cache key (a String or a TenantKey), null for any other key type.
+     */
+    public static DatastoreKey of(String keyspace, Object cacheKey) {
+        if (cacheKey instanceof TenantKey tenantKey) {
+            return new DatastoreKey(keyspace, tenantKey.getTenant(), tenantKey.getKey());
+        }
+        if (cacheKey instanceof String key) {
+            return new DatastoreKey(keyspace, "", key);
+        }
+        return null;
+    }
+
+    public String getKeyspace() {
+        return keyspace;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DatastoreKey other)) return false;
+        return key.equals(other.key) && tenant.equals(other.tenant) && keyspace.equals(other.keyspace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keyspace, tenant, key);
+    }
+
+    @Override
+    public String toString() {
+        return keyspace + "/" + (tenant.isEmpty() ? "" : tenant + TenantKey.SEPARATOR) + key;
+    }
+}
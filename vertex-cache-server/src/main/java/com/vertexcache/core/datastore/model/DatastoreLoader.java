@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.model;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * DatastoreProvider the cache can read through and write behind to, see CacheLoader.
+ *
+ * Values are Strings or byte arrays, as stored by SET and BSET. Both methods are called concurrently
+ * from client threads (load) and the write-behind thread (writeAll) once connected, implementations
+ * must be thread-safe. An IOException fails the load or the batch, never the client's command.
+ */
+public interface DatastoreLoader extends DatastoreProvider {
+
+    /**
+     * Value of the key, null when the datastore has none.
+     */
+    Object load(DatastoreKey key) throws IOException;
+
+    /**
+     * Applies a batch of writes in order, a null value deleting the key.
+     */
+    void writeAll(Map<DatastoreKey, Object> batch) throws IOException;
+}
@@ -26,11 +26,15 @@ import com.vertexcache.core.datastore.exception.VertexCacheDataStoreTypeExceptio
  * Common types may include:
  * - MEMORY: In-memory only (non-persistent, fast)
  * - MAPDB: Embedded persistent storage with disk backing
+ * - APPENDLOG: Base snapshot plus an append-only log of the cache commands (see AppendLogProvider)
+ * - FILE: Local key-value file the cache loader reads through and writes behind to (see FileDatastoreProvider)
  *
  * This enum is parsed from the `DatastoreType` configuration setting.
  */
 public enum DatastoreType {
-    MAPDB;
+    MAPDB,
+    APPENDLOG,
+    FILE;
     //POSTGRES,
     //MONGO,
     //MYSQL;
@@ -38,6 +42,8 @@ public enum DatastoreType {
     public static DatastoreType fromString(String value) throws VertexCacheDataStoreTypeException {
         return switch (value.toLowerCase()) {
             case "mapdb" -> MAPDB;
+            case "appendlog" -> APPENDLOG;
+            case "file" -> FILE;
             //case "postgres" -> POSTGRES;
             //case "mongo" -> MONGO;
             //case "mysql" -> MYSQL;
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.model;
+
+import com.vertexcache.core.datastore.exception.VertexCacheDataStoreTypeException;
+
+/**
+ * When the command log forces its writes to disk (cache_log_fsync).
+ *
+ * - ALWAYS: a mutating command returns once its record is on disk. Records queued while the previous
+ *   fsync ran are written and forced together (group commit), so one fsync covers many commands.
+ * - EVERYSEC: at most once a second from the writer thread, a crash loses up to a second of commands.
+ * - NO: the operating system decides when to flush, fastest and least durable.
+ */
+public enum FsyncMode {
+    ALWAYS,
+    EVERYSEC,
+    NO;
+
+    public static FsyncMode fromString(String value) throws VertexCacheDataStoreTypeException {
+        return switch (value.trim().toLowerCase()) {
+            case "always" -> ALWAYS;
+            case "everysec" -> EVERYSEC;
+            case "no" -> NO;
+            default -> throw new VertexCacheDataStoreTypeException("Unsupported fsync mode: " + value);
+        };
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.model.providers;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.snapshot.CacheSnapshotLoader;
+import com.vertexcache.core.cache.snapshot.SnapshotStats;
+import com.vertexcache.core.datastore.log.CommandLog;
+import com.vertexcache.core.datastore.log.CommandLogCompactor;
+import com.vertexcache.core.datastore.log.CommandLogReplayer;
+import com.vertexcache.core.datastore.log.LogReplayStats;
+import com.vertexcache.core.datastore.model.DatastoreProvider;
+import com.vertexcache.core.datastore.model.FsyncMode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataStoreProvider implementation persisting the cache as a base snapshot and an append-only log of
+ * the commands applied since (cache_log_file).
+ *
+ * connect restores the keyspaces from the base snapshot and the log, then opens a new log segment,
+ * attaches it to every keyspace and starts the background rewrites. It is meant to run once the
+ * keyspaces are created and before clients connect. close stops the rewrites and forces the last
+ * records to disk.
+ */
+public class AppendLogProvider implements DatastoreProvider {
+
+    private final Path file;
+    private final FsyncMode fsyncMode;
+    private final long rewriteBytes;
+    private CommandLog log;
+    private CommandLogCompactor compactor;
+    private SnapshotStats restoredSnapshot;
+    private LogReplayStats replayStats;
+    private boolean connected = false;
+
+    public AppendLogProvider(Path file, FsyncMode fsyncMode, long rewriteBytes) {
+        this.file = file;
+        this.fsyncMode = fsyncMode;
+        this.rewriteBytes = rewriteBytes;
+    }
+
+    @Override
+    public synchronized void connect() {
+        if (connected) {
+            return;
+        }
+        restore();
+        try {
+            log = CommandLog.open(file, fsyncMode, indexLayout());
+        } catch (IOException e) {
+            LogHelper.getInstance().logError("[CommandLog] Cannot open " + file + ", commands are not logged: " + e.getMessage());
+            return;
+        }
+        attach(log);
+        compactor = new CommandLogCompactor(log, rewriteBytes);
+        compactor.start();
+        connected = true;
+    }
+
+    /**
+     * Whether a previous run left a base snapshot or log segments to restore from.
+     */
+    public static boolean hasState(Path file) throws IOException {
+        return Files.exists(CommandLogCompactor.basePath(file)) || !CommandLog.segments(file).isEmpty();
+    }
+
+    private void restore() {
+        Path base = CommandLogCompactor.basePath(file);
+        try {
+            if (Files.exists(base)) {
+                restoredSnapshot = CacheSnapshotLoader.load(base);
+                LogHelper.getInstance().logInfo("[CommandLog] Restored base snapshot: " + restoredSnapshot);
+            }
+            replayStats = CommandLogReplayer.replay(file);
+            if (replayStats.getSegments() > 0) {
+                LogHelper.getInstance().logInfo("[CommandLog] Replayed " + replayStats);
+            }
+        } catch (IOException e) {
+            LogHelper.getInstance().logWarn("[CommandLog] Restore from " + file + " incomplete: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, List<String>> indexLayout() {
+        Map<String, List<String>> layout = new LinkedHashMap<>();
+        for (String name : Cache.getKeyspaceNames()) {
+            try {
+                layout.put(name, Cache.getKeyspace(name).getIndexNames());
+            } catch (VertexCacheTypeException ignored) {
+                // Default keyspace not initialized
+            }
+        }
+        return layout;
+    }
+
+    private static void attach(CommandLog log) {
+        for (String name : Cache.getKeyspaceNames()) {
+            try {
+                Cache.getKeyspace(name).setCommandLog(log);
+            } catch (VertexCacheTypeException ignored) {
+                // Default keyspace not initialized
+            }
+        }
+    }
+
+    public CommandLog getCommandLog() {
+        return log;
+    }
+
+    public CommandLogCompactor getCompactor() {
+        return compactor;
+    }
+
+    /**
+     * Base snapshot restored by connect, null when there was none.
+     */
+    public SnapshotStats getRestoredSnapshot() {
+        return restoredSnapshot;
+    }
+
+    public LogReplayStats getReplayStats() {
+        return replayStats;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!connected) {
+            return;
+        }
+        compactor.stop();
+        attach(null);
+        log.close();
+        connected = false;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connected;
+    }
+}
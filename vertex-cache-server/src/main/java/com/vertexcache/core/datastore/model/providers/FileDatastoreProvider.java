@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.core.datastore.model.providers;
+
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.snapshot.SnapshotFormat;
+import com.vertexcache.core.datastore.model.DatastoreKey;
+import com.vertexcache.core.datastore.model.DatastoreLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * DataStoreProvider implementation of a local key-value file, the reference DatastoreLoader
+ * (cache_loader=file, cache_loader_file) standing in for a real database.
+ *
+ * Rows are held in memory and every writeAll appends its batch to the file as one forced write of
+ * records: payload length (int), CRC32 of the payload (int), payload (keyspace, tenant, key, then the
+ * value or TAG_NONE for a delete, see SnapshotFormat). connect replays the file, ignoring a record cut
+ * short by a crash, and rewrites it with the live rows when it holds more superseded records than rows.
+ */
+public class FileDatastoreProvider implements DatastoreLoader {
+
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    private final Path file;
+    private final Map<DatastoreKey, Object> rows = new ConcurrentHashMap<>();
+    private FileChannel channel;
+    private volatile boolean connected = false;
+
+    public FileDatastoreProvider(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void connect() {
+        if (connected) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            long records = Files.exists(file) ? read() : 0;
+            if (records > 2L * rows.size() + 1024) {
+                compact();
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            connected = true;
+        } catch (IOException e) {
+            LogHelper.getInstance().logError("[FileDatastore] Cannot open " + file + ": " + e.getMessage());
+        }
+    }
+
+    /*
+     * Applies the records of the file to the rows, returns how many were read.
+     */
+    private long read() throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        long records = 0;
+        while (in.remaining() >= RECORD_HEADER_BYTES) {
+            int length = in.getInt();
+            int crc = in.getInt();
+            if (length < 0 || length > in.remaining()) {
+                LogHelper.getInstance().logWarn("[FileDatastore] Ignoring truncated record at the end of " + file);
+                break;
+            }
+            ByteBuffer payload = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            CRC32 check = new CRC32();
+            check.update(payload.duplicate());
+            if ((int) check.getValue() != crc) {
+                LogHelper.getInstance().logWarn("[FileDatastore] Ignoring corrupt record at the end of " + file);
+                break;
+            }
+            DatastoreKey key = new DatastoreKey(SnapshotFormat.readString(payload), SnapshotFormat.readString(payload), SnapshotFormat.readString(payload));
+            if (payload.get(payload.position()) == SnapshotFormat.TAG_NONE) {
+                rows.remove(key);
+            } else {
+                rows.put(key, SnapshotFormat.readValue(payload));
+            }
+            records++;
+        }
+        return records;
+    }
+
+    private void compact() throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(out, rows);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public Object load(DatastoreKey key) throws IOException {
+        if (!connected) {
+            throw new IOException("datastore " + file + " is not connected");
+        }
+        return rows.get(key);
+    }
+
+    /**
+     * Appends the batch to the file, then applies it to the rows, so a row is never read before it is stored.
+     */
+    @Override
+    public synchronized void writeAll(Map<DatastoreKey, Object> batch) throws IOException {
+        if (!connected) {
+            throw new IOException("datastore " + file + " is not connected");
+        }
+        write(channel, batch);
+        for (Map.Entry<DatastoreKey, Object> entry : batch.entrySet()) {
+            if (entry.getValue() == null) {
+                rows.remove(entry.getKey());
+            } else {
+                rows.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static void write(FileChannel out, Map<DatastoreKey, Object> batch) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        CRC32 crc = new CRC32();
+        for (Map.Entry<DatastoreKey, Object> entry : batch.entrySet()) {
+            payload.reset();
+            SnapshotFormat.writeString(payload, entry.getKey().getKeyspace());
+            SnapshotFormat.writeString(payload, entry.getKey().getTenant());
+            SnapshotFormat.writeString(payload, entry.getKey().getKey());
+            if (entry.getValue() == null) {
+                payload.write(SnapshotFormat.TAG_NONE);
+            } else {
+                SnapshotFormat.writeValue(payload, entry.getValue());
+            }
+            byte[] bytes = payload.toByteArray();
+            crc.reset();
+            crc.update(bytes);
+            buffer.write(ByteBuffer.allocate(RECORD_HEADER_BYTES).putInt(bytes.length).putInt((int) crc.getValue()).array());
+            buffer.write(bytes);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+        out.force(false);
+    }
+
+    /**
+     * Number of rows currently stored.
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!connected) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LogHelper.getInstance().logWarn("[FileDatastore] Close of " + file + " failed: " + e.getMessage());
+        }
+        connected = false;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connected;
+    }
+}
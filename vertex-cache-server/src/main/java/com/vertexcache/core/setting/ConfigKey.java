@@ -51,12 +51,49 @@ public class ConfigKey {
 
     public static final String CACHE_EVICTION = "cache_eviction";
     public static final String CACHE_SIZE = "cache_size";
+    public static final int CACHE_SEGMENTS_DEFAULT = 1;
+    public static final String CACHE_SEGMENTS = "cache_segments";
+    public static final String CACHE_STORAGE_ENGINE = "cache_storage_engine";
+    public static final int CACHE_OFFHEAP_SIZE_MB_DEFAULT = 1024;
+    public static final String CACHE_OFFHEAP_SIZE_MB = "cache_offheap_size_mb";
+    public static final String CACHE_MAX_MEMORY = "cache_max_memory";
+    public static final boolean CACHE_ACCESS_STATS_DEFAULT = false;
+    public static final String CACHE_ACCESS_STATS = "cache_access_stats";
+    public static final String CACHE_KEYSPACES = "cache_keyspaces";
+    public static final String CACHE_INDEXES = "cache_indexes";
+    public static final String CACHE_ORDERED_KEYS = "cache_ordered_keys";
+    public static final String CACHE_TRACE_FILE = "cache_trace_file";
+    public static final int CACHE_TRACE_SAMPLE_DEFAULT = 16;
+    public static final String CACHE_TRACE_SAMPLE = "cache_trace_sample";
+    public static final String CACHE_SNAPSHOT_FILE = "cache_snapshot_file";
+    public static final long CACHE_SNAPSHOT_INTERVAL_DEFAULT = 300;
+    public static final String CACHE_SNAPSHOT_INTERVAL = "cache_snapshot_interval";
+    public static final String CACHE_LOG_FILE = "cache_log_file";
+    public static final String CACHE_LOG_FSYNC_DEFAULT = "everysec";
+    public static final String CACHE_LOG_FSYNC = "cache_log_fsync";
+    public static final long CACHE_LOG_REWRITE_MB_DEFAULT = 64;
+    public static final String CACHE_LOG_REWRITE_MB = "cache_log_rewrite_mb";
+    public static final String CACHE_LOADER = "cache_loader";
+    public static final String CACHE_LOADER_FILE = "cache_loader_file";
+    public static final long CACHE_LOADER_TTL_DEFAULT = 0;
+    public static final String CACHE_LOADER_TTL = "cache_loader_ttl";
+    public static final boolean CACHE_WRITE_BEHIND_DEFAULT = false;
+    public static final String CACHE_WRITE_BEHIND = "cache_write_behind";
+    public static final long CACHE_WRITE_BEHIND_BATCH_DEFAULT = 500;
+    public static final String CACHE_WRITE_BEHIND_BATCH = "cache_write_behind_batch";
+    public static final long CACHE_WRITE_BEHIND_DELAY_DEFAULT = 1000;
+    public static final String CACHE_WRITE_BEHIND_DELAY = "cache_write_behind_delay";
+    public static final long CACHE_COMPRESSION_THRESHOLD_DEFAULT = 0;
+    public static final String CACHE_COMPRESSION_THRESHOLD = "cache_compression_threshold";
+    public static final long CACHE_COMPRESSION_DICTIONARY_SIZE_DEFAULT = 0;
+    public static final String CACHE_COMPRESSION_DICTIONARY_SIZE = "cache_compression_dictionary_size";
 
     // Auth Module & Mutli-Tenant Related
     public static final String ENABLE_AUTH = "enable_auth";
     public static final String AUTH_CLIENTS_PREFIX = "auth_client_";
     public static final boolean ENABLE_TENANT_KEY_PREFIX_DEFAULT = true;
     public static final String ENABLE_TENANT_KEY_PREFIX = "enable_tenant_key_prefix";
+    public static final String TENANT_QUOTAS = "tenant_quotas";
 
     // Rate Limiting
     public static final boolean ENABLE_RATE_LIMIT_DEFAULT = true;
@@ -109,8 +146,6 @@ public class ConfigKey {
     public static final String ENABLE_SMART = "enable_smart";
     public static final boolean ENABLE_SMART_HOTKEY_WATCHER_ALERT_DEFAULT = true;
     public static final String ENABLE_SMART_HOTKEY_WATCHER_ALERT = "enable_smart_hotkey_watcher_alert";
-    public static final boolean ENABLE_SMART_INDEX_CLEANUP_DEFAULT = true;
-    public static final String ENABLE_SMART_INDEX_CLEANUP = "enable_smart_index_cleanup";
     public static final boolean ENABLE_SMART_KEY_CHURN_ALERT_DEFAULT = true;
     public static final String ENABLE_SMART_KEY_CHURN_ALERT = "enable_smart_key_churn_alert";
     public static final boolean ENABLE_SMART_UNAUTHORIZED_ACCESS_ALERT_DEFAULT = true;
@@ -16,12 +16,17 @@
 package com.vertexcache.core.setting.loaders;
 
 import com.vertexcache.common.config.reader.EnvLoader;
+import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.model.TenantQuota;
 import com.vertexcache.core.setting.ConfigKey;
 import com.vertexcache.core.setting.model.LoaderBase;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Configuration loader responsible for validating authentication and multi-tenant settings.
@@ -29,6 +34,8 @@ import java.util.Map;
  * Handles the following:
  * - Whether authentication is enabled
  * - Whether multi-tenant key prefixing is enforced
+ * - The tenant quotas (tenant_quotas), giving tenants their own eviction partition, only
+ *   loaded with tenant key prefixing
  *
  * Multi-tenancy requires authentication to distinguish between tenants securely.
  * If authentication is disabled, multi-tenant mode cannot be enabled, everything will be
@@ -41,6 +48,7 @@ public class AuthWithTenantConfigLoader extends LoaderBase {
 
     private boolean enableAuth;
     private boolean enableTenantKeyPrefix = ConfigKey.ENABLE_TENANT_KEY_PREFIX_DEFAULT;
+    private List<TenantQuota> tenantQuotas = List.of();
 
     @Override
     public void load() {
@@ -52,6 +60,44 @@ public class AuthWithTenantConfigLoader extends LoaderBase {
                 this.enableTenantKeyPrefix = Boolean.parseBoolean(this.getConfigLoader().getProperty(ConfigKey.ENABLE_TENANT_KEY_PREFIX));
             }
         }
+        this.tenantQuotas = this.enableTenantKeyPrefix ? loadTenantQuotas() : List.of();
+    }
+
+    private List<TenantQuota> loadTenantQuotas() {
+        List<TenantQuota> quotas = new ArrayList<>();
+        if (this.getConfigLoader().isExist(ConfigKey.TENANT_QUOTAS)) {
+            Set<String> tenants = new HashSet<>();
+            for (String spec : this.getConfigLoader().getProperty(ConfigKey.TENANT_QUOTAS).split(",")) {
+                if (spec.isBlank()) {
+                    continue;
+                }
+                try {
+                    TenantQuota quota = parseTenantQuota(spec);
+                    if (!tenants.add(quota.getTenantId())) {
+                        LogHelper.getInstance().logWarn("Duplicate tenant quota ignored: " + quota.getTenantId());
+                        continue;
+                    }
+                    quotas.add(quota);
+                } catch (IllegalArgumentException | ArithmeticException ex) {
+                    LogHelper.getInstance().logWarn("Invalid tenant quota '" + spec.trim() + "' ignored: " + ex.getMessage());
+                }
+            }
+        }
+        return quotas;
+    }
+
+    /**
+     * Parses a tenant quota declared as tenant:max_entries[:max_memory], ie: tenant-a:100000:256mb or
+     * tenant-b:5000. An empty or 0 limit leaves that dimension to the keyspace.
+     */
+    public static TenantQuota parseTenantQuota(String spec) {
+        String[] parts = spec.trim().split(":", -1);
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("expected tenant:max_entries[:max_memory]");
+        }
+        int maxEntries = parts[1].isBlank() ? 0 : Integer.parseInt(parts[1].trim());
+        long maxMemory = parts.length > 2 && !parts[2].isBlank() ? CacheConfigLoader.parseMemorySize(parts[2]) : 0;
+        return new TenantQuota(parts[0].trim(), maxEntries, maxMemory);
     }
 
     public boolean isAuthEnabled() { return enableAuth; }
@@ -69,4 +115,12 @@ public class AuthWithTenantConfigLoader extends LoaderBase {
     public boolean isTenantKeyPrefixingEnabled() {
         return enableTenantKeyPrefix;
     }
+
+    public List<TenantQuota> getTenantQuotas() {
+        return tenantQuotas;
+    }
+
+    public void setTenantQuotas(List<TenantQuota> tenantQuotas) {
+        this.tenantQuotas = tenantQuotas;
+    }
 }
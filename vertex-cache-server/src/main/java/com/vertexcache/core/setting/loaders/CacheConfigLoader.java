@@ -16,14 +16,43 @@
 package com.vertexcache.core.setting.loaders;
 
 import com.vertexcache.common.log.LogHelper;
+import com.vertexcache.core.cache.compression.DictionaryRegistry;
 import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.cache.model.StorageEngine;
+import com.vertexcache.core.datastore.exception.VertexCacheDataStoreTypeException;
+import com.vertexcache.core.datastore.model.FsyncMode;
 import com.vertexcache.core.setting.ConfigKey;
 import com.vertexcache.core.setting.model.LoaderBase;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
 /**
  * Configuration loader responsible for parsing and validating cache-related settings.
  *
- * Loads core cache options such as eviction policy (e.g., LRU, LFU, ARC).
+ * Loads core cache options such as eviction policy (e.g., LRU, LFU, ARC), capacity,
+ * the number of lock-striped segments the cache is split into and the value storage
+ * engine (heap or off-heap slabs, with the size of the off-heap arena), and the optional
+ * memory budget (cache_max_memory, bytes or a kb/mb/gb suffixed size) enforced by eviction,
+ * whether per-entry access statistics are tracked (cache_access_stats), and the named keyspaces
+ * (cache_keyspaces) created next to the default one, and the secondary index names of the default
+ * keyspace (cache_indexes), and the keyspaces keeping an ordered key index for prefix and range
+ * operations (cache_ordered_keys, keyspace names with default standing for the default keyspace),
+ * and the access trace of the default keyspace (cache_trace_file, written 1 in cache_trace_sample keys),
+ * and the snapshot restored on startup (cache_snapshot_file, written every cache_snapshot_interval seconds),
+ * and the command log (cache_log_file, forced to disk per cache_log_fsync and rewritten from a snapshot
+ * past cache_log_rewrite_mb),
+ * and the datastore cache misses are loaded from (cache_loader, cache_loader_file for the file datastore,
+ * loaded entries expiring after cache_loader_ttl seconds) with the optional write-behind of SET and DEL
+ * (cache_write_behind, flushed by cache_write_behind_batch keys or after cache_write_behind_delay ms),
+ * and the size from which values are held compressed (cache_compression_threshold, 0 for never), and
+ * the size of the dictionaries small JSON and XML values are compressed with (cache_compression_dictionary_size,
+ * at most 32 KB, 0 for none).
  *
  * Ensures that the cache engine is initialized with consistent and valid parameters,
  * and that default values are applied where necessary.
@@ -37,6 +66,29 @@ public class CacheConfigLoader extends LoaderBase {
 
     private EvictionPolicy cacheEvictionPolicy = EvictionPolicy.NONE;
     private int cacheSize;
+    private int cacheSegments = ConfigKey.CACHE_SEGMENTS_DEFAULT;
+    private StorageEngine storageEngine = StorageEngine.HEAP;
+    private long offHeapSizeMb = ConfigKey.CACHE_OFFHEAP_SIZE_MB_DEFAULT;
+    private long maxMemoryBytes;
+    private boolean accessStatsEnabled = ConfigKey.CACHE_ACCESS_STATS_DEFAULT;
+    private List<KeyspaceDefinition> keyspaces = new ArrayList<>();
+    private List<String> indexes = KeyspaceDefinition.DEFAULT_INDEXES;
+    private Set<String> orderedKeyspaces = Set.of();
+    private String traceFile;
+    private int traceSample = ConfigKey.CACHE_TRACE_SAMPLE_DEFAULT;
+    private String snapshotFile;
+    private long snapshotIntervalSeconds = ConfigKey.CACHE_SNAPSHOT_INTERVAL_DEFAULT;
+    private String logFile;
+    private FsyncMode logFsyncMode = FsyncMode.EVERYSEC;
+    private long logRewriteMb = ConfigKey.CACHE_LOG_REWRITE_MB_DEFAULT;
+    private String loader;
+    private String loaderFile;
+    private long loaderTtlSeconds = ConfigKey.CACHE_LOADER_TTL_DEFAULT;
+    private boolean writeBehind = ConfigKey.CACHE_WRITE_BEHIND_DEFAULT;
+    private int writeBehindBatch = (int) ConfigKey.CACHE_WRITE_BEHIND_BATCH_DEFAULT;
+    private long writeBehindDelayMillis = ConfigKey.CACHE_WRITE_BEHIND_DELAY_DEFAULT;
+    private int compressionThreshold = (int) ConfigKey.CACHE_COMPRESSION_THRESHOLD_DEFAULT;
+    private int compressionDictionarySize = (int) ConfigKey.CACHE_COMPRESSION_DICTIONARY_SIZE_DEFAULT;
 
     public CacheConfigLoader() {
     }
@@ -67,6 +119,30 @@ public class CacheConfigLoader extends LoaderBase {
         } else {
             LogHelper.getInstance().logWarn("Non-existent cache size, defaulting to " + DEFAULT_CACHE_SIZE);
         }
+
+        this.cacheSegments = loadCacheSegments();
+        this.storageEngine = loadStorageEngine();
+        this.offHeapSizeMb = loadOffHeapSizeMb();
+        this.maxMemoryBytes = loadMaxMemoryBytes();
+        this.accessStatsEnabled = this.getConfigLoader().getBooleanProperty(ConfigKey.CACHE_ACCESS_STATS, ConfigKey.CACHE_ACCESS_STATS_DEFAULT);
+        this.keyspaces = loadKeyspaces();
+        this.indexes = loadIndexes();
+        this.orderedKeyspaces = loadOrderedKeyspaces();
+        this.traceFile = loadTraceFile();
+        this.traceSample = loadTraceSample();
+        this.snapshotFile = loadSnapshotFile();
+        this.snapshotIntervalSeconds = loadSnapshotInterval();
+        this.logFile = loadLogFile();
+        this.logFsyncMode = loadLogFsyncMode();
+        this.logRewriteMb = loadLogRewriteMb();
+        this.loader = loadLoader();
+        this.loaderFile = loadLoaderFile();
+        this.loaderTtlSeconds = loadPositiveOrZero(ConfigKey.CACHE_LOADER_TTL, ConfigKey.CACHE_LOADER_TTL_DEFAULT, "cache loader ttl");
+        this.writeBehind = this.getConfigLoader().getBooleanProperty(ConfigKey.CACHE_WRITE_BEHIND, ConfigKey.CACHE_WRITE_BEHIND_DEFAULT);
+        this.writeBehindBatch = (int) Math.min(Integer.MAX_VALUE, Math.max(1, loadPositiveOrZero(ConfigKey.CACHE_WRITE_BEHIND_BATCH, ConfigKey.CACHE_WRITE_BEHIND_BATCH_DEFAULT, "cache write-behind batch")));
+        this.writeBehindDelayMillis = loadPositiveOrZero(ConfigKey.CACHE_WRITE_BEHIND_DELAY, ConfigKey.CACHE_WRITE_BEHIND_DELAY_DEFAULT, "cache write-behind delay");
+        this.compressionThreshold = (int) Math.min(Integer.MAX_VALUE, loadPositiveOrZero(ConfigKey.CACHE_COMPRESSION_THRESHOLD, ConfigKey.CACHE_COMPRESSION_THRESHOLD_DEFAULT, "cache compression threshold"));
+        this.compressionDictionarySize = (int) Math.min(DictionaryRegistry.MAX_DICTIONARY_BYTES, loadPositiveOrZero(ConfigKey.CACHE_COMPRESSION_DICTIONARY_SIZE, ConfigKey.CACHE_COMPRESSION_DICTIONARY_SIZE_DEFAULT, "cache compression dictionary size"));
     }
 
     public void loadCacheSettings() {
@@ -84,6 +160,283 @@ public class CacheConfigLoader extends LoaderBase {
                 this.cacheSize = (int) cacheSize;
             }
         }
+
+        this.cacheSegments = loadCacheSegments();
+        this.storageEngine = loadStorageEngine();
+        this.offHeapSizeMb = loadOffHeapSizeMb();
+        this.maxMemoryBytes = loadMaxMemoryBytes();
+        this.accessStatsEnabled = this.getConfigLoader().getBooleanProperty(ConfigKey.CACHE_ACCESS_STATS, ConfigKey.CACHE_ACCESS_STATS_DEFAULT);
+        this.keyspaces = loadKeyspaces();
+        this.indexes = loadIndexes();
+        this.orderedKeyspaces = loadOrderedKeyspaces();
+        this.traceFile = loadTraceFile();
+        this.traceSample = loadTraceSample();
+        this.snapshotFile = loadSnapshotFile();
+        this.snapshotIntervalSeconds = loadSnapshotInterval();
+        this.logFile = loadLogFile();
+        this.logFsyncMode = loadLogFsyncMode();
+        this.logRewriteMb = loadLogRewriteMb();
+        this.loader = loadLoader();
+        this.loaderFile = loadLoaderFile();
+        this.loaderTtlSeconds = loadPositiveOrZero(ConfigKey.CACHE_LOADER_TTL, ConfigKey.CACHE_LOADER_TTL_DEFAULT, "cache loader ttl");
+        this.writeBehind = this.getConfigLoader().getBooleanProperty(ConfigKey.CACHE_WRITE_BEHIND, ConfigKey.CACHE_WRITE_BEHIND_DEFAULT);
+        this.writeBehindBatch = (int) Math.min(Integer.MAX_VALUE, Math.max(1, loadPositiveOrZero(ConfigKey.CACHE_WRITE_BEHIND_BATCH, ConfigKey.CACHE_WRITE_BEHIND_BATCH_DEFAULT, "cache write-behind batch")));
+        this.writeBehindDelayMillis = loadPositiveOrZero(ConfigKey.CACHE_WRITE_BEHIND_DELAY, ConfigKey.CACHE_WRITE_BEHIND_DELAY_DEFAULT, "cache write-behind delay");
+        this.compressionThreshold = (int) Math.min(Integer.MAX_VALUE, loadPositiveOrZero(ConfigKey.CACHE_COMPRESSION_THRESHOLD, ConfigKey.CACHE_COMPRESSION_THRESHOLD_DEFAULT, "cache compression threshold"));
+        this.compressionDictionarySize = (int) Math.min(DictionaryRegistry.MAX_DICTIONARY_BYTES, loadPositiveOrZero(ConfigKey.CACHE_COMPRESSION_DICTIONARY_SIZE, ConfigKey.CACHE_COMPRESSION_DICTIONARY_SIZE_DEFAULT, "cache compression dictionary size"));
+    }
+
+    private int loadCacheSegments() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_SEGMENTS)) {
+            try {
+                int segments = Integer.parseInt(this.getConfigLoader().getProperty(ConfigKey.CACHE_SEGMENTS).trim());
+                if (segments >= 1) {
+                    return segments;
+                }
+            } catch (NumberFormatException ignored) {}
+            LogHelper.getInstance().logWarn("Invalid cache segments given, defaulting to " + ConfigKey.CACHE_SEGMENTS_DEFAULT);
+        }
+        return ConfigKey.CACHE_SEGMENTS_DEFAULT;
+    }
+
+    private StorageEngine loadStorageEngine() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_STORAGE_ENGINE)) {
+            try {
+                return StorageEngine.fromString(this.getConfigLoader().getProperty(ConfigKey.CACHE_STORAGE_ENGINE).trim());
+            } catch (IllegalArgumentException ie) {
+                LogHelper.getInstance().logWarn("Invalid cache storage engine given, defaulting to " + StorageEngine.HEAP.getAbbreviation());
+            }
+        }
+        return StorageEngine.HEAP;
+    }
+
+    private long loadOffHeapSizeMb() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_OFFHEAP_SIZE_MB)) {
+            try {
+                long sizeMb = Long.parseLong(this.getConfigLoader().getProperty(ConfigKey.CACHE_OFFHEAP_SIZE_MB).trim());
+                if (sizeMb >= 1) {
+                    return sizeMb;
+                }
+            } catch (NumberFormatException ignored) {}
+            LogHelper.getInstance().logWarn("Invalid cache off-heap size given, defaulting to " + ConfigKey.CACHE_OFFHEAP_SIZE_MB_DEFAULT + "MB");
+        }
+        return ConfigKey.CACHE_OFFHEAP_SIZE_MB_DEFAULT;
+    }
+
+    private String loadTraceFile() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_TRACE_FILE)) {
+            String path = this.getConfigLoader().getProperty(ConfigKey.CACHE_TRACE_FILE).trim();
+            return path.isEmpty() ? null : path;
+        }
+        return null;
+    }
+
+    private int loadTraceSample() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_TRACE_SAMPLE)) {
+            try {
+                int sample = Integer.parseInt(this.getConfigLoader().getProperty(ConfigKey.CACHE_TRACE_SAMPLE).trim());
+                if (sample >= 1) {
+                    return sample;
+                }
+            } catch (NumberFormatException ignored) {}
+            LogHelper.getInstance().logWarn("Invalid cache trace sample given, defaulting to " + ConfigKey.CACHE_TRACE_SAMPLE_DEFAULT);
+        }
+        return ConfigKey.CACHE_TRACE_SAMPLE_DEFAULT;
+    }
+
+    private String loadSnapshotFile() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_SNAPSHOT_FILE)) {
+            String path = this.getConfigLoader().getProperty(ConfigKey.CACHE_SNAPSHOT_FILE).trim();
+            return path.isEmpty() ? null : path;
+        }
+        return null;
+    }
+
+    private long loadSnapshotInterval() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_SNAPSHOT_INTERVAL)) {
+            try {
+                long interval = Long.parseLong(this.getConfigLoader().getProperty(ConfigKey.CACHE_SNAPSHOT_INTERVAL).trim());
+                if (interval >= 0) {
+                    return interval;
+                }
+            } catch (NumberFormatException ignored) {}
+            LogHelper.getInstance().logWarn("Invalid cache snapshot interval given, defaulting to " + ConfigKey.CACHE_SNAPSHOT_INTERVAL_DEFAULT);
+        }
+        return ConfigKey.CACHE_SNAPSHOT_INTERVAL_DEFAULT;
+    }
+
+    private String loadLogFile() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_LOG_FILE)) {
+            String path = this.getConfigLoader().getProperty(ConfigKey.CACHE_LOG_FILE).trim();
+            return path.isEmpty() ? null : path;
+        }
+        return null;
+    }
+
+    private FsyncMode loadLogFsyncMode() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_LOG_FSYNC)) {
+            try {
+                return FsyncMode.fromString(this.getConfigLoader().getProperty(ConfigKey.CACHE_LOG_FSYNC));
+            } catch (VertexCacheDataStoreTypeException e) {
+                LogHelper.getInstance().logWarn("Invalid cache log fsync mode given, defaulting to " + ConfigKey.CACHE_LOG_FSYNC_DEFAULT);
+            }
+        }
+        return FsyncMode.EVERYSEC;
+    }
+
+    private long loadLogRewriteMb() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_LOG_REWRITE_MB)) {
+            try {
+                long rewriteMb = Long.parseLong(this.getConfigLoader().getProperty(ConfigKey.CACHE_LOG_REWRITE_MB).trim());
+                if (rewriteMb >= 0) {
+                    return rewriteMb;
+                }
+            } catch (NumberFormatException ignored) {}
+            LogHelper.getInstance().logWarn("Invalid cache log rewrite size given, defaulting to " + ConfigKey.CACHE_LOG_REWRITE_MB_DEFAULT);
+        }
+        return ConfigKey.CACHE_LOG_REWRITE_MB_DEFAULT;
+    }
+
+    private String loadLoader() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_LOADER)) {
+            String type = this.getConfigLoader().getProperty(ConfigKey.CACHE_LOADER).trim();
+            return type.isEmpty() ? null : type;
+        }
+        return null;
+    }
+
+    private String loadLoaderFile() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_LOADER_FILE)) {
+            String path = this.getConfigLoader().getProperty(ConfigKey.CACHE_LOADER_FILE).trim();
+            return path.isEmpty() ? null : path;
+        }
+        return null;
+    }
+
+    private long loadPositiveOrZero(String key, long defaultValue, String description) {
+        if (this.getConfigLoader().isExist(key)) {
+            try {
+                long value = Long.parseLong(this.getConfigLoader().getProperty(key).trim());
+                if (value >= 0) {
+                    return value;
+                }
+            } catch (NumberFormatException ignored) {}
+            LogHelper.getInstance().logWarn("Invalid " + description + " given, defaulting to " + defaultValue);
+        }
+        return defaultValue;
+    }
+
+    private long loadMaxMemoryBytes() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_MAX_MEMORY)) {
+            try {
+                long bytes = parseMemorySize(this.getConfigLoader().getProperty(ConfigKey.CACHE_MAX_MEMORY));
+                if (bytes >= 0) {
+                    return bytes;
+                }
+            } catch (NumberFormatException ignored) {}
+            LogHelper.getInstance().logWarn("Invalid cache max memory given, defaulting to unlimited");
+        }
+        return 0;
+    }
+
+    private List<String> loadIndexes() {
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_INDEXES)) {
+            try {
+                return parseIndexes(this.getConfigLoader().getProperty(ConfigKey.CACHE_INDEXES), ",");
+            } catch (IllegalArgumentException ex) {
+                LogHelper.getInstance().logWarn("Invalid cache indexes given, defaulting to " + KeyspaceDefinition.DEFAULT_INDEXES + ": " + ex.getMessage());
+            }
+        }
+        return KeyspaceDefinition.DEFAULT_INDEXES;
+    }
+
+    /**
+     * Parses a list of secondary index names split by the separator, blank means the default idx1, idx2.
+     */
+    public static List<String> parseIndexes(String value, String separator) {
+        if (value == null || value.isBlank()) {
+            return KeyspaceDefinition.DEFAULT_INDEXES;
+        }
+        return KeyspaceDefinition.validateIndexes(Arrays.asList(value.trim().split(Pattern.quote(separator))));
+    }
+
+    private Set<String> loadOrderedKeyspaces() {
+        Set<String> names = new HashSet<>();
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_ORDERED_KEYS)) {
+            for (String name : this.getConfigLoader().getProperty(ConfigKey.CACHE_ORDERED_KEYS).split(",")) {
+                if (KeyspaceDefinition.isValidName(name.trim())) {
+                    names.add(name.trim().toLowerCase());
+                } else if (!name.isBlank()) {
+                    LogHelper.getInstance().logWarn("Invalid keyspace name '" + name.trim() + "' in cache_ordered_keys ignored");
+                }
+            }
+        }
+        return names;
+    }
+
+    private List<KeyspaceDefinition> loadKeyspaces() {
+        List<KeyspaceDefinition> definitions = new ArrayList<>();
+        if (this.getConfigLoader().isExist(ConfigKey.CACHE_KEYSPACES)) {
+            Set<String> names = new HashSet<>();
+            for (String spec : this.getConfigLoader().getProperty(ConfigKey.CACHE_KEYSPACES).split(",")) {
+                if (spec.isBlank()) {
+                    continue;
+                }
+                try {
+                    KeyspaceDefinition definition = parseKeyspace(spec);
+                    if (!names.add(definition.getName().toLowerCase())
+                            || definition.getName().equalsIgnoreCase(KeyspaceDefinition.DEFAULT_NAME)) {
+                        LogHelper.getInstance().logWarn("Duplicate or reserved keyspace name ignored: " + definition.getName());
+                        continue;
+                    }
+                    definitions.add(definition);
+                } catch (IllegalArgumentException | ArithmeticException ex) {
+                    LogHelper.getInstance().logWarn("Invalid keyspace '" + spec.trim() + "' ignored: " + ex.getMessage());
+                }
+            }
+        }
+        return definitions;
+    }
+
+    /**
+     * Parses a keyspace declared as name:policy:size[:max_memory[:segments[:indexes]]], ie: sessions:LRU:100000:256mb
+     * or users:LRU:50000:::email|phone. Empty optional fields take their default, indexes are split on |.
+     */
+    public static KeyspaceDefinition parseKeyspace(String spec) {
+        String[] parts = spec.trim().split(":", -1);
+        if (parts.length < 3 || parts.length > 6) {
+            throw new IllegalArgumentException("expected name:policy:size[:max_memory[:segments[:indexes]]]");
+        }
+        EvictionPolicy policy = EvictionPolicy.fromString(parts[1].trim());
+        int size = Integer.parseInt(parts[2].trim());
+        long maxMemory = parts.length > 3 && !parts[3].isBlank() ? parseMemorySize(parts[3]) : 0;
+        int segments = parts.length > 4 && !parts[4].isBlank() ? Integer.parseInt(parts[4].trim()) : 1;
+        List<String> indexes = parts.length > 5 ? parseIndexes(parts[5], "|") : KeyspaceDefinition.DEFAULT_INDEXES;
+        if (size < 0 || maxMemory < 0 || segments < 1) {
+            throw new IllegalArgumentException("size, max_memory and segments must be positive");
+        }
+        return new KeyspaceDefinition(parts[0].trim(), policy, size, maxMemory, segments, indexes);
+    }
+
+    /**
+     * Parses a size such as 1048576, 512kb, 256mb or 2gb into bytes.
+     */
+    public static long parseMemorySize(String value) {
+        String size = value.trim().toLowerCase();
+        long multiplier = 1;
+        if (size.endsWith("kb")) {
+            multiplier = 1024L;
+        } else if (size.endsWith("mb")) {
+            multiplier = 1024L * 1024L;
+        } else if (size.endsWith("gb")) {
+            multiplier = 1024L * 1024L * 1024L;
+        }
+        if (multiplier > 1) {
+            size = size.substring(0, size.length() - 2).trim();
+        } else if (size.endsWith("b")) {
+            size = size.substring(0, size.length() - 1).trim();
+        }
+        return Math.multiplyExact(Long.parseLong(size), multiplier);
     }
 
     public EvictionPolicy getCacheEvictionPolicy() {
@@ -101,4 +454,232 @@ public class CacheConfigLoader extends LoaderBase {
     public void setCacheSize(int cacheSize) {
         this.cacheSize = cacheSize;
     }
+
+    public int getCacheSegments() {
+        return cacheSegments;
+    }
+
+    public void setCacheSegments(int cacheSegments) {
+        this.cacheSegments = cacheSegments;
+    }
+
+    public StorageEngine getStorageEngine() {
+        return storageEngine;
+    }
+
+    public void setStorageEngine(StorageEngine storageEngine) {
+        this.storageEngine = storageEngine;
+    }
+
+    public long getOffHeapSizeMb() {
+        return offHeapSizeMb;
+    }
+
+    public void setOffHeapSizeMb(long offHeapSizeMb) {
+        this.offHeapSizeMb = offHeapSizeMb;
+    }
+
+    public long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    public void setMaxMemoryBytes(long maxMemoryBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    public boolean isAccessStatsEnabled() {
+        return accessStatsEnabled;
+    }
+
+    public void setAccessStatsEnabled(boolean accessStatsEnabled) {
+        this.accessStatsEnabled = accessStatsEnabled;
+    }
+
+    public List<KeyspaceDefinition> getKeyspaces() {
+        return keyspaces;
+    }
+
+    public void setKeyspaces(List<KeyspaceDefinition> keyspaces) {
+        this.keyspaces = keyspaces;
+    }
+
+    public List<String> getIndexes() {
+        return indexes;
+    }
+
+    public void setIndexes(List<String> indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * Whether the keyspace (default for the default one) keeps an ordered key index.
+     */
+    public boolean isOrderedKeys(String keyspace) {
+        return keyspace != null && orderedKeyspaces.contains(keyspace.toLowerCase());
+    }
+
+    public Set<String> getOrderedKeyspaces() {
+        return orderedKeyspaces;
+    }
+
+    public void setOrderedKeyspaces(Set<String> orderedKeyspaces) {
+        this.orderedKeyspaces = orderedKeyspaces;
+    }
+
+    /**
+     * File the access trace of the default keyspace is written to, null when tracing is off.
+     */
+    public String getTraceFile() {
+        return traceFile;
+    }
+
+    public void setTraceFile(String traceFile) {
+        this.traceFile = traceFile;
+    }
+
+    /**
+     * One key in this many is traced, rounded down to a power of two by the recorder.
+     */
+    public int getTraceSample() {
+        return traceSample;
+    }
+
+    public void setTraceSample(int traceSample) {
+        this.traceSample = traceSample;
+    }
+
+    /**
+     * File the keyspaces are snapshotted to and restored from on startup, null when snapshots are off.
+     */
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    public void setSnapshotFile(String snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Seconds between two snapshots, 0 only writes one on shutdown.
+     */
+    public long getSnapshotIntervalSeconds() {
+        return snapshotIntervalSeconds;
+    }
+
+    public void setSnapshotIntervalSeconds(long snapshotIntervalSeconds) {
+        this.snapshotIntervalSeconds = snapshotIntervalSeconds;
+    }
+
+    /**
+     * Command log the keyspaces are persisted to between snapshots, null when the log is off.
+     */
+    public String getLogFile() {
+        return logFile;
+    }
+
+    public void setLogFile(String logFile) {
+        this.logFile = logFile;
+    }
+
+    public FsyncMode getLogFsyncMode() {
+        return logFsyncMode;
+    }
+
+    public void setLogFsyncMode(FsyncMode logFsyncMode) {
+        this.logFsyncMode = logFsyncMode;
+    }
+
+    /**
+     * Size of the log segments in MB past which the log is rewritten from a snapshot, 0 never does.
+     */
+    public long getLogRewriteMb() {
+        return logRewriteMb;
+    }
+
+    public void setLogRewriteMb(long logRewriteMb) {
+        this.logRewriteMb = logRewriteMb;
+    }
+
+    /**
+     * Datastore type or DatastoreLoader class name cache misses are loaded from, null when misses are not loaded.
+     */
+    public String getLoader() {
+        return loader;
+    }
+
+    public void setLoader(String loader) {
+        this.loader = loader;
+    }
+
+    public String getLoaderFile() {
+        return loaderFile;
+    }
+
+    public void setLoaderFile(String loaderFile) {
+        this.loaderFile = loaderFile;
+    }
+
+    /**
+     * Seconds the entries loaded from the datastore stay cached, 0 until evicted.
+     */
+    public long getLoaderTtlSeconds() {
+        return loaderTtlSeconds;
+    }
+
+    public void setLoaderTtlSeconds(long loaderTtlSeconds) {
+        this.loaderTtlSeconds = loaderTtlSeconds;
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public int getWriteBehindBatch() {
+        return writeBehindBatch;
+    }
+
+    public void setWriteBehindBatch(int writeBehindBatch) {
+        this.writeBehindBatch = writeBehindBatch;
+    }
+
+    /**
+     * Milliseconds a write waits in the write-behind queue before it is flushed with the others.
+     */
+    public long getWriteBehindDelayMillis() {
+        return writeBehindDelayMillis;
+    }
+
+    public void setWriteBehindDelayMillis(long writeBehindDelayMillis) {
+        this.writeBehindDelayMillis = writeBehindDelayMillis;
+    }
+
+    /**
+     * Size in bytes (characters for String values) from which values are held compressed, 0 never compresses.
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Size in bytes of the JSON and XML compression dictionaries, 0 compresses without dictionaries.
+     */
+    public int getCompressionDictionarySize() {
+        return compressionDictionarySize;
+    }
+
+    public void setCompressionDictionarySize(int compressionDictionarySize) {
+        this.compressionDictionarySize = compressionDictionarySize;
+    }
+
+    public long getOffHeapSizeBytes() {
+        return offHeapSizeMb * 1024L * 1024L;
+    }
 }
@@ -23,19 +23,14 @@ import com.vertexcache.core.setting.model.LoaderBase;
  *
  * Handles options such as:
  * - Whether the SmartModule is enabled
- * - Background sweeper interval for cleaning up reverse indexes and expired references
- * - Thresholds or tuning parameters for SmartModule optimizations (if applicable)
+ * - Which alert services it starts (hot keys, key churn, unauthorized access, anomalies)
  *
- * Ensures that intelligent index management and maintenance routines are properly configured
- * before the SmartModule is initialized.
- *
- * This loader is required for enabling automated index consistency and cleanup logic
- * in multi-index caching scenarios.
+ * Ensures these routines are properly configured before the SmartModule is initialized. Secondary
+ * index consistency is not a SmartModule concern, the cache keeps indexes in step with every removal.
  */
 public class SmartConfigLoader extends LoaderBase {
 
     private boolean enableSmart;
-    private boolean enableSmartIndexCleanup;
     private boolean enableSmartHotkeyWatcherAlert;
     private boolean enableSmartKeyChurnAlert;
     private boolean enableSmartUnauthorizedAccessAlert;
@@ -45,7 +40,6 @@ public class SmartConfigLoader extends LoaderBase {
     public void load() {
         this.enableSmart = this.getConfigLoader().getBooleanProperty(ConfigKey.ENABLE_SMART,ConfigKey.ENABLE_SMART_DEFAULT);
         this.enableSmartHotkeyWatcherAlert = this.getConfigLoader().getBooleanProperty(ConfigKey.ENABLE_SMART_HOTKEY_WATCHER_ALERT,ConfigKey.ENABLE_SMART_HOTKEY_WATCHER_ALERT_DEFAULT);
-        this.enableSmartIndexCleanup = this.getConfigLoader().getBooleanProperty(ConfigKey.ENABLE_SMART_INDEX_CLEANUP,ConfigKey.ENABLE_SMART_INDEX_CLEANUP_DEFAULT);
         this.enableSmartKeyChurnAlert = this.getConfigLoader().getBooleanProperty(ConfigKey.ENABLE_SMART_KEY_CHURN_ALERT,ConfigKey.ENABLE_SMART_KEY_CHURN_ALERT_DEFAULT);
         this.enableSmartUnauthorizedAccessAlert = this.getConfigLoader().getBooleanProperty(ConfigKey.ENABLE_SMART_UNAUTHORIZED_ACCESS_ALERT,ConfigKey.ENABLE_SMART_UNAUTHORIZED_ACCESS_ALERT_DEFAULT);
         this.enableSmartHotkeyAnomalyAlert = this.getConfigLoader().getBooleanProperty(ConfigKey.ENABLE_SMART_HOTKEY_ANOMALY_ALERT,ConfigKey.ENABLE_SMART_HOTKEY_ANOMALY_ALERT_DEFAULT);
@@ -55,7 +49,6 @@ public class SmartConfigLoader extends LoaderBase {
         return enableSmart;
     }
     public boolean isEnableSmartHotkeyWatcherAlert() {return enableSmartHotkeyWatcherAlert;}
-    public boolean isEnableSmartIndexCleanup() {return enableSmartIndexCleanup;}
     public boolean isEnableSmartKeyChurnAlert() {return enableSmartKeyChurnAlert;}
     public boolean isEnableSmartUnauthorizedAccessAlert() {return enableSmartUnauthorizedAccessAlert;}
     public boolean isEnableSmartHotkeyAnomalyAlert() {return enableSmartHotkeyAnomalyAlert;}
@@ -64,7 +57,6 @@ public class SmartConfigLoader extends LoaderBase {
         this.enableSmart = enableSmart;
     }
     public void setEnableSmartHotkeyWatcherAlert(boolean enableSmartHotkeyWatcherAlert) {this.enableSmartHotkeyWatcherAlert = enableSmartHotkeyWatcherAlert;}
-    public void setEnableSmartIndexCleanup(boolean enableSmartIndexCleanup) {this.enableSmartIndexCleanup = enableSmartIndexCleanup;}
     public void setEnableSmartKeyChurnAlert(boolean enableSmartKeyChurnAlert) {this.enableSmartKeyChurnAlert = enableSmartKeyChurnAlert;}
     public void setEnableSmartUnauthorizedAccessAlert(boolean enableSmartUnauthorizedAccessAlert) {this.enableSmartUnauthorizedAccessAlert = enableSmartUnauthorizedAccessAlert;}
     public void setEnableSmartHotkeyAnomalyAlert(boolean enableSmartHotkeyAnomalyAlert) {this.enableSmartHotkeyAnomalyAlert = enableSmartHotkeyAnomalyAlert;}
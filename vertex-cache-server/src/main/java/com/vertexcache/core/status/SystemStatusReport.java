@@ -17,6 +17,10 @@ package com.vertexcache.core.status;
 
 import com.vertexcache.common.security.EncryptionMode;
 import com.vertexcache.common.version.VersionUtil;
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.PolicyDecision;
+import com.vertexcache.core.cache.tuning.AutoPolicyTuner;
 import com.vertexcache.core.module.model.ModuleHandler;
 import com.vertexcache.core.module.ModuleRegistry;
 import com.vertexcache.core.module.model.ModuleStatus;
@@ -27,6 +31,8 @@ import com.vertexcache.core.module.model.Module;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 /**
  * Aggregates and formats detailed runtime status information about the VertexCache server.
@@ -41,6 +47,7 @@ import java.util.Map;
  * - Cluster participation and peer config
  * - REST API and alert module summaries
  * - Memory usage statistics
+ * - AUTO eviction policy state and switch history, when that policy is configured
  *
  * Designed for both startup logs and on-demand introspection, this utility centralizes
  * all relevant system health data into structured views for operational visibility.
@@ -50,6 +57,7 @@ public class SystemStatusReport {
     public static List<String> getFullSystemReportAsFlat() {
         List<String> result = new ArrayList<>();
         result.addAll(getStatusSummaryAsFlat());
+        result.addAll(getAutoPolicyAsFlat());
         result.addAll(getSecuritySummaryAsFlat());
         result.addAll(getModuleStatusAsFlat());
         result.addAll(getClusterSummaryAsFlat());
@@ -62,6 +70,7 @@ public class SystemStatusReport {
     public static String getFullSystemReport() {
         return String.join(System.lineSeparator(),
                 getServerStatus(),
+                getAutoPolicySummary(),
                 getSecuritySummary(),
                 getModuleStatus(),
                 getClusterSummary(),
@@ -87,12 +96,46 @@ public class SystemStatusReport {
         flat.add("verbose=" + config.getCoreConfigLoader().isEnableVerbose());
         flat.add("cache_eviction_policy=" + config.getCacheConfigLoader().getCacheEvictionPolicy());
         flat.add("cache_size=" + config.getCacheConfigLoader().getCacheSize());
+        flat.add("cache_segments=" + config.getCacheConfigLoader().getCacheSegments());
+        flat.add("cache_storage_engine=" + config.getCacheConfigLoader().getStorageEngine().getAbbreviation());
+        flat.add("cache_offheap_size_mb=" + config.getCacheConfigLoader().getOffHeapSizeMb());
+        flat.add("cache_max_memory=" + config.getCacheConfigLoader().getMaxMemoryBytes());
+        flat.add("cache_access_stats=" + config.getCacheConfigLoader().isAccessStatsEnabled());
+        flat.add("cache_keyspaces=" + config.getCacheConfigLoader().getKeyspaces());
+        flat.add("cache_indexes=" + String.join(",", config.getCacheConfigLoader().getIndexes()));
+        flat.add("cache_ordered_keys=" + String.join(",", new TreeSet<>(config.getCacheConfigLoader().getOrderedKeyspaces())));
+        flat.add("cache_trace_file=" + (config.getCacheConfigLoader().getTraceFile() != null ? config.getCacheConfigLoader().getTraceFile() : "n/a"));
+        flat.add("cache_trace_sample=" + config.getCacheConfigLoader().getTraceSample());
+        flat.add("cache_snapshot_file=" + (config.getCacheConfigLoader().getSnapshotFile() != null ? config.getCacheConfigLoader().getSnapshotFile() : "n/a"));
+        flat.add("cache_snapshot_interval=" + config.getCacheConfigLoader().getSnapshotIntervalSeconds());
+        flat.add("cache_log_file=" + (config.getCacheConfigLoader().getLogFile() != null ? config.getCacheConfigLoader().getLogFile() : "n/a"));
+        flat.add("cache_log_fsync=" + config.getCacheConfigLoader().getLogFsyncMode().name().toLowerCase());
+        flat.add("cache_log_rewrite_mb=" + config.getCacheConfigLoader().getLogRewriteMb());
+        flat.add("cache_loader=" + (config.getCacheConfigLoader().getLoader() != null ? config.getCacheConfigLoader().getLoader() : "n/a"));
+        flat.add("cache_loader_ttl=" + config.getCacheConfigLoader().getLoaderTtlSeconds());
+        flat.add("cache_write_behind=" + config.getCacheConfigLoader().isWriteBehind());
+        flat.add("cache_compression_threshold=" + config.getCacheConfigLoader().getCompressionThreshold());
+        flat.add("cache_compression_dictionary_size=" + config.getCacheConfigLoader().getCompressionDictionarySize());
         flat.add("config_file_set=" + config.isConfigLoaded());
         flat.add("config_file_error=" + config.isConfigError());
         flat.add("config_file_path=" + (config.getConfigFilePath() != null ? config.getConfigFilePath() : "n/a"));
         return flat;
     }
 
+    public static List<String> getAutoPolicyAsFlat() {
+        List<String> flat = new ArrayList<>();
+        AutoPolicyTuner tuner = getPolicyTuner();
+        if (tuner != null) {
+            flat.add("cache_auto_policy_active=" + tuner.getActivePolicy().getAbbreviation());
+            flat.add("cache_auto_policy_epoch=" + tuner.getEpoch());
+            flat.add("cache_auto_policy_hit_ratios=" + formatHitRatios(tuner));
+            flat.add("cache_auto_policy_decisions=" + tuner.getDecisions().stream()
+                    .map(PolicyDecision::toString)
+                    .collect(Collectors.joining("; ")));
+        }
+        return flat;
+    }
+
     public static List<String> getMemoryStatusSummaryAsFlat() {
         Runtime runtime = Runtime.getRuntime();
         long maxMem = runtime.maxMemory() / (1024 * 1024);
@@ -192,11 +235,59 @@ public class SystemStatusReport {
                 "  Verbose: " + (config.getCoreConfigLoader().isEnableVerbose() ? "ENABLED" : "DISABLED") + System.lineSeparator() +
                 "  Cache Eviction Policy: " + config.getCacheConfigLoader().getCacheEvictionPolicy() + System.lineSeparator() +
                 "  Cache Size: " + config.getCacheConfigLoader().getCacheSize() + System.lineSeparator() +
+                "  Cache Segments: " + config.getCacheConfigLoader().getCacheSegments() + System.lineSeparator() +
+                "  Cache Storage Engine: " + config.getCacheConfigLoader().getStorageEngine() + System.lineSeparator() +
+                "  Cache Off-Heap Size (MB): " + config.getCacheConfigLoader().getOffHeapSizeMb() + System.lineSeparator() +
+                "  Cache Max Memory (bytes): " + (config.getCacheConfigLoader().getMaxMemoryBytes() > 0 ? config.getCacheConfigLoader().getMaxMemoryBytes() : "unlimited") + System.lineSeparator() +
+                "  Cache Access Stats: " + (config.getCacheConfigLoader().isAccessStatsEnabled() ? "Enabled" : "Disabled") + System.lineSeparator() +
+                "  Cache Indexes: " + String.join(", ", config.getCacheConfigLoader().getIndexes()) + System.lineSeparator() +
+                "  Cache Ordered Keys: " + (config.getCacheConfigLoader().getOrderedKeyspaces().isEmpty() ? "none" : String.join(", ", new TreeSet<>(config.getCacheConfigLoader().getOrderedKeyspaces()))) + System.lineSeparator() +
+                "  Cache Access Trace: " + (config.getCacheConfigLoader().getTraceFile() != null ? config.getCacheConfigLoader().getTraceFile() + " (1 in " + config.getCacheConfigLoader().getTraceSample() + " keys)" : "off") + System.lineSeparator() +
+                "  Cache Command Log: " + (config.getCacheConfigLoader().getLogFile() != null ? config.getCacheConfigLoader().getLogFile() + " (fsync " + config.getCacheConfigLoader().getLogFsyncMode().name().toLowerCase() + ", rewrite past " + config.getCacheConfigLoader().getLogRewriteMb() + "MB)" : "off") + System.lineSeparator() +
+                "  Cache Loader: " + (config.getCacheConfigLoader().getLoader() != null ? config.getCacheConfigLoader().getLoader() + (config.getCacheConfigLoader().getLoaderTtlSeconds() > 0 ? " (ttl " + config.getCacheConfigLoader().getLoaderTtlSeconds() + "s" : " (no ttl") + (config.getCacheConfigLoader().isWriteBehind() ? ", write-behind every " + config.getCacheConfigLoader().getWriteBehindDelayMillis() + "ms or " + config.getCacheConfigLoader().getWriteBehindBatch() + " keys)" : ", read-through only)") : "off") + System.lineSeparator() +
+                "  Cache Compression: " + (config.getCacheConfigLoader().getCompressionThreshold() > 0 ? "values from " + config.getCacheConfigLoader().getCompressionThreshold() + " bytes" : "off") + (config.getCacheConfigLoader().getCompressionDictionarySize() > 0 ? ", JSON/XML with " + config.getCacheConfigLoader().getCompressionDictionarySize() + " byte dictionaries" : "") + System.lineSeparator() +
+                "  Cache Snapshot: " + (config.getCacheConfigLoader().getSnapshotFile() != null ? config.getCacheConfigLoader().getSnapshotFile() + (config.getCacheConfigLoader().getSnapshotIntervalSeconds() > 0 ? " (every " + config.getCacheConfigLoader().getSnapshotIntervalSeconds() + "s and on shutdown)" : " (on shutdown)") : "off") + System.lineSeparator() +
+                "  Cache Keyspaces: " + (config.getCacheConfigLoader().getKeyspaces().isEmpty() ? "default only" : config.getCacheConfigLoader().getKeyspaces()) + System.lineSeparator() +
                 "  Config file set: " + (config.isConfigLoaded() ? "Yes" : "No") + System.lineSeparator() +
                 "  Config file loaded with no errors: " + (!config.isConfigError() ? "Yes" : "No") + System.lineSeparator() +
                 "  Config file location: " + (config.getConfigFilePath() != null ? config.getConfigFilePath() : "n/a") + System.lineSeparator();
     }
 
+    public static String getAutoPolicySummary() {
+        AutoPolicyTuner tuner = getPolicyTuner();
+        if (tuner == null) {
+            return "  Auto Policy: N/A" + System.lineSeparator();
+        }
+        StringBuilder sb = new StringBuilder("  Auto Policy:").append(System.lineSeparator());
+        sb.append("    Active Policy: ").append(tuner.getActivePolicy().getAbbreviation()).append(System.lineSeparator());
+        sb.append("    Epoch: ").append(tuner.getEpoch()).append(System.lineSeparator());
+        sb.append("    Shadow Hit Ratios: ").append(formatHitRatios(tuner)).append(System.lineSeparator());
+        List<PolicyDecision> decisions = tuner.getDecisions();
+        if (decisions.isEmpty()) {
+            sb.append("    Decisions: none").append(System.lineSeparator());
+        } else {
+            sb.append("    Decisions:").append(System.lineSeparator());
+            for (PolicyDecision decision : decisions) {
+                sb.append("      ").append(decision).append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static AutoPolicyTuner getPolicyTuner() {
+        try {
+            return Cache.getInstance().getPolicyTuner();
+        } catch (VertexCacheTypeException e) {
+            return null;
+        }
+    }
+
+    private static String formatHitRatios(AutoPolicyTuner tuner) {
+        return tuner.getHitRatios().entrySet().stream()
+                .map(e -> e.getKey().getAbbreviation() + ":" + String.format("%.3f", e.getValue()))
+                .collect(Collectors.joining(","));
+    }
+
     public static String getSecuritySummary() {
         Config config = Config.getInstance();
         return "  Encryption Summary: " + System.lineSeparator() +
@@ -301,6 +392,7 @@ public class SystemStatusReport {
     public static String getStatusSummaryAsPretty() {
         return String.join(System.lineSeparator(),
                 getServerStatus(),
+                getAutoPolicySummary(),
                 getSecuritySummary(),
                 getModuleStatus(),
                 getClusterSummary(),
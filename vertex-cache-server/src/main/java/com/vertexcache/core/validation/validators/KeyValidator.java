@@ -38,7 +38,7 @@ public class KeyValidator implements Validator {
     private static final Set<String> RESERVED_KEYWORDS = Stream.of(
             "PING", "GET", "SET", "DEL", "STATUS", "SHUTDOWN", "RELOAD", "CONFIG",
             "RESET", "SESSIONS", "PURGE", "METRICS", "PEERPING", "ROLECHANGE",
-            "IDX1", "IDX2"
+            "IDX", "IDX1", "IDX2"
     ).collect(Collectors.toSet());
 
     private final String fieldName;
@@ -58,17 +58,32 @@ public enum Role {
             case READ_WRITE ->
                     Set.of(
                             PingCommand.COMMAND_KEY,
+                            SelectCommand.COMMAND_KEY,
                             GetCommand.COMMAND_KEY,
+                            GetSecondaryIdxCommand.COMMAND_KEY,
                             GetSecondaryIdxOneCommand.COMMAND_KEY,
                             GetSecondaryIdxTwoCommand.COMMAND_KEY,
+                            MultiGetSecondaryIdxCommand.COMMAND_KEY,
+                            ScanCommand.COMMAND_KEY,
+                            BGetCommand.COMMAND_KEY,
                             SetCommand.COMMAND_KEY,
-                            DelCommand.COMMAND_KEY
+                            BSetCommand.COMMAND_KEY,
+                            DelCommand.COMMAND_KEY,
+                            ExpireCommand.COMMAND_KEY,
+                            TtlCommand.COMMAND_KEY,
+                            PersistCommand.COMMAND_KEY
                     ).contains(command.toUpperCase());
             case READ_ONLY -> Set.of(
                             PingCommand.COMMAND_KEY,
+                            SelectCommand.COMMAND_KEY,
                             GetCommand.COMMAND_KEY,
+                            GetSecondaryIdxCommand.COMMAND_KEY,
                             GetSecondaryIdxOneCommand.COMMAND_KEY,
-                            GetSecondaryIdxTwoCommand.COMMAND_KEY
+                            GetSecondaryIdxTwoCommand.COMMAND_KEY,
+                            MultiGetSecondaryIdxCommand.COMMAND_KEY,
+                            ScanCommand.COMMAND_KEY,
+                            BGetCommand.COMMAND_KEY,
+                            TtlCommand.COMMAND_KEY
                     ).contains(command.toUpperCase());
 
             case NODE -> Set.of(
@@ -28,6 +28,7 @@ public enum MetricKey {
     CACHE_EVICTIONS_TOTAL("cache.evictions.total"),
     CACHE_EXPIRED_TOTAL("cache.expired.total"),
     CACHE_KEY_COUNT("cache.key.count"),
+    CACHE_MEMORY_BYTES("cache.memory.bytes"),
 
     CACHE_VALUE_SIZE_BYTES("cache.value.size.bytes"),
     CACHE_AVG_VALUE_SIZE_BYTES("cache.avg.value.size.bytes"),
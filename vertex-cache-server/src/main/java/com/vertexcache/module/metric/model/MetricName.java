@@ -35,6 +35,7 @@ public enum MetricName {
     CACHE_EVICTIONS_TOTAL(MetricKey.CACHE_EVICTIONS_TOTAL.value(), MetricType.COUNTER, List.of(MetricTag.CORE)),
     CACHE_EXPIRED_TOTAL(MetricKey.CACHE_EXPIRED_TOTAL.value(), MetricType.COUNTER, List.of(MetricTag.CORE)),
     CACHE_KEY_COUNT(MetricKey.CACHE_KEY_COUNT.value(), MetricType.GAUGE, List.of(MetricTag.CORE)),
+    CACHE_MEMORY_BYTES(MetricKey.CACHE_MEMORY_BYTES.value(), MetricType.GAUGE, List.of(MetricTag.CORE)),
 
     // Value size tracking
     CACHE_VALUE_SIZE_BYTES(MetricKey.CACHE_VALUE_SIZE_BYTES.value(), MetricType.RECORDER, List.of(MetricTag.VALUE)),
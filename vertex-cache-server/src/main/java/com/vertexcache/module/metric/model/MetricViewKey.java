@@ -24,6 +24,8 @@ package com.vertexcache.module.metric.model;
  * - Index usage metrics (idx1, idx2)
  * - JVM-level system metrics (e.g., memory usage, uptime)
  * - Hot key tracking prefixes for detailed per-key statistics
+ * - Per-tenant usage against its quota, keyed tenant.<id>.<suffix>
+ * - AUTO eviction policy state, the live policy, shadow hit ratios and recent switches
  *
  * This class is non-instantiable and serves as a centralized reference for all metric keys.
  */
@@ -38,6 +40,7 @@ public final class MetricViewKey {
     public static final String CACHE_MISS_COUNT  = "cache.miss.count";
     public static final String CACHE_HIT_RATIO   = "cache.hit.ratio";
     public static final String CACHE_KEY_COUNT   = "cache.key.count";
+    public static final String CACHE_MEMORY_BYTES = "cache.memory.bytes";
 
     public static final String INDEX_USAGE_IDX1  = "cache.index.usage.idx1";
     public static final String INDEX_USAGE_IDX2  = "cache.index.usage.idx2";
@@ -50,4 +53,35 @@ public final class MetricViewKey {
 
     public static final String HOT_KEY_PREFIX = "key.";
     public static final String HOT_HITS_PREFIX = "hits.";
+
+    public static final String TENANT_PREFIX = "tenant.";
+    public static final String TENANT_KEY_COUNT = ".key.count";
+    public static final String TENANT_MAX_KEYS = ".max.keys";
+    public static final String TENANT_MEMORY_BYTES = ".memory.bytes";
+    public static final String TENANT_MAX_MEMORY_BYTES = ".max.memory.bytes";
+    public static final String TENANT_EVICTIONS = ".evictions";
+
+    public static final String AUTO_POLICY_ACTIVE = "cache.auto.policy.active";
+    public static final String AUTO_POLICY_EPOCH = "cache.auto.policy.epoch";
+    public static final String AUTO_POLICY_HIT_RATIO_PREFIX = "cache.auto.policy.hit.ratio.";
+    public static final String AUTO_POLICY_SWITCHES = "cache.auto.policy.switches";
+    public static final String AUTO_POLICY_DECISION_PREFIX = "cache.auto.policy.decision.";
+
+    public static final String COMPRESSION_THRESHOLD_BYTES = "cache.compression.threshold.bytes";
+    public static final String COMPRESSION_VALUES = "cache.compression.values";
+    public static final String COMPRESSION_SKIPPED = "cache.compression.skipped";
+    public static final String COMPRESSION_SAVED_BYTES = "cache.compression.saved.bytes";
+    public static final String COMPRESSION_RATIO = "cache.compression.ratio";
+    public static final String COMPRESSION_CPU_MS = "cache.compression.cpu.ms";
+    public static final String DECOMPRESSION_VALUES = "cache.decompression.values";
+    public static final String DECOMPRESSION_CPU_MS = "cache.decompression.cpu.ms";
+    public static final String DICTIONARY_VALUES = "cache.compression.dictionary.values";
+    public static final String DICTIONARY_RATIO = "cache.compression.dictionary.ratio";
+    public static final String DICTIONARY_PREFIX = "cache.compression.dictionary.";
+    public static final String DICTIONARY_VERSION = ".version";
+    public static final String DICTIONARY_BYTES = ".bytes";
+    public static final String DICTIONARY_SAMPLES = ".samples";
+
+    public static final String KEYSPACE_PREFIX = "keyspace.";
+    public static final String KEYSPACE_COMPRESSION_SAVED_BYTES = ".compression.saved.bytes";
 }
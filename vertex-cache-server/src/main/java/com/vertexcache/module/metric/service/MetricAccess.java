@@ -16,6 +16,16 @@
 package com.vertexcache.module.metric.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.compression.CompressionDictionary;
+import com.vertexcache.core.cache.compression.DictionaryRegistry;
+import com.vertexcache.core.cache.compression.ValueCompressor;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.DataType;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.PolicyDecision;
+import com.vertexcache.core.cache.model.TenantUsage;
+import com.vertexcache.core.cache.tuning.AutoPolicyTuner;
 import com.vertexcache.core.module.ModuleRegistry;
 import com.vertexcache.core.util.runtime.RuntimeInfo;
 import com.vertexcache.module.metric.MetricModule;
@@ -53,6 +63,39 @@ import java.util.*;
  * === HOT KEYS ===
  *  (list most used keys)
  *
+ * === TENANT USAGE ===
+ * Tenant.tenant-a.key.count: 1200
+ * Tenant.tenant-a.max.keys: 5000
+ * Tenant.tenant-a.memory.bytes: 524288
+ * Tenant.tenant-a.max.memory.bytes: 1048576
+ * Tenant.tenant-a.evictions: 0
+ *
+ * === AUTO POLICY ===
+ * Cache.auto.policy.active: LFU
+ * Cache.auto.policy.epoch: 14
+ * Cache.auto.policy.hit.ratio.lru: 41.2%
+ * Cache.auto.policy.hit.ratio.lfu: 45.5%
+ * Cache.auto.policy.hit.ratio.w-tinylfu: 44.9%
+ * Cache.auto.policy.switches: 1
+ * Cache.auto.policy.decision.1: epoch 6: W-TinyLFU (0.401) -> LFU (0.447)
+ *
+ * === COMPRESSION ===
+ * Cache.compression.threshold.bytes: 1024
+ * Cache.compression.values: 5200
+ * Cache.compression.skipped: 310
+ * Cache.compression.saved.bytes: 41943040
+ * Cache.compression.ratio: 31.5%
+ * Cache.compression.cpu.ms: 812
+ * Cache.decompression.values: 98000
+ * Cache.decompression.cpu.ms: 1630
+ * Cache.compression.dictionary.values: 48000
+ * Cache.compression.dictionary.ratio: 22.4%
+ * Cache.compression.dictionary.json.version: 2
+ * Cache.compression.dictionary.json.bytes: 16384
+ * Cache.compression.dictionary.json.samples: 1024
+ * Keyspace.default.compression.saved.bytes: 31457280
+ * Keyspace.orders.compression.saved.bytes: 10485760
+ *
  * === JVM MEMORY ===
  * Memory.used.mb: 71
  * Memory.free.mb: 952
@@ -92,6 +135,9 @@ public class MetricAccess {
         Map<String, Object> view = new HashMap<>();
         Optional<MetricModule> optMetricModule = ModuleRegistry.getInstance().getModule(MetricModule.class);
         MetricModule metricModule = optMetricModule.get();
+        // Refreshed when read rather than on every write, the totals are summed across all keyspaces
+        metricModule.getMetricAccess().getMetricCollector().setGauge(MetricName.CACHE_KEY_COUNT, Cache.getTotalSize());
+        metricModule.getMetricAccess().getMetricCollector().setGauge(MetricName.CACHE_MEMORY_BYTES, Cache.getTotalMemoryUsage());
         long hitCount = metricModule.getMetricAccess().getMetricCollector().getCounter(MetricName.CACHE_HIT_COUNT);
         long missCount = metricModule.getMetricAccess().getMetricCollector().getCounter(MetricName.CACHE_MISS_COUNT);
         long keyCount = metricModule.getMetricAccess().getMetricCollector().getGauge(MetricName.CACHE_KEY_COUNT);
@@ -102,6 +148,7 @@ public class MetricAccess {
         view.put(MetricViewKey.CACHE_MISS_COUNT, missCount);
         view.put(MetricViewKey.CACHE_HIT_RATIO, formattedPercent);
         view.put(MetricViewKey.CACHE_KEY_COUNT, keyCount);
+        view.put(MetricViewKey.CACHE_MEMORY_BYTES, metricModule.getMetricAccess().getMetricCollector().getGauge(MetricName.CACHE_MEMORY_BYTES));
         return view;
     }
 
@@ -132,6 +179,93 @@ public class MetricAccess {
         return view;
     }
 
+    /**
+     * Usage of every tenant with a quota (tenant_quotas), read live from its cache partitions.
+     */
+    public Map<String, Object> getTenantUsageView() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (TenantUsage usage : Cache.getTenantUsage()) {
+            String prefix = MetricViewKey.TENANT_PREFIX + usage.getTenantId();
+            view.put(prefix + MetricViewKey.TENANT_KEY_COUNT, usage.getKeyCount());
+            view.put(prefix + MetricViewKey.TENANT_MAX_KEYS, usage.getQuota().getMaxEntries());
+            view.put(prefix + MetricViewKey.TENANT_MEMORY_BYTES, usage.getMemoryBytes());
+            view.put(prefix + MetricViewKey.TENANT_MAX_MEMORY_BYTES, usage.getQuota().getMaxMemoryBytes());
+            view.put(prefix + MetricViewKey.TENANT_EVICTIONS, usage.getEvictions());
+        }
+        return view;
+    }
+
+    /**
+     * Live policy, shadow hit ratios and recent switches of the AUTO eviction policy, empty for any
+     * other policy.
+     */
+    public Map<String, Object> getAutoPolicyView() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        AutoPolicyTuner tuner;
+        try {
+            tuner = Cache.getInstance().getPolicyTuner();
+        } catch (VertexCacheTypeException e) {
+            return view;
+        }
+        if (tuner == null) {
+            return view;
+        }
+        view.put(MetricViewKey.AUTO_POLICY_ACTIVE, tuner.getActivePolicy().getAbbreviation());
+        view.put(MetricViewKey.AUTO_POLICY_EPOCH, tuner.getEpoch());
+        for (Map.Entry<EvictionPolicy, Double> entry : tuner.getHitRatios().entrySet()) {
+            view.put(MetricViewKey.AUTO_POLICY_HIT_RATIO_PREFIX + entry.getKey().getAbbreviation().toLowerCase(),
+                    String.format("%.1f%%", entry.getValue() * 100));
+        }
+        List<PolicyDecision> decisions = tuner.getDecisions();
+        view.put(MetricViewKey.AUTO_POLICY_SWITCHES, decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            view.put(MetricViewKey.AUTO_POLICY_DECISION_PREFIX + (i + 1), decisions.get(i).toString());
+        }
+        return view;
+    }
+
+    /**
+     * Values held compressed across every keyspace and the CPU time spent compressing and inflating
+     * them, the dictionaries of the JSON and XML values, and the bytes saved in each keyspace, empty
+     * when compression is off.
+     */
+    public Map<String, Object> getCompressionView() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        ValueCompressor compressor;
+        try {
+            compressor = Cache.getInstance().getValueCompressor();
+        } catch (VertexCacheTypeException e) {
+            return view;
+        }
+        if (compressor == null) {
+            return view;
+        }
+        view.put(MetricViewKey.COMPRESSION_THRESHOLD_BYTES, compressor.getThresholdBytes());
+        view.put(MetricViewKey.COMPRESSION_VALUES, compressor.getCompressedCount());
+        view.put(MetricViewKey.COMPRESSION_SKIPPED, compressor.getSkippedCount());
+        view.put(MetricViewKey.COMPRESSION_SAVED_BYTES, Cache.getTotalCompressionSavedBytes());
+        view.put(MetricViewKey.COMPRESSION_RATIO, String.format("%.1f%%", compressor.getRatio() * 100));
+        view.put(MetricViewKey.COMPRESSION_CPU_MS, compressor.getCompressNanos() / 1_000_000);
+        view.put(MetricViewKey.DECOMPRESSION_VALUES, compressor.getDecompressedCount());
+        view.put(MetricViewKey.DECOMPRESSION_CPU_MS, compressor.getDecompressNanos() / 1_000_000);
+        DictionaryRegistry dictionaries = compressor.getDictionaries();
+        if (dictionaries != null) {
+            view.put(MetricViewKey.DICTIONARY_VALUES, compressor.getDictionaryCount());
+            view.put(MetricViewKey.DICTIONARY_RATIO, String.format("%.1f%%", compressor.getDictionaryRatio() * 100));
+            for (DataType format : List.of(DataType.JSON, DataType.XML)) {
+                String prefix = MetricViewKey.DICTIONARY_PREFIX + format.name().toLowerCase();
+                CompressionDictionary dictionary = dictionaries.getDictionary(format);
+                view.put(prefix + MetricViewKey.DICTIONARY_VERSION, dictionary != null ? dictionary.getVersion() : 0);
+                view.put(prefix + MetricViewKey.DICTIONARY_BYTES, dictionary != null ? dictionary.getBytes().length : 0);
+                view.put(prefix + MetricViewKey.DICTIONARY_SAMPLES, dictionaries.getSampleCount(format));
+            }
+        }
+        for (Map.Entry<String, Long> entry : Cache.getCompressionSavedBytesByKeyspace().entrySet()) {
+            view.put(MetricViewKey.KEYSPACE_PREFIX + entry.getKey() + MetricViewKey.KEYSPACE_COMPRESSION_SAVED_BYTES, entry.getValue());
+        }
+        return view;
+    }
+
     public Map<String, Object> getJvmMemoryView() {
         Map<String, Object> view = new LinkedHashMap<>();
         Runtime runtime = Runtime.getRuntime();
@@ -162,6 +296,9 @@ public class MetricAccess {
         snapshot.put("cache_effectiveness", getCacheEffectivenessView());
         snapshot.put("index_usage", getIndexUsageView());
         snapshot.put("hot_keys", getHotKeysView(10));
+        snapshot.put("tenant_usage", getTenantUsageView());
+        snapshot.put("auto_policy", getAutoPolicyView());
+        snapshot.put("compression", getCompressionView());
         snapshot.put("jvm_memory", getJvmMemoryView());
 
         return snapshot;
@@ -189,6 +326,9 @@ public class MetricAccess {
         appendPrettySection(sb, "VALUE SIZE DISTRIBUTION", snapshot.get("value_size_distribution"));
         appendPrettySection(sb, "AVERAGE VALUE SIZE", snapshot.get("avg_value_size"));
         appendPrettySection(sb, "HOT KEYS", snapshot.get("hot_keys"));
+        appendPrettySection(sb, "TENANT USAGE", snapshot.get("tenant_usage"));
+        appendPrettySection(sb, "AUTO POLICY", snapshot.get("auto_policy"));
+        appendPrettySection(sb, "COMPRESSION", snapshot.get("compression"));
         appendPrettySection(sb, "JVM MEMORY", snapshot.get("jvm_memory"));
 
         return sb.toString();
@@ -16,6 +16,7 @@
 package com.vertexcache.module.restapi.handlers;
 
 import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
 import com.vertexcache.core.command.impl.GetSecondaryIdxOneCommand;
 import com.vertexcache.core.util.message.ResultCode;
 import com.vertexcache.core.validation.validators.KeyValidator;
@@ -48,7 +49,7 @@ public class GetIdx1Handler extends AbstractRestHandler {
         }
 
         CacheAccessService cache = new CacheAccessService();
-        String value = cache.getBySecondaryIdx1(this.getAuthEntry().getTenantId(), idx1);
+        String value = cache.getBySecondaryIdx(this.getAuthEntry().getTenantId(), KeyspaceDefinition.INDEX_ONE, idx1);
 
         if (value == null) {
             respondNotFound(ResultCode.KEY_NOT_FOUND);
@@ -16,6 +16,7 @@
 package com.vertexcache.module.restapi.handlers;
 
 import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
 import com.vertexcache.core.command.impl.GetSecondaryIdxTwoCommand;
 import com.vertexcache.core.util.message.ResultCode;
 import com.vertexcache.core.validation.validators.KeyValidator;
@@ -48,7 +49,7 @@ public class GetIdx2Handler extends AbstractRestHandler {
         }
 
         CacheAccessService cache = new CacheAccessService();
-        String value = cache.getBySecondaryIdx2(this.getAuthEntry().getTenantId(), idx2);
+        String value = cache.getBySecondaryIdx(this.getAuthEntry().getTenantId(), KeyspaceDefinition.INDEX_TWO, idx2);
 
         if (value == null) {
             respondNotFound(ResultCode.KEY_NOT_FOUND);
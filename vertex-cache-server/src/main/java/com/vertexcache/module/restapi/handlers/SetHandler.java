@@ -15,7 +15,10 @@
  */
 package com.vertexcache.module.restapi.handlers;
 
+import com.google.gson.JsonElement;
 import com.vertexcache.core.cache.CacheAccessService;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.command.argument.TtlArgument;
 import com.vertexcache.core.command.impl.SetCommand;
 import com.vertexcache.core.util.message.ResultCode;
 import com.vertexcache.core.validation.exception.VertexCacheValidationException;
@@ -23,11 +26,15 @@ import com.vertexcache.core.validation.validators.KeyValidator;
 import com.vertexcache.core.validation.validators.ValueValidator;
 import com.vertexcache.module.restapi.model.ApiParameter;
 
+import java.util.Map;
+
 /**
  * REST handler for processing cache insertion or update (SET) requests.
  *
  * Validates write access, required fields (key and value), and optional index fields.
  * Ensures that idx2 is not provided without idx1. Performs format validation if specified.
+ * Named indexes of the keyspace are given as an "indexes" object, ie: {"indexes": {"email": "a@b.c"}}.
+ * An optional ttl (seconds, or milliseconds with an "ms" suffix) makes the entry expire.
  *
  * Stores the value in the cache under the specified key and optional indexes,
  * and responds with a success status and echo of the value.
@@ -48,6 +55,8 @@ public class SetHandler extends AbstractRestHandler {
         String idx1 = getStringField(this.getBody(), ApiParameter.IDX1.value());
         String idx2 = getStringField(this.getBody(), ApiParameter.IDX2.value());
         String formatStr = getStringField(this.getBody(), ApiParameter.FORMAT.value());
+        String ttl = getStringField(this.getBody(), ApiParameter.TTL.value());
+        Map<String, String> indexes = CacheAccessService.legacyIndexes(idx1, idx2);
 
         if (key == null) {
             respondBadRequest(ResultCode.KEY_REQUIRED);
@@ -69,17 +78,42 @@ public class SetHandler extends AbstractRestHandler {
             new ValueValidator(ApiParameter.VALUE.value(), value, parseDataType(formatStr)).validate();
             if (idx1 != null) new KeyValidator(ApiParameter.IDX1.value(), idx1).validate();
             if (idx2 != null) new KeyValidator(ApiParameter.IDX2.value(), idx2).validate();
+            JsonElement named = this.getBody().get(ApiParameter.INDEXES.value());
+            if (named != null && !named.isJsonNull()) {
+                if (!named.isJsonObject()) {
+                    respondBadRequest(ApiParameter.INDEXES.value() + " must be an object of index name to value");
+                    return;
+                }
+                for (Map.Entry<String, JsonElement> index : named.getAsJsonObject().entrySet()) {
+                    String indexValue = index.getValue().isJsonNull() ? null : index.getValue().getAsString();
+                    new KeyValidator(index.getKey(), indexValue).validate();
+                    indexes.put(index.getKey(), indexValue);
+                }
+            }
         } catch (VertexCacheValidationException ex) {
             respondBadRequest(ex.getMessage());
             return;
         }
 
+        long ttlMillis = 0;
+        if (ttl != null) {
+            try {
+                ttlMillis = TtlArgument.toMillis(ttl);
+            } catch (IllegalArgumentException ex) {
+                respondBadRequest(ex.getMessage());
+                return;
+            }
+        }
+
         CacheAccessService cache = new CacheAccessService();
 
-        if (idx1 != null && idx2 != null) {
-            cache.put(this.getAuthEntry().getTenantId(), key, value, idx1, idx2);
-        } else if (idx1 != null) {
-            cache.put(this.getAuthEntry().getTenantId(), key, value, idx1);
+        if (ttlMillis > 0 || !indexes.isEmpty()) {
+            try {
+                cache.put(this.getAuthEntry().getTenantId(), key, value, ttlMillis, indexes);
+            } catch (VertexCacheTypeException ex) {
+                respondBadRequest(ex.getMessage());
+                return;
+            }
         } else {
             cache.put(this.getAuthEntry().getTenantId(), key, value);
         }
@@ -28,6 +28,9 @@ public enum ApiParameter {
     FORMAT("format"),
     IDX1("idx1"),
     IDX2("idx2"),
+    INDEX("index"),
+    INDEXES("indexes"),
+    TTL("ttl"),
     CLIENT_ID("clientId"),
     TOKEN("token");
 
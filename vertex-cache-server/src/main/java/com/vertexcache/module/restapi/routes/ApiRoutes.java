@@ -24,7 +24,7 @@ import io.javalin.Javalin;
  *
  * Defines endpoints for health checks (ping) and cache operations:
  * - Set (POST /cache)
- * - Get by primary key, secondary index 1, and secondary index 2 (GET)
+ * - Get by primary key, by any named secondary index, and by secondary index 1 and 2 (GET)
  * - Delete by primary key (DELETE)
  *
  * Routes are prefixed by the configured API base path.
@@ -36,6 +36,7 @@ public class ApiRoutes {
 
         app.post(RestApiServer.API_PREFIX + "/cache", new SetHandler());
         app.get(RestApiServer.API_PREFIX + "/cache/primary/{key}", new GetHandler());
+        app.get(RestApiServer.API_PREFIX + "/cache/idx/{index}/{value}", new GetIdxHandler());
         app.get(RestApiServer.API_PREFIX + "/cache/idx1/{idx1}", new GetIdx1Handler());
         app.get(RestApiServer.API_PREFIX + "/cache/idx2/{idx2}", new GetIdx2Handler());
         app.delete(RestApiServer.API_PREFIX + "/cache/primary/{key}", new DelHandler());
@@ -33,7 +33,6 @@ import java.util.concurrent.ScheduledExecutorService;
  *
  * It manages scheduled tasks such as:
  * - Hot key watcher alerts
- * - Reverse index cleanup
  * - Key churn alerts
  * - Unauthorized access alerts
  * - Hot key anomaly detection
@@ -51,7 +50,6 @@ public class SmartModule extends Module {
                     new ThreadFactoryBuilder().setNameFormat("SmartModule-%d").setDaemon(true).build()
             );
 
-    private ReverseIndexCleanupService reverseIndexCleanupService;
     private HotKeyWatcherAlertService hotKeyWatcherAlertService;
     private KeyChurnAlertService keyChurnAlertService;
     private UnauthorizedAccessAlertService unauthorizedAccessAlertService;
@@ -82,11 +80,6 @@ public class SmartModule extends Module {
                 enabledServices.add(hotKeyWatcherAlertService);
             }
 
-            if (Config.getInstance().getSmartConfigLoader().isEnableSmartIndexCleanup()) {
-                this.reverseIndexCleanupService = new ReverseIndexCleanupService();
-                enabledServices.add(reverseIndexCleanupService);
-            }
-
             if (Config.getInstance().getSmartConfigLoader().isEnableSmartKeyChurnAlert()) {
                 this.keyChurnAlertService = new KeyChurnAlertService();
                 enabledServices.add(keyChurnAlertService);
@@ -122,9 +115,6 @@ public class SmartModule extends Module {
         if (hotKeyWatcherAlertService != null) {
             hotKeyWatcherAlertService.stop();
         }
-        if (reverseIndexCleanupService != null) {
-            reverseIndexCleanupService.stop();
-        }
         if (keyChurnAlertService != null) {
             keyChurnAlertService.stop();
         }
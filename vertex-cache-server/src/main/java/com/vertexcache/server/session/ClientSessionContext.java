@@ -21,7 +21,10 @@ import com.vertexcache.module.auth.model.TenantId;
 /**
  * Holds session context information for a connected client.
  *
- * Tracks the client's identifier, associated tenant, and security role.
+ * Tracks the client's identifier, associated tenant, security role and selected keyspace
+ * (null for the default keyspace), and the tenant its keys are scoped to once resolved by
+ * KeyPrefixer (null when keys are not prefixed), reset whenever the tenant changes. Whether the
+ * client accepts compressed values is taken from the flags of its last request frame.
  * Provides convenience method to check if the client’s role permits execution
  * of a given command.
  */
@@ -29,16 +32,36 @@ public class ClientSessionContext {
     private String clientId;
     private TenantId tenantId;
     private Role role;
+    private String keyspace;
+    private TenantId keyTenant;
+    private boolean keyTenantResolved;
+    private boolean compressionAccepted;
 
     public String getClientId() { return clientId; }
     public void setClientId(String clientId) { this.clientId = clientId; }
 
     public TenantId getTenantId() { return tenantId; }
-    public void setTenantId(TenantId tenantId) { this.tenantId = tenantId; }
+    public void setTenantId(TenantId tenantId) {
+        this.tenantId = tenantId;
+        this.keyTenantResolved = false;
+    }
 
     public Role getRole() { return role; }
     public void setRole(Role role) { this.role = role; }
 
+    public String getKeyspace() { return keyspace; }
+    public void setKeyspace(String keyspace) { this.keyspace = keyspace; }
+
+    public TenantId getKeyTenant() { return keyTenant; }
+    public boolean isKeyTenantResolved() { return keyTenantResolved; }
+    public void setKeyTenant(TenantId keyTenant) {
+        this.keyTenant = keyTenant;
+        this.keyTenantResolved = true;
+    }
+
+    public boolean isCompressionAccepted() { return compressionAccepted; }
+    public void setCompressionAccepted(boolean compressionAccepted) { this.compressionAccepted = compressionAccepted; }
+
     public boolean hasRole(String command) {
         return role != null && role.canExecute(command);
     }
@@ -18,6 +18,7 @@ package com.vertexcache.server.socket;
 import com.google.gson.Gson;
 import com.vertexcache.common.log.LogHelper;
 import com.vertexcache.common.security.EncryptionMode;
+import com.vertexcache.common.security.FramedMessage;
 import com.vertexcache.common.security.MessageCodec;
 import com.vertexcache.common.security.GcmCryptoHelper;
 import com.vertexcache.core.command.CommandService;
@@ -105,7 +106,11 @@ public class ClientHandler implements Runnable {
                 byte[] framedRequest = null;
 
                 try {
-                    framedRequest = MessageCodec.readFramedMessage(inputStream);
+                    FramedMessage frame = MessageCodec.readFrame(inputStream);
+                    if (frame != null) {
+                        framedRequest = frame.getPayload();
+                        session.setCompressionAccepted(frame.isCompressionAccepted());
+                    }
 
                     if (rsaCipher == null && config.getSecurityConfigLoader().getEncryptionMode() == EncryptionMode.ASYMMETRIC) {
                         rsaCipher = CipherHelper.getCipherFromId(MessageCodec.extractEncryptionHint(), config.getSecurityConfigLoader().getPrivateKey());
@@ -18,6 +18,20 @@ package com.vertexcache.server.socket;
 import com.vertexcache.common.log.LogHelper;
 import com.vertexcache.common.security.EncryptionMode;
 import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.compression.DictionaryRegistry;
+import com.vertexcache.core.cache.compression.ValueCompressor;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.cache.snapshot.CacheSnapshotLoader;
+import com.vertexcache.core.cache.snapshot.CacheSnapshotWriter;
+import com.vertexcache.core.cache.snapshot.SnapshotStats;
+import com.vertexcache.core.cache.trace.AccessTraceRecorder;
+import com.vertexcache.core.datastore.exception.VertexCacheDataStoreTypeException;
+import com.vertexcache.core.datastore.loader.CacheLoader;
+import com.vertexcache.core.datastore.loader.WriteBehindQueue;
+import com.vertexcache.core.datastore.model.DatastoreFactory;
+import com.vertexcache.core.datastore.model.DatastoreLoader;
+import com.vertexcache.core.datastore.model.providers.AppendLogProvider;
 import com.vertexcache.core.module.model.Module;
 import com.vertexcache.core.module.model.ModuleStatus;
 import com.vertexcache.core.setting.Config;
@@ -30,6 +44,9 @@ import java.io.*;
 import java.net.BindException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.concurrent.*;
 
 /**
@@ -51,6 +68,10 @@ public class SocketServer extends Module {
 
     private ExecutorService executor;
     private ServerSocket serverSocket = null;
+    private AccessTraceRecorder traceRecorder;
+    private CacheSnapshotWriter snapshotWriter;
+    private AppendLogProvider commandLogProvider;
+    private CacheLoader cacheLoader;
 
     private static ModuleStatus status = ModuleStatus.NOT_STARTED;
     private static String statusMessage = "";
@@ -64,7 +85,29 @@ public class SocketServer extends Module {
         try {
             status = ModuleStatus.STARTUP_IN_PROGRESS;
             CommandService commandService = new CommandService();
-            Cache.getInstance(Config.getInstance().getCacheConfigLoader().getCacheEvictionPolicy(), Config.getInstance().getCacheConfigLoader().getCacheSize());
+            Cache<?, ?> cache = Cache.getInstance(Config.getInstance().getCacheConfigLoader().getCacheEvictionPolicy(),
+                    Config.getInstance().getCacheConfigLoader().getCacheSize(),
+                    Config.getInstance().getCacheConfigLoader().getCacheSegments(),
+                    Config.getInstance().getCacheConfigLoader().getStorageEngine(),
+                    Config.getInstance().getCacheConfigLoader().getOffHeapSizeBytes());
+            cache.setMaxMemoryBytes(Config.getInstance().getCacheConfigLoader().getMaxMemoryBytes());
+            cache.setAccessStatsEnabled(Config.getInstance().getCacheConfigLoader().isAccessStatsEnabled());
+            cache.defineIndexes(Config.getInstance().getCacheConfigLoader().getIndexes());
+            cache.setOrderedKeysEnabled(Config.getInstance().getCacheConfigLoader().isOrderedKeys(Cache.DEFAULT_KEYSPACE));
+            Cache.setTenantQuotas(Config.getInstance().getAuthWithTenantConfigLoader().getTenantQuotas());
+            for (KeyspaceDefinition definition : Config.getInstance().getCacheConfigLoader().getKeyspaces()) {
+                Cache<Object, Object> keyspace = Cache.createKeyspace(definition);
+                keyspace.setAccessStatsEnabled(Config.getInstance().getCacheConfigLoader().isAccessStatsEnabled());
+                keyspace.setOrderedKeysEnabled(Config.getInstance().getCacheConfigLoader().isOrderedKeys(definition.getName()));
+            }
+            // Before the restore, so restored values are compressed too
+            startCompression();
+            // Restored before tracing starts, so the trace only holds client accesses
+            startSnapshots();
+            startCommandLog();
+            // After the restore, replayed deletes must not reach the datastore
+            startCacheLoader();
+            startAccessTrace(cache);
 
             int port = Config.getInstance().getCoreConfigLoader().getServerPort();
             if(Config.getInstance().getClusterConfigLoader().isEnableClustering()) {
@@ -116,6 +159,10 @@ public class SocketServer extends Module {
             status = ModuleStatus.STARTUP_FAILED;
             statusMessage = e.getMessage();
             outputStartup();
+        } catch (VertexCacheTypeException e) {
+            status = ModuleStatus.STARTUP_FAILED;
+            statusMessage = "Error, keyspace setup failed: " + e.getMessage();
+            outputStartup();
         } finally {
             if (serverSocket != null) {
                 try {
@@ -126,6 +173,139 @@ public class SocketServer extends Module {
         }
     }
 
+    private void startAccessTrace(Cache<?, ?> cache) {
+        String traceFile = Config.getInstance().getCacheConfigLoader().getTraceFile();
+        if (traceFile == null) {
+            return;
+        }
+        try {
+            this.traceRecorder = AccessTraceRecorder.open(Path.of(traceFile), Config.getInstance().getCacheConfigLoader().getTraceSample());
+            cache.setTraceRecorder(this.traceRecorder);
+            // Flushes the last buffered records when the server goes down
+            Runtime.getRuntime().addShutdownHook(new Thread(this.traceRecorder::close));
+        } catch (IOException | InvalidPathException e) {
+            LogHelper.getInstance().logWarn("Access trace disabled, cannot open " + traceFile + ": " + e.getMessage());
+        }
+    }
+
+    /*
+     * Loads the last snapshot into the keyspaces before any client connects, then keeps writing new ones.
+     */
+    private void startSnapshots() {
+        String snapshotFile = Config.getInstance().getCacheConfigLoader().getSnapshotFile();
+        if (snapshotFile == null) {
+            return;
+        }
+        Path path;
+        try {
+            path = Path.of(snapshotFile);
+        } catch (InvalidPathException e) {
+            LogHelper.getInstance().logWarn("Cache snapshots disabled, invalid path " + snapshotFile + ": " + e.getMessage());
+            return;
+        }
+        if (Files.exists(path) && !commandLogHasState()) {
+            try {
+                SnapshotStats stats = CacheSnapshotLoader.load(path);
+                LogHelper.getInstance().logInfo("[Snapshot] Restored " + stats + " from " + path);
+            } catch (IOException e) {
+                LogHelper.getInstance().logWarn("Cache snapshot " + path + " not restored, starting cold: " + e.getMessage());
+            }
+        }
+        this.snapshotWriter = new CacheSnapshotWriter(path);
+        this.snapshotWriter.start(Config.getInstance().getCacheConfigLoader().getSnapshotIntervalSeconds());
+        // Writes the final snapshot when the server goes down
+        Runtime.getRuntime().addShutdownHook(new Thread(this.snapshotWriter::stop));
+    }
+
+    /*
+     * The command log holds newer state than the snapshot once it has any, it is then restored instead.
+     */
+    private boolean commandLogHasState() {
+        String logFile = Config.getInstance().getCacheConfigLoader().getLogFile();
+        try {
+            return logFile != null && AppendLogProvider.hasState(Path.of(logFile));
+        } catch (IOException | InvalidPathException e) {
+            return false;
+        }
+    }
+
+    /*
+     * Restores the base snapshot and the log before any client connects, then logs every mutation.
+     */
+    private void startCommandLog() {
+        String logFile = Config.getInstance().getCacheConfigLoader().getLogFile();
+        if (logFile == null) {
+            return;
+        }
+        try {
+            this.commandLogProvider = new AppendLogProvider(Path.of(logFile),
+                    Config.getInstance().getCacheConfigLoader().getLogFsyncMode(),
+                    Config.getInstance().getCacheConfigLoader().getLogRewriteMb() * 1024L * 1024L);
+        } catch (InvalidPathException e) {
+            LogHelper.getInstance().logWarn("Command log disabled, invalid path " + logFile + ": " + e.getMessage());
+            return;
+        }
+        this.commandLogProvider.connect();
+        // Forces the last records to disk when the server goes down
+        Runtime.getRuntime().addShutdownHook(new Thread(this.commandLogProvider::close));
+    }
+
+    /*
+     * Shares one compressor, and its statistics, between every keyspace.
+     */
+    private void startCompression() {
+        int threshold = Config.getInstance().getCacheConfigLoader().getCompressionThreshold();
+        int dictionarySize = Config.getInstance().getCacheConfigLoader().getCompressionDictionarySize();
+        if (threshold <= 0 && dictionarySize <= 0) {
+            return;
+        }
+        ValueCompressor compressor = new ValueCompressor(threshold, dictionarySize > 0 ? new DictionaryRegistry(dictionarySize) : null);
+        for (String name : Cache.getKeyspaceNames()) {
+            try {
+                Cache.getKeyspace(name).setValueCompressor(compressor);
+            } catch (VertexCacheTypeException ignored) {
+                // Default keyspace not initialized
+            }
+        }
+    }
+
+    /*
+     * Connects the datastore cache misses are loaded from and attaches it to every keyspace.
+     */
+    private void startCacheLoader() {
+        String type = Config.getInstance().getCacheConfigLoader().getLoader();
+        if (type == null) {
+            return;
+        }
+        DatastoreLoader datastore;
+        try {
+            datastore = DatastoreFactory.createLoader(type, Config.getInstance().getCacheConfigLoader().getLoaderFile());
+        } catch (VertexCacheDataStoreTypeException e) {
+            LogHelper.getInstance().logWarn("Cache loader disabled: " + e.getMessage());
+            return;
+        }
+        datastore.connect();
+        if (!datastore.isConnected()) {
+            LogHelper.getInstance().logWarn("Cache loader disabled, datastore " + type + " did not connect");
+            return;
+        }
+        WriteBehindQueue writeBehind = Config.getInstance().getCacheConfigLoader().isWriteBehind()
+                ? new WriteBehindQueue(datastore, Config.getInstance().getCacheConfigLoader().getWriteBehindBatch(),
+                        Config.getInstance().getCacheConfigLoader().getWriteBehindDelayMillis())
+                : null;
+        this.cacheLoader = new CacheLoader(datastore, writeBehind,
+                Config.getInstance().getCacheConfigLoader().getLoaderTtlSeconds() * 1000L);
+        for (String name : Cache.getKeyspaceNames()) {
+            try {
+                Cache.getKeyspace(name).setLoader(this.cacheLoader);
+            } catch (VertexCacheTypeException ignored) {
+                // Default keyspace not initialized
+            }
+        }
+        // Flushes the queued writes when the server goes down
+        Runtime.getRuntime().addShutdownHook(new Thread(this.cacheLoader::close));
+    }
+
     public static ModuleStatus getStartupStatus() {
         return SocketServer.status;
     }
@@ -161,6 +341,18 @@ public class SocketServer extends Module {
             if (this.serverSocket != null) {
                 this.serverSocket.close();
             }
+            if (this.traceRecorder != null) {
+                this.traceRecorder.close();
+            }
+            if (this.snapshotWriter != null) {
+                this.snapshotWriter.stop();
+            }
+            if (this.commandLogProvider != null) {
+                this.commandLogProvider.close();
+            }
+            if (this.cacheLoader != null) {
+                this.cacheLoader.close();
+            }
         } catch (IOException exception) {
             LogHelper.getInstance().logError(exception.getMessage());
         }
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2025 to Present, Jason Lam - VertexCache (https://github.com/vertexcache/vertexcache)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.vertexcache.tool.trace;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.CacheBase;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.RemovalCause;
+import com.vertexcache.core.cache.trace.AccessTrace;
+import com.vertexcache.core.cache.trace.TraceOp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Tool to replay an access trace (cache_trace_file) against every eviction policy at several capacities.
+ *
+ * Run: java -cp vertex-cache-server.jar com.vertexcache.tool.trace.TraceSimulator trace.bin
+ *          [--capacities=10000,100000] [--policies=LRU,W-TinyLFU] [--csv]
+ *
+ * Capacities are in entries of the real cache, they default to 1, 2, 5, 10, 20 and 50% of the keys seen
+ * in the trace. A trace sampled 1 in N keys is replayed at capacity / N so the sampled keys see the same
+ * pressure as the full cache did. Each policy runs its bare CacheBase implementation single threaded,
+ * a GET miss is followed by a SET of the key as a client filling the cache would do.
+ *
+ * Output: one row per policy and capacity, rows of a policy in ascending capacity form its miss ratio
+ * curve. The compulsory miss ratio (first reference of every key) is the floor for all of them, it is
+ * what NONE would report.
+ *
+ *  Policy       Capacity  Miss ratio   Evictions        Ops/sec
+ *  LRU             10000      0.4123      118230        8452210
+ *  W-TinyLFU       10000      0.3671      124511        6120933
+ */
+public class TraceSimulator {
+
+    private static final double[] DEFAULT_CAPACITY_RATIOS = {0.01, 0.02, 0.05, 0.1, 0.2, 0.5};
+
+    public static void main(String[] args) throws IOException, VertexCacheTypeException {
+        if (args.length == 0) {
+            System.out.println("Usage: TraceSimulator <trace-file> [--capacities=n,...] [--policies=name,...] [--csv]");
+            return;
+        }
+        List<Integer> capacities = null;
+        List<EvictionPolicy> policies = defaultPolicies();
+        boolean csv = false;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--capacities=")) {
+                capacities = new ArrayList<>();
+                for (String value : args[i].substring("--capacities=".length()).split(",")) {
+                    capacities.add(Integer.parseInt(value.trim()));
+                }
+            } else if (args[i].startsWith("--policies=")) {
+                policies = new ArrayList<>();
+                for (String value : args[i].substring("--policies=".length()).split(",")) {
+                    policies.add(EvictionPolicy.fromString(value.trim()));
+                }
+            } else if (args[i].equals("--csv")) {
+                csv = true;
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        AccessTrace trace = AccessTrace.read(Path.of(args[0]));
+        if (capacities == null) {
+            capacities = defaultCapacities(trace);
+        }
+        List<Result> results = run(trace, policies, capacities);
+        System.out.print(csv ? toCsv(results) : toReport(trace, results));
+    }
+
+    /**
+     * Every policy that evicts, NONE only ever has compulsory misses.
+     */
+    public static List<EvictionPolicy> defaultPolicies() {
+        List<EvictionPolicy> policies = new ArrayList<>();
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            if (policy != EvictionPolicy.NONE) {
+                policies.add(policy);
+            }
+        }
+        return policies;
+    }
+
+    public static List<Integer> defaultCapacities(AccessTrace trace) {
+        long keys = (long) trace.distinctKeys() << trace.getSampleShift();
+        List<Integer> capacities = new ArrayList<>();
+        for (double ratio : DEFAULT_CAPACITY_RATIOS) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(1, Math.round(keys * ratio)));
+            if (!capacities.contains(capacity)) {
+                capacities.add(capacity);
+            }
+        }
+        return capacities;
+    }
+
+    public static List<Result> run(AccessTrace trace, List<EvictionPolicy> policies, List<Integer> capacities) throws VertexCacheTypeException {
+        List<Integer> sorted = new ArrayList<>(capacities);
+        sorted.sort(null);
+        List<Result> results = new ArrayList<>();
+        for (EvictionPolicy policy : policies) {
+            for (int capacity : sorted) {
+                results.add(simulate(trace, policy, capacity));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Replays the trace against a fresh instance of the policy holding capacity entries of the real cache.
+     */
+    public static Result simulate(AccessTrace trace, EvictionPolicy policy, int capacity) throws VertexCacheTypeException {
+        int simulatedCapacity = Math.max(1, capacity >> trace.getSampleShift());
+        CacheBase<Long, Boolean> cache = Cache.createCacheBase(policy, simulatedCapacity);
+        long[] evictions = new long[1];
+        cache.addRemovalListener((key, value, cause) -> {
+            if (cause == RemovalCause.EVICTED) {
+                evictions[0]++;
+            }
+        });
+
+        long gets = 0;
+        long misses = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < trace.size(); i++) {
+            Long key = trace.hash(i);
+            switch (trace.op(i)) {
+                case GET:
+                    gets++;
+                    if (cache.get(key) == null) {
+                        misses++;
+                        cache.put(key, Boolean.TRUE);
+                    }
+                    break;
+                case SET:
+                    cache.put(key, Boolean.TRUE);
+                    break;
+                case DEL:
+                    cache.remove(key);
+                    break;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        return new Result(policy, capacity, gets, misses, evictions[0], trace.size(), elapsedNanos);
+    }
+
+    /**
+     * Share of GETs that miss on the first reference of their key, no capacity avoids those.
+     */
+    public static double compulsoryMissRatio(AccessTrace trace) {
+        Set<Long> seen = new HashSet<>();
+        long gets = 0;
+        long misses = 0;
+        for (int i = 0; i < trace.size(); i++) {
+            boolean first = seen.add(trace.hash(i));
+            if (trace.op(i) == TraceOp.GET) {
+                gets++;
+                if (first) {
+                    misses++;
+                }
+            }
+        }
+        return gets > 0 ? (double) misses / gets : 0.0;
+    }
+
+    public static String toReport(AccessTrace trace, List<Result> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Trace: %d records, %d distinct keys, sampled 1 in %d keys%n",
+                trace.size(), trace.distinctKeys(), 1 << trace.getSampleShift()));
+        sb.append(String.format("Compulsory miss ratio: %.4f%n%n", compulsoryMissRatio(trace)));
+        sb.append(String.format("%-12s %10s %11s %11s %14s%n", "Policy", "Capacity", "Miss ratio", "Evictions", "Ops/sec"));
+        EvictionPolicy previous = null;
+        for (Result result : results) {
+            if (previous != null && previous != result.getPolicy()) {
+                sb.append(System.lineSeparator());
+            }
+            previous = result.getPolicy();
+            sb.append(String.format("%-12s %10d %11.4f %11d %14d%n", result.getPolicy().getAbbreviation(),
+                    result.getCapacity(), result.getMissRatio(), result.getEvictions(), result.getOpsPerSecond()));
+        }
+        return sb.toString();
+    }
+
+    public static String toCsv(List<Result> results) {
+        StringBuilder sb = new StringBuilder("policy,capacity,miss_ratio,evictions,ops_per_sec").append(System.lineSeparator());
+        for (Result result : results) {
+            sb.append(result.getPolicy().getAbbreviation()).append(',')
+                    .append(result.getCapacity()).append(',')
+                    .append(String.format("%.6f", result.getMissRatio())).append(',')
+                    .append(result.getEvictions()).append(',')
+                    .append(result.getOpsPerSecond()).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Outcome of one replay, evictions are those of the sampled keys.
+     */
+    public static class Result {
+        private final EvictionPolicy policy;
+        private final int capacity;
+        private final long gets;
+        private final long misses;
+        private final long evictions;
+        private final long operations;
+        private final long elapsedNanos;
+
+        Result(EvictionPolicy policy, int capacity, long gets, long misses, long evictions, long operations, long elapsedNanos) {
+            this.policy = policy;
+            this.capacity = capacity;
+            this.gets = gets;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.operations = operations;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public EvictionPolicy getPolicy() {
+            return policy;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public long getGets() {
+            return gets;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public double getMissRatio() {
+            return gets > 0 ? (double) misses / gets : 0.0;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getOpsPerSecond() {
+            return elapsedNanos > 0 ? operations * 1_000_000_000L / elapsedNanos : 0;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.vertexcache.core.cache;
 import com.vertexcache.core.cache.exception.VertexCacheException;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
 import com.vertexcache.core.cache.model.KeyPrefixer;
+import com.vertexcache.core.cache.model.TenantKey;
 import com.vertexcache.core.module.ModuleRegistry;
 import com.vertexcache.module.auth.model.TenantId;
 import com.vertexcache.module.metric.service.MetricAccess;
@@ -51,11 +52,13 @@ class CacheAccessServiceTest {
     @Test
     void testRemove_withTenant() throws VertexCacheTypeException {
         TenantId tenantId = new TenantId("tenant");
-        String fullKey = "tenant::key";
+        TenantKey fullKey = new TenantKey(tenantId, "key");
 
         try (MockedStatic<Cache> cacheMock = mockStatic(Cache.class)) {
             Cache mockCache = mock(Cache.class);
             cacheMock.when(Cache::getInstance).thenReturn(mockCache);
+            cacheMock.when(Cache::hasTenantQuotas).thenReturn(true);
+            when(mockCache.forTenant(any())).thenReturn(mockCache);
 
             service.remove(tenantId, "key");
 
@@ -64,19 +67,41 @@ class CacheAccessServiceTest {
     }
 
     @Test
-    void testSweepOrphanedIndexEntries_handlesOrphansGracefully() throws VertexCacheException {
-        try (MockedStatic<Cache> cacheMock = mockStatic(Cache.class)) {
+    void testBinaryValuesAreStoredAndReturnedAsIs() throws VertexCacheTypeException {
+        ClientSessionContext session = mock(ClientSessionContext.class);
+        byte[] value = {0, (byte) 0xff, '"'};
+
+        try (MockedStatic<Cache> cacheMock = mockStatic(Cache.class);
+             MockedStatic<KeyPrefixer> prefixerMock = mockStatic(KeyPrefixer.class)) {
+
             Cache mockCache = mock(Cache.class);
             cacheMock.when(Cache::getInstance).thenReturn(mockCache);
+            prefixerMock.when(() -> KeyPrefixer.prefixKey("key", session)).thenReturn("tenant::key");
+            when(mockCache.get("tenant::key")).thenReturn(value);
 
-            // Simulate orphaned index logic here as needed
-            when(mockCache.getReverseIndex()).thenReturn(Map.of());
-            when(mockCache.getReadOnlySecondaryIndexOne()).thenReturn(Map.of());
-            when(mockCache.getReadOnlySecondaryIndexTwo()).thenReturn(Map.of());
+            service.put(session, "key", value, 0, null, null);
+            verify(mockCache).put("tenant::key", value, 0L);
 
-            assertDoesNotThrow(() -> service.sweepOrphanedIndexEntries());
+            assertSame(value, service.getBytes(session, "key"));
         }
     }
 
-}
+    @Test
+    void testTextAndBinaryReadsConvertAsUtf8() throws VertexCacheTypeException {
+        ClientSessionContext session = mock(ClientSessionContext.class);
 
+        try (MockedStatic<Cache> cacheMock = mockStatic(Cache.class);
+             MockedStatic<KeyPrefixer> prefixerMock = mockStatic(KeyPrefixer.class)) {
+
+            Cache mockCache = mock(Cache.class);
+            cacheMock.when(Cache::getInstance).thenReturn(mockCache);
+            prefixerMock.when(() -> KeyPrefixer.prefixKey("text", session)).thenReturn("t::text");
+            prefixerMock.when(() -> KeyPrefixer.prefixKey("bin", session)).thenReturn("t::bin");
+            when(mockCache.get("t::text")).thenReturn("héllo");
+            when(mockCache.get("t::bin")).thenReturn("wörld".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+
+            assertArrayEquals("héllo".getBytes(java.nio.charset.StandardCharsets.UTF_8), service.getBytes(session, "text"));
+            assertEquals("wörld", service.get(session, "bin"));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.CacheEntry;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheAccessStatsTest {
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testStatsDisabledByDefault() {
+        CacheEntry<String> entry = new CacheEntry<>("value", false);
+        assertEquals("value", entry.getValue());
+
+        assertFalse(entry.hasAccessStats());
+        assertEquals(0, entry.getCreatedAt());
+        assertEquals(0, entry.getLastAccessed());
+        assertEquals(0, entry.getHitCount());
+    }
+
+    @Test
+    void testStatsTrackHitsAndTimestamps() throws InterruptedException {
+        long before = System.currentTimeMillis() - 50;
+        CacheEntry<String> entry = new CacheEntry<>("value", false, 0, true);
+        for (int i = 0; i < 10; i++) {
+            entry.getValue();
+        }
+        Thread.sleep(20);
+        entry.updateValue("updated");
+
+        assertTrue(entry.hasAccessStats());
+        assertEquals(10, entry.getHitCount());
+        assertTrue(entry.getCreatedAt() >= before);
+        assertTrue(entry.getLastAccessed() >= entry.getCreatedAt());
+        assertTrue(entry.getLastUpdatedAt() > entry.getCreatedAt());
+        assertEquals("updated", entry.getValue());
+    }
+
+    @Test
+    void testHitCountIsApproximatedPastExactRange() {
+        CacheEntry<String> entry = new CacheEntry<>("value", false, 0, true);
+        int reads = 100_000;
+        for (int i = 0; i < reads; i++) {
+            entry.getValue();
+        }
+
+        int hits = entry.getHitCount();
+        assertTrue(Math.abs(hits - reads) < reads * 0.1, "Sampled hit count too far off: " + hits);
+    }
+
+    @Test
+    void testInspectReflectsSetting() throws VertexCacheTypeException {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+        cache.put("plain", "v");
+        assertTrue(cache.inspect("plain").contains("accessStats=disabled"));
+
+        cache.setAccessStatsEnabled(true);
+        cache.put("tracked", "v");
+        cache.get("tracked");
+        assertTrue(cache.inspect("tracked").contains("hitCount=1"));
+        assertTrue(cache.inspect("plain").contains("accessStats=disabled"));
+    }
+}
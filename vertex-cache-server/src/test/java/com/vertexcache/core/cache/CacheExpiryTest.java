@@ -0,0 +1,88 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheExpiryTest {
+
+    private Cache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+        cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testLazyExpiryOnRead() throws Exception {
+        cache.put("k", "v", 20);
+        assertEquals("v", cache.get("k"));
+
+        Thread.sleep(40);
+        assertNull(cache.get("k"));
+        assertFalse(cache.containsKey("k"));
+        assertEquals(Cache.TTL_MISSING, cache.ttl("k"));
+    }
+
+    @Test
+    void testActiveExpiryCleansIndexes() throws Exception {
+        cache.put("user", "Alice", 30, "alice@example.com", "emp-1");
+        assertEquals("Alice", cache.getBySecondaryKeyIndexOne("alice@example.com"));
+
+        // Never read again, the timing wheel has to reclaim it
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (cache.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, cache.size());
+        assertFalse(cache.getReadOnlySecondaryIndexOne().containsKey("alice@example.com"));
+        assertFalse(cache.getReadOnlySecondaryIndexTwo().containsKey("emp-1"));
+        assertFalse(cache.getReverseIndex().containsKey("user"));
+        assertEquals(1, cache.getExpiredCount());
+    }
+
+    @Test
+    void testTtlExpireAndPersist() throws VertexCacheTypeException {
+        cache.put("k", "v");
+        assertEquals(Cache.TTL_NONE, cache.ttl("k"));
+        assertFalse(cache.persist("k"));
+
+        assertTrue(cache.expire("k", 60_000));
+        long ttl = cache.ttl("k");
+        assertTrue(ttl > 59_000 && ttl <= 60_000, "Unexpected ttl " + ttl);
+
+        assertTrue(cache.persist("k"));
+        assertEquals(Cache.TTL_NONE, cache.ttl("k"));
+        assertFalse(cache.expire("missing", 1_000));
+    }
+
+    @Test
+    void testPersistCancelsScheduledExpiry() throws Exception {
+        cache.put("k", "v", 30);
+        assertTrue(cache.persist("k"));
+
+        Thread.sleep(80);
+        assertEquals("v", cache.get("k"));
+        assertEquals(0, cache.getExpiredCount());
+    }
+
+    @Test
+    void testOverwriteWithoutTtlIsNotExpired() throws Exception {
+        cache.put("k", "old", 30);
+        cache.put("k", "new");
+
+        Thread.sleep(80);
+        assertEquals("new", cache.get("k"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.setting.loaders.CacheConfigLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheKeyspaceTest {
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+        Cache.getInstance(EvictionPolicy.LRU, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testKeyspacesAreIsolated() throws VertexCacheTypeException {
+        Cache<Object, Object> sessions = Cache.createKeyspace(new KeyspaceDefinition("sessions", EvictionPolicy.FIFO, 10, 0, 1));
+        Cache<Object, Object> defaults = Cache.getKeyspace(null);
+
+        defaults.put("k", "default-value");
+        sessions.put("k", "session-value");
+
+        assertEquals("default-value", defaults.get("k"));
+        assertEquals("session-value", sessions.get("k"));
+        assertSame(sessions, Cache.getKeyspace("sessions"));
+        assertSame(defaults, Cache.getKeyspace(KeyspaceDefinition.DEFAULT_NAME));
+
+        sessions.remove("k");
+        assertEquals("default-value", defaults.get("k"));
+    }
+
+    @Test
+    void testIndependentPoliciesAndCapacities() throws VertexCacheTypeException {
+        Cache<Object, Object> small = Cache.createKeyspace(new KeyspaceDefinition("small", EvictionPolicy.FIFO, 5, 0, 1));
+        Cache<Object, Object> defaults = Cache.getKeyspace(null);
+
+        for (int i = 0; i < 50; i++) {
+            defaults.put("d" + i, "D");
+        }
+        // Filling a small keyspace must never evict from the default one
+        for (int i = 0; i < 1_000; i++) {
+            small.put("s" + i, "S");
+        }
+
+        assertEquals(5, small.size());
+        assertEquals(50, defaults.size());
+        assertNull(small.get("s0"));
+        assertEquals("S", small.get("s999"));
+        assertEquals(55, Cache.getTotalSize());
+    }
+
+    @Test
+    void testMemoryBudgetIsPerKeyspace() throws VertexCacheTypeException {
+        long budget = 16 * 1024;
+        Cache<Object, Object> bounded = Cache.createKeyspace(new KeyspaceDefinition("bounded", EvictionPolicy.LRU, 1_000_000, budget, 1));
+        for (int i = 0; i < 1_000; i++) {
+            bounded.put("k" + i, "v".repeat(256));
+        }
+        assertTrue(bounded.getMemoryUsage() <= budget, "Keyspace exceeded its budget: " + bounded.getMemoryUsage());
+        assertEquals(0, Cache.getKeyspace(null).getMemoryUsage());
+        assertEquals(bounded.getMemoryUsage(), Cache.getTotalMemoryUsage());
+    }
+
+    @Test
+    void testUnknownReservedAndDuplicateNames() throws VertexCacheTypeException {
+        assertThrows(VertexCacheTypeException.class, () -> Cache.getKeyspace("missing"));
+        assertFalse(Cache.hasKeyspace("missing"));
+
+        assertThrows(VertexCacheTypeException.class,
+                () -> Cache.createKeyspace(new KeyspaceDefinition("default", EvictionPolicy.LRU, 10, 0, 1)));
+
+        Cache.createKeyspace(new KeyspaceDefinition("dup", EvictionPolicy.LRU, 10, 0, 1));
+        assertThrows(VertexCacheTypeException.class,
+                () -> Cache.createKeyspace(new KeyspaceDefinition("dup", EvictionPolicy.LFU, 10, 0, 1)));
+        assertTrue(Cache.hasKeyspace("dup"));
+        assertEquals(Set.of("default", "dup"), Cache.getKeyspaceNames());
+    }
+
+    @Test
+    void testClearAllAndDestroy() throws VertexCacheTypeException {
+        Cache<Object, Object> other = Cache.createKeyspace(new KeyspaceDefinition("other", EvictionPolicy.LFU, 10, 0, 1));
+        other.put("a", "A");
+        Cache.getKeyspace(null).put("b", "B");
+
+        Cache.clearAll();
+        assertEquals(0, Cache.getTotalSize());
+
+        Cache.destroy();
+        assertFalse(Cache.hasKeyspace("other"));
+    }
+
+    @Test
+    void testParseKeyspace() {
+        KeyspaceDefinition full = CacheConfigLoader.parseKeyspace("sessions:LRU:100000:256mb:4");
+        assertEquals("sessions", full.getName());
+        assertEquals(EvictionPolicy.LRU, full.getEvictionPolicy());
+        assertEquals(100_000, full.getSizeCapacity());
+        assertEquals(256L * 1024 * 1024, full.getMaxMemoryBytes());
+        assertEquals(4, full.getSegments());
+
+        KeyspaceDefinition minimal = CacheConfigLoader.parseKeyspace(" catalog:lfu:500 ");
+        assertEquals(EvictionPolicy.LFU, minimal.getEvictionPolicy());
+        assertEquals(0, minimal.getMaxMemoryBytes());
+        assertEquals(1, minimal.getSegments());
+
+        assertThrows(IllegalArgumentException.class, () -> CacheConfigLoader.parseKeyspace("nopolicy"));
+        assertThrows(IllegalArgumentException.class, () -> CacheConfigLoader.parseKeyspace("x:bogus:10"));
+        assertThrows(IllegalArgumentException.class, () -> CacheConfigLoader.parseKeyspace("x:LRU:-1"));
+        assertThrows(IllegalArgumentException.class, () -> CacheConfigLoader.parseKeyspace("bad name:LRU:10"));
+    }
+}
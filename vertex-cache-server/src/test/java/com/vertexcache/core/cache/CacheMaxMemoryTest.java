@@ -0,0 +1,142 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.StorageEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheMaxMemoryTest {
+
+    private static final long BUDGET = 64 * 1024;
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    private Cache<String, String> bounded(EvictionPolicy policy, int segments, long maxMemory) {
+        Cache.destroy();
+        Cache<String, String> cache = Cache.getInstance(policy, 1_000_000, segments);
+        cache.setMaxMemoryBytes(maxMemory);
+        return cache;
+    }
+
+    private static String value(int length) {
+        return "v".repeat(length);
+    }
+
+    @Test
+    void testWeighsKeyValueAndIndexes() {
+        int plain = CacheWeigher.weigh("key", "value");
+        int indexed = CacheWeigher.weigh("key", "value", "idx1", "idx2");
+
+        assertEquals(CacheWeigher.ENTRY_OVERHEAD + CacheWeigher.sizeOf("key") + CacheWeigher.sizeOf("value"), plain);
+        assertEquals(plain + 2 * CacheWeigher.INDEX_OVERHEAD + CacheWeigher.sizeOf("idx1") + CacheWeigher.sizeOf("idx2"), indexed);
+        assertEquals(CacheWeigher.ARRAY_OVERHEAD + 100, CacheWeigher.sizeOf(new byte[100]));
+    }
+
+    @Test
+    void testUsageTracksPutOverwriteRemoveAndClear() throws VertexCacheTypeException {
+        Cache<String, String> cache = bounded(EvictionPolicy.LRU, 1, 0);
+
+        cache.put("a", value(100), "idx-a");
+        long afterPut = cache.getMemoryUsage();
+        assertEquals(CacheWeigher.weigh("a", value(100), "idx-a"), afterPut);
+
+        cache.put("a", value(10), "idx-a");
+        assertEquals(CacheWeigher.weigh("a", value(10), "idx-a"), cache.getMemoryUsage());
+
+        cache.upsert("a", value(500));
+        assertEquals(CacheWeigher.weigh("a", value(500), "idx-a"), cache.getMemoryUsage());
+
+        cache.put("b", value(50));
+        cache.remove("a");
+        assertEquals(CacheWeigher.weigh("b", value(50)), cache.getMemoryUsage());
+
+        cache.clear();
+        assertEquals(0, cache.getMemoryUsage());
+    }
+
+    @Test
+    void testEveryPolicyStaysWithinBudget() throws VertexCacheTypeException {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            if (policy == EvictionPolicy.NONE) {
+                continue;
+            }
+            Cache<String, String> cache = bounded(policy, 1, BUDGET);
+            for (int i = 0; i < 2_000; i++) {
+                cache.put("key" + i, value(200 + i % 300), "idx" + i);
+                assertTrue(cache.getMemoryUsage() <= BUDGET,
+                        policy + " exceeded the memory budget: " + cache.getMemoryUsage());
+            }
+            assertTrue(cache.size() > 0, policy + " evicted everything");
+
+            cache.clear();
+            assertEquals(0, cache.getMemoryUsage(), policy + " leaked weight on clear");
+        }
+    }
+
+    @Test
+    void testSegmentedCacheStaysWithinBudget() throws VertexCacheTypeException {
+        Cache<String, String> cache = bounded(EvictionPolicy.LRU, 8, BUDGET);
+        for (int i = 0; i < 5_000; i++) {
+            cache.put("key" + i, value(256));
+        }
+        assertTrue(cache.getMemoryUsage() <= BUDGET);
+        assertNotNull(cache.get("key4999"));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedFirst() throws VertexCacheTypeException {
+        int weight = CacheWeigher.weigh("k0", value(1000));
+        Cache<String, String> cache = bounded(EvictionPolicy.LRU, 1, weight * 3L);
+
+        cache.put("k0", value(1000));
+        cache.put("k1", value(1000));
+        cache.put("k2", value(1000));
+        cache.get("k0");
+        cache.put("k3", value(1000));
+
+        assertNotNull(cache.get("k0"));
+        assertNull(cache.get("k1"));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testNoEvictionRejectsWritesOverBudget() throws VertexCacheTypeException {
+        int weight = CacheWeigher.weigh("k0", value(100));
+        Cache<String, String> cache = bounded(EvictionPolicy.NONE, 1, weight * 2L);
+
+        cache.put("k0", value(100));
+        cache.put("k1", value(100));
+        assertThrows(VertexCacheTypeException.class, () -> cache.put("k2", value(100)));
+        assertNull(cache.get("k2"));
+        assertEquals(weight * 2L, cache.getMemoryUsage());
+
+        // Overwriting in place only needs the difference
+        cache.put("k1", value(100));
+        assertEquals("v".repeat(100), cache.get("k1"));
+    }
+
+    @Test
+    void testEntryLargerThanBudgetIsRejected() {
+        Cache<String, String> cache = bounded(EvictionPolicy.LRU, 1, 1024);
+        assertThrows(VertexCacheTypeException.class, () -> cache.put("big", value(4096)));
+        assertEquals(0, cache.getMemoryUsage());
+    }
+
+    @Test
+    void testOffHeapValuesAreWeighedAndReleased() throws VertexCacheTypeException {
+        Cache.destroy();
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.FIFO, 1_000_000, 1, StorageEngine.OFFHEAP, 4L * 1024 * 1024);
+        cache.setMaxMemoryBytes(BUDGET);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("key" + i, value(512));
+        }
+        assertTrue(cache.getMemoryUsage() <= BUDGET);
+        assertEquals(cache.size() * 512L, cache.getOffHeapAllocator().orElseThrow().getStoredBytes());
+    }
+}
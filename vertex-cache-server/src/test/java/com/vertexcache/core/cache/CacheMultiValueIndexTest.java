@@ -0,0 +1,99 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.algos.CacheFIFO;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheMultiValueIndexTest {
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testSharedIndexValueKeepsEveryMember() throws VertexCacheTypeException {
+        CacheFIFO<String, String> cache = new CacheFIFO<>(100);
+        cache.put("session:1", "s1", "user:42");
+        cache.put("session:2", "s2", "user:42");
+        cache.put("session:3", "s3", "user:7");
+
+        assertEquals(Set.of("session:1", "session:2"), new HashSet<>(cache.getKeysBySecondaryKey(0, "user:42")));
+        assertEquals(List.of("session:3"), cache.getKeysBySecondaryKey(0, "user:7"));
+        assertTrue(cache.getKeysBySecondaryKey(0, "user:0").isEmpty());
+
+        // The point lookup still returns the last writer
+        assertEquals("s2", cache.getBySecondaryKeyIndexOne("user:42"));
+    }
+
+    @Test
+    void testRemovingLastWriterHandsPointLookupToRemainingMember() throws VertexCacheTypeException {
+        CacheFIFO<String, String> cache = new CacheFIFO<>(100);
+        cache.put("session:1", "s1", "user:42");
+        cache.put("session:2", "s2", "user:42");
+
+        cache.remove("session:2");
+        assertEquals("s1", cache.getBySecondaryKeyIndexOne("user:42"));
+        assertEquals(List.of("session:1"), cache.getKeysBySecondaryKey(0, "user:42"));
+
+        // Removing an older member must not drop the mapping of the newer one
+        cache.put("session:3", "s3", "user:42");
+        cache.remove("session:1");
+        assertEquals("s3", cache.getBySecondaryKeyIndexOne("user:42"));
+
+        cache.remove("session:3");
+        assertNull(cache.getBySecondaryKeyIndexOne("user:42"));
+        assertTrue(cache.getKeysBySecondaryKey(0, "user:42").isEmpty());
+    }
+
+    @Test
+    void testReindexMovesMembership() throws VertexCacheTypeException {
+        CacheFIFO<String, String> cache = new CacheFIFO<>(100);
+        cache.put("session:1", "s1", "user:42", "device:a");
+        cache.put("session:1", "s1", "user:43");
+
+        assertTrue(cache.getKeysBySecondaryKey(0, "user:42").isEmpty());
+        assertNull(cache.getBySecondaryKeyIndexOne("user:42"));
+        assertTrue(cache.getKeysBySecondaryKey(1, "device:a").isEmpty());
+        assertEquals(List.of("session:1"), cache.getKeysBySecondaryKey(0, "user:43"));
+    }
+
+    @Test
+    void testMembersShrinkWithEvictions() throws VertexCacheTypeException {
+        CacheFIFO<String, String> cache = new CacheFIFO<>(10);
+        for (int i = 0; i < 100; i++) {
+            cache.put("session:" + i, "s" + i, "user:42");
+        }
+
+        List<String> members = cache.getKeysBySecondaryKey(0, "user:42");
+        assertEquals(cache.size(), members.size());
+        assertEquals(cache.size(), cache.getReverseIndex().size());
+        assertTrue(members.contains("session:99"));
+        assertFalse(members.contains("session:0"));
+    }
+
+    @Test
+    void testMembersAcrossSegmentsAndExpiry() throws VertexCacheTypeException, InterruptedException {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LFU, 1_000, 8);
+        for (int i = 0; i < 32; i++) {
+            cache.put("session:" + i, "s" + i, "user:42");
+        }
+        cache.put("session:short", "short", 20, "user:42");
+
+        assertEquals(33, cache.getKeysBySecondaryKey(0, "user:42").size());
+
+        Thread.sleep(200);
+        assertEquals(32, cache.getKeysBySecondaryKey(0, "user:42").size());
+
+        cache.clear();
+        assertTrue(cache.getKeysBySecondaryKey(0, "user:42").isEmpty());
+    }
+}
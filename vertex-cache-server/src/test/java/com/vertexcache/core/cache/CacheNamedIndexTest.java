@@ -0,0 +1,146 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.CacheIndexRef;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.setting.loaders.CacheConfigLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheNamedIndexTest {
+
+    private static final List<String> USER_INDEXES = List.of("email", "phone", "tenant");
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+        Cache.getInstance(EvictionPolicy.LRU, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    private static Cache<Object, Object> users(int segments) throws VertexCacheTypeException {
+        return Cache.createKeyspace(new KeyspaceDefinition("users", EvictionPolicy.LRU, 1_000, 0, segments, USER_INDEXES));
+    }
+
+    private static Map<String, String> indexes(String... nameValues) {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < nameValues.length; i += 2) {
+            indexes.put(nameValues[i], nameValues[i + 1]);
+        }
+        return indexes;
+    }
+
+    @Test
+    void testLookupByEveryNamedIndex() throws VertexCacheTypeException {
+        for (int segments : new int[]{1, 4}) {
+            Cache.destroy();
+            Cache<Object, Object> users = users(segments);
+
+            users.put("user:1", "Alice", users.toSecondaryKeys(indexes("email", "alice@x.io", "phone", "555-1", "tenant", "acme")));
+            users.put("user:2", "Bob", users.toSecondaryKeys(indexes("tenant", "acme", "EMAIL", "bob@x.io")));
+
+            assertEquals("Alice", users.getBySecondaryKey("email", "alice@x.io"));
+            assertEquals("Alice", users.getBySecondaryKey("phone", "555-1"));
+            assertEquals("Bob", users.getBySecondaryKey("Email", "bob@x.io"));
+            assertEquals(Set.of("user:1", "user:2"), new HashSet<>(users.getKeysBySecondaryKey("tenant", "acme")));
+            assertNull(users.getBySecondaryKey("phone", "555-2"));
+            assertNull(users.getBySecondaryKey("unknown", "alice@x.io"));
+
+            users.remove("user:1");
+            assertNull(users.getBySecondaryKey("email", "alice@x.io"));
+            assertNull(users.getBySecondaryKey("phone", "555-1"));
+            assertEquals(List.of("user:2"), users.getKeysBySecondaryKey("tenant", "acme"));
+        }
+    }
+
+    @Test
+    void testIndexNamesAndLegacyAliases() throws VertexCacheTypeException {
+        Cache<Object, Object> users = users(1);
+        Cache<Object, Object> defaults = Cache.getKeyspace(null);
+
+        assertEquals(KeyspaceDefinition.DEFAULT_INDEXES, defaults.getIndexNames());
+        assertEquals(USER_INDEXES, users.getIndexNames());
+        assertEquals(2, users.indexOf("TENANT"));
+        // idx1 / idx2 keep addressing the first two positions of a keyspace that renamed them
+        assertEquals(0, users.indexOf("idx1"));
+        assertEquals(1, users.indexOf("IDX2"));
+        assertEquals(-1, users.indexOf("idx3"));
+        assertEquals(-1, users.indexOf(null));
+
+        users.put("user:1", "Alice", users.toSecondaryKeys(indexes("idx1", "alice@x.io")));
+        assertEquals("Alice", users.getBySecondaryKey("email", "alice@x.io"));
+    }
+
+    @Test
+    void testReverseIndexOnlyHoldsUsedPositions() throws VertexCacheTypeException {
+        Cache<Object, Object> users = users(1);
+
+        users.put("plain", "no index");
+        users.put("first", "email only", users.toSecondaryKeys(indexes("email", "a@x.io")));
+        users.put("last", "tenant only", users.toSecondaryKeys(indexes("tenant", "acme")));
+
+        assertNull(users.getReverseIndex().get("plain"));
+        assertEquals(1, users.getReverseIndex().get("first").length());
+        CacheIndexRef last = users.getReverseIndex().get("last");
+        assertEquals(3, last.length());
+        assertNull(last.get(0));
+        assertEquals("acme", last.get(2));
+    }
+
+    @Test
+    void testUnknownAndTooManyIndexesAreRejected() throws VertexCacheTypeException {
+        Cache<Object, Object> users = users(1);
+
+        assertThrows(VertexCacheTypeException.class, () -> users.toSecondaryKeys(indexes("email", "a@x.io", "fax", "1")));
+        assertThrows(VertexCacheTypeException.class, () -> users.put("k", "v", "a", "b", "c", "d"));
+        assertEquals(0, users.size());
+    }
+
+    @Test
+    void testDefineIndexesOnlyOnEmptyKeyspace() throws VertexCacheTypeException {
+        Cache<Object, Object> defaults = Cache.getKeyspace(null);
+
+        defaults.defineIndexes(List.of("sku", "barcode", "vendor"));
+        assertEquals(3, defaults.getIndexNames().size());
+        defaults.put("item:1", "Widget", "s-1", "b-1", "v-1");
+        assertEquals("Widget", defaults.getBySecondaryKey("vendor", "v-1"));
+
+        assertThrows(VertexCacheTypeException.class, () -> defaults.defineIndexes(List.of("sku")));
+        defaults.clear();
+        defaults.defineIndexes(List.of());
+        assertThrows(VertexCacheTypeException.class, () -> defaults.put("item:1", "Widget", "s-1"));
+
+        assertThrows(VertexCacheTypeException.class, () -> defaults.defineIndexes(List.of("sku", "SKU")));
+        assertThrows(VertexCacheTypeException.class, () -> defaults.defineIndexes(List.of("bad name")));
+    }
+
+    @Test
+    void testParseKeyspaceIndexes() {
+        KeyspaceDefinition named = CacheConfigLoader.parseKeyspace("users:LRU:50000:::email|phone|tenant");
+        assertEquals(USER_INDEXES, named.getIndexes());
+        assertEquals(0, named.getMaxMemoryBytes());
+        assertEquals(1, named.getSegments());
+
+        assertEquals(KeyspaceDefinition.DEFAULT_INDEXES, CacheConfigLoader.parseKeyspace("pages:FIFO:10").getIndexes());
+        assertEquals(KeyspaceDefinition.DEFAULT_INDEXES, CacheConfigLoader.parseKeyspace("pages:FIFO:10:1mb:2:").getIndexes());
+        assertEquals(List.of("sku", "barcode"), CacheConfigLoader.parseIndexes(" sku , barcode ", ","));
+
+        assertThrows(IllegalArgumentException.class, () -> CacheConfigLoader.parseKeyspace("x:LRU:10:::a|A"));
+        assertThrows(IllegalArgumentException.class, () -> CacheConfigLoader.parseKeyspace("x:LRU:10:::a|b c"));
+        assertThrows(IllegalArgumentException.class, () -> CacheConfigLoader.parseKeyspace("x:LRU:10:0:1:a:extra"));
+    }
+}
@@ -0,0 +1,215 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.StorageEngine;
+import com.vertexcache.core.cache.offheap.SlabAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheOffHeapTest {
+
+    private static final long ARENA = 8L * 1024 * 1024;
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    private Cache<String, String> offHeap(EvictionPolicy policy, int capacity, int segments) {
+        Cache.destroy();
+        return Cache.getInstance(policy, capacity, segments, StorageEngine.OFFHEAP, ARENA);
+    }
+
+    @Test
+    void testValuesRoundTrip() throws VertexCacheTypeException {
+        Cache<String, String> cache = offHeap(EvictionPolicy.LRU, 100, 1);
+        cache.put("k1", "héllo wörld", "idx-1");
+
+        assertEquals("héllo wörld", cache.get("k1"));
+        assertEquals("héllo wörld", cache.getBySecondaryKeyIndexOne("idx-1"));
+        assertTrue(cache.inspect("k1").contains("offHeap=true"));
+        assertTrue(cache.getOffHeapAllocator().isPresent());
+    }
+
+    @Test
+    void testOverwriteAndUpsertFreeOldChunks() throws VertexCacheTypeException {
+        Cache<String, String> cache = offHeap(EvictionPolicy.LRU, 100, 1);
+        SlabAllocator allocator = cache.getOffHeapAllocator().orElseThrow();
+
+        cache.put("k", "first");
+        cache.put("k", "second value");
+        assertEquals("second value".length(), allocator.getStoredBytes());
+
+        cache.upsert("k", "third");
+        assertEquals("third", cache.get("k"));
+        assertEquals("third".length(), allocator.getStoredBytes());
+    }
+
+    @Test
+    void testRemoveAndClearReturnMemory() throws VertexCacheTypeException {
+        Cache<String, String> cache = offHeap(EvictionPolicy.FIFO, 100, 1);
+        SlabAllocator allocator = cache.getOffHeapAllocator().orElseThrow();
+
+        cache.put("a", "alpha");
+        cache.put("b", "beta");
+        cache.remove("a");
+        assertEquals("beta".length(), allocator.getStoredBytes());
+
+        cache.clear();
+        assertEquals(0, allocator.getUsedBytes());
+    }
+
+    @Test
+    void testEvictionReturnsMemoryForEveryPolicy() throws VertexCacheTypeException {
+        EvictionPolicy[] policies = {EvictionPolicy.LRU, EvictionPolicy.FIFO, EvictionPolicy.MRU, EvictionPolicy.LFU,
+                EvictionPolicy.RANDOM, EvictionPolicy.TwoQueues, EvictionPolicy.Clock, EvictionPolicy.ClockPro,
+                EvictionPolicy.WTinyLFU};
+        String value = "x".repeat(200);
+
+        for (EvictionPolicy policy : policies) {
+            Cache<String, String> cache = offHeap(policy, 50, 1);
+            SlabAllocator allocator = cache.getOffHeapAllocator().orElseThrow();
+            for (int i = 0; i < 5_000; i++) {
+                cache.put("key" + i, value);
+            }
+            assertEquals((long) cache.size() * value.length(), allocator.getStoredBytes(), "Leaked chunks with " + policy);
+        }
+    }
+
+    @Test
+    void testSegmentedEviction() throws VertexCacheTypeException {
+        Cache<String, String> cache = offHeap(EvictionPolicy.LRU, 64, 4);
+        SlabAllocator allocator = cache.getOffHeapAllocator().orElseThrow();
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        long expected = 0;
+        for (String key : cache.keySet()) {
+            expected += cache.get(key).length();
+        }
+        assertEquals(expected, allocator.getStoredBytes());
+    }
+
+    @Test
+    void testArenaExhaustion() throws VertexCacheTypeException {
+        Cache.destroy();
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.NONE, 0, 1, StorageEngine.OFFHEAP, 2L * 1024 * 1024);
+        String value = "v".repeat(100_000);
+
+        assertThrows(VertexCacheTypeException.class, () -> {
+            for (int i = 0; i < 1_000; i++) {
+                cache.put("key" + i, value);
+            }
+        });
+    }
+
+    @Test
+    void testFullArenaEvictsToMakeRoom() throws VertexCacheTypeException {
+        Cache.destroy();
+        // The entry count never forces an eviction, only the arena does
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 10_000, 1, StorageEngine.OFFHEAP, 2L * 1024 * 1024);
+        String value = "v".repeat(100_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("key" + i, value);
+        }
+        assertTrue(cache.size() < 1_000);
+        assertEquals(value, cache.get("key999"));
+
+        // An update that no longer fits in its chunk evicts as well
+        String larger = "w".repeat(200_000);
+        for (int i = 990; i < 1_000; i++) {
+            cache.upsert("key" + i, larger);
+        }
+        assertEquals(larger, cache.get("key999"));
+        assertTrue(cache.inspect("key999").contains("offHeap=true"));
+    }
+
+    @Test
+    void testLargeValuesStayOnHeap() throws VertexCacheTypeException {
+        Cache<String, String> cache = offHeap(EvictionPolicy.LRU, 10, 1);
+        String large = "L".repeat(SlabAllocator.DEFAULT_SLAB_SIZE + 1);
+
+        cache.put("big", large);
+        assertEquals(large, cache.get("big"));
+        assertTrue(cache.inspect("big").contains("offHeap=false"));
+    }
+
+    @Test
+    void testHeapEngineIsDefault() throws VertexCacheTypeException {
+        Cache.destroy();
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 10);
+        cache.put("k", "v");
+        assertEquals(StorageEngine.HEAP, cache.getStorageEngine());
+        assertFalse(cache.getOffHeapAllocator().isPresent());
+        assertTrue(cache.inspect("k").contains("offHeap=false"));
+    }
+
+    @Test
+    void testConcurrentReadsDuringUpdates() throws Exception {
+        Cache<String, String> cache = offHeap(EvictionPolicy.LRU, 100, 1);
+        String[] values = {"a".repeat(100), "b".repeat(300), "c".repeat(700)};
+        cache.put("hot", values[0]);
+
+        int threads = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        AtomicInteger torn = new AtomicInteger();
+
+        for (int t = 0; t < threads; t++) {
+            final boolean writer = t < 2;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        if (writer) {
+                            cache.upsert("hot", values[i % values.length]);
+                        } else {
+                            String value = cache.get("hot");
+                            if (value == null || !(value.equals(values[0]) || value.equals(values[1]) || value.equals(values[2]))) {
+                                torn.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (VertexCacheTypeException e) {
+                    torn.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(0, torn.get());
+    }
+
+    @Test
+    void testBinaryValuesRoundTripUnchanged() throws VertexCacheTypeException {
+        Cache.destroy();
+        Cache<String, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100, 1, StorageEngine.OFFHEAP, ARENA);
+        SlabAllocator allocator = cache.getOffHeapAllocator().orElseThrow();
+        byte[] value = new byte[256];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = (byte) i;
+        }
+
+        cache.put("bin", value);
+        assertArrayEquals(value, (byte[]) cache.get("bin"));
+        assertEquals(value.length, allocator.getStoredBytes());
+
+        // Switching kind on update keeps the other kind on the heap and still decodes correctly
+        cache.upsert("bin", "text");
+        assertEquals("text", cache.get("bin"));
+        cache.upsert("bin", new byte[]{1, 2, 3});
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) cache.get("bin"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.algos.CacheLRU;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheOrderedKeysTest {
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testIndexFollowsPutsRemovesAndEvictions() throws VertexCacheTypeException {
+        CacheLRU<String, String> cache = new CacheLRU<>(3);
+        cache.put("user:1", "a");
+        cache.setOrderedKeysEnabled(true);
+
+        cache.put("user:2", "b");
+        cache.put("order:1", "c");
+        assertEquals(List.of("user:1", "user:2"), cache.keysWithPrefix("user:", 0));
+
+        cache.put("user:3", "d");
+        assertEquals(List.of("user:2", "user:3"), cache.keysWithPrefix("user:", 0));
+
+        cache.remove("user:2");
+        cache.put("user:3", "e");
+        assertEquals(List.of("order:1", "user:3"), cache.keyRange(null, null, 0));
+
+        cache.clear();
+        assertTrue(cache.keysWithPrefix("", 0).isEmpty());
+    }
+
+    @Test
+    void testScanFallbackMatchesOrderedIndex() throws VertexCacheTypeException {
+        for (boolean ordered : new boolean[]{false, true}) {
+            Cache.destroy();
+            Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 1_000, 4);
+            cache.setOrderedKeysEnabled(ordered);
+            for (int i = 0; i < 20; i++) {
+                cache.put(String.format("t1::k%02d", i), "v");
+                cache.put(String.format("t2::k%02d", i), "v");
+            }
+
+            assertEquals(ordered, cache.isOrderedKeysEnabled());
+            assertEquals(List.of("t1::k00", "t1::k01", "t1::k02"), cache.keysWithPrefix("t1::", 3));
+            assertEquals(List.of("t1::k18", "t1::k19", "t2::k00"), cache.keyRange("t1::k18", "t2::k01", 0));
+
+            assertEquals(20, cache.removeByPrefix("t2::"));
+            assertTrue(cache.keysWithPrefix("t2::", 0).isEmpty());
+            assertEquals(20, cache.size());
+        }
+    }
+
+    @Test
+    void testExpiredKeysAreNotListed() throws Exception {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+        cache.setOrderedKeysEnabled(true);
+        cache.put("s:1", "v", 20);
+        cache.put("s:2", "v");
+
+        Thread.sleep(50);
+        assertEquals(List.of("s:2"), cache.keysWithPrefix("s:", 0));
+        assertFalse(cache.containsKey("s:1"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.algos.CacheFIFO;
+import com.vertexcache.core.cache.algos.CacheLRU;
+import com.vertexcache.core.cache.algos.CacheTinyLFU;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.RemovalCause;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheRemovalListenerTest {
+
+    private final List<String> removals = new ArrayList<>();
+
+    private void record(Object key, Object value, RemovalCause cause) {
+        removals.add(key + "=" + value + ":" + cause);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testMapEvictionUnlinksIndexesAndReportsEvicted() throws VertexCacheTypeException {
+        for (CacheBase<String, String> cache : List.<CacheBase<String, String>>of(new CacheLRU<>(2), new CacheFIFO<>(2))) {
+            removals.clear();
+            cache.addRemovalListener(this::record);
+
+            cache.put("k1", "v1", "a1", "b1");
+            cache.put("k2", "v2", "a2");
+            cache.put("k3", "v3", "a3");
+
+            assertEquals(List.of("k1=v1:EVICTED"), removals);
+            assertNull(cache.getReverseIndex().get("k1"));
+            assertFalse(cache.getReadOnlySecondaryIndex(0).containsKey("a1"));
+            assertFalse(cache.getReadOnlySecondaryIndex(1).containsKey("b1"));
+            assertTrue(cache.getKeysBySecondaryKey(0, "a1").isEmpty());
+            assertEquals("v3", cache.getBySecondaryKey(0, "a3"));
+        }
+    }
+
+    @Test
+    void testTinyLfuEvictionUnlinksIndexes() throws VertexCacheTypeException {
+        CacheTinyLFU<String, String> cache = new CacheTinyLFU<>(2);
+        cache.addRemovalListener(this::record);
+
+        cache.put("k1", "v1", "a1");
+        cache.put("k2", "v2", "a2");
+        cache.put("k3", "v3", "a3");
+
+        assertEquals(List.of("k1=v1:EVICTED"), removals);
+        assertNull(cache.get("k1"));
+        assertEquals(cache.size(), cache.getReverseIndex().size());
+        assertFalse(cache.getReadOnlySecondaryIndex(0).containsKey("a1"));
+    }
+
+    @Test
+    void testReplaceKeepsKeyAndExplicitRemoveUnlinks() throws VertexCacheTypeException {
+        CacheLRU<String, String> cache = new CacheLRU<>(10);
+        cache.addRemovalListener(this::record);
+
+        cache.put("k1", "v1", "a1");
+        cache.put("k1", "v2", "a2");
+        assertEquals(List.of("k1=v1:REPLACED"), removals);
+        assertEquals("v2", cache.getBySecondaryKey(0, "a2"));
+        assertNull(cache.getBySecondaryKey(0, "a1"));
+
+        cache.remove("k1");
+        assertEquals(List.of("k1=v1:REPLACED", "k1=v2:EXPLICIT"), removals);
+        assertTrue(cache.getReverseIndex().isEmpty());
+        assertFalse(cache.getReadOnlySecondaryIndex(0).containsKey("a2"));
+    }
+
+    @Test
+    void testFailingListenerDoesNotStopRemoval() throws VertexCacheTypeException {
+        CacheLRU<String, String> cache = new CacheLRU<>(10);
+        cache.addRemovalListener((key, value, cause) -> {
+            throw new IllegalStateException("boom");
+        });
+        cache.addRemovalListener(this::record);
+
+        cache.put("k1", "v1", "a1");
+        cache.remove("k1");
+
+        assertEquals(List.of("k1=v1:EXPLICIT"), removals);
+        assertFalse(cache.containsKey("k1"));
+        assertTrue(cache.getReverseIndex().isEmpty());
+    }
+
+    @Test
+    void testKeyspaceListenerSeesValuesWithCause() throws Exception {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 2, 4);
+        cache.addRemovalListener(this::record);
+
+        cache.put("k1", "v1", 20);
+        Thread.sleep(50);
+        assertNull(cache.get("k1"));
+        assertEquals(List.of("k1=v1:EXPIRED"), removals);
+
+        cache.put("k2", "v2", "a2");
+        cache.remove("k2");
+        assertEquals("k2=v2:EXPLICIT", removals.get(1));
+        assertNull(cache.getBySecondaryKey("idx1", "a2"));
+        assertEquals(0, cache.getMemoryUsage());
+    }
+}
@@ -0,0 +1,109 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.ScanPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheScanTest {
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    private List<String> scanAll(Cache<String, String> cache, String prefix, int count, Predicate<String> filter) {
+        List<String> keys = new ArrayList<>();
+        String after = null;
+        do {
+            ScanPage<String> page = cache.scan(prefix, after, count, filter);
+            keys.addAll(page.getKeys());
+            after = page.getLastKey();
+        } while (after != null);
+        return keys;
+    }
+
+    @Test
+    void testPagesCoverPrefixOnceInOrder() throws VertexCacheTypeException {
+        for (boolean ordered : new boolean[]{false, true}) {
+            Cache.destroy();
+            Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 1_000, 4);
+            cache.setOrderedKeysEnabled(ordered);
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                String key = String.format("t1::k%02d", i);
+                expected.add(key);
+                cache.put(key, "v");
+                cache.put(String.format("t2::k%02d", i), "v");
+            }
+
+            assertEquals(expected, scanAll(cache, "t1::", 7, null));
+            assertEquals(50, scanAll(cache, "", 10, null).size());
+            assertTrue(scanAll(cache, "t3::", 10, null).isEmpty());
+            // Scanning never turns the index on, the keyspace keeps its configuration
+            assertEquals(ordered, cache.isOrderedKeysEnabled());
+        }
+    }
+
+    @Test
+    void testCursorSurvivesChangesBetweenPages() throws VertexCacheTypeException {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 1_000, 4);
+        cache.setOrderedKeysEnabled(true);
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, "v");
+        }
+
+        ScanPage<String> first = cache.scan("k", null, 4, null);
+        assertEquals(List.of("k0", "k1", "k2", "k3"), first.getKeys());
+        assertFalse(first.isComplete());
+
+        cache.remove("k3");
+        cache.remove("k4");
+        cache.put("k35", "v");
+
+        List<String> rest = new ArrayList<>();
+        String after = first.getLastKey();
+        while (after != null) {
+            ScanPage<String> page = cache.scan("k", after, 4, null);
+            rest.addAll(page.getKeys());
+            after = page.getLastKey();
+        }
+        assertEquals(List.of("k35", "k5", "k6", "k7", "k8", "k9"), rest);
+    }
+
+    @Test
+    void testFilterAndExpiredKeysLeaveShortPages() throws Exception {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 1_000, 1);
+        cache.setOrderedKeysEnabled(true);
+        cache.put("a:1", "v");
+        cache.put("a:2", "v", 20);
+        cache.put("b:1", "v");
+        cache.put("b:2", "v");
+        Thread.sleep(50);
+
+        ScanPage<String> page = cache.scan("", null, 1, key -> key.startsWith("b"));
+        assertTrue(page.getKeys().isEmpty());
+        assertEquals("a:1", page.getLastKey());
+
+        assertEquals(List.of("a:1", "b:1"), scanAll(cache, "", 2, key -> key.endsWith(":1")));
+    }
+
+    @Test
+    void testPrefixEnd() {
+        assertNull(Cache.prefixEnd(""));
+        assertEquals("user;", Cache.prefixEnd("user:"));
+    }
+}
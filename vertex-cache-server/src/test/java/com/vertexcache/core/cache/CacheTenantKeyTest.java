@@ -0,0 +1,65 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.ScanPage;
+import com.vertexcache.core.cache.model.TenantKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTenantKeyTest {
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testTenantKeysAndIndexValuesResolve() throws VertexCacheTypeException {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100, 4);
+
+        cache.put(new TenantKey("t1", "k"), "v1", 0, new TenantKey("t1", "a@x"));
+        cache.put(new TenantKey("t2", "k"), "v2", 0, new TenantKey("t2", "a@x"));
+
+        assertEquals("v1", cache.get(new TenantKey("t1", "k")));
+        assertEquals("v2", cache.get(new TenantKey("t2", "k")));
+        assertNull(cache.get("t1::k"));
+        assertEquals("v2", cache.getBySecondaryKey("idx1", new TenantKey("t2", "a@x")));
+
+        cache.remove(new TenantKey("t1", "k"));
+        assertNull(cache.getBySecondaryKey("idx1", new TenantKey("t1", "a@x")));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testPrefixOperationsOverTenantKeys() throws VertexCacheTypeException {
+        for (boolean ordered : new boolean[]{false, true}) {
+            Cache.destroy();
+            Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100, 4);
+            cache.setOrderedKeysEnabled(ordered);
+            for (String tenant : List.of("t1", "t2")) {
+                for (int i = 0; i < 5; i++) {
+                    cache.put(new TenantKey(tenant, "k" + i), "v");
+                }
+            }
+
+            ScanPage<String> page = cache.scan("t1::", "t1::k1", 2, null);
+            assertEquals(List.of("t1::k2", "t1::k3"), page.getKeys());
+            assertEquals(List.of(new TenantKey("t2", "k0")), cache.keysWithPrefix("t2::", 1));
+
+            assertEquals(5, cache.removeByPrefix("t1::"));
+            assertEquals(5, cache.size());
+            assertEquals("v", cache.get(new TenantKey("t2", "k4")));
+        }
+    }
+}
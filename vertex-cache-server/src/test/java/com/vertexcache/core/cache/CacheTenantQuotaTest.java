@@ -0,0 +1,125 @@
+package com.vertexcache.core.cache;
+
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.TenantQuota;
+import com.vertexcache.core.cache.model.TenantUsage;
+import com.vertexcache.core.setting.loaders.AuthWithTenantConfigLoader;
+import com.vertexcache.module.auth.model.TenantId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTenantQuotaTest {
+
+    private static final TenantId NOISY = new TenantId("noisy");
+    private static final TenantId QUIET = new TenantId("quiet");
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    @Test
+    void testNoisyTenantOnlyEvictsItsOwnKeys() throws VertexCacheTypeException {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 100, 4);
+        Cache.setTenantQuotas(List.of(new TenantQuota("noisy", 10, 0)));
+
+        for (int i = 0; i < 50; i++) {
+            cache.forTenant(QUIET).put("quiet::k" + i, "v");
+        }
+        for (int i = 0; i < 1_000; i++) {
+            cache.forTenant(NOISY).put("noisy::k" + i, "v");
+        }
+
+        assertSame(cache, cache.forTenant(QUIET));
+        assertSame(cache.forTenant(NOISY), cache.forTenant(NOISY));
+        assertEquals(50, cache.size());
+        assertEquals(10, cache.forTenant(NOISY).size());
+        assertEquals("v", cache.forTenant(NOISY).get("noisy::k999"));
+        assertNull(cache.forTenant(NOISY).get("noisy::k0"));
+        assertEquals(60, Cache.getTotalSize());
+
+        List<TenantUsage> usage = Cache.getTenantUsage();
+        assertEquals(1, usage.size());
+        assertEquals(10, usage.getFirst().getKeyCount());
+        assertEquals(990, usage.getFirst().getEvictions());
+        assertTrue(usage.getFirst().getMemoryBytes() > 0);
+    }
+
+    @Test
+    void testByteQuotaEvictsWithinPartition() throws VertexCacheTypeException {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 1_000, 1);
+        Cache.setTenantQuotas(List.of(new TenantQuota("noisy", 0, 2_000)));
+
+        cache.put("quiet::k", "v".repeat(100));
+        for (int i = 0; i < 100; i++) {
+            cache.forTenant(NOISY).put("noisy::k" + i, "v".repeat(100));
+        }
+
+        Cache<String, String> partition = cache.forTenant(NOISY);
+        assertTrue(partition.getMemoryUsage() <= 2_000);
+        assertTrue(partition.getEvictedCount() > 0);
+        assertEquals("v".repeat(100), cache.get("quiet::k"));
+        assertEquals(Cache.getTotalMemoryUsage(), cache.getMemoryUsage() + partition.getMemoryUsage());
+    }
+
+    @Test
+    void testPartitionWithoutEvictionRejectsWritesOverQuota() throws VertexCacheTypeException {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.NONE, 0, 1);
+        Cache.setTenantQuotas(List.of(new TenantQuota("noisy", 2, 0)));
+        Cache<String, String> partition = cache.forTenant(NOISY);
+
+        partition.put("a", "1");
+        partition.put("b", "2");
+        partition.put("a", "3");
+        assertThrows(VertexCacheTypeException.class, () -> partition.put("c", "4"));
+        assertEquals("3", partition.get("a"));
+        assertNull(partition.get("c"));
+    }
+
+    @Test
+    void testPartitionFollowsKeyspaceIndexesAndListeners() throws VertexCacheTypeException {
+        Cache<String, String> cache = Cache.getInstance(EvictionPolicy.LRU, 100, 1);
+        cache.defineIndexes(List.of("email"));
+        cache.setOrderedKeysEnabled(true);
+        Cache.setTenantQuotas(List.of(new TenantQuota("noisy", 1, 0)));
+        List<String> removals = new ArrayList<>();
+        cache.addRemovalListener((key, value, cause) -> removals.add(key + ":" + cause));
+
+        Cache<String, String> partition = cache.forTenant(NOISY);
+        partition.put("noisy::a", "1", "a@x");
+        partition.put("noisy::b", "2", "b@x");
+
+        assertEquals("2", partition.getBySecondaryKey("email", "b@x"));
+        assertTrue(partition.isOrderedKeysEnabled());
+        assertEquals(List.of("noisy::b"), partition.keysWithPrefix("noisy::", 0));
+        assertEquals(List.of("noisy::a:EVICTED"), removals);
+
+        Cache.clearAll();
+        assertEquals(0, Cache.getTotalSize());
+    }
+
+    @Test
+    void testParseTenantQuota() {
+        TenantQuota quota = AuthWithTenantConfigLoader.parseTenantQuota(" tenant-a:5000:1mb ");
+        assertEquals("tenant-a", quota.getTenantId());
+        assertEquals(5000, quota.getMaxEntries());
+        assertEquals(1024 * 1024, quota.getMaxMemoryBytes());
+
+        assertEquals(0, AuthWithTenantConfigLoader.parseTenantQuota("tenant-b::64kb").getMaxEntries());
+        assertThrows(IllegalArgumentException.class, () -> AuthWithTenantConfigLoader.parseTenantQuota("tenant-a"));
+        assertThrows(IllegalArgumentException.class, () -> AuthWithTenantConfigLoader.parseTenantQuota("bad tenant:10"));
+        assertThrows(IllegalArgumentException.class, () -> AuthWithTenantConfigLoader.parseTenantQuota("tenant-a:-1"));
+    }
+}
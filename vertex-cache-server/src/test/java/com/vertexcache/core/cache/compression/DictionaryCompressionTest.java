@@ -0,0 +1,143 @@
+package com.vertexcache.core.cache.compression;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.DataType;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryCompressionTest {
+
+    private static final int WARM_UP = DictionaryRegistry.MIN_SAMPLES * DictionaryRegistry.SAMPLE_RATE;
+
+    private final Random random = new Random(7);
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    private String order(int id) {
+        return "{\"orderId\":" + id + ",\"customer\":{\"customerId\":" + random.nextInt(100_000)
+                + ",\"email\":\"user" + random.nextInt(10_000) + "@example.com\",\"loyaltyTier\":\"gold\"},"
+                + "\"status\":\"" + (random.nextBoolean() ? "shipped" : "pending") + "\",\"currency\":\"USD\","
+                + "\"total\":" + random.nextInt(1000) + "." + random.nextInt(100) + ",\"shippingAddress\":{\"country\":\"US\","
+                + "\"postalCode\":\"" + (10_000 + random.nextInt(89_999)) + "\"},\"createdAt\":\"2025-06-"
+                + (10 + random.nextInt(18)) + "T12:00:00Z\"}";
+    }
+
+    private static int deflatedSize(String value) {
+        CompressedValue plain = new ValueCompressor(1).compress(value);
+        return plain != null ? plain.getData().length : value.length();
+    }
+
+    @Test
+    void testDetectsFormatFromFirstCharacter() {
+        assertEquals(DataType.JSON, DictionaryRegistry.detectFormat(" \n{\"a\":1}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(DataType.JSON, DictionaryRegistry.detectFormat("[1,2]".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(DataType.XML, DictionaryRegistry.detectFormat("<order/>".getBytes(StandardCharsets.UTF_8)));
+        assertNull(DictionaryRegistry.detectFormat("plain text".getBytes(StandardCharsets.UTF_8)));
+        assertNull(DictionaryRegistry.detectFormat("   ".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testTrainerKeepsSharedContentWithinSize() {
+        List<byte[]> samples = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            samples.add(order(i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] dictionary = DictionaryTrainer.train(samples, 1024);
+        String content = new String(dictionary, StandardCharsets.UTF_8);
+
+        assertTrue(dictionary.length > 0 && dictionary.length <= 1024, "size " + dictionary.length);
+        assertTrue(content.contains("shippingAddress"), content);
+        assertTrue(content.contains("loyaltyTier"), content);
+        assertEquals(0, DictionaryTrainer.train(List.of("unique one".getBytes(), "other text".getBytes()), 1024).length);
+    }
+
+    @Test
+    void testSmallJsonCompressesWithTrainedDictionary() {
+        ValueCompressor compressor = new ValueCompressor(0, new DictionaryRegistry(4096));
+        // Left uncompressed until the write bringing in the last sample trains the dictionary
+        int written = 0;
+        CompressedValue first = null;
+        while (first == null && written <= WARM_UP) {
+            first = compressor.compress(order(written++));
+        }
+        assertNotNull(first, "no dictionary after " + written + " values");
+        CompressionDictionary dictionary = compressor.getDictionaries().getDictionary(DataType.JSON);
+        assertSame(dictionary, first.getDictionary());
+        assertEquals(1, dictionary.getVersion());
+
+        String value = order(1);
+        CompressedValue compressed = compressor.compress(value);
+
+        assertNotNull(compressed);
+        assertSame(dictionary, compressed.getDictionary());
+        assertTrue(compressed.getData().length * 2 < deflatedSize(value),
+                compressed.getData().length + " vs " + deflatedSize(value) + " without dictionary");
+        assertEquals(value, compressor.decompress(compressed));
+        assertTrue(compressor.getDictionaryRatio() < 0.5);
+
+        // Without a threshold, values of no known format stay as they are
+        assertNull(compressor.compress("x".repeat(10_000)));
+        assertNull(compressor.getDictionaries().getDictionary(DataType.XML));
+    }
+
+    @Test
+    void testRetrainKeepsOlderValuesReadable() {
+        ValueCompressor compressor = new ValueCompressor(0, new DictionaryRegistry(4096));
+        assertTrue(compressor.getDictionaries().retrain().isEmpty());
+        for (int i = 0; i <= WARM_UP; i++) {
+            compressor.compress(order(i));
+        }
+        String older = order(1);
+        CompressedValue compressedOlder = compressor.compress(older);
+
+        List<CompressionDictionary> trained = compressor.getDictionaries().retrain();
+        assertEquals(1, trained.size());
+        assertEquals(2, trained.getFirst().getVersion());
+
+        CompressedValue compressedNewer = compressor.compress(order(2));
+        assertEquals(2, compressedNewer.getDictionary().getVersion());
+        assertEquals(1, compressedOlder.getDictionary().getVersion());
+        assertEquals(older, compressor.decompress(compressedOlder));
+    }
+
+    @Test
+    void testSavedBytesReportedPerKeyspace() throws VertexCacheTypeException {
+        ValueCompressor compressor = new ValueCompressor(0, new DictionaryRegistry(4096));
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 10_000);
+        Cache<Object, Object> orders = Cache.createKeyspace(new KeyspaceDefinition("orders", EvictionPolicy.LRU, 10_000, 0, 1));
+        cache.setValueCompressor(compressor);
+        orders.setValueCompressor(compressor);
+
+        for (int i = 0; i <= WARM_UP + 100; i++) {
+            orders.put("order:" + i, order(i));
+        }
+        cache.put("note", "plain text ".repeat(20));
+
+        Map<String, Long> saved = Cache.getCompressionSavedBytesByKeyspace();
+        assertEquals(0L, (long) saved.get(Cache.DEFAULT_KEYSPACE));
+        assertTrue(saved.get("orders") > 0);
+        assertEquals(orders.getCompressionSavedBytes(), (long) saved.get("orders"));
+        assertEquals(Cache.getTotalCompressionSavedBytes(), (long) saved.get("orders"));
+    }
+}
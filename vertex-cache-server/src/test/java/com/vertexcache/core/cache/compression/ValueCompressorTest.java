@@ -0,0 +1,123 @@
+package com.vertexcache.core.cache.compression;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueCompressorTest {
+
+    private static final int THRESHOLD = 256;
+
+    @BeforeEach
+    void setUp() {
+        Cache.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Cache.destroy();
+    }
+
+    private static String json(int records) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < records; i++) {
+            sb.append("{\"id\":").append(i).append(",\"status\":\"active\",\"region\":\"us-east-1\"},");
+        }
+        return sb.append("]").toString();
+    }
+
+    private static byte[] random(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void testRoundTripsStringsAndBytes() {
+        ValueCompressor compressor = new ValueCompressor(THRESHOLD);
+        String text = json(50) + "é";
+        byte[] bytes = json(50).getBytes();
+
+        CompressedValue compressedText = compressor.compress(text);
+        CompressedValue compressedBytes = compressor.compress(bytes);
+
+        assertNotNull(compressedText);
+        assertFalse(compressedText.isBinary());
+        assertTrue(compressedText.getSavedBytes() > 0);
+        assertEquals(text, compressor.decompress(compressedText));
+        assertTrue(compressedBytes.isBinary());
+        assertArrayEquals(bytes, (byte[]) compressor.decompress(compressedBytes));
+        assertEquals(2, compressor.getCompressedCount());
+        assertEquals(2, compressor.getDecompressedCount());
+        assertTrue(compressor.getRatio() < 1.0);
+    }
+
+    @Test
+    void testSkipsSmallAndIncompressibleValues() {
+        ValueCompressor compressor = new ValueCompressor(THRESHOLD);
+
+        assertNull(compressor.compress("x".repeat(THRESHOLD - 1)));
+        assertNull(compressor.compress(random(4096)));
+        assertNull(compressor.compress(42));
+        assertEquals(0, compressor.getCompressedCount());
+        assertEquals(1, compressor.getSkippedCount());
+    }
+
+    @Test
+    void testCacheHoldsValuesCompressed() throws VertexCacheTypeException {
+        String value = json(100);
+        Cache<Object, Object> plain = Cache.getInstance(EvictionPolicy.LRU, 1000);
+        for (int i = 0; i < 100; i++) {
+            plain.put("k" + i, value);
+        }
+        long plainUsage = plain.getMemoryUsage();
+        Cache.destroy();
+
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 1000);
+        cache.setValueCompressor(new ValueCompressor(THRESHOLD));
+        for (int i = 0; i < 100; i++) {
+            cache.put("k" + i, value);
+        }
+        cache.put("small", "tiny");
+
+        assertTrue(cache.getMemoryUsage() < plainUsage / 4, cache.getMemoryUsage() + " vs " + plainUsage);
+        assertEquals(value, cache.get("k7"));
+        assertEquals("tiny", cache.get("small"));
+        assertTrue(cache.getStoredValue("k7") instanceof CompressedValue);
+        assertEquals("tiny", cache.getStoredValue("small"));
+
+        long saved = cache.getCompressionSavedBytes();
+        assertTrue(saved > 0);
+        cache.remove("k7");
+        assertTrue(cache.getCompressionSavedBytes() < saved);
+        cache.clear();
+        assertEquals(0, cache.getCompressionSavedBytes());
+        assertEquals(0, cache.getMemoryUsage());
+    }
+
+    @Test
+    void testUpsertRecompressesInPlace() throws VertexCacheTypeException {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 1000);
+        cache.setValueCompressor(new ValueCompressor(THRESHOLD));
+
+        cache.put("k", "short");
+        assertEquals(0, cache.getCompressionSavedBytes());
+
+        String value = json(100);
+        cache.upsert("k", value);
+        assertTrue(cache.getStoredValue("k") instanceof CompressedValue);
+        assertTrue(cache.getCompressionSavedBytes() > 0);
+        assertEquals(value, cache.get("k"));
+
+        cache.upsert("k", "short again");
+        assertEquals(0, cache.getCompressionSavedBytes());
+        assertEquals("short again", cache.get("k"));
+    }
+}
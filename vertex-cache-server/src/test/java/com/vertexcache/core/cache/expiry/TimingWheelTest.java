@@ -0,0 +1,110 @@
+package com.vertexcache.core.cache.expiry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private List<String> fired;
+    private TimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        fired = new ArrayList<>();
+        wheel = new TimingWheel<>(10, 0, (key, deadline) -> fired.add(key));
+    }
+
+    @Test
+    void testFiresOnlyOnceDue() {
+        wheel.schedule("a", 50);
+        wheel.advance(40);
+        assertTrue(fired.isEmpty());
+
+        wheel.advance(50);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testPastDeadlineFiresOnNextTick() {
+        wheel.advance(1_000);
+        wheel.schedule("late", 10);
+        wheel.advance(1_010);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void testCascadesAcrossLevels() {
+        long[] deadlines = {650, 5_000, 41_000, 3_000_000, 200_000_000L};
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.schedule("k" + i, deadlines[i]);
+        }
+
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.advance(deadlines[i] - 10);
+            assertEquals(i, fired.size(), "k" + i + " fired early");
+            wheel.advance(deadlines[i]);
+            assertEquals(i + 1, fired.size(), "k" + i + " not fired on time");
+            assertEquals("k" + i, fired.get(i));
+        }
+    }
+
+    @Test
+    void testDeadlineBeyondRangeIsParked() {
+        long farAway = 10L * (1L << 30) + 12_345;
+        wheel.schedule("far", farAway);
+
+        wheel.advance(farAway - 10);
+        assertTrue(fired.isEmpty());
+        // Deadline is not on a tick boundary, it fires on the tick after it
+        wheel.advance(farAway + 10);
+        assertEquals(List.of("far"), fired);
+    }
+
+    @Test
+    void testHandlerReceivesDeadline() {
+        List<Long> deadlines = new ArrayList<>();
+        TimingWheel<String> tracking = new TimingWheel<>(10, 0, (key, deadline) -> deadlines.add(deadline));
+        tracking.schedule("a", 125);
+        tracking.advance(200);
+        assertEquals(List.of(125L), deadlines);
+    }
+
+    @Test
+    void testRescheduleAndCancelUnlinkTheOldNode() {
+        wheel.schedule("a", 50);
+        wheel.schedule("a", 200_000);
+        wheel.schedule("b", 60);
+        wheel.schedule("c", 70);
+        assertEquals(3, wheel.size());
+
+        // A cancel for a deadline the key no longer has keeps the current node
+        wheel.cancel("b", 999);
+        wheel.cancel("c", 70);
+        assertEquals(2, wheel.size());
+
+        wheel.advance(1_000);
+        assertEquals(List.of("b"), fired);
+        assertEquals(1, wheel.size());
+        wheel.advance(200_000);
+        assertEquals(List.of("b", "a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testClear() {
+        wheel.schedule("a", 30);
+        wheel.schedule("b", 60_000);
+        assertEquals(2, wheel.size());
+
+        wheel.clear();
+        wheel.advance(100_000);
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+}
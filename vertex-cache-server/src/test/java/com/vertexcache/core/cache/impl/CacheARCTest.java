@@ -2,12 +2,18 @@ package com.vertexcache.core.cache.impl;
 
 
 import com.vertexcache.core.cache.algos.CacheARC;
+import com.vertexcache.core.cache.algos.CacheLRU;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.*;
 
+import static com.vertexcache.core.cache.impl.PolicyTraces.hitRatio;
+import static com.vertexcache.core.cache.impl.PolicyTraces.zipfTrace;
 import static org.junit.jupiter.api.Assertions.*;
 
 class CacheARCTest {
@@ -89,4 +95,82 @@ class CacheARCTest {
 
         assertTrue(cache.size() <= 20);
     }
+
+    @Test
+    void testUpdateExistingKey() throws VertexCacheTypeException {
+        cache.put("a", "1");
+        cache.put("a", "2");
+        assertEquals("2", cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testGhostHitsAdaptTarget() throws VertexCacheTypeException {
+        CacheARC<String, String> arc = new CacheARC<>(4);
+        for (String key : new String[]{"a", "b", "c", "d"}) {
+            arc.put(key, key);
+        }
+        arc.get("c");
+        arc.get("d");
+        arc.put("e", "e");
+        arc.put("f", "f");
+
+        // a and b were demoted to the recency ghost list, writing one back means T1 was too small
+        assertNull(arc.get("a"));
+        assertEquals(0, arc.getTargetRecencySize());
+        arc.put("a", "a");
+        assertEquals(1, arc.getTargetRecencySize());
+        assertEquals("a", arc.get("a"));
+        assertTrue(arc.size() <= 4);
+    }
+
+    @Test
+    void testSecondaryIndexCleanupOnEviction() throws VertexCacheTypeException {
+        CacheARC<String, String> small = new CacheARC<>(2);
+        small.put("user", "user", "user@example.com", "user-77");
+        small.put("b", "B");
+        small.put("c", "C");
+
+        assertNull(small.get("user"));
+        assertNull(small.getBySecondaryKeyIndexOne("user@example.com"));
+        assertNull(small.getBySecondaryKeyIndexTwo("user-77"));
+        assertFalse(small.getReverseIndex().containsKey("user"));
+    }
+
+    @Test
+    void testHitRatioWithScans() throws VertexCacheTypeException {
+        int capacity = 1_000;
+        int[] zipf = zipfTrace(100_000, 10_000, 0.9, 1);
+
+        // Every 5000 skewed accesses, a burst of 2000 never repeating keys
+        List<Integer> trace = new ArrayList<>();
+        int scanKey = 1_000_000;
+        for (int i = 0; i < zipf.length; i++) {
+            trace.add(zipf[i]);
+            if (i % 5_000 == 4_999) {
+                for (int j = 0; j < 2_000; j++) trace.add(scanKey++);
+            }
+        }
+        int[] scans = trace.stream().mapToInt(Integer::intValue).toArray();
+
+        double lru = hitRatio(new CacheLRU<>(capacity), scans);
+        double arc = hitRatio(new CacheARC<>(capacity), scans);
+        assertTrue(arc > lru, "ARC hit ratio " + arc + " should resist scans better than LRU " + lru);
+    }
+
+    @Test
+    void testHitRatioWithLoop() throws VertexCacheTypeException {
+        int capacity = 1_000;
+
+        // A loop 1.5x the capacity interleaved with a small hot set
+        int[] trace = new int[120_000];
+        Random random = new Random(3);
+        for (int i = 0; i < trace.length; i++) {
+            trace[i] = i % 2 == 0 ? (i / 2) % 1_500 : 100_000 + random.nextInt(300);
+        }
+
+        double lru = hitRatio(new CacheLRU<>(capacity), trace);
+        double arc = hitRatio(new CacheARC<>(capacity), trace);
+        assertTrue(arc > lru, "ARC hit ratio " + arc + " should beat LRU " + lru + " on a loop");
+    }
 }
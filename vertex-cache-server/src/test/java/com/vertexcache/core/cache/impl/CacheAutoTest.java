@@ -0,0 +1,152 @@
+package com.vertexcache.core.cache.impl;
+
+import com.vertexcache.core.cache.CacheAuto;
+import com.vertexcache.core.cache.CacheSegmented;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.RemovalCause;
+import com.vertexcache.core.cache.tuning.AutoPolicyTuner;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheAutoTest {
+
+    @Test
+    void testPutGetAndIndexesOnInitialPolicy() throws VertexCacheTypeException {
+        CacheAuto<String, String> cache = new CacheAuto<>(10);
+        assertEquals(AutoPolicyTuner.INITIAL_POLICY, cache.getActivePolicy());
+
+        cache.put("a", "alpha", "idx-a");
+        assertEquals("alpha", cache.get("a"));
+        assertEquals("alpha", cache.getBySecondaryKeyIndexOne("idx-a"));
+
+        cache.remove("a");
+        assertNull(cache.get("a"));
+        assertNull(cache.getBySecondaryKeyIndexOne("idx-a"));
+        assertTrue(cache.getReverseIndex().isEmpty());
+    }
+
+    @Test
+    void testSwitchMigratesEntriesIndexesAndListeners() throws Exception {
+        AutoPolicyTuner tuner = new AutoPolicyTuner(100, 0, 1_000);
+        CacheAuto<Integer, String> cache = new CacheAuto<>(100, tuner);
+        cache.setOrderedKeysEnabled(true);
+        List<RemovalCause> causes = new ArrayList<>();
+        cache.addRemovalListener((key, value, cause) -> causes.add(cause));
+
+        int[] trace = shiftingTrace(60_000, 90, 2_000);
+        for (int key : trace) {
+            if (cache.get(key) == null) {
+                cache.put(key, "v" + key, "idx" + key);
+            }
+        }
+        awaitSwitch(cache, tuner);
+
+        assertEquals(EvictionPolicy.LRU, cache.getActivePolicy());
+        assertEquals(EvictionPolicy.LRU, tuner.getActivePolicy());
+        assertTrue(cache.size() <= 100, "Cache exceeded capacity: " + cache.size());
+        assertEquals(cache.size(), cache.getReverseIndex().size());
+        assertTrue(cache.isOrderedKeysEnabled());
+        assertEquals(cache.size(), cache.keyRange(null, null, 0).size());
+        assertTrue(causes.contains(RemovalCause.EVICTED));
+
+        // LRU holds the whole last working set once it has been read
+        int last = trace[trace.length - 1];
+        assertEquals("v" + last, cache.getBySecondaryKeyIndexOne("idx" + last));
+        int lastPhase = (trace.length - 1) / 2_000;
+        for (int i = 0; i < 90; i++) {
+            int key = lastPhase * 90 + i;
+            assertEquals("v" + key, cache.peek(key), "Missing " + key);
+        }
+
+        causes.clear();
+        cache.remove(last);
+        assertEquals(List.of(RemovalCause.EXPLICIT), causes);
+        assertNull(cache.getBySecondaryKeyIndexOne("idx" + last));
+    }
+
+    @Test
+    void testSegmentsShareOneTuner() throws VertexCacheTypeException {
+        CacheSegmented<Integer, String> cache = new CacheSegmented<>(EvictionPolicy.AUTO, 128, 4);
+        AutoPolicyTuner tuner = cache.getPolicyTuner();
+        assertNotNull(tuner);
+
+        for (int key : shiftingTrace(60_000, 90, 2_000)) {
+            if (cache.get(key) == null) {
+                cache.put(key, "v" + key, "idx" + key);
+            }
+        }
+
+        assertTrue(tuner.getEpoch() > 0);
+        assertFalse(tuner.getDecisions().isEmpty());
+        assertTrue(cache.size() <= 128, "Cache exceeded capacity: " + cache.size());
+        assertEquals(cache.size(), cache.getReverseIndex().size());
+    }
+
+    @Test
+    void testConcurrentAccessAcrossSwitches() throws InterruptedException {
+        AutoPolicyTuner tuner = new AutoPolicyTuner(100, 0, 1_000);
+        CacheAuto<Integer, String> cache = new CacheAuto<>(100, tuner);
+        int[] trace = shiftingTrace(60_000, 90, 2_000);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int key : trace) {
+                        if (cache.get(key) == null) {
+                            cache.put(key, "v" + key, "idx" + key);
+                        }
+                    }
+                } catch (VertexCacheTypeException e) {
+                    fail(e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        awaitSwitch(cache, tuner);
+        assertFalse(tuner.getDecisions().isEmpty());
+        assertEquals(tuner.getActivePolicy(), cache.getActivePolicy());
+        assertTrue(cache.size() <= 100, "Cache exceeded capacity: " + cache.size());
+        assertEquals(cache.size(), cache.getReverseIndex().size());
+    }
+
+    @Test
+    void testOtherPoliciesHaveNoTuner() {
+        assertNull(new CacheSegmented<String, String>(EvictionPolicy.LRU, 128, 4).getPolicyTuner());
+    }
+
+    /*
+     * Switches run on the migration thread, waits for the last one the tuner asked for.
+     */
+    private static void awaitSwitch(CacheAuto<?, ?> cache, AutoPolicyTuner tuner) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cache.getActivePolicy() != tuner.getActivePolicy() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static int[] shiftingTrace(int length, int workingSet, int phase) {
+        Random random = new Random(11);
+        int[] trace = new int[length];
+        for (int i = 0; i < length; i++) {
+            trace[i] = (i / phase) * workingSet + random.nextInt(workingSet);
+        }
+        return trace;
+    }
+}
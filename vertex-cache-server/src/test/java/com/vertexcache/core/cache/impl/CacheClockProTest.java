@@ -0,0 +1,145 @@
+package com.vertexcache.core.cache.impl;
+
+import com.vertexcache.core.cache.algos.CacheClock;
+import com.vertexcache.core.cache.algos.CacheClockPro;
+import com.vertexcache.core.cache.algos.CacheLRU;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.vertexcache.core.cache.impl.PolicyTraces.hitRatio;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheClockProTest {
+
+    private CacheClockPro<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheClockPro<>(4);
+    }
+
+    @Test
+    void testPutAndGet() throws VertexCacheTypeException {
+        cache.put("a", "alpha");
+        cache.put("b", "beta");
+
+        assertEquals("alpha", cache.get("a"));
+        assertEquals("beta", cache.get("b"));
+        assertNull(cache.get("missing"));
+    }
+
+    @Test
+    void testUpdateDoesNotGrow() throws VertexCacheTypeException {
+        cache.put("a", "1");
+        cache.put("a", "2");
+        assertEquals("2", cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testCapacityIsBounded() throws VertexCacheTypeException {
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("key" + i, "value" + i);
+            if (i % 3 == 0) cache.get("key" + (i / 2));
+        }
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void testTestKeyReuseGrowsColdTarget() throws VertexCacheTypeException {
+        CacheClockPro<String, String> pro = new CacheClockPro<>(4);
+        for (String key : new String[]{"a", "b", "c", "d", "e", "f", "g", "h", "i"}) {
+            pro.put(key, key);
+        }
+        int shrunk = pro.getColdTarget();
+        assertTrue(shrunk < 4, "Expired test keys should shrink the cold target, was " + shrunk);
+
+        // 'e' was evicted recently enough to still be a test key, writing it back brings it in hot
+        assertNull(pro.get("e"));
+        pro.put("e", "e");
+        assertEquals("e", pro.get("e"));
+        assertEquals(shrunk + 1, pro.getColdTarget());
+        assertEquals(4, pro.size());
+    }
+
+    @Test
+    void testRemove() throws VertexCacheTypeException {
+        cache.put("x", "X");
+        cache.remove("x");
+        assertNull(cache.get("x"));
+        assertEquals(0, cache.size());
+        assertFalse(cache.evictOne());
+    }
+
+    @Test
+    void testSecondaryIndexCleanupOnEviction() throws VertexCacheTypeException {
+        CacheClockPro<String, String> small = new CacheClockPro<>(2);
+        small.put("user", "user", "user@example.com", "user-77");
+        small.put("b", "B");
+        small.put("c", "C");
+
+        assertNull(small.get("user"));
+        assertNull(small.getBySecondaryKeyIndexOne("user@example.com"));
+        assertNull(small.getBySecondaryKeyIndexTwo("user-77"));
+        assertFalse(small.getReverseIndex().containsKey("user"));
+    }
+
+    @Test
+    void testHitRatioWithScanPollution() throws VertexCacheTypeException {
+        int capacity = 1_000;
+
+        // A working set of 800 keys reused over and over, interleaved with never repeating scan keys
+        int[] trace = new int[200_000];
+        Random random = new Random(11);
+        int scanKey = 1_000_000;
+        for (int i = 0; i < trace.length; i++) {
+            trace[i] = i % 2 == 0 ? random.nextInt(800) : scanKey++;
+        }
+
+        double lru = hitRatio(new CacheLRU<>(capacity), trace);
+        double clock = hitRatio(new CacheClock<>(capacity), trace);
+        double pro = hitRatio(new CacheClockPro<>(capacity), trace);
+
+        assertTrue(pro > lru, "Clock-Pro hit ratio " + pro + " should resist scans better than LRU " + lru);
+        assertTrue(pro > clock, "Clock-Pro hit ratio " + pro + " should resist scans better than Clock " + clock);
+    }
+
+    @Test
+    void testConcurrencySafety() throws InterruptedException {
+        CacheClockPro<String, String> concurrent = new CacheClockPro<>(500);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final int seed = t;
+            executor.submit(() -> {
+                Random random = new Random(seed);
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        String key = "k" + random.nextInt(2_000);
+                        if (concurrent.get(key) == null) {
+                            concurrent.put(key, key, "idx:" + key);
+                        }
+                        if (i % 100 == 0) concurrent.remove(key);
+                    }
+                } catch (VertexCacheTypeException e) {
+                    fail(e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(concurrent.size() <= 500, "Cache exceeded capacity: " + concurrent.size());
+    }
+}
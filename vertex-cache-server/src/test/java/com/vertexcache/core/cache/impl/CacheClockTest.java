@@ -2,12 +2,15 @@ package com.vertexcache.core.cache.impl;
 
 
 import com.vertexcache.core.cache.algos.CacheClock;
+import com.vertexcache.core.cache.algos.CacheFIFO;
 import com.vertexcache.core.cache.exception.VertexCacheTypeException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
 import java.util.concurrent.*;
 
+import static com.vertexcache.core.cache.impl.PolicyTraces.hitRatio;
 import static org.junit.jupiter.api.Assertions.*;
 
 class CacheClockTest {
@@ -91,4 +94,59 @@ class CacheClockTest {
 
         assertTrue(cache.size() <= 10, "Cache size should be within CLOCK policy bounds");
     }
+
+    @Test
+    void testReadGivesSecondChance() throws VertexCacheTypeException {
+        cache.put("a", "alpha");
+        cache.put("b", "beta");
+        cache.put("c", "charlie");
+        cache.put("d", "delta");
+        cache.get("a");
+
+        cache.put("e", "echo");
+
+        assertEquals("alpha", cache.get("a"), "Referenced key should survive the sweep");
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void testSlotsAreReusedAndGrowToCapacity() throws VertexCacheTypeException {
+        CacheClock<Integer, Integer> large = new CacheClock<>(5_000);
+        for (int i = 0; i < 20_000; i++) {
+            large.put(i, i);
+            if (i % 3 == 0) large.remove(i);
+        }
+        assertEquals(5_000, large.size());
+        assertTrue(large.evictOne());
+        assertEquals(4_999, large.size());
+
+        large.clear();
+        assertFalse(large.evictOne());
+    }
+
+    @Test
+    void testSecondaryIndexCleanupOnEviction() throws VertexCacheTypeException {
+        CacheClock<String, String> small = new CacheClock<>(2);
+        small.put("user", "user", "user@example.com", "user-77");
+        small.put("b", "B");
+        small.put("c", "C");
+
+        assertNull(small.get("user"));
+        assertNull(small.getBySecondaryKeyIndexOne("user@example.com"));
+        assertFalse(small.getReverseIndex().containsKey("user"));
+    }
+
+    @Test
+    void testHitRatioBeatsFIFO() throws VertexCacheTypeException {
+        // 80% of the reads go to 200 hot keys, the rest to 20000 cold ones
+        int[] trace = new int[100_000];
+        Random random = new Random(5);
+        for (int i = 0; i < trace.length; i++) {
+            trace[i] = random.nextInt(10) < 8 ? random.nextInt(200) : 1_000 + random.nextInt(20_000);
+        }
+
+        double fifo = hitRatio(new CacheFIFO<>(500), trace);
+        double clock = hitRatio(new CacheClock<>(500), trace);
+        assertTrue(clock > fifo, "Clock hit ratio " + clock + " should beat FIFO " + fifo);
+    }
 }
@@ -50,6 +50,48 @@ class CacheLFUTest {
         assertNull(cache.get("c"));
     }
 
+    @Test
+    void testEvictionTieBrokenByAge() throws VertexCacheTypeException {
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+
+        // All at the same frequency, the oldest goes first
+        cache.put("d", "D");
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+    }
+
+    @Test
+    void testSecondaryIndexReadCountsAsAccess() throws VertexCacheTypeException {
+        cache.put("a", "A", "idx-a");
+        cache.put("b", "B");
+        cache.put("c", "C");
+
+        cache.getBySecondaryKeyIndexOne("idx-a");
+        cache.put("d", "D");
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void testLargeEvictionStaysBounded() throws VertexCacheTypeException {
+        CacheLFU<Integer, Integer> large = new CacheLFU<>(50_000);
+        for (int i = 0; i < 200_000; i++) {
+            large.put(i, i);
+            large.get(i % 1_000);
+        }
+        assertEquals(50_000, large.size());
+        // The constantly read keys are never the least frequent
+        for (int i = 0; i < 1_000; i++) {
+            assertNotNull(large.get(i));
+        }
+    }
+
     @Test
     void testRemove() throws VertexCacheTypeException {
         cache.put("x", "X");
@@ -0,0 +1,152 @@
+package com.vertexcache.core.cache.impl;
+
+import com.vertexcache.core.cache.CacheSegmented;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheSegmentedTest {
+
+    private CacheSegmented<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheSegmented<>(EvictionPolicy.LRU, 64, 4);
+    }
+
+    @Test
+    void testSegmentCountRoundedToPowerOfTwo() {
+        assertEquals(1, CacheSegmented.toPowerOfTwo(0));
+        assertEquals(1, CacheSegmented.toPowerOfTwo(1));
+        assertEquals(4, CacheSegmented.toPowerOfTwo(3));
+        assertEquals(8, CacheSegmented.toPowerOfTwo(8));
+        assertEquals(CacheSegmented.MAX_SEGMENTS, CacheSegmented.toPowerOfTwo(Integer.MAX_VALUE));
+        assertEquals(4, cache.getSegmentCount());
+    }
+
+    @Test
+    void testPutAndGet() throws VertexCacheTypeException {
+        for (int i = 0; i < 32; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        for (int i = 0; i < 32; i++) {
+            assertEquals("value" + i, cache.get("key" + i));
+            assertTrue(cache.containsKey("key" + i));
+        }
+        assertEquals(32, cache.size());
+        assertEquals(32, cache.keySet().size());
+        assertTrue(cache.containsValue("value7"));
+    }
+
+    @Test
+    void testEvictionBoundedPerSegment() throws VertexCacheTypeException {
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        // Each of the 4 segments holds at most 64 / 4 entries
+        assertTrue(cache.size() <= 64, "Segmented cache exceeded capacity: " + cache.size());
+        assertEquals("value999", cache.get("key999"));
+    }
+
+    @Test
+    void testRemove() throws VertexCacheTypeException {
+        cache.put("x", "xray", "idx1", "idx2");
+        cache.remove("x");
+        assertNull(cache.get("x"));
+        assertNull(cache.getBySecondaryKeyIndexOne("idx1"));
+        assertNull(cache.getBySecondaryKeyIndexTwo("idx2"));
+        assertFalse(cache.getReverseIndex().containsKey("x"));
+    }
+
+    @Test
+    void testSecondaryIndexUsage() throws VertexCacheTypeException {
+        cache.put("user:1", "Alice", "email:alice", "id:1");
+        assertEquals("Alice", cache.getBySecondaryKeyIndexOne("email:alice"));
+        assertEquals("Alice", cache.getBySecondaryKeyIndexTwo("id:1"));
+        assertEquals("user:1", cache.getReadOnlySecondaryIndexOne().get("email:alice"));
+        assertEquals(1, cache.getReadOnlySecondaryIndexTwo().size());
+    }
+
+    @Test
+    void testSecondaryIndexLastWriterWinsAcrossSegments() throws VertexCacheTypeException {
+        // Enough distinct primary keys that some land in different segments
+        for (int i = 0; i < 16; i++) {
+            cache.put("key" + i, "value" + i, "shared");
+        }
+        assertEquals("value15", cache.getBySecondaryKeyIndexOne("shared"));
+        assertEquals(1, cache.getReadOnlySecondaryIndexOne().size());
+    }
+
+    @Test
+    void testReverseIndexLookupsReachEveryKey() throws VertexCacheTypeException {
+        for (int i = 0; i < 16; i++) {
+            cache.put("key" + i, "value" + i, "idx" + i);
+        }
+        for (int i = 0; i < 16; i++) {
+            assertEquals("idx" + i, cache.getReverseIndex().get("key" + i).get(0));
+        }
+        assertNotNull(cache.getReverseIndex().remove("key7"));
+        assertNull(cache.getReverseIndex().get("key7"));
+        assertEquals(15, cache.getReverseIndex().size());
+    }
+
+    @Test
+    void testClear() throws VertexCacheTypeException {
+        cache.put("a", "A", "ia");
+        cache.put("b", "B", "ib");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.getBySecondaryKeyIndexOne("ia"));
+    }
+
+    @Test
+    void testEverySegmentPolicy() throws VertexCacheTypeException {
+        // Capacity is whatever each policy enforces per segment, here we only check routing works for all of them
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            CacheSegmented<String, String> segmented = new CacheSegmented<>(policy, 32, 4);
+            for (int i = 0; i < 200; i++) {
+                segmented.put("key" + i, "value" + i);
+            }
+            segmented.put("last", "value");
+            assertEquals("value", segmented.get("last"), policy.name());
+        }
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        CacheSegmented<String, String> concurrent = new CacheSegmented<>(EvictionPolicy.LRU, 10_000, 16);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < 1000; i++) {
+                        String key = "t" + thread + ":" + i;
+                        concurrent.put(key, "v" + i, "idx:" + key);
+                        assertEquals("v" + i, concurrent.get(key));
+                    }
+                } catch (VertexCacheTypeException e) {
+                    fail(e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(threads * 1000, concurrent.size());
+        assertEquals("v5", concurrent.getBySecondaryKeyIndexOne("idx:t3:5"));
+    }
+}
@@ -0,0 +1,174 @@
+package com.vertexcache.core.cache.impl;
+
+import com.vertexcache.core.cache.algos.CacheLRU;
+import com.vertexcache.core.cache.algos.CacheWTinyLFU;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.vertexcache.core.cache.impl.PolicyTraces.hitRatio;
+import static com.vertexcache.core.cache.impl.PolicyTraces.zipfTrace;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheWTinyLFUTest {
+
+    private CacheWTinyLFU<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheWTinyLFU<>(100);
+    }
+
+    @Test
+    void testPutAndGet() throws VertexCacheTypeException {
+        cache.put("a", "alpha");
+        cache.put("b", "beta");
+
+        assertEquals("alpha", cache.get("a"));
+        assertEquals("beta", cache.get("b"));
+        assertNull(cache.get("missing"));
+    }
+
+    @Test
+    void testUpdateDoesNotGrow() throws VertexCacheTypeException {
+        cache.put("a", "1");
+        cache.put("a", "2");
+        assertEquals("2", cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testCapacityIsBounded() throws VertexCacheTypeException {
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        assertTrue(cache.size() <= 100, "Cache exceeded capacity: " + cache.size());
+    }
+
+    @Test
+    void testFrequentKeysSurviveScan() throws VertexCacheTypeException {
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.put("hot" + i, "H");
+                cache.get("hot" + i);
+            }
+        }
+
+        // A long one-off scan must not flush the frequently used keys
+        for (int i = 0; i < 5_000; i++) {
+            cache.put("scan" + i, "S");
+        }
+
+        int hits = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("hot" + i) != null) hits++;
+        }
+        assertTrue(hits >= 45, "Expected hot keys to survive the scan, hits=" + hits);
+    }
+
+    @Test
+    void testRemove() throws VertexCacheTypeException {
+        cache.put("x", "X");
+        cache.remove("x");
+        assertNull(cache.get("x"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSecondaryIndexCleanupOnEviction() throws VertexCacheTypeException {
+        CacheWTinyLFU<String, String> small = new CacheWTinyLFU<>(2);
+        small.put("user", "user", "user@example.com", "user-77");
+
+        // Keys accessed more often than 'user' win admission and push it out
+        for (int i = 0; i < 10; i++) {
+            small.put("other" + i, "O");
+            for (int j = 0; j < 3; j++) {
+                small.get("other" + i);
+            }
+        }
+
+        assertNull(small.get("user"));
+        assertNull(small.getBySecondaryKeyIndexOne("user@example.com"));
+        assertNull(small.getBySecondaryKeyIndexTwo("user-77"));
+        assertFalse(small.getReverseIndex().containsKey("user"));
+    }
+
+    @Test
+    void testClear() throws VertexCacheTypeException {
+        cache.put("a", "A");
+        cache.clear();
+        assertNull(cache.get("a"));
+        cache.put("b", "B");
+        assertEquals("B", cache.get("b"));
+    }
+
+    @Test
+    void testHitRatioBeatsLRUOnZipf() throws VertexCacheTypeException {
+        int capacity = 1_000;
+        int[] trace = zipfTrace(100_000, 50_000, 0.9, 42);
+
+        double lru = hitRatio(new CacheLRU<>(capacity), trace);
+        double wtinylfu = hitRatio(new CacheWTinyLFU<>(capacity), trace);
+
+        assertTrue(wtinylfu > lru, "W-TinyLFU hit ratio " + wtinylfu + " should beat LRU " + lru);
+    }
+
+    @Test
+    void testHitRatioWithScanPollution() throws VertexCacheTypeException {
+        int capacity = 1_000;
+        int[] zipf = zipfTrace(100_000, 10_000, 1.0, 7);
+
+        // Interleave the skewed trace with never repeating scan keys
+        int[] trace = new int[zipf.length * 2];
+        for (int i = 0; i < zipf.length; i++) {
+            trace[i * 2] = zipf[i];
+            trace[i * 2 + 1] = 1_000_000 + i;
+        }
+
+        double clean = hitRatio(new CacheWTinyLFU<>(capacity), zipf);
+        double lru = hitRatio(new CacheLRU<>(capacity), trace);
+        double wtinylfu = hitRatio(new CacheWTinyLFU<>(capacity), trace);
+
+        // Half the polluted trace can never hit, the skewed half should keep almost all of its hit ratio
+        assertTrue(wtinylfu * 2 >= clean * 0.9, "W-TinyLFU polluted hit ratio " + wtinylfu + " vs clean " + clean);
+        assertTrue(wtinylfu > lru, "W-TinyLFU hit ratio " + wtinylfu + " should resist scans better than LRU " + lru);
+    }
+
+    @Test
+    void testConcurrencySafety() throws InterruptedException {
+        CacheWTinyLFU<String, String> concurrent = new CacheWTinyLFU<>(500);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final int seed = t;
+            executor.submit(() -> {
+                Random random = new Random(seed);
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        String key = "k" + random.nextInt(2_000);
+                        if (concurrent.get(key) == null) {
+                            concurrent.put(key, key, "idx:" + key);
+                        }
+                        if (i % 100 == 0) concurrent.remove(key);
+                    }
+                } catch (VertexCacheTypeException e) {
+                    fail(e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(concurrent.size() <= 500, "Cache exceeded capacity: " + concurrent.size());
+    }
+}
@@ -0,0 +1,52 @@
+package com.vertexcache.core.cache.impl;
+
+import com.vertexcache.core.cache.CacheBase;
+import com.vertexcache.core.cache.exception.VertexCacheTypeException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ * Access traces replayed against the eviction policies to compare their hit ratios.
+ */
+final class PolicyTraces {
+
+    private PolicyTraces() {
+    }
+
+    /*
+     * Reads every key of the trace, a miss puts it, and returns the share of reads that hit.
+     */
+    static double hitRatio(CacheBase<Integer, Integer> cache, int[] trace) throws VertexCacheTypeException {
+        int hits = 0;
+        for (int key : trace) {
+            if (cache.get(key) != null) {
+                hits++;
+            } else {
+                cache.put(key, key);
+            }
+        }
+        return (double) hits / trace.length;
+    }
+
+    /*
+     * Zipf distributed item ids in [0, items) by inverse transform over the cumulative distribution.
+     */
+    static int[] zipfTrace(int length, int items, double skew, long seed) {
+        double[] cumulative = new double[items];
+        double sum = 0;
+        for (int i = 0; i < items; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+
+        Random random = new Random(seed);
+        int[] trace = new int[length];
+        for (int i = 0; i < length; i++) {
+            double target = random.nextDouble() * sum;
+            int index = Arrays.binarySearch(cumulative, target);
+            trace[i] = index >= 0 ? index : Math.min(-index - 1, items - 1);
+        }
+        return trace;
+    }
+}
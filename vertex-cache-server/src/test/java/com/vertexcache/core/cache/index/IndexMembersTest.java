@@ -0,0 +1,98 @@
+package com.vertexcache.core.cache.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexMembersTest {
+
+    @Test
+    void testSingleMemberAndRemoval() {
+        IndexMembers<String> members = new IndexMembers<>();
+        members.add("user:1", "session:a");
+        members.add("user:1", "session:a");
+
+        assertEquals(List.of("session:a"), members.get("user:1"));
+        assertEquals("session:a", members.any("user:1"));
+        assertEquals(1, members.count("user:1"));
+
+        members.remove("user:1", "session:a");
+        assertTrue(members.get("user:1").isEmpty());
+        assertNull(members.any("user:1"));
+        assertEquals(0, members.size());
+    }
+
+    @Test
+    void testGrowsThroughEveryFormAndShrinksBack() {
+        IndexMembers<String> members = new IndexMembers<>();
+        int total = IndexMembers.SMALL_MAX * 4;
+        for (int i = 0; i < total; i++) {
+            members.add("shared", "k" + i);
+            assertEquals(i + 1, members.count("shared"));
+        }
+        assertEquals(total, new HashSet<>(members.get("shared")).size());
+
+        // Removing unknown members is a no-op in every form
+        members.remove("shared", "missing");
+        assertEquals(total, members.count("shared"));
+
+        for (int i = 0; i < total - 1; i++) {
+            members.remove("shared", "k" + i);
+            assertEquals(total - i - 1, members.count("shared"));
+        }
+        assertEquals(List.of("k" + (total - 1)), members.get("shared"));
+
+        members.remove("shared", "k" + (total - 1));
+        assertEquals(0, members.size());
+    }
+
+    @Test
+    void testSmallFormRemovesFromTheMiddle() {
+        IndexMembers<String> members = new IndexMembers<>();
+        members.add("v", "a");
+        members.add("v", "b");
+        members.add("v", "c");
+        members.remove("v", "b");
+
+        assertEquals(List.of("a", "c"), members.get("v"));
+        assertEquals("c", members.any("v"));
+    }
+
+    @Test
+    void testConcurrentAddAndRemove() throws InterruptedException {
+        IndexMembers<String> members = new IndexMembers<>();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < 2_000; i++) {
+                        String key = "t" + thread + "-" + i;
+                        members.add("shared", key);
+                        if (i % 2 == 0) members.remove("shared", key);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        Set<String> remaining = new HashSet<>(members.get("shared"));
+        assertEquals(threads * 1_000, remaining.size());
+        assertEquals(threads * 1_000, members.count("shared"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.vertexcache.core.cache.index;
+
+import com.vertexcache.core.cache.model.TenantKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOrderTest {
+
+    @Test
+    void testTenantKeyReadsAsConcatenatedForm() {
+        TenantKey key = new TenantKey("t1", "user:1");
+
+        assertEquals(10, key.length());
+        assertEquals("t1::user:1", key.toString());
+        assertEquals(':', key.charAt(2));
+        assertEquals('u', key.charAt(4));
+        assertTrue(key.startsWith("t1::us"));
+        assertFalse(key.startsWith("t1::x"));
+        assertFalse(key.startsWith("t1::user:10"));
+    }
+
+    @Test
+    void testTenantKeyEquality() {
+        assertEquals(new TenantKey("t1", "k"), new TenantKey("t1", "k"));
+        assertEquals(new TenantKey("t1", "k").hashCode(), new TenantKey("t1", "k").hashCode());
+        assertNotEquals(new TenantKey("t1", "k"), new TenantKey("t2", "k"));
+        assertNotEquals(new TenantKey("t", "1::k"), new TenantKey("t::1", "k"));
+        assertNotEquals(new TenantKey("t1", "k"), "t1::k");
+    }
+
+    @Test
+    void testOrderMatchesConcatenatedStrings() {
+        List<Object> keys = new ArrayList<>(List.of(
+                new TenantKey("t2", "a"), new TenantKey("t1", "b"), new TenantKey("t1", "a"),
+                new TenantKey("t10", "a"), new TenantKey("t1", "a:1")));
+        keys.sort(KeyOrder.comparator());
+
+        assertEquals("[t10::a, t1::a, t1::a:1, t1::b, t2::a]", keys.toString());
+        assertTrue(KeyOrder.compare(new TenantKey("t1", "b"), "t1::a") > 0);
+        assertTrue(KeyOrder.compare("t1::", new TenantKey("t1", "a")) < 0);
+        assertEquals(0, KeyOrder.compare("t1::a", new TenantKey("t1", "a")));
+    }
+
+    @Test
+    void testIndexServesStringPrefixesOverTenantKeys() {
+        OrderedKeyIndex<Object> index = new OrderedKeyIndex<>();
+        for (String tenant : List.of("t1", "t2")) {
+            for (String key : List.of("user:2", "user:1", "order:1")) {
+                index.add(new TenantKey(tenant, key));
+            }
+        }
+
+        assertEquals("[t1::user:1, t1::user:2]", index.withPrefix("t1::user:", 0).toString());
+        assertEquals("[t2::order:1]", index.range("t2::", "t2:;", 1).toString());
+
+        index.remove(new TenantKey("t1", "user:1"));
+        assertEquals("[t1::user:2]", index.withPrefix("t1::user:", 0).toString());
+    }
+}
@@ -0,0 +1,49 @@
+package com.vertexcache.core.cache.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderedKeyIndexTest {
+
+    private static OrderedKeyIndex<String> indexOf(String... keys) {
+        OrderedKeyIndex<String> index = new OrderedKeyIndex<>();
+        for (String key : keys) {
+            index.add(key);
+        }
+        return index;
+    }
+
+    @Test
+    void testPrefixLookupStopsAtFirstNonMatch() {
+        OrderedKeyIndex<String> index = indexOf("user:2", "order:1", "user:1", "user", "users:1", "userz");
+
+        assertEquals(List.of("user", "user:1", "user:2", "users:1", "userz"), index.withPrefix("user", 0));
+        assertEquals(List.of("user:1", "user:2"), index.withPrefix("user:", 0));
+        assertEquals(List.of("user:1"), index.withPrefix("user:", 1));
+        assertTrue(index.withPrefix("zzz", 0).isEmpty());
+    }
+
+    @Test
+    void testRangeBounds() {
+        OrderedKeyIndex<String> index = indexOf("a", "b", "c", "d");
+
+        assertEquals(List.of("b", "c"), index.range("b", "d", 0));
+        assertEquals(List.of("c", "d"), index.range("c", null, 0));
+        assertEquals(List.of("a", "b"), index.range(null, "c", 0));
+        assertEquals(List.of("a"), index.range(null, null, 1));
+        assertTrue(index.range("d", "a", 0).isEmpty());
+    }
+
+    @Test
+    void testRemoveAndClear() {
+        OrderedKeyIndex<String> index = indexOf("k1", "k2");
+        index.remove("k1");
+        assertEquals(List.of("k2"), index.withPrefix("k", 0));
+
+        index.clear();
+        assertEquals(0, index.size());
+    }
+}
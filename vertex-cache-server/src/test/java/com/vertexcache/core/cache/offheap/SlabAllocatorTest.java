@@ -0,0 +1,159 @@
+package com.vertexcache.core.cache.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlabAllocatorTest {
+
+    private static final int SLAB = 64 * 1024;
+
+    @Test
+    void testStoreAndRead() {
+        SlabAllocator allocator = new SlabAllocator(4L * SLAB, SLAB);
+        byte[] value = "hello off-heap".getBytes(StandardCharsets.UTF_8);
+
+        long handle = allocator.store(value);
+        assertNotEquals(SlabAllocator.NO_MEMORY, handle);
+        assertArrayEquals(value, allocator.read(handle));
+        assertEquals(value.length, SlabAllocator.lengthOf(handle));
+        assertEquals(value.length, allocator.getStoredBytes());
+        assertEquals(SlabAllocator.MIN_CHUNK_SIZE, allocator.getUsedBytes());
+    }
+
+    @Test
+    void testRejectsEmptyAndOversizedValues() {
+        SlabAllocator allocator = new SlabAllocator(4L * SLAB, SLAB);
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.store(new byte[0]));
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.store(new byte[SLAB + 1]));
+        assertNotEquals(SlabAllocator.NO_MEMORY, allocator.store(new byte[SLAB]));
+    }
+
+    @Test
+    void testSizeClassesBoundSlack() {
+        SlabAllocator allocator = new SlabAllocator(16L * SLAB, SLAB);
+        for (int length : new int[]{1, 64, 65, 100, 1000, 5000, 40_000}) {
+            long before = allocator.getUsedBytes();
+            allocator.store(new byte[length]);
+            long chunk = allocator.getUsedBytes() - before;
+            assertTrue(chunk >= length, "Chunk " + chunk + " too small for " + length);
+            assertTrue(chunk <= Math.max(SlabAllocator.MIN_CHUNK_SIZE, length * 1.3), "Chunk " + chunk + " too large for " + length);
+        }
+    }
+
+    @Test
+    void testExhaustionAndReuse() {
+        SlabAllocator allocator = new SlabAllocator(2L * SLAB, SLAB);
+        List<Long> handles = new ArrayList<>();
+        long handle;
+        while ((handle = allocator.store(new byte[1000])) != SlabAllocator.NO_MEMORY) {
+            handles.add(handle);
+        }
+        assertFalse(handles.isEmpty());
+        assertEquals(0, allocator.getFreeSlabCount());
+
+        allocator.free(handles.remove(0));
+        assertNotEquals(SlabAllocator.NO_MEMORY, allocator.store(new byte[1000]));
+    }
+
+    @Test
+    void testEmptySlabReturnsToPoolForOtherSizeClass() {
+        SlabAllocator allocator = new SlabAllocator(2L * SLAB, SLAB);
+        List<Long> small = new ArrayList<>();
+        long handle;
+        while ((handle = allocator.store(new byte[100])) != SlabAllocator.NO_MEMORY) {
+            small.add(handle);
+        }
+        // Every slab is carved for the small class, a large value cannot be placed
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.store(new byte[30_000]));
+
+        for (long h : small) {
+            allocator.free(h);
+        }
+        assertEquals(2, allocator.getFreeSlabCount());
+        assertEquals(0, allocator.getUsedBytes());
+        assertNotEquals(SlabAllocator.NO_MEMORY, allocator.store(new byte[30_000]));
+    }
+
+    @Test
+    void testFreedChunksAreNotCorrupted() {
+        SlabAllocator allocator = new SlabAllocator(8L * SLAB, SLAB);
+        Random random = new Random(3);
+        List<Long> handles = new ArrayList<>();
+        List<byte[]> values = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            if (!handles.isEmpty() && random.nextBoolean()) {
+                int index = random.nextInt(handles.size());
+                allocator.free(handles.remove(index));
+                values.remove(index);
+            } else {
+                byte[] value = new byte[1 + random.nextInt(2_000)];
+                random.nextBytes(value);
+                long handle = allocator.store(value);
+                if (handle != SlabAllocator.NO_MEMORY) {
+                    handles.add(handle);
+                    values.add(value);
+                }
+            }
+        }
+
+        for (int i = 0; i < handles.size(); i++) {
+            assertArrayEquals(values.get(i), allocator.read(handles.get(i)));
+        }
+    }
+
+    @Test
+    void testClear() {
+        SlabAllocator allocator = new SlabAllocator(2L * SLAB, SLAB);
+        allocator.store(new byte[500]);
+        allocator.store(new byte[20_000]);
+
+        allocator.clear();
+        assertEquals(0, allocator.getUsedBytes());
+        assertEquals(2, allocator.getFreeSlabCount());
+    }
+
+    @Test
+    void testConcurrentAllocateAndFree() throws InterruptedException {
+        SlabAllocator allocator = new SlabAllocator(32L * SLAB, SLAB);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        AtomicInteger corrupted = new AtomicInteger();
+
+        for (int t = 0; t < threads; t++) {
+            final int seed = t;
+            executor.submit(() -> {
+                Random random = new Random(seed);
+                try {
+                    for (int i = 0; i < 5_000; i++) {
+                        byte[] value = new byte[1 + random.nextInt(3_000)];
+                        random.nextBytes(value);
+                        long handle = allocator.store(value);
+                        if (handle == SlabAllocator.NO_MEMORY) continue;
+                        if (!java.util.Arrays.equals(value, allocator.read(handle))) corrupted.incrementAndGet();
+                        allocator.free(handle);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(0, corrupted.get());
+        assertEquals(0, allocator.getUsedBytes());
+    }
+}
@@ -0,0 +1,163 @@
+package com.vertexcache.core.cache.snapshot;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.cache.model.TenantKey;
+import com.vertexcache.core.cache.model.TenantQuota;
+import com.vertexcache.module.auth.model.TenantId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheSnapshotTest {
+
+    private static final TenantId ACME = new TenantId("acme");
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Cache.destroy();
+        file = Files.createTempFile("vertexcache-snapshot", ".bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Cache.destroy();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testRoundTripKeepsValuesTtlsIndexesAndPartitions() throws Exception {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 1_000, 4);
+        Cache.setTenantQuotas(List.of(new TenantQuota("acme", 100, 0)));
+        cache.put("user:1", "alice", "a@x", "admin");
+        cache.put("blob", new byte[]{1, 2, 3});
+        cache.put("session", "s1", 60_000);
+        cache.put(new TenantKey("other", "k"), "shared", 0, new TenantKey("other", "email"));
+        cache.forTenant(ACME).put(new TenantKey(ACME, "k"), "quota", 0, new TenantKey(ACME, "email"));
+        Cache.createKeyspace(new KeyspaceDefinition("orders", EvictionPolicy.FIFO, 100, 0, 1, List.of("customer", "region")))
+                .put("order:1", "o1", 0, "c1", "eu");
+
+        SnapshotStats written = new CacheSnapshotWriter(file).write();
+        assertEquals(6, written.getEntries());
+        assertEquals(0, written.getSkipped());
+        assertEquals(Files.size(file), written.getBytes());
+
+        Cache.destroy();
+        cache = Cache.getInstance(EvictionPolicy.WTinyLFU, 1_000, 1);
+        Cache.setTenantQuotas(List.of(new TenantQuota("acme", 100, 0)));
+        // Index order changed between the snapshot and the restart
+        Cache<Object, Object> orders = Cache.createKeyspace(
+                new KeyspaceDefinition("orders", EvictionPolicy.LRU, 100, 0, 1, List.of("region", "customer")));
+
+        SnapshotStats loaded = CacheSnapshotLoader.load(file, 4);
+        assertEquals(6, loaded.getEntries());
+        assertEquals(0, loaded.getSkipped());
+
+        assertEquals("alice", cache.get("user:1"));
+        assertEquals("alice", cache.getBySecondaryKey("idx2", "admin"));
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) cache.get("blob"));
+        long ttl = cache.ttl("session");
+        assertTrue(ttl > 50_000 && ttl <= 60_000, "ttl " + ttl);
+        assertEquals(Cache.TTL_NONE, cache.ttl("user:1"));
+        assertEquals("shared", cache.getBySecondaryKey("idx1", new TenantKey("other", "email")));
+        assertEquals("quota", cache.forTenant(ACME).get(new TenantKey(ACME, "k")));
+        assertEquals("quota", cache.forTenant(ACME).getBySecondaryKey("idx1", new TenantKey(ACME, "email")));
+        assertEquals(4, cache.size());
+        assertEquals("o1", orders.getBySecondaryKey("customer", "c1"));
+        assertEquals("o1", orders.getBySecondaryKey("region", "eu"));
+    }
+
+    @Test
+    void testExpiredEntriesAndUnknownKeyspacesAreSkipped() throws Exception {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+        cache.put("short", "v", 50);
+        cache.put("long", "v", 60_000);
+        Cache.createKeyspace(new KeyspaceDefinition("gone", EvictionPolicy.LRU, 100, 0, 1)).put("k", "v");
+        new CacheSnapshotWriter(file).write();
+
+        Cache.destroy();
+        Thread.sleep(100);
+        cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+        SnapshotStats loaded = CacheSnapshotLoader.load(file, 2);
+
+        assertEquals(1, loaded.getEntries());
+        assertEquals(2, loaded.getSkipped());
+        assertEquals("v", cache.get("long"));
+        assertNull(cache.get("short"));
+    }
+
+    @Test
+    void testLargeSnapshotLoadsChunksInParallelAndSurvivesACorruptOne() throws Exception {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100_000, 8);
+        String value = "x".repeat(100);
+        for (int i = 0; i < 40_000; i++) {
+            cache.put("key:" + i, value, "idx:" + i);
+        }
+        SnapshotStats written = new CacheSnapshotWriter(file).write();
+        assertEquals(40_000, written.getEntries());
+        assertTrue(written.getChunks() > 2, "chunks " + written.getChunks());
+
+        Cache.destroy();
+        cache = Cache.getInstance(EvictionPolicy.LRU, 100_000, 8);
+        SnapshotStats loaded = CacheSnapshotLoader.load(file, 4);
+        assertEquals(40_000, loaded.getEntries());
+        assertEquals(40_000, cache.size());
+        assertEquals(value, cache.getBySecondaryKey("idx1", "idx:39999"));
+
+        // Flip a byte inside the first chunk, right after the header
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, 100);
+            b.put(0, (byte) (b.get(0) ^ 0x55)).rewind();
+            channel.write(b, 100);
+        }
+        Cache.destroy();
+        cache = Cache.getInstance(EvictionPolicy.LRU, 100_000, 8);
+        loaded = CacheSnapshotLoader.load(file, 4);
+        assertTrue(loaded.getSkipped() > 0);
+        assertEquals(40_000, loaded.getEntries() + loaded.getSkipped());
+        assertEquals(loaded.getEntries(), cache.size());
+    }
+
+    @Test
+    void testTruncatedFileIsRejected() throws Exception {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+        cache.put("k", "v");
+        new CacheSnapshotWriter(file).write();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        assertThrows(IOException.class, () -> CacheSnapshotLoader.load(file));
+    }
+
+    @Test
+    void testStopWritesTheFinalSnapshotOnce() throws Exception {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+        cache.put("k", "v");
+        Files.delete(file);
+
+        CacheSnapshotWriter writer = new CacheSnapshotWriter(file);
+        writer.start(3_600);
+        writer.stop();
+        assertTrue(Files.exists(file));
+        assertEquals(1, writer.getLastStats().getEntries());
+
+        cache.put("k2", "v");
+        writer.stop();
+        assertEquals(1, writer.getLastStats().getEntries());
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+    }
+}
@@ -0,0 +1,138 @@
+package com.vertexcache.core.cache.trace;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTraceRecorderTest {
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Cache.destroy();
+        file = Files.createTempFile("vertexcache-trace", ".bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Cache.destroy();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testRoundTripKeepsOrderOpsAndHashes() throws IOException {
+        try (AccessTraceRecorder recorder = AccessTraceRecorder.open(file, 1)) {
+            recorder.record(TraceOp.SET, "user:1");
+            recorder.record(TraceOp.GET, "user:1");
+            recorder.record(TraceOp.DEL, "user:2");
+            assertEquals(3, recorder.getRecordCount());
+        }
+
+        assertEquals(AccessTraceRecorder.HEADER_BYTES + 3 * AccessTraceRecorder.RECORD_BYTES, Files.size(file));
+        AccessTrace trace = AccessTrace.read(file);
+        assertEquals(3, trace.size());
+        assertEquals(0, trace.getSampleShift());
+        assertEquals(TraceOp.SET, trace.op(0));
+        assertEquals(TraceOp.GET, trace.op(1));
+        assertEquals(TraceOp.DEL, trace.op(2));
+        assertEquals(AccessTraceRecorder.keyHash("user:1"), trace.hash(0));
+        assertEquals(trace.hash(0), trace.hash(1));
+        assertEquals(2, trace.distinctKeys());
+    }
+
+    @Test
+    void testSamplingKeepsEveryAccessOfASampledKey() throws IOException {
+        int records;
+        Set<Long> sampled = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (AccessTraceRecorder.isSampled("key" + i, 4)) {
+                sampled.add(AccessTraceRecorder.keyHash("key" + i));
+            }
+        }
+        try (AccessTraceRecorder recorder = AccessTraceRecorder.open(file, 20)) {
+            // Rounded down to 16
+            assertEquals(4, recorder.getSampleShift());
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 10_000; i++) {
+                    recorder.record(TraceOp.GET, "key" + i);
+                }
+            }
+            records = (int) recorder.getRecordCount();
+        }
+
+        AccessTrace trace = AccessTrace.read(file);
+        assertEquals(records, trace.size());
+        assertEquals(records, trace.distinctKeys() * 3);
+        assertTrue(trace.distinctKeys() > 400 && trace.distinctKeys() < 850, "Sampled " + trace.distinctKeys());
+        assertEquals(sampled.size(), trace.distinctKeys());
+        for (int i = 0; i < trace.size(); i++) {
+            assertTrue(sampled.contains(trace.hash(i)));
+        }
+    }
+
+    @Test
+    void testFlushWritesFullBuffersInOrder() throws IOException {
+        int count = 3 * 64 * 1024 / AccessTraceRecorder.RECORD_BYTES;
+        try (AccessTraceRecorder recorder = AccessTraceRecorder.open(file, 1)) {
+            for (int i = 0; i < count; i++) {
+                recorder.record(TraceOp.GET, "key" + i);
+            }
+            recorder.flush();
+            assertEquals(0, recorder.getDroppedCount());
+            assertEquals(AccessTraceRecorder.HEADER_BYTES + (long) count * AccessTraceRecorder.RECORD_BYTES, Files.size(file));
+        }
+
+        AccessTrace trace = AccessTrace.read(file);
+        assertEquals(count, trace.size());
+        assertEquals(AccessTraceRecorder.keyHash("key0"), trace.hash(0));
+        assertEquals(AccessTraceRecorder.keyHash("key" + (count - 1)), trace.hash(count - 1));
+    }
+
+    @Test
+    void testTruncatedRecordIsIgnoredAndBadHeaderRejected() throws IOException {
+        try (AccessTraceRecorder recorder = AccessTraceRecorder.open(file, 1)) {
+            recorder.record(TraceOp.GET, "a");
+            recorder.record(TraceOp.GET, "b");
+        }
+        Files.write(file, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+        assertEquals(2, AccessTrace.read(file).size());
+
+        Files.write(file, new byte[] {'n', 'o', 'p', 'e', 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        assertThrows(IOException.class, () -> AccessTrace.read(file));
+    }
+
+    @Test
+    void testCacheRecordsGetSetAndDel() throws Exception {
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 100);
+        AccessTraceRecorder recorder = AccessTraceRecorder.open(file, 1);
+        cache.setTraceRecorder(recorder);
+
+        cache.put("k1", "v1", "i1");
+        cache.get("k1");
+        cache.getBySecondaryKey("idx1", "i1");
+        cache.remove("k1");
+        cache.setTraceRecorder(null);
+        cache.get("k1");
+        recorder.close();
+
+        AccessTrace trace = AccessTrace.read(file);
+        assertEquals(4, trace.size());
+        assertEquals(TraceOp.SET, trace.op(0));
+        assertEquals(TraceOp.GET, trace.op(1));
+        assertEquals(TraceOp.GET, trace.op(2));
+        assertEquals(TraceOp.DEL, trace.op(3));
+        assertEquals(1, trace.distinctKeys());
+    }
+}
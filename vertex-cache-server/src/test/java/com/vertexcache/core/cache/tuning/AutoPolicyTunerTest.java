@@ -0,0 +1,97 @@
+package com.vertexcache.core.cache.tuning;
+
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.PolicyDecision;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoPolicyTunerTest {
+
+    @Test
+    void testStartsOnInitialPolicyWithoutDecisions() {
+        AutoPolicyTuner tuner = new AutoPolicyTuner(1_000);
+        assertEquals(AutoPolicyTuner.INITIAL_POLICY, tuner.getActivePolicy());
+        assertEquals(0, tuner.getEpoch());
+        assertTrue(tuner.getDecisions().isEmpty());
+        assertEquals(List.of(EvictionPolicy.LRU, EvictionPolicy.LFU, EvictionPolicy.WTinyLFU),
+                List.copyOf(tuner.getHitRatios().keySet()));
+    }
+
+    @Test
+    void testSampleRateScalesWithCapacity() {
+        assertEquals(0, AutoPolicyTuner.sampleShiftFor(100));
+        assertEquals(0, AutoPolicyTuner.sampleShiftFor(2_047));
+        assertEquals(1, AutoPolicyTuner.sampleShiftFor(2_048));
+        assertEquals(4, AutoPolicyTuner.sampleShiftFor(16_384));
+        assertEquals(6, AutoPolicyTuner.sampleShiftFor(10_000_000));
+    }
+
+    @Test
+    void testSwitchesToLruOnShiftingWorkingSet() {
+        AutoPolicyTuner tuner = new AutoPolicyTuner(100, 0, 1_000);
+        for (int key : shiftingTrace(60_000, 90, 2_000)) {
+            tuner.recordAccess(key);
+        }
+
+        assertEquals(EvictionPolicy.LRU, tuner.getActivePolicy());
+        PolicyDecision decision = tuner.getDecisions().getFirst();
+        assertEquals(AutoPolicyTuner.INITIAL_POLICY, decision.getFrom());
+        assertEquals(EvictionPolicy.LRU, decision.getTo());
+        assertTrue(decision.getToHitRatio() > decision.getFromHitRatio());
+        assertTrue(decision.getEpoch() >= 3, "First epoch only warms up, a switch needs two more");
+    }
+
+    @Test
+    void testKeepsPolicyOnStableSkewedWorkload() {
+        AutoPolicyTuner tuner = new AutoPolicyTuner(100, 0, 1_000);
+        Random random = new Random(3);
+        for (int i = 0; i < 60_000; i++) {
+            // Hot set of 50 keys well inside the capacity, every policy keeps it
+            tuner.recordAccess(random.nextInt(10) < 9 ? random.nextInt(50) : 1_000 + random.nextInt(100_000));
+        }
+
+        assertEquals(60, tuner.getEpoch());
+        assertTrue(tuner.getDecisions().isEmpty(), "Unexpected switches: " + tuner.getDecisions());
+        assertEquals(AutoPolicyTuner.INITIAL_POLICY, tuner.getActivePolicy());
+    }
+
+    @Test
+    void testShadowsMatchTheirPolicies() {
+        ShadowLRU lru = new ShadowLRU(2);
+        lru.record(1);
+        lru.record(2);
+        lru.record(1);
+        lru.record(3);
+        lru.record(1);
+        lru.record(2);
+        // 1 hit twice, 2 was evicted by 3
+        assertEquals(2.0 / 6, lru.takeHitRatio(), 1e-9);
+
+        ShadowLFU lfu = new ShadowLFU(2);
+        lfu.record(1);
+        lfu.record(1);
+        lfu.record(2);
+        lfu.record(3);
+        lfu.record(1);
+        lfu.record(2);
+        // 2 was the least frequent when 3 came in
+        assertEquals(2.0 / 6, lfu.takeHitRatio(), 1e-9);
+        assertEquals(0.0, lfu.takeHitRatio());
+    }
+
+    /*
+     * Uniform accesses over a working set that moves to fresh keys every phase accesses.
+     */
+    static int[] shiftingTrace(int length, int workingSet, int phase) {
+        Random random = new Random(11);
+        int[] trace = new int[length];
+        for (int i = 0; i < length; i++) {
+            trace[i] = (i / phase) * workingSet + random.nextInt(workingSet);
+        }
+        return trace;
+    }
+}
@@ -4,7 +4,10 @@ import com.vertexcache.core.command.argument.ArgumentParser;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ArgumentParserTest {
 
@@ -59,4 +62,19 @@ public class ArgumentParserTest {
         }
     }
 
+    @Test
+    public void testPayloadIsKeptAsIs() {
+        byte[] payload = {0, (byte) 0xff, '"', ' ', '\r', '\n'};
+        ArgumentParser argumentParser = new ArgumentParser("BSET key IDX1 abc", payload);
+        ArrayList<String> subArguments = new ArrayList<>();
+        subArguments.add("IDX1");
+        argumentParser.setSubArguments(subArguments);
+
+        assertEquals("BSET", argumentParser.getPrimaryArgument().getName());
+        assertEquals(1, argumentParser.getPrimaryArgument().getArgs().size());
+        assertEquals("abc", argumentParser.getSubArgumentByName("IDX1").getArgs().getFirst());
+        assertTrue(argumentParser.hasPayload());
+        assertArrayEquals(payload, argumentParser.getPayload());
+        assertFalse(new ArgumentParser("GET key").hasPayload());
+    }
 }
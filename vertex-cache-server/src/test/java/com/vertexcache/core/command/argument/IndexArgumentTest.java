@@ -0,0 +1,47 @@
+package com.vertexcache.core.command.argument;
+
+import com.vertexcache.core.validation.exception.VertexCacheValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexArgumentTest {
+
+    private static ArgumentParser parse(String command) {
+        ArgumentParser parser = new ArgumentParser(command);
+        ArrayList<String> subArguments = new ArrayList<>(IndexArgument.subArguments());
+        subArguments.add("TTL");
+        parser.setSubArguments(subArguments);
+        return parser;
+    }
+
+    @Test
+    public void testLegacyIndexes() {
+        assertEquals(Map.of("idx1", "a", "idx2", "b"), IndexArgument.toIndexes(parse("SET k v IDX1 a IDX2 b")));
+        assertEquals(Map.of("idx1", "a"), IndexArgument.toIndexes(parse("SET k v IDX1 a TTL 30")));
+        assertTrue(IndexArgument.toIndexes(parse("SET k v IDX2 b")).isEmpty());
+        assertTrue(IndexArgument.toIndexes(parse("SET k v")).isEmpty());
+    }
+
+    @Test
+    public void testNamedIndexes() {
+        ArgumentParser parser = parse("SET k v IDX email a@x.io phone 555 TTL 30");
+        Map<String, String> indexes = IndexArgument.toIndexes(parser);
+
+        assertEquals(Map.of("email", "a@x.io", "phone", "555"), indexes);
+        assertEquals("[email, phone]", indexes.keySet().toString());
+        assertEquals(2, parser.getPrimaryArgument().getArgs().size());
+        assertEquals("30", parser.getSubArgumentByName("TTL").getArgs().getFirst());
+    }
+
+    @Test
+    public void testInvalidNamedIndexes() {
+        assertThrows(IllegalArgumentException.class, () -> IndexArgument.toIndexes(parse("SET k v IDX email")));
+        assertThrows(IllegalArgumentException.class, () -> IndexArgument.toIndexes(parse("SET k v IDX")));
+        assertThrows(IllegalArgumentException.class, () -> IndexArgument.toIndexes(parse("SET k v IDX1 a IDX idx1 b")));
+        assertThrows(VertexCacheValidationException.class, () -> IndexArgument.toIndexes(parse("SET k v IDX email GET")));
+    }
+}
@@ -0,0 +1,50 @@
+package com.vertexcache.core.command.argument;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanArgumentTest {
+
+    @Test
+    public void testCursorRoundTrip() {
+        assertEquals(ScanArgument.START_CURSOR, ScanArgument.toCursor(null));
+        assertNull(ScanArgument.toAfterKey("0"));
+
+        for (String key : new String[]{"user:1", "a b/c+d", "ключ"}) {
+            String cursor = ScanArgument.toCursor(key);
+            assertFalse(cursor.contains(" "));
+            assertEquals(key, ScanArgument.toAfterKey(cursor));
+        }
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> ScanArgument.toAfterKey(null));
+        assertThrows(IllegalArgumentException.class, () -> ScanArgument.toAfterKey(" "));
+        assertThrows(IllegalArgumentException.class, () -> ScanArgument.toAfterKey("!!"));
+    }
+
+    @Test
+    public void testCountBounds() {
+        assertEquals(1, ScanArgument.toCount("1"));
+        assertEquals(ScanArgument.MAX_COUNT, ScanArgument.toCount(String.valueOf(ScanArgument.MAX_COUNT)));
+        assertThrows(IllegalArgumentException.class, () -> ScanArgument.toCount("0"));
+        assertThrows(IllegalArgumentException.class, () -> ScanArgument.toCount(String.valueOf(ScanArgument.MAX_COUNT + 1)));
+        assertThrows(IllegalArgumentException.class, () -> ScanArgument.toCount("ten"));
+    }
+
+    @Test
+    public void testGlob() {
+        assertEquals("user:", ScanArgument.literalPrefix("user:*"));
+        assertEquals("a*b", ScanArgument.literalPrefix("a\\*b?"));
+        assertEquals("", ScanArgument.literalPrefix("*"));
+
+        assertTrue(ScanArgument.toPattern("user:*:name").matcher("user:42:name").matches());
+        assertFalse(ScanArgument.toPattern("user:*:name").matcher("user:42:mail").matches());
+        assertTrue(ScanArgument.toPattern("k?").matcher("k1").matches());
+        assertFalse(ScanArgument.toPattern("k?").matcher("k12").matches());
+        assertTrue(ScanArgument.toPattern("a.\\*").matcher("a.*").matches());
+        assertFalse(ScanArgument.toPattern("a.\\*").matcher("ab*").matches());
+    }
+}
@@ -0,0 +1,24 @@
+package com.vertexcache.core.command.argument;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TtlArgumentTest {
+
+    @Test
+    public void testSecondsAndMillis() {
+        assertEquals(30_000, TtlArgument.toMillis("30"));
+        assertEquals(30_000, TtlArgument.toMillis("30s"));
+        assertEquals(1_500, TtlArgument.toMillis("1500ms"));
+        assertEquals(1_500, TtlArgument.toMillis("1500MS"));
+    }
+
+    @Test
+    public void testInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> TtlArgument.toMillis("0"));
+        assertThrows(IllegalArgumentException.class, () -> TtlArgument.toMillis("-5"));
+        assertThrows(IllegalArgumentException.class, () -> TtlArgument.toMillis("abc"));
+        assertThrows(IllegalArgumentException.class, () -> TtlArgument.toMillis(null));
+    }
+}
@@ -0,0 +1,320 @@
+package com.vertexcache.core.datastore.loader;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.TenantKey;
+import com.vertexcache.core.datastore.model.DatastoreKey;
+import com.vertexcache.core.datastore.model.DatastoreLoader;
+import com.vertexcache.core.datastore.model.providers.FileDatastoreProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheLoaderTest {
+
+    private Path file;
+    private Cache<Object, Object> cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Cache.destroy();
+        cache = Cache.getInstance(EvictionPolicy.LRU, 10_000, 4);
+        file = Files.createTempFile("vertexcache-loader", ".db");
+        Files.delete(file);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        CacheLoader loader = cache.getLoader();
+        if (loader != null) {
+            loader.close();
+        }
+        Cache.destroy();
+        Files.deleteIfExists(file);
+    }
+
+    private FileDatastoreProvider connect() {
+        FileDatastoreProvider datastore = new FileDatastoreProvider(file);
+        datastore.connect();
+        assertTrue(datastore.isConnected());
+        return datastore;
+    }
+
+    private static DatastoreKey key(String key) {
+        return new DatastoreKey(Cache.DEFAULT_KEYSPACE, "", key);
+    }
+
+    @Test
+    void testMissIsLoadedAndCached() throws Exception {
+        FileDatastoreProvider datastore = connect();
+        datastore.writeAll(Map.of(
+                key("user:1"), "alice",
+                new DatastoreKey(Cache.DEFAULT_KEYSPACE, "acme", "user:1"), "acme-alice",
+                key("blob"), new byte[]{1, 2}));
+        cache.setLoader(new CacheLoader(datastore, null, 60_000));
+
+        assertEquals("alice", cache.get("user:1"));
+        assertEquals("acme-alice", cache.get(new TenantKey("acme", "user:1")));
+        assertArrayEquals(new byte[]{1, 2}, (byte[]) cache.get("blob"));
+        assertNull(cache.get("user:2"));
+
+        assertEquals(3, cache.size());
+        long ttl = cache.ttl("user:1");
+        assertTrue(ttl > 50_000 && ttl <= 60_000, "ttl " + ttl);
+        assertEquals(3, cache.getLoader().getLoadedCount());
+
+        // Cached now, the datastore is not asked again
+        cache.get("user:1");
+        assertEquals(4, cache.getLoader().getLoadCount());
+
+        // Without write-behind, writes only concern the cache
+        cache.put("user:3", "carol");
+        assertNull(datastore.load(key("user:3")));
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        DatastoreLoader slow = new TestDatastore() {
+            @Override
+            public Object load(DatastoreKey key) throws IOException {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return "value";
+            }
+        };
+        cache.setLoader(new CacheLoader(slow, null, 0));
+
+        List<Object> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            threads.add(new Thread(() -> {
+                Object value = cache.get("hot");
+                synchronized (results) {
+                    results.add(value);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        // Let every miss find the load in flight before it completes
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cache.getLoader().getCoalescedCount() < 15 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(15, cache.getLoader().getCoalescedCount());
+        assertEquals(16, results.size());
+        assertTrue(results.stream().allMatch("value"::equals));
+        assertEquals("value", cache.get("hot"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testWriteDuringLoadIsNotOverwritten() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<DatastoreKey, Object> values = new ConcurrentHashMap<>(Map.of(key("deleted"), "old", key("written"), "old"));
+        DatastoreLoader slow = new TestDatastore() {
+            @Override
+            public Object load(DatastoreKey key) throws IOException {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                // Read once, as a datastore the loaded value was deleted from afterwards
+                return values.remove(key);
+            }
+        };
+        cache.setLoader(new CacheLoader(slow, null, 0));
+
+        Thread deletedLoad = new Thread(() -> cache.get("deleted"));
+        Thread writtenLoad = new Thread(() -> cache.get("written"));
+        deletedLoad.start();
+        writtenLoad.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        cache.remove("deleted");
+        cache.put("written", "new");
+        release.countDown();
+        deletedLoad.join();
+        writtenLoad.join();
+
+        // The loads finished after the writes, their stale values must not be cached
+        assertNull(cache.get("deleted"));
+        assertEquals("new", cache.get("written"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testWriteBehindBatchesAndCoalescesWrites() throws Exception {
+        FileDatastoreProvider datastore = connect();
+        AtomicInteger batches = new AtomicInteger();
+        DatastoreLoader counting = new TestDatastore() {
+            @Override
+            public Object load(DatastoreKey key) throws IOException {
+                return datastore.load(key);
+            }
+
+            @Override
+            public void writeAll(Map<DatastoreKey, Object> batch) throws IOException {
+                batches.incrementAndGet();
+                datastore.writeAll(batch);
+            }
+
+            @Override
+            public void close() {
+                datastore.close();
+            }
+        };
+        WriteBehindQueue queue = new WriteBehindQueue(counting, 1_000, 60_000);
+        cache.setLoader(new CacheLoader(counting, queue, 0));
+
+        for (int i = 0; i < 250; i++) {
+            cache.put("k" + i, "v" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            cache.put("hot", "h" + i);
+        }
+        cache.remove("k0");
+        assertTrue(queue.flush(5_000));
+
+        // One flush: the 10 writes of hot and the write then delete of k0 each reach the datastore once
+        assertEquals(251, queue.getWriteCount());
+        assertEquals(1, batches.get());
+        assertEquals(250, datastore.size());
+        assertEquals("h9", datastore.load(key("hot")));
+        assertNull(datastore.load(key("k0")));
+
+        // Persisted: a fresh cache reads the writes back from the file
+        cache.getLoader().close();
+        Cache.destroy();
+        cache = Cache.getInstance(EvictionPolicy.LRU, 10_000, 4);
+        cache.setLoader(new CacheLoader(connect(), null, 0));
+        assertEquals("v249", cache.get("k249"));
+        assertNull(cache.get("k0"));
+    }
+
+    @Test
+    void testMissIsServedFromQueuedWrite() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        DatastoreLoader datastore = new TestDatastore() {
+            @Override
+            public Object load(DatastoreKey key) {
+                loads.incrementAndGet();
+                return "stale";
+            }
+        };
+        WriteBehindQueue queue = new WriteBehindQueue(datastore, 100, 60_000);
+        cache.setLoader(new CacheLoader(datastore, queue, 0));
+
+        cache.put("k1", "fresh");
+        cache.put("k2", "gone");
+        cache.remove("k2");
+        cache.clear();
+
+        assertEquals("fresh", cache.get("k1"));
+        assertNull(cache.get("k2"));
+        assertEquals(0, loads.get());
+        assertEquals("fresh", cache.get("k1"));
+        assertEquals(2, queue.getPendingCount());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedAndFailedLoadIsAMiss() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        Map<DatastoreKey, Object> rows = new ConcurrentHashMap<>();
+        DatastoreLoader flaky = new TestDatastore() {
+            @Override
+            public Object load(DatastoreKey key) throws IOException {
+                throw new IOException("database down");
+            }
+
+            @Override
+            public void writeAll(Map<DatastoreKey, Object> batch) throws IOException {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IOException("database down");
+                }
+                rows.putAll(batch);
+            }
+        };
+        WriteBehindQueue queue = new WriteBehindQueue(flaky, 10, 0);
+        cache.setLoader(new CacheLoader(flaky, queue, 0));
+
+        assertNull(cache.get("missing"));
+        assertEquals(1, cache.getLoader().getFailureCount());
+
+        cache.put("k1", "v1");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (rows.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("v1", rows.get(key("k1")));
+        assertEquals(1, queue.getFailureCount());
+    }
+
+    @Test
+    void testFileDatastoreIgnoresTornRecord() throws Exception {
+        FileDatastoreProvider datastore = connect();
+        datastore.writeAll(Map.of(key("a"), "1"));
+        datastore.writeAll(Map.of(key("b"), "2"));
+        datastore.close();
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        datastore = connect();
+        assertEquals("1", datastore.load(key("a")));
+        assertNull(datastore.load(key("b")));
+        datastore.close();
+    }
+
+    private static class TestDatastore implements DatastoreLoader {
+
+        @Override
+        public Object load(DatastoreKey key) throws IOException {
+            return null;
+        }
+
+        @Override
+        public void writeAll(Map<DatastoreKey, Object> batch) throws IOException {
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.vertexcache.core.datastore.log;
+
+import com.vertexcache.core.cache.Cache;
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.model.KeyspaceDefinition;
+import com.vertexcache.core.cache.model.TenantKey;
+import com.vertexcache.core.cache.model.TenantQuota;
+import com.vertexcache.core.datastore.model.FsyncMode;
+import com.vertexcache.core.datastore.model.providers.AppendLogProvider;
+import com.vertexcache.module.auth.model.TenantId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandLogTest {
+
+    private static final TenantId ACME = new TenantId("acme");
+
+    private Path dir;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Cache.destroy();
+        dir = Files.createTempDirectory("vertexcache-log");
+        file = dir.resolve("cache.log");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Cache.destroy();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private Cache<Object, Object> boot() throws Exception {
+        Cache.destroy();
+        Cache<Object, Object> cache = Cache.getInstance(EvictionPolicy.LRU, 10_000, 4);
+        Cache.setTenantQuotas(List.of(new TenantQuota("acme", 100, 0)));
+        Cache.createKeyspace(new KeyspaceDefinition("orders", EvictionPolicy.LRU, 1_000, 0, 1, List.of("customer")));
+        return cache;
+    }
+
+    @Test
+    void testReplayRestoresEveryMutation() throws Exception {
+        Cache<Object, Object> cache = boot();
+        AppendLogProvider provider = new AppendLogProvider(file, FsyncMode.EVERYSEC, 0);
+        provider.connect();
+        assertTrue(provider.isConnected());
+
+        cache.put("user:1", "alice", "a@x");
+        cache.put("user:2", "bob");
+        cache.put("blob", new byte[]{7, 8}, 0);
+        cache.upsert("user:2", "bobby");
+        cache.remove("user:1");
+        cache.put("session", "s", 60_000);
+        cache.persist("session");
+        cache.put("temp", "t");
+        cache.expire("temp", 60_000);
+        cache.put("tmp:1", "x");
+        cache.put("tmp:2", "x");
+        cache.removeByPrefix("tmp:");
+        cache.forTenant(ACME).put(new TenantKey(ACME, "k"), "quota", 0, new TenantKey(ACME, "email"));
+        Cache<Object, Object> orders = Cache.getKeyspace("orders");
+        orders.put("order:1", "o1", 0, "c1");
+        orders.put("order:2", "o2", 0, "c2");
+        orders.clear();
+        orders.put("order:3", "o3", 0, "c3");
+        provider.close();
+        assertEquals(17, provider.getCommandLog().getRecordCount());
+
+        cache = boot();
+        provider = new AppendLogProvider(file, FsyncMode.EVERYSEC, 0);
+        provider.connect();
+        assertEquals(17, provider.getReplayStats().getRecords());
+        assertEquals(0, provider.getReplayStats().getSkipped());
+
+        assertNull(cache.get("user:1"));
+        assertNull(cache.getBySecondaryKey("idx1", "a@x"));
+        assertEquals("bobby", cache.get("user:2"));
+        assertArrayEquals(new byte[]{7, 8}, (byte[]) cache.get("blob"));
+        assertEquals(Cache.TTL_NONE, cache.ttl("session"));
+        long ttl = cache.ttl("temp");
+        assertTrue(ttl > 50_000 && ttl <= 60_000, "ttl " + ttl);
+        assertNull(cache.get("tmp:1"));
+        assertNull(cache.get("tmp:2"));
+        assertEquals("quota", cache.forTenant(ACME).getBySecondaryKey("idx1", new TenantKey(ACME, "email")));
+        orders = Cache.getKeyspace("orders");
+        assertNull(orders.get("order:1"));
+        assertEquals("o3", orders.getBySecondaryKey("customer", "c3"));
+
+        // Replayed commands are not logged again, the new segment only gets what follows
+        assertEquals(0, provider.getCommandLog().getRecordCount());
+        provider.close();
+    }
+
+    @Test
+    void testAlwaysModeSharesFsyncsBetweenConcurrentWriters() throws Exception {
+        Cache<Object, Object> cache = boot();
+        AppendLogProvider provider = new AppendLogProvider(file, FsyncMode.ALWAYS, 0);
+        provider.connect();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int id = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 250; i++) {
+                    try {
+                        cache.put("t" + id + ":" + i, "v");
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        CommandLog log = provider.getCommandLog();
+        // Every put returned after its record was forced
+        assertEquals(2_000, log.getRecordCount());
+        assertTrue(log.getSyncCount() > 0 && log.getSyncCount() <= log.getRecordCount());
+        provider.close();
+
+        boot();
+        provider = new AppendLogProvider(file, FsyncMode.ALWAYS, 0);
+        provider.connect();
+        assertEquals(2_000, Cache.getKeyspace(Cache.DEFAULT_KEYSPACE).size());
+        provider.close();
+    }
+
+    @Test
+    void testAlwaysModeFailsWritesOnceTheWriterFailed() throws Exception {
+        Cache<Object, Object> cache = boot();
+        AppendLogProvider provider = new AppendLogProvider(file, FsyncMode.ALWAYS, 0);
+        provider.connect();
+        cache.put("k1", "v1");
+
+        // The next segment is already there, the writer fails to open it on rotate
+        Files.createFile(CommandLog.segmentPath(file, 2));
+        CommandLog log = provider.getCommandLog();
+        assertThrows(IOException.class, log::rotate);
+        assertTrue(log.isClosed());
+
+        assertThrows(IllegalStateException.class, () -> cache.put("k2", "v2"));
+        assertThrows(IllegalStateException.class, () -> cache.remove("k1"));
+        provider.close();
+    }
+
+    @Test
+    void testRewriteReplacesSegmentsWithABaseSnapshot() throws Exception {
+        Cache<Object, Object> cache = boot();
+        AppendLogProvider provider = new AppendLogProvider(file, FsyncMode.NO, 0);
+        provider.connect();
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("k" + i, "v" + i);
+        }
+        for (int i = 0; i < 500; i++) {
+            cache.remove("k" + i);
+        }
+
+        provider.getCompactor().rewrite();
+        assertTrue(Files.exists(CommandLogCompactor.basePath(file)));
+        assertEquals(List.of(CommandLog.segmentPath(file, provider.getCommandLog().getSegmentSeq())), CommandLog.segments(file));
+
+        cache.put("after", "rewrite");
+        cache.remove("k999");
+        provider.close();
+
+        cache = boot();
+        provider = new AppendLogProvider(file, FsyncMode.NO, 0);
+        provider.connect();
+        assertEquals(500, provider.getRestoredSnapshot().getEntries());
+        assertEquals(2, provider.getReplayStats().getRecords());
+        assertEquals(500, cache.size());
+        assertEquals("rewrite", cache.get("after"));
+        assertNull(cache.get("k999"));
+        assertEquals("v998", cache.get("k998"));
+        provider.close();
+    }
+
+    @Test
+    void testRecordCutShortByACrashIsIgnored() throws Exception {
+        Cache<Object, Object> cache = boot();
+        AppendLogProvider provider = new AppendLogProvider(file, FsyncMode.EVERYSEC, 0);
+        provider.connect();
+        cache.put("k1", "v1");
+        cache.put("k2", "v2");
+        provider.close();
+
+        Path segment = CommandLog.segments(file).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 2);
+        }
+
+        boot();
+        LogReplayStats stats = CommandLogReplayer.replay(file, 2);
+        assertEquals(1, stats.getRecords());
+        assertEquals("v1", Cache.getKeyspace(Cache.DEFAULT_KEYSPACE).get("k1"));
+        assertNull(Cache.getKeyspace(Cache.DEFAULT_KEYSPACE).get("k2"));
+    }
+
+    @Test
+    void testSegmentsAreOrderedBySequence() throws Exception {
+        Files.createFile(CommandLog.segmentPath(file, 10));
+        Files.createFile(CommandLog.segmentPath(file, 2));
+        Files.createFile(CommandLogCompactor.basePath(file));
+        Files.createFile(dir.resolve("cache.log.tmp"));
+
+        assertEquals(List.of(CommandLog.segmentPath(file, 2), CommandLog.segmentPath(file, 10)), CommandLog.segments(file));
+        assertTrue(AppendLogProvider.hasState(file));
+    }
+}
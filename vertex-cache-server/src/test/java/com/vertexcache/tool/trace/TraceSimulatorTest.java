@@ -0,0 +1,85 @@
+package com.vertexcache.tool.trace;
+
+import com.vertexcache.core.cache.model.EvictionPolicy;
+import com.vertexcache.core.cache.trace.AccessTrace;
+import com.vertexcache.core.cache.trace.TraceOp;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceSimulatorTest {
+
+    @Test
+    void testEveryPolicyReplaysAtEveryCapacity() throws Exception {
+        AccessTrace trace = skewedTrace(20_000, 2_000, 0);
+        List<EvictionPolicy> policies = TraceSimulator.defaultPolicies();
+        assertFalse(policies.contains(EvictionPolicy.NONE));
+
+        List<TraceSimulator.Result> results = TraceSimulator.run(trace, policies, List.of(500, 50));
+        assertEquals(policies.size() * 2, results.size());
+        double compulsory = TraceSimulator.compulsoryMissRatio(trace);
+        for (TraceSimulator.Result result : results) {
+            assertEquals(20_000, result.getGets());
+            assertTrue(result.getMissRatio() >= compulsory - 1e-9, result.getPolicy() + " beat the compulsory misses");
+            assertTrue(result.getOpsPerSecond() > 0);
+        }
+        // Capacities come out ascending per policy
+        assertEquals(50, results.get(0).getCapacity());
+        assertEquals(500, results.get(1).getCapacity());
+    }
+
+    @Test
+    void testLruMissRatioCurve() throws Exception {
+        AccessTrace trace = skewedTrace(20_000, 1_000, 0);
+        TraceSimulator.Result small = TraceSimulator.simulate(trace, EvictionPolicy.LRU, 50);
+        TraceSimulator.Result large = TraceSimulator.simulate(trace, EvictionPolicy.LRU, 500);
+        TraceSimulator.Result all = TraceSimulator.simulate(trace, EvictionPolicy.LRU, 1_000);
+
+        assertTrue(small.getMissRatio() > large.getMissRatio());
+        assertTrue(small.getEvictions() > large.getEvictions());
+        // Holding every key leaves only the compulsory misses
+        assertEquals(0, all.getEvictions());
+        assertEquals(TraceSimulator.compulsoryMissRatio(trace), all.getMissRatio(), 1e-9);
+    }
+
+    @Test
+    void testSampledTraceScalesCapacity() throws Exception {
+        AccessTrace sampled = skewedTrace(20_000, 1_000, 3);
+        // 8000 entries of the real cache are 1000 sampled ones, every sampled key fits
+        assertEquals(0, TraceSimulator.simulate(sampled, EvictionPolicy.LRU, 8_000).getEvictions());
+        assertTrue(TraceSimulator.simulate(sampled, EvictionPolicy.LRU, 800).getEvictions() > 0);
+        assertEquals(List.of(80, 160, 400, 800, 1_600, 4_000), TraceSimulator.defaultCapacities(sampled));
+    }
+
+    @Test
+    void testDelAndSetAreReplayed() throws Exception {
+        AccessTrace trace = new AccessTrace(0, 0,
+                new byte[] {TraceOp.SET.getCode(), TraceOp.GET.getCode(), TraceOp.DEL.getCode(), TraceOp.GET.getCode()},
+                new long[] {7, 7, 7, 7});
+        TraceSimulator.Result result = TraceSimulator.simulate(trace, EvictionPolicy.LRU, 10);
+        assertEquals(2, result.getGets());
+        assertEquals(1, result.getMisses());
+
+        String csv = TraceSimulator.toCsv(List.of(result));
+        assertTrue(csv.startsWith("policy,capacity,miss_ratio,evictions,ops_per_sec"));
+        assertTrue(csv.contains("LRU,10,0.500000,0,"));
+    }
+
+    /*
+     * GETs over keys drawn with a quadratic skew towards the low ids.
+     */
+    private static AccessTrace skewedTrace(int length, int keys, int sampleShift) {
+        Random random = new Random(5);
+        byte[] ops = new byte[length];
+        long[] hashes = new long[length];
+        for (int i = 0; i < length; i++) {
+            double u = random.nextDouble();
+            ops[i] = TraceOp.GET.getCode();
+            hashes[i] = (long) (u * u * keys);
+        }
+        return new AccessTrace(sampleShift, 0, ops, hashes);
+    }
+}